@@ -0,0 +1,66 @@
+package nhn.breakoutt.benchmark;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.Box;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 장면을 만드는 유틸리티입니다.
+ * 같은 시드로 항상 같은 장면을 만들어 변경 전후 결과를 비교할 수 있게 합니다.
+ * 객체 수가 늘어도 밀도가 비슷하도록 세계 크기를 객체 수에 맞춰 키웁니다.
+ */
+final class BenchmarkScenes {
+    static final long SEED = 42;
+
+    // 공 하나가 차지하는 평균 면적의 한 변 (픽셀)
+    private static final double CELL_PER_OBJECT = 40;
+    private static final double MIN_RADIUS = 3;
+    private static final double MAX_RADIUS = 12;
+    private static final double MAX_SPEED = 150;
+
+    private BenchmarkScenes() {
+    }
+
+    /**
+     * 객체 수에 맞는 정사각형 세계의 한 변 길이를 반환합니다. (최소 800)
+     */
+    static double worldSize(int count) {
+        return Math.max(800, Math.sqrt(count) * CELL_PER_OBJECT);
+    }
+
+    /**
+     * 세계 안에 임의의 위치와 속도를 가진 공들을 만듭니다.
+     */
+    static List<MovableBall> balls(int count, double worldSize, Random random) {
+        List<MovableBall> balls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double radius = MIN_RADIUS + random.nextDouble() * (MAX_RADIUS - MIN_RADIUS);
+            double x = radius + random.nextDouble() * (worldSize - 2 * radius);
+            double y = radius + random.nextDouble() * (worldSize - 2 * radius);
+
+            MovableBall ball = new MovableBall(new Point(x, y), radius, Color.WHITE);
+            ball.setVelocity((random.nextDouble() * 2 - 1) * MAX_SPEED, (random.nextDouble() * 2 - 1) * MAX_SPEED);
+            balls.add(ball);
+        }
+        return balls;
+    }
+
+    /**
+     * 세계 안에 임의의 위치와 크기를 가진 상자들을 만듭니다.
+     */
+    static List<Box> boxes(int count, double worldSize, Random random) {
+        List<Box> boxes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double width = 10 + random.nextDouble() * 30;
+            double height = 10 + random.nextDouble() * 30;
+            boxes.add(new Box(random.nextDouble() * (worldSize - width), random.nextDouble() * (worldSize - height),
+                    width, height));
+        }
+        return boxes;
+    }
+}
@@ -0,0 +1,68 @@
+package nhn.breakoutt.benchmark;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.BoundedBall;
+import nhn.breakoutt.BoundedWorld;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충돌이 드문 BoundedWorld 장면에서 프레임 단위 진행(이동 + 스윕 앤 프룬)과
+ * 이벤트 기반 진행(CollisionEventScheduler)의 한 프레임 비용을 비교합니다.
+ * 다른 벤치마크보다 세계를 넓게 잡아 공 사이의 충돌이 드물게 일어나도록 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedWorldEventBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final double SPARSE_SCALE = 4;
+
+    @Param({"10", "100", "1000"})
+    public int count;
+
+    @Param({"false", "true"})
+    public boolean eventDriven;
+
+    private BoundedWorld world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        double worldSize = BenchmarkScenes.worldSize(count) * SPARSE_SCALE;
+        world = new BoundedWorld(worldSize, worldSize);
+        world.setEventDriven(eventDriven);
+        for (MovableBall ball : BenchmarkScenes.balls(count, worldSize, new Random(BenchmarkScenes.SEED))) {
+            // 프레임 단위 진행에서도 세계 경계에서 튕기도록 BoundedBall로 옮겨 담음
+            BoundedBall boundedBall = new BoundedBall(new Point(ball.getX(), ball.getY()), ball.getRadius(), Color.WHITE);
+            boundedBall.setVelocity(ball.getVelocityX(), ball.getVelocityY());
+            boundedBall.setBounds(0, 0, worldSize, worldSize);
+            world.add(boundedBall);
+        }
+        // 첫 프레임의 전체 예측 비용은 측정에서 제외
+        world.update(DELTA_TIME);
+    }
+
+    @Benchmark
+    public BoundedWorld update() {
+        world.update(DELTA_TIME);
+        return world;
+    }
+}
@@ -0,0 +1,87 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.Bounds;
+import nhn.breakoutt.CircleBounds;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.RectangleBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds.intersects의 비용을 측정합니다.
+ * 영역 하나를 count개의 경계와 차례로 비교하므로, 호출 하나당 비용은 결과 시간을 count로 나눈 값입니다.
+ * 사각형/원 경계가 섞여 있어 가상 호출이 단형(monomorphic)으로 최적화되지 않습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundsBenchmark {
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int count;
+
+    private Bounds[] bounds;
+    private Ball[] balls;
+    private Bounds query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkScenes.SEED);
+        double worldSize = BenchmarkScenes.worldSize(count);
+
+        bounds = new Bounds[count];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * worldSize;
+            double y = random.nextDouble() * worldSize;
+            double size = 5 + random.nextDouble() * 20;
+            bounds[i] = i % 2 == 0
+                    ? new RectangleBounds(x, y, size, size)
+                    : new CircleBounds(x, y, size / 2);
+        }
+
+        List<MovableBall> movableBalls = BenchmarkScenes.balls(count, worldSize, random);
+        balls = movableBalls.toArray(new Ball[0]);
+
+        // 세계의 약 1/16을 덮는 영역
+        query = new RectangleBounds(worldSize / 4, worldSize / 4, worldSize / 4, worldSize / 4);
+    }
+
+    @Benchmark
+    public int intersectsBounds() {
+        int hits = 0;
+        for (Bounds candidate : bounds) {
+            if (candidate.intersects(query)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int intersectsBallBounds() {
+        // Ball.getBounds()가 매번 새 경계를 만드는 경로 (할당률 비교용)
+        int hits = 0;
+        for (Ball ball : balls) {
+            if (ball.getBounds().intersects(query)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,67 @@
+package nhn.breakoutt.benchmark;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.ChunkedMazeWorld;
+import nhn.breakoutt.CollisionAction;
+import nhn.breakoutt.MazeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조각 단위 미로의 비용을 측정합니다.
+ * generateChunk는 조각 하나를 만드는 비용, roam은 공 하나를 매 스텝 한 조각씩 옮겨
+ * 조각을 계속 새로 만들고 버리는 (캐시가 가득 찬) 상태에서 한 스텝의 비용입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkedMazeWorldBenchmark {
+    private static final double CELL_SIZE = 20;
+    private static final double DELTA_TIME = 1.0 / 120;
+
+    private MazeGenerator generator;
+    private byte[] tiles;
+    private ChunkedMazeWorld world;
+    private Ball ball;
+    private double chunkLength;
+    private int chunkX;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        generator = new MazeGenerator(BenchmarkScenes.SEED);
+        tiles = new byte[generator.getChunkSize() * generator.getChunkSize()];
+        world = new ChunkedMazeWorld(generator, CELL_SIZE);
+        chunkLength = generator.getChunkSize() * CELL_SIZE;
+        ball = new Ball(chunkLength / 2, chunkLength / 2, 6, 0, 0, Color.YELLOW, CollisionAction.BOUNCE);
+        world.addObject(ball);
+        chunkX = 0;
+    }
+
+    @Benchmark
+    public byte[] generateChunk() {
+        generator.generateChunk(chunkX++, 0, tiles);
+        return tiles;
+    }
+
+    @Benchmark
+    public ChunkedMazeWorld roam() {
+        ball.setX(chunkLength * (chunkX++ + 0.5));
+        world.update(DELTA_TIME);
+        return world;
+    }
+}
@@ -0,0 +1,67 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.Box;
+import nhn.breakoutt.ExtendedCollisionHandler;
+import nhn.breakoutt.MovableBall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExtendedCollisionHandler의 전체 쌍 충돌 검사 비용을 측정합니다.
+ * 두 메서드 모두 이중 루프이므로 50000개에서는 호출 한 번이 수 초 걸릴 수 있습니다.
+ * 충돌 처리로 속도와 위치가 바뀌므로 반복(iteration)마다 장면을 새로 만듭니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int count;
+
+    private ExtendedCollisionHandler handler;
+    private List<Ball> balls;
+    private List<Box> boxes;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(BenchmarkScenes.SEED);
+        double worldSize = BenchmarkScenes.worldSize(count);
+
+        handler = new ExtendedCollisionHandler();
+        List<MovableBall> movableBalls = BenchmarkScenes.balls(count, worldSize, random);
+        balls = new ArrayList<>(movableBalls);
+        // 상자는 공의 1/10 (벽돌처럼 공보다 적은 수의 정적인 객체)
+        boxes = BenchmarkScenes.boxes(Math.max(1, count / 10), worldSize, random);
+    }
+
+    @Benchmark
+    public List<Ball> ballToBall() {
+        handler.checkBallToBallCollisions(balls);
+        return balls;
+    }
+
+    @Benchmark
+    public List<Ball> ballToBox() {
+        handler.checkBallToBoxCollisions(balls, boxes);
+        return balls;
+    }
+}
@@ -0,0 +1,104 @@
+package nhn.breakoutt.benchmark;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.BallCollision;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BallCollision.resolveElasticCollision의 쌍 하나당 비용을 측정합니다.
+ * 서로 다가오며 겹친 공 쌍을 미리 만들어 두고, 매번 처음 상태로 되돌린 뒤 해결합니다.
+ * (한 번 해결된 쌍은 멀어지는 중이라 바로 반환되므로, 되돌리지 않으면 빠른 경로만 측정하게 됨)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElasticCollisionBenchmark {
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int count;
+
+    private MovableBall[] first;
+    private MovableBall[] second;
+    // 각 쌍의 처음 상태: x1, y1, vx1, vy1, x2, y2, vx2, vy2
+    private double[] initial;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkScenes.SEED);
+        first = new MovableBall[count];
+        second = new MovableBall[count];
+        initial = new double[count * 8];
+
+        for (int i = 0; i < count; i++) {
+            double radius = 5 + random.nextDouble() * 10;
+            double angle = random.nextDouble() * Math.PI * 2;
+            double gap = radius * (1 + random.nextDouble()); // 반지름 합(2r)보다 가까움
+            double x1 = random.nextDouble() * 1000;
+            double y1 = random.nextDouble() * 1000;
+            double x2 = x1 + Math.cos(angle) * gap;
+            double y2 = y1 + Math.sin(angle) * gap;
+            double speed = 50 + random.nextDouble() * 100;
+
+            int base = i * 8;
+            initial[base] = x1;
+            initial[base + 1] = y1;
+            initial[base + 2] = Math.cos(angle) * speed;  // 상대 공 쪽으로
+            initial[base + 3] = Math.sin(angle) * speed;
+            initial[base + 4] = x2;
+            initial[base + 5] = y2;
+            initial[base + 6] = -Math.cos(angle) * speed;
+            initial[base + 7] = -Math.sin(angle) * speed;
+
+            first[i] = new MovableBall(new Point(x1, y1), radius, Color.WHITE);
+            second[i] = new MovableBall(new Point(x2, y2), radius, Color.WHITE);
+        }
+    }
+
+    @Benchmark
+    public void resolve(Cursor cursor) {
+        int i = cursor.next(count);
+        int base = i * 8;
+        MovableBall ball1 = first[i];
+        MovableBall ball2 = second[i];
+
+        ball1.setX(initial[base]);
+        ball1.setY(initial[base + 1]);
+        ball1.setVelocity(initial[base + 2], initial[base + 3]);
+        ball2.setX(initial[base + 4]);
+        ball2.setY(initial[base + 5]);
+        ball2.setVelocity(initial[base + 6], initial[base + 7]);
+
+        BallCollision.resolveElasticCollision(ball1, ball2);
+    }
+
+    /**
+     * 쌍을 차례로 돌아가며 고르는 커서입니다. 같은 쌍만 반복해 캐시에 머무르지 않도록 합니다.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next(int count) {
+            int current = index;
+            index = current + 1 == count ? 0 : current + 1;
+            return current;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.breakout.BreakoutWorld;
+import nhn.breakoutt.breakout.LevelDefinition;
+import nhn.breakoutt.breakout.LevelPack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1,000개짜리 레벨 묶음에서 레벨을 고르는 비용을 측정합니다.
+ * parseLevel은 캐시를 한 칸으로 두고 매번 다른 레벨을 요청해 항상 파싱하며,
+ * switchLevel은 캐시된 레벨로 세계의 벽돌을 다시 배치하는 비용 (게임에서 레벨이 바뀔 때)입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelPackBenchmark {
+    private static final int LEVEL_COUNT = 1000;
+
+    private LevelPack uncachedPack;
+    private LevelDefinition cachedLevel;
+    private BreakoutWorld world;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ByteBuffer encoded = LevelPack.encode(LevelPack.builtInLevels(LEVEL_COUNT, 800));
+        uncachedPack = LevelPack.read(encoded, 1);
+        cachedLevel = LevelPack.read(encoded).getLevel(LEVEL_COUNT);
+        world = new BreakoutWorld(800, 600, BenchmarkScenes.SEED);
+    }
+
+    @Benchmark
+    public LevelDefinition parseLevel() {
+        next = next % LEVEL_COUNT + 1;
+        return uncachedPack.getLevel(next);
+    }
+
+    @Benchmark
+    public BreakoutWorld switchLevel() {
+        world.createLevel(cachedLevel);
+        return world;
+    }
+}
@@ -0,0 +1,77 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.BallStore;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.MovableWorld;
+import nhn.breakoutt.ParallelIntegrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이동(적분) 단계만의 비용을 직렬과 공용 ForkJoinPool 병렬로 비교합니다.
+ * MovableWorld는 공 객체를 하나씩 이동시키고, BallStore는 배열 묶음을 구간별 커널로 이동시킵니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelIntegrationBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+
+    @Param({"10000", "100000"})
+    public int count;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private MovableWorld world;
+    private BallStore store;
+    private ParallelIntegrator integrator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        double worldSize = BenchmarkScenes.worldSize(count);
+        integrator = new ParallelIntegrator(ForkJoinPool.commonPool());
+        world = new MovableWorld(worldSize, worldSize);
+        world.setIntegrator(parallel ? integrator : null);
+        store = new BallStore(count);
+        store.setBounds(0, 0, worldSize, worldSize);
+        for (MovableBall ball : BenchmarkScenes.balls(count, worldSize, new Random(BenchmarkScenes.SEED))) {
+            world.add(ball);
+            store.add(ball.getX(), ball.getY(), ball.getRadius(), ball.getVelocityX(), ball.getVelocityY(), 1.0,
+                    BallStore.FLAG_GRAVITY);
+        }
+    }
+
+    @Benchmark
+    public MovableWorld movableWorld() {
+        world.update(DELTA_TIME);
+        return world;
+    }
+
+    @Benchmark
+    public BallStore ballStore() {
+        if (parallel) {
+            store.integrate(DELTA_TIME, integrator);
+        } else {
+            store.integrate(DELTA_TIME);
+        }
+        return store;
+    }
+}
@@ -0,0 +1,60 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.BoundedWorld;
+import nhn.breakoutt.MovableBall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충돌이 많은 BoundedWorld 장면에서 공 간 충돌 처리를 직렬로 할 때와
+ * 공용 ForkJoinPool에서 병렬로 할 때의 한 프레임 비용을 비교합니다.
+ * 병렬 처리의 이득은 코어 수와, 같은 공을 공유하는 쌍이 얼마나 길게 이어지는지(배치 수)에 따라 달라집니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelNarrowPhaseBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final double DENSE_SCALE = 0.5;
+
+    @Param({"1000", "10000", "100000"})
+    public int count;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private BoundedWorld world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        double worldSize = BenchmarkScenes.worldSize(count) * DENSE_SCALE;
+        world = new BoundedWorld(worldSize, worldSize);
+        world.setNarrowPhasePool(parallel ? ForkJoinPool.commonPool() : null);
+        for (MovableBall ball : BenchmarkScenes.balls(count, worldSize, new Random(BenchmarkScenes.SEED))) {
+            world.add(ball);
+        }
+    }
+
+    @Benchmark
+    public BoundedWorld update() {
+        world.update(DELTA_TIME);
+        return world;
+    }
+}
@@ -0,0 +1,53 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.SimpleWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimpleWorld.update 한 프레임(이동, 경계 충돌, 브로드 페이즈, 공 간 충돌)의 비용을 측정합니다.
+ * 시간이 지나면 공들이 퍼지거나 모이므로 반복(iteration)마다 세계를 새로 만듭니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleWorldBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+
+    @Param({"10", "100", "1000", "10000", "50000"})
+    public int count;
+
+    private SimpleWorld world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        double worldSize = BenchmarkScenes.worldSize(count);
+        world = new SimpleWorld(worldSize, worldSize);
+        for (MovableBall ball : BenchmarkScenes.balls(count, worldSize, new Random(BenchmarkScenes.SEED))) {
+            world.addObject(ball);
+        }
+    }
+
+    @Benchmark
+    public SimpleWorld update() {
+        world.update(DELTA_TIME);
+        return world;
+    }
+}
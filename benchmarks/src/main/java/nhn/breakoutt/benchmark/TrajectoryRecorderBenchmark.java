@@ -0,0 +1,69 @@
+package nhn.breakoutt.benchmark;
+
+import nhn.breakoutt.BoundedWorld;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.TrajectoryRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시뮬레이션 스레드에서 궤적 한 프레임을 메모리 매핑 파일에 기록하는 비용을 측정합니다.
+ * 세계는 진행하지 않으므로 기록 비용만 나옵니다 (파일은 반복마다 새로 만들고 지움).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrajectoryRecorderBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+
+    @Param({"10000", "50000"})
+    public int count;
+
+    private Path file;
+    private TrajectoryRecorder recorder;
+    private long step;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        double worldSize = BenchmarkScenes.worldSize(count);
+        BoundedWorld world = new BoundedWorld(worldSize, worldSize);
+        for (MovableBall ball : BenchmarkScenes.balls(count, worldSize, new Random(BenchmarkScenes.SEED))) {
+            world.add(ball);
+        }
+        file = Files.createTempFile("trajectory", ".bin");
+        recorder = new TrajectoryRecorder(file, world, count, DELTA_TIME);
+        step = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        recorder.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public TrajectoryRecorder recordFrame() {
+        recorder.recordFrame(step++);
+        return recorder;
+    }
+}
@@ -0,0 +1,65 @@
+package nhn.breakoutt.benchmark;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.CollisionAction;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 벽돌 깨기 세계의 스냅샷 쓰기와 되감기(복원) 비용을 측정합니다.
+ * 버퍼는 한 번 할당해 재사용하고, 되감기는 같은 세계에 복원하므로 대부분의 객체를 재사용합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldSnapshotBenchmark {
+    private static final double DELTA_TIME = 1.0 / 120;
+
+    private BreakoutWorld world;
+    private ByteBuffer buffer;
+    private ByteBuffer checkpoint;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new BreakoutWorld(800, 600, BenchmarkScenes.SEED);
+        world.createLevel(5);
+        world.addBall(new Ball(400, 540, 10, 120, -240, Color.WHITE, CollisionAction.BOUNCE));
+        for (int step = 0; step < 600; step++) {
+            world.update(DELTA_TIME);
+        }
+        buffer = ByteBuffer.allocateDirect(world.getSnapshotSize() * 2);
+        checkpoint = ByteBuffer.allocateDirect(world.getSnapshotSize() * 2);
+        world.writeSnapshot(checkpoint);
+        checkpoint.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer write() {
+        buffer.clear();
+        world.writeSnapshot(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public BreakoutWorld rewind() {
+        world.readSnapshot(checkpoint.rewind());
+        return world;
+    }
+}
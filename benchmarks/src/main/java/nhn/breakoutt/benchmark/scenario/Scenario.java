@@ -0,0 +1,183 @@
+package nhn.breakoutt.benchmark.scenario;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.CollisionAction;
+import nhn.breakoutt.MazeWorld;
+import nhn.breakoutt.MovableBall;
+import nhn.breakoutt.Point;
+import nhn.breakoutt.SimpleWorld;
+import nhn.breakoutt.Simulation;
+import nhn.breakoutt.Star;
+import nhn.breakoutt.Triangle;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import nhn.breakoutt.cannongame.CannonGameWorld;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 프레임 시간 측정에 사용하는 게임 세계 시나리오입니다.
+ * 같은 시드로 만들면 같은 초기 상태와 같은 입력(발사, 공 보충)이 재현됩니다.
+ * 각 시나리오는 부하가 일정하게 유지되도록 필요한 입력을 update 안에서 직접 넣습니다.
+ */
+public enum Scenario {
+    /**
+     * 레벨 10 벽돌 깨기에 공 200개. 잃은 공은 패들 위에서 다시 발사해 200개를 유지하고,
+     * 벽돌을 모두 깨면 같은 레벨을 다시 배치해 벽돌 충돌 부하를 유지합니다.
+     * 세계의 난수(파워업 드롭)도 시나리오 시드에서 정합니다.
+     */
+    BREAKOUT_MULTIBALL {
+        @Override
+        public Simulation create(long seed) {
+            Random random = new Random(seed);
+            BreakoutWorld world = new BreakoutWorld(800, 600, random.nextLong());
+            world.createLevel(BREAKOUT_LEVEL);
+
+            return deltaTime -> {
+                if (world.isLevelComplete()) {
+                    world.createLevel(BREAKOUT_LEVEL);
+                }
+                while (world.getBallCount() < BREAKOUT_BALLS) {
+                    double x = 50 + random.nextDouble() * 700;
+                    double dx = (random.nextDouble() * 2 - 1) * 200;
+                    world.addBall(new Ball(x, 500, 6, dx, -250, Color.WHITE, CollisionAction.BOUNCE));
+                }
+                world.update(deltaTime);
+            };
+        }
+    },
+
+    /**
+     * 대포를 일정 간격으로 계속 발사하는 대포 게임. 발사 각도와 세기는 시드에 따라 바뀝니다.
+     */
+    CANNON_BARRAGE {
+        @Override
+        public Simulation create(long seed) {
+            Random random = new Random(seed);
+            CannonGameWorld world = new CannonGameWorld(800, 600);
+            int[] frame = {0};
+
+            return deltaTime -> {
+                if (frame[0]++ % CANNON_FIRE_INTERVAL == 0) {
+                    if (world.isGameWon() || world.isGameLost()) {
+                        world.resetGame();
+                    }
+                    world.getCannon().aimAt(300 + random.nextDouble() * 500, random.nextDouble() * 400);
+                    world.getCannon().setPower(300 + random.nextDouble() * 600);
+                    world.fire();
+                }
+                world.update(deltaTime);
+            };
+        }
+    },
+
+    /**
+     * 60x60 미로 안을 돌아다니는 공 1000개.
+     */
+    MAZE_WANDERERS {
+        @Override
+        public Simulation create(long seed) {
+            Random random = new Random(seed);
+            int[][] layout = mazeLayout(MAZE_SIZE, random);
+            double cellSize = 50;
+            MazeWorld world = new MazeWorld(MAZE_SIZE * cellSize, MAZE_SIZE * cellSize, layout);
+
+            int placed = 0;
+            while (placed < MAZE_BALLS) {
+                int row = random.nextInt(MAZE_SIZE);
+                int col = random.nextInt(MAZE_SIZE);
+                if (layout[row][col] != 0) {
+                    continue;
+                }
+                double radius = 4 + random.nextDouble() * 8;
+                double x = col * cellSize + radius + random.nextDouble() * (cellSize - 2 * radius);
+                double y = row * cellSize + radius + random.nextDouble() * (cellSize - 2 * radius);
+                double dx = (random.nextDouble() * 2 - 1) * 150;
+                double dy = (random.nextDouble() * 2 - 1) * 150;
+                world.addObject(new Ball(x, y, radius, dx, dy, Color.YELLOW, CollisionAction.BOUNCE));
+                placed++;
+            }
+            return world;
+        }
+    },
+
+    /**
+     * 공, 별, 삼각형이 섞여 움직이는 SimpleWorld.
+     */
+    SIMPLE_SOUP {
+        @Override
+        public Simulation create(long seed) {
+            Random random = new Random(seed);
+            double width = 2000;
+            double height = 1500;
+            SimpleWorld world = new SimpleWorld(width, height);
+
+            for (int i = 0; i < SOUP_OBJECTS; i++) {
+                double x = 40 + random.nextDouble() * (width - 80);
+                double y = 40 + random.nextDouble() * (height - 80);
+                double dx = (random.nextDouble() * 2 - 1) * 120;
+                double dy = (random.nextDouble() * 2 - 1) * 120;
+                double size = 8 + random.nextDouble() * 16;
+
+                switch (i % 3) {
+                    case 0 -> {
+                        MovableBall ball = new MovableBall(new Point(x, y), size / 2, Color.WHITE);
+                        ball.setVelocity(dx, dy);
+                        world.addObject(ball);
+                    }
+                    case 1 -> world.addObject(new Star(x, y, size, size * 0.4, random.nextDouble() * Math.PI,
+                            dx, dy, Color.YELLOW, CollisionAction.BOUNCE));
+                    default -> world.addObject(new Triangle(x, y, size, dx, dy, Color.GREEN, CollisionAction.BOUNCE));
+                }
+            }
+            return world;
+        }
+    };
+
+    static final int BREAKOUT_LEVEL = 10;
+    static final int BREAKOUT_BALLS = 200;
+    static final int CANNON_FIRE_INTERVAL = 5;
+    static final int MAZE_SIZE = 60;
+    static final int MAZE_BALLS = 1000;
+    static final int SOUP_OBJECTS = 900;
+
+    /**
+     * 시드로 초기 상태를 만든 시뮬레이션을 반환합니다.
+     */
+    public abstract Simulation create(long seed);
+
+    /**
+     * 명령줄에서 쓰는 이름 (예: breakout-multiball)
+     */
+    public String getId() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * 이름(getId 또는 상수 이름)으로 시나리오를 찾습니다.
+     * @throws IllegalArgumentException 해당하는 시나리오가 없는 경우
+     */
+    public static Scenario fromId(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.getId().equalsIgnoreCase(id) || scenario.name().equalsIgnoreCase(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + id);
+    }
+
+    /**
+     * 테두리가 벽이고 안쪽 칸의 약 20%가 벽인 미로 배치를 만듭니다. (0: 통로, 1: 벽)
+     */
+    static int[][] mazeLayout(int size, Random random) {
+        int[][] layout = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                boolean border = row == 0 || col == 0 || row == size - 1 || col == size - 1;
+                layout[row][col] = border || random.nextDouble() < 0.2 ? 1 : 0;
+            }
+        }
+        return layout;
+    }
+}
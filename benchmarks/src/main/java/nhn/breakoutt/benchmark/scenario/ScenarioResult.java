@@ -0,0 +1,124 @@
+package nhn.breakoutt.benchmark.scenario;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 시나리오 하나를 실행한 결과입니다.
+ * 스텝 시간은 나노초, 할당량은 바이트 단위입니다.
+ */
+public final class ScenarioResult {
+    static final String CSV_HEADER = "label,scenario,seed,frames,p50_ns,p99_ns,max_ns,mean_ns,alloc_bytes_per_frame";
+
+    private final String label;
+    private final String scenario;
+    private final long seed;
+    private final int frames;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long meanNanos;
+    private final long allocatedBytesPerFrame;
+
+    ScenarioResult(String label, String scenario, long seed, long[] stepNanos, long allocatedBytes) {
+        if (stepNanos.length == 0) {
+            throw new IllegalArgumentException("측정한 프레임이 없습니다");
+        }
+        long[] sorted = stepNanos.clone();
+        Arrays.sort(sorted);
+
+        long total = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+        }
+
+        this.label = label;
+        this.scenario = scenario;
+        this.seed = seed;
+        this.frames = sorted.length;
+        this.p50Nanos = percentile(sorted, 0.50);
+        this.p99Nanos = percentile(sorted, 0.99);
+        this.maxNanos = sorted[sorted.length - 1];
+        this.meanNanos = total / sorted.length;
+        this.allocatedBytesPerFrame = allocatedBytes < 0 ? -1 : allocatedBytes / sorted.length;
+    }
+
+    /**
+     * 정렬된 배열에서 nearest-rank 방식으로 백분위수를 구합니다.
+     */
+    static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    String toCsvRow() {
+        return String.join(",", escapeCsv(label), scenario, Long.toString(seed), Integer.toString(frames),
+                Long.toString(p50Nanos), Long.toString(p99Nanos), Long.toString(maxNanos),
+                Long.toString(meanNanos), Long.toString(allocatedBytesPerFrame));
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"label\": \"%s\", \"scenario\": \"%s\", \"seed\": %d, \"frames\": %d, "
+                        + "\"p50_ns\": %d, \"p99_ns\": %d, \"max_ns\": %d, \"mean_ns\": %d, "
+                        + "\"alloc_bytes_per_frame\": %d}",
+                escapeJson(label), scenario, seed, frames, p50Nanos, p99Nanos, maxNanos, meanNanos,
+                allocatedBytesPerFrame);
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getFrames() {
+        return frames;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * @return 프레임당 평균 할당 바이트 (JVM이 스레드별 할당량을 지원하지 않으면 -1)
+     */
+    public long getAllocatedBytesPerFrame() {
+        return allocatedBytesPerFrame;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-20s p50=%8.3fms p99=%8.3fms max=%8.3fms alloc=%,d B/frame",
+                scenario, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6, allocatedBytesPerFrame);
+    }
+}
@@ -0,0 +1,173 @@
+package nhn.breakoutt.benchmark.scenario;
+
+import nhn.breakoutt.HeadlessRunner;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 시나리오를 화면 없이 고정 스텝으로 실행하고 프레임 시간을 기록합니다.
+ * 워밍업 프레임(JIT 컴파일) 이후의 스텝마다 걸린 시간을 재고, p50/p99/max와 프레임당 할당량을 CSV나 JSON으로 남깁니다.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar nhn.breakoutt.benchmark.scenario.ScenarioRunner \
+ *     --frames 3000 --warmup 600 --seed 42 --label $(git rev-parse --short HEAD) --out frames.csv
+ * </pre>
+ * 시나리오 이름을 주지 않으면 모든 시나리오를 실행합니다. CSV 파일이 이미 있으면 행을 덧붙이므로 커밋별 결과를 한 파일에 모을 수 있습니다.
+ */
+public class ScenarioRunner {
+    public static final int DEFAULT_FRAMES = 3000;
+    public static final int DEFAULT_WARMUP_FRAMES = 600;
+    public static final long DEFAULT_SEED = 42;
+
+    private final int frames;
+    private final int warmupFrames;
+    private final long seed;
+    private final String label;
+
+    /**
+     * @param frames 측정할 프레임 수
+     * @param warmupFrames 측정 전에 버릴 프레임 수
+     * @param seed 시나리오 시드
+     * @param label 결과에 붙일 이름 (예: 커밋 해시)
+     * @throws IllegalArgumentException 프레임 수가 잘못되었거나 label이 null인 경우
+     */
+    public ScenarioRunner(int frames, int warmupFrames, long seed, String label) {
+        if (frames <= 0) {
+            throw new IllegalArgumentException("측정 프레임 수는 양수여야 합니다: " + frames);
+        }
+        if (warmupFrames < 0) {
+            throw new IllegalArgumentException("워밍업 프레임 수는 음수일 수 없습니다: " + warmupFrames);
+        }
+        if (label == null) {
+            throw new IllegalArgumentException("label은 null일 수 없습니다");
+        }
+        this.frames = frames;
+        this.warmupFrames = warmupFrames;
+        this.seed = seed;
+        this.label = label;
+    }
+
+    /**
+     * 시나리오 하나를 실행합니다.
+     */
+    public ScenarioResult run(Scenario scenario) {
+        HeadlessRunner runner = new HeadlessRunner(scenario.create(seed));
+        runner.run(warmupFrames);
+
+        long[] stepNanos = new long[frames];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < frames; i++) {
+            long start = System.nanoTime();
+            runner.step();
+            stepNanos[i] = System.nanoTime() - start;
+        }
+        long allocatedAfter = allocatedBytes();
+
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new ScenarioResult(label, scenario.getId(), seed, stepNanos, allocated);
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 수 (지원하지 않으면 -1)
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * 결과를 파일에 씁니다. 확장자가 .json이면 JSON 배열로 덮어쓰고, 그 밖에는 CSV 행을 덧붙입니다.
+     */
+    public static void write(Path path, List<ScenarioResult> results) throws IOException {
+        if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+            List<String> lines = new ArrayList<>();
+            lines.add("[");
+            for (int i = 0; i < results.size(); i++) {
+                lines.add("  " + results.get(i).toJson() + (i < results.size() - 1 ? "," : ""));
+            }
+            lines.add("]");
+            Files.write(path, lines, StandardCharsets.UTF_8);
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            lines.add(ScenarioResult.CSV_HEADER);
+        }
+        for (ScenarioResult result : results) {
+            lines.add(result.toCsvRow());
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int frames = DEFAULT_FRAMES;
+        int warmupFrames = DEFAULT_WARMUP_FRAMES;
+        long seed = DEFAULT_SEED;
+        String label = "local";
+        Path out = null;
+        List<Scenario> scenarios = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--frames" -> frames = Integer.parseInt(value(args, ++i));
+                case "--warmup" -> warmupFrames = Integer.parseInt(value(args, ++i));
+                case "--seed" -> seed = Long.parseLong(value(args, ++i));
+                case "--label" -> label = value(args, ++i);
+                case "--out" -> out = Path.of(value(args, ++i));
+                default -> scenarios.add(Scenario.fromId(args[i]));
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(Arrays.asList(Scenario.values()));
+        }
+
+        ScenarioRunner runner = new ScenarioRunner(frames, warmupFrames, seed, label);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            ScenarioResult result = runner.run(scenario);
+            System.out.println(result);
+            results.add(result);
+        }
+
+        if (out != null) {
+            write(out, results);
+            System.out.println("결과 저장: " + out.toAbsolutePath());
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(args[index - 1] + " 옵션에 값이 없습니다");
+        }
+        return args[index];
+    }
+
+    public int getFrames() {
+        return frames;
+    }
+
+    public int getWarmupFrames() {
+        return warmupFrames;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -2,6 +2,9 @@ module nhn.breakoutt {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
+    requires static jdk.incubator.vector;
 
     opens nhn.breakoutt to javafx.fxml;
     opens nhn.breakoutt.breakout to javafx.fxml;
@@ -0,0 +1,204 @@
+package nhn.breakoutt;
+
+/**
+ * 색을 0xAARRGGBB 형식의 int 하나로 다루는 도우미입니다.
+ * 모델 클래스는 JavaFX Color 대신 이 값으로 색을 저장하므로, 화면 없이 실행할 때 javafx.graphics가 필요하지 않습니다.
+ * JavaFX Color와의 변환은 렌더링 쪽의 {@link FxColors}가 맡습니다.
+ *
+ * <p>상수 값은 같은 이름의 JavaFX Color 상수와 같습니다.</p>
+ */
+public final class Argb {
+    public static final int TRANSPARENT = 0x00000000;
+    public static final int BLACK = 0xFF000000;
+    public static final int WHITE = 0xFFFFFFFF;
+    public static final int GRAY = 0xFF808080;
+    public static final int DARKGRAY = 0xFFA9A9A9;
+    public static final int DARKSLATEGRAY = 0xFF2F4F4F;
+    public static final int SILVER = 0xFFC0C0C0;
+    public static final int RED = 0xFFFF0000;
+    public static final int DARKRED = 0xFF8B0000;
+    public static final int ORANGE = 0xFFFFA500;
+    public static final int ORANGERED = 0xFFFF4500;
+    public static final int GOLD = 0xFFFFD700;
+    public static final int YELLOW = 0xFFFFFF00;
+    public static final int GREEN = 0xFF008000;
+    public static final int LIME = 0xFF00FF00;
+    public static final int CYAN = 0xFF00FFFF;
+    public static final int BLUE = 0xFF0000FF;
+    public static final int DARKBLUE = 0xFF00008B;
+    public static final int PURPLE = 0xFF800080;
+    public static final int MAGENTA = 0xFFFF00FF;
+    public static final int PINK = 0xFFFFC0CB;
+    public static final int BROWN = 0xFFA52A2A;
+
+    private static final double DARKER_BRIGHTER_FACTOR = 0.7;
+
+    private Argb() {
+    }
+
+    /**
+     * @param red 빨강 (0-255)
+     * @param green 초록 (0-255)
+     * @param blue 파랑 (0-255)
+     * @return 불투명한 색
+     * @throws IllegalArgumentException 채널 값이 범위를 벗어난 경우
+     */
+    public static int rgb(int red, int green, int blue) {
+        return rgba(red, green, blue, 255);
+    }
+
+    /**
+     * @param alpha 불투명도 (0-255)
+     * @throws IllegalArgumentException 채널 값이 범위를 벗어난 경우
+     */
+    public static int rgba(int red, int green, int blue, int alpha) {
+        if (((red | green | blue | alpha) & ~0xFF) != 0) {
+            throw new IllegalArgumentException("색 채널은 0-255 사이여야 합니다");
+        }
+        return alpha << 24 | red << 16 | green << 8 | blue;
+    }
+
+    /**
+     * 불투명도만 바꾼 색을 반환합니다.
+     * @param opacity 불투명도 (0-1)
+     */
+    public static int withOpacity(int argb, double opacity) {
+        if (!(opacity >= 0 && opacity <= 1)) {
+            throw new IllegalArgumentException("불투명도는 0-1 사이여야 합니다: " + opacity);
+        }
+        return (int) Math.round(opacity * 255) << 24 | (argb & 0x00FFFFFF);
+    }
+
+    /**
+     * HSB 값으로 불투명한 색을 만듭니다. JavaFX Color.hsb와 같은 방식으로 계산합니다.
+     * @param hue 색상 (도)
+     * @param saturation 채도 (0-1)
+     * @param brightness 밝기 (0-1)
+     */
+    public static int hsb(double hue, double saturation, double brightness) {
+        return hsb(hue, saturation, brightness, 255);
+    }
+
+    /**
+     * JavaFX Color.brighter와 같이 밝기를 1/0.7배로 올린 색을 반환합니다.
+     */
+    public static int brighter(int argb) {
+        return deriveBrightness(argb, 1 / DARKER_BRIGHTER_FACTOR);
+    }
+
+    /**
+     * JavaFX Color.darker와 같이 밝기를 0.7배로 낮춘 색을 반환합니다.
+     */
+    public static int darker(int argb) {
+        return deriveBrightness(argb, DARKER_BRIGHTER_FACTOR);
+    }
+
+    private static int deriveBrightness(int argb, double factor) {
+        double red = red(argb) / 255.0;
+        double green = green(argb) / 255.0;
+        double blue = blue(argb) / 255.0;
+        double max = Math.max(red, Math.max(green, blue));
+        double min = Math.min(red, Math.min(green, blue));
+
+        double brightness = max;
+        double saturation = max != 0 ? (max - min) / max : 0;
+        double hue = 0;
+        if (saturation != 0) {
+            double redC = (max - red) / (max - min);
+            double greenC = (max - green) / (max - min);
+            double blueC = (max - blue) / (max - min);
+            if (red == max) {
+                hue = blueC - greenC;
+            } else if (green == max) {
+                hue = 2 + redC - blueC;
+            } else {
+                hue = 4 + greenC - redC;
+            }
+            hue /= 6;
+            if (hue < 0) {
+                hue += 1;
+            }
+        }
+
+        if (brightness == 0 && factor > 1) {
+            brightness = 0.05; // 검은색도 밝아지도록 (JavaFX와 같음)
+        }
+        brightness = Math.max(Math.min(brightness * factor, 1), 0);
+        return hsb(hue * 360, saturation, brightness, alpha(argb));
+    }
+
+    private static int hsb(double hue, double saturation, double brightness, int alpha) {
+        double red = brightness;
+        double green = brightness;
+        double blue = brightness;
+        if (saturation != 0) {
+            double normalized = (hue % 360 + 360) % 360 / 360;
+            double sector = (normalized - Math.floor(normalized)) * 6;
+            double fraction = sector - Math.floor(sector);
+            double p = brightness * (1 - saturation);
+            double q = brightness * (1 - saturation * fraction);
+            double t = brightness * (1 - saturation * (1 - fraction));
+            switch ((int) sector) {
+                case 0 -> {
+                    red = brightness;
+                    green = t;
+                    blue = p;
+                }
+                case 1 -> {
+                    red = q;
+                    green = brightness;
+                    blue = p;
+                }
+                case 2 -> {
+                    red = p;
+                    green = brightness;
+                    blue = t;
+                }
+                case 3 -> {
+                    red = p;
+                    green = q;
+                    blue = brightness;
+                }
+                case 4 -> {
+                    red = t;
+                    green = p;
+                    blue = brightness;
+                }
+                default -> {
+                    red = brightness;
+                    green = p;
+                    blue = q;
+                }
+            }
+        }
+        return rgba(channel(red), channel(green), channel(blue), alpha);
+    }
+
+    // JavaFX Color는 채널을 float로 저장하므로, 같은 정수 값이 나오도록 float을 거쳐 반올림함
+    private static int channel(double value) {
+        return (int) Math.round((double) (float) Math.max(0, Math.min(1, value)) * 255);
+    }
+
+    public static int red(int argb) {
+        return argb >>> 16 & 0xFF;
+    }
+
+    public static int green(int argb) {
+        return argb >>> 8 & 0xFF;
+    }
+
+    public static int blue(int argb) {
+        return argb & 0xFF;
+    }
+
+    public static int alpha(int argb) {
+        return argb >>> 24;
+    }
+
+    /**
+     * @return 0xAARRGGBB 형식의 16진수 문자열
+     */
+    public static String toString(int argb) {
+        return String.format("0x%08X", argb);
+    }
+}
@@ -9,12 +9,12 @@ public class Ball implements Paintable, Movable, Collidable {
     private double radius;
     private double dx;
     private double dy;
-    private Color color;
+    private int argb; // 0xAARRGGBB (Argb)
     private CollisionAction collisionAction;
     private boolean destroyed = false;
 
     public Ball(double x, double y, double radius) {
-        this(x, y, radius, 0, 0, Color.RED, CollisionAction.BOUNCE);
+        this(x, y, radius, 0, 0, Argb.RED, CollisionAction.BOUNCE);
     }
 
     public Ball(Point center, double radius) {
@@ -22,12 +22,16 @@ public class Ball implements Paintable, Movable, Collidable {
     }
 
     public Ball(double x, double y, double radius, double dx, double dy, Color color, CollisionAction collisionAction) {
+        this(x, y, radius, dx, dy, FxColors.toArgb(color), collisionAction);
+    }
+
+    /**
+     * @param argb 0xAARRGGBB 형식의 색 ({@link Argb})
+     */
+    public Ball(double x, double y, double radius, double dx, double dy, int argb, CollisionAction collisionAction) {
         if(radius <= 0) {
             throw new IllegalArgumentException("반지름은 양수여야 합니다.");
         }
-        if(color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다.");
-        }
         if(collisionAction == null) {
             throw new IllegalArgumentException("충돌 액션은 null일 수 없습니다.");
         }
@@ -37,18 +41,27 @@ public class Ball implements Paintable, Movable, Collidable {
         this.radius = radius;
         this.dx = dx;
         this.dy = dy;
-        this.color = color;
+        this.argb = argb;
         this.collisionAction = collisionAction;
     }
 
+    /**
+     * 상태를 다른 곳(예: {@link BallStore}의 배열)에 두고 좌표, 속도, 반지름 접근자를 모두 다시 정의하는
+     * 하위 클래스용 생성자입니다. 이 클래스의 좌표 필드는 쓰이지 않으므로 값을 받지 않습니다.
+     */
+    protected Ball() {
+        this.argb = Argb.RED;
+        this.collisionAction = CollisionAction.BOUNCE;
+    }
+
     public Ball(int i, int i1, int i2, Color red) {
         this((double) i, (double) i1, (double) i2);
-        this.color = red;
+        this.argb = FxColors.toArgb(red);
     }
 
     // 기존 메서드들
     public Point getCenter() {
-        return new Point(x, y);
+        return new Point(getX(), getY());
     }
 
     public double getRadius() {
@@ -56,43 +69,65 @@ public class Ball implements Paintable, Movable, Collidable {
     }
 
     public void moveTo(Point center){
-        this.x = center.getX();
-        this.y = center.getY();
+        setX(center.getX());
+        setY(center.getY());
     }
 
     public double getArea(){
+        double radius = getRadius();
         return Math.PI * radius * radius;
     }
 
     public double getPerimeter(){
-        return Math.PI * 2 * radius;
+        return Math.PI * 2 * getRadius();
     }
 
     public boolean contains(Point p){
-        return getCenter().distanceTo(p) <= radius;
+        return contains(p.getX(), p.getY());
     }
 
     public boolean contains(double x, double y){
-        return this.contains(new Point(x, y));
+        double radius = getRadius();
+        return distanceSq(x, y) <= radius * radius;
+    }
+
+    /**
+     * 중심에서 주어진 좌표까지 거리의 제곱을 반환합니다.
+     */
+    public double distanceSq(double x, double y) {
+        double dx = x - getX();
+        double dy = y - getY();
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * 경계 사각형이 주어진 영역과 겹치는지 확인합니다. Bounds.intersects와 같은 기준입니다.
+     */
+    public boolean intersects(double minX, double minY, double maxX, double maxY) {
+        double x = getX();
+        double y = getY();
+        double radius = getRadius();
+        return !(maxX < x - radius || minX > x + radius ||
+                 maxY < y - radius || minY > y + radius);
     }
 
     public boolean isColliding(Ball other){
         if(other == null) throw new IllegalArgumentException();
-        return getCenter().distanceTo(other.getCenter()) < this.getRadius() + other.getRadius();
+        double radiusSum = this.getRadius() + other.getRadius();
+        return distanceSq(other.getX(), other.getY()) < radiusSum * radiusSum;
     }
 
     // Paintable 구현
     @Override
     public void paint(GraphicsContext gc) {
-        gc.setFill(color);
-        gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+        ShapeRenderer.paintBall(gc, this);
     }
 
     // Movable 구현
     @Override
     public void move(double deltaTime) {
-        x += dx * deltaTime;
-        y += dy * deltaTime;
+        setX(getX() + getDx() * deltaTime);
+        setY(getY() + getDy() * deltaTime);
     }
 
     @Override
@@ -118,12 +153,18 @@ public class Ball implements Paintable, Movable, Collidable {
     // Collidable 구현 (Boundable 포함)
     @Override
     public Bounds getBounds() {
-        return new CircleBounds(x, y, radius);
+        return new CircleBounds(getX(), getY(), getRadius());
     }
 
     @Override
     public boolean isColliding(Boundable other) {
-        return getBounds().intersects(other.getBounds());
+        if (other instanceof Ball ball) {
+            // 두 원의 경계 사각형 비교 (getBounds()와 같은 결과, 객체 생성 없음)
+            double r = ball.getRadius();
+            return intersects(ball.getX() - r, ball.getY() - r, ball.getX() + r, ball.getY() + r);
+        }
+        Bounds otherBounds = other.getBounds();
+        return intersects(otherBounds.getMinX(), otherBounds.getMinY(), otherBounds.getMaxX(), otherBounds.getMaxY());
     }
 
     @Override
@@ -131,8 +172,8 @@ public class Ball implements Paintable, Movable, Collidable {
         switch (collisionAction) {
             case BOUNCE:
                 // 반사 로직 - 간단한 속도 반전
-                dx = -dx;
-                dy = -dy;
+                setDx(-getDx());
+                setDy(-getDy());
                 break;
             case DESTROY:
                 // 제거 표시
@@ -140,8 +181,8 @@ public class Ball implements Paintable, Movable, Collidable {
                 break;
             case STOP:
                 // 정지
-                dx = 0;
-                dy = 0;
+                setDx(0);
+                setDy(0);
                 break;
             case PASS:
                 // 통과 - 아무것도 하지 않음
@@ -160,14 +201,22 @@ public class Ball implements Paintable, Movable, Collidable {
 
     // 추가 메서드들
     public Color getColor() {
-        return color;
+        return FxColors.toColor(getArgb());
     }
 
     public void setColor(Color color) {
-        if(color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다.");
-        }
-        this.color = color;
+        setArgb(FxColors.toArgb(color));
+    }
+
+    /**
+     * @return 0xAARRGGBB 형식의 색 ({@link Argb}). 그리지 않는 곳에서는 getColor 대신 사용합니다.
+     */
+    public int getArgb() {
+        return argb;
+    }
+
+    public void setArgb(int argb) {
+        this.argb = argb;
     }
 
     public void setCollisionAction(CollisionAction collisionAction) {
@@ -203,13 +252,13 @@ public class Ball implements Paintable, Movable, Collidable {
 
     protected void handleCustomCollision(Collidable other) {
         // 기본 구현: 반사
-        dx = -dx;
-        dy = -dy;
+        setDx(-getDx());
+        setDy(-getDy());
     }
 
     @Override
     public String toString(){
         return String.format("Ball(%.2f, %.2f, %.2f, color=%s, action=%s)",
-                           x, y, radius, color, collisionAction);
+                           getX(), getY(), getRadius(), Argb.toString(getArgb()), collisionAction);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package nhn.breakoutt;
 
 /**
  * 두 공 사이의 충돌을 감지하고 처리하는 클래스입니다.
+ * 매 프레임 공 쌍마다 호출되므로, Point/Vector2D를 만들지 않고 좌표 성분으로 계산합니다.
  */
 public class BallCollision {
 
@@ -12,14 +13,13 @@ public class BallCollision {
      * @return 충돌하면 true, 아니면 false
      */
     public static boolean areColliding(Ball ball1, Ball ball2) {
-        Point center1 = ball1.getCenter();
-        Point center2 = ball2.getCenter();
-
-        // 두 공의 중심 거리 계산
-        double distance = center1.distanceTo(center2);
+        // 두 공의 중심 거리의 제곱 계산 (제곱근 생략)
+        double dx = ball2.getX() - ball1.getX();
+        double dy = ball2.getY() - ball1.getY();
+        double radiusSum = ball1.getRadius() + ball2.getRadius();
 
         // 거리 < 두 반지름의 합이면 충돌
-        return distance < (ball1.getRadius() + ball2.getRadius());
+        return dx * dx + dy * dy < radiusSum * radiusSum;
     }
 
     /**
@@ -35,12 +35,23 @@ public class BallCollision {
             return;
         }
 
-        // 멀어지고 있는지 확인 (이미 처리된 충돌 방지)
-        Vector2D relativeVelocity = movableBall1.getVelocity().subtract(movableBall2.getVelocity());
-        Vector2D collisionNormal = ball2.getCenter().subtract(ball1.getCenter()).normalize();
+        double v1x = movableBall1.getVelocityX();
+        double v1y = movableBall1.getVelocityY();
+        double v2x = movableBall2.getVelocityX();
+        double v2y = movableBall2.getVelocityY();
+
+        // 충돌 방향 (ball1 -> ball2 단위 벡터)
+        double nx = ball2.getX() - ball1.getX();
+        double ny = ball2.getY() - ball1.getY();
+        double length = Math.sqrt(nx * nx + ny * ny);
+        if (length == 0) {
+            return; // 중심이 같으면 방향을 정할 수 없음
+        }
+        nx /= length;
+        ny /= length;
 
-        // 상대 속도가 충돌 방향과 반대면 이미 멀어지고 있음
-        if (relativeVelocity.dot(collisionNormal) <= 0) {
+        // 상대 속도가 충돌 방향과 반대면 이미 멀어지고 있음 (이미 처리된 충돌 방지)
+        if ((v1x - v2x) * nx + (v1y - v2y) * ny <= 0) {
             return;
         }
 
@@ -48,30 +59,23 @@ public class BallCollision {
         separateBalls(ball1, ball2);
 
         // 탄성 충돌 처리
-        // 질량이 같다고 가정 (반지름의 세제곱에 비례)
-        double mass1 = Math.pow(ball1.getRadius(), 3);
-        double mass2 = Math.pow(ball2.getRadius(), 3);
+        // 질량은 반지름의 세제곱에 비례한다고 가정
+        double r1 = ball1.getRadius();
+        double r2 = ball2.getRadius();
+        double mass1 = r1 * r1 * r1;
+        double mass2 = r2 * r2 * r2;
 
         // 충돌 방향의 속도 성분 계산
-        double v1n = movableBall1.getVelocity().dot(collisionNormal);
-        double v2n = movableBall2.getVelocity().dot(collisionNormal);
+        double v1n = v1x * nx + v1y * ny;
+        double v2n = v2x * nx + v2y * ny;
 
         // 탄성 충돌 공식 적용
         double v1nNew = (v1n * (mass1 - mass2) + 2 * mass2 * v2n) / (mass1 + mass2);
         double v2nNew = (v2n * (mass2 - mass1) + 2 * mass1 * v1n) / (mass1 + mass2);
 
-        // 새로운 속도 계산
-        Vector2D v1nVector = collisionNormal.multiply(v1n);
-        Vector2D v1t = movableBall1.getVelocity().subtract(v1nVector);
-        Vector2D newV1 = v1t.add(collisionNormal.multiply(v1nNew));
-
-        Vector2D v2nVector = collisionNormal.multiply(v2n);
-        Vector2D v2t = movableBall2.getVelocity().subtract(v2nVector);
-        Vector2D newV2 = v2t.add(collisionNormal.multiply(v2nNew));
-
-        // 속도 업데이트
-        movableBall1.setVelocity(newV1);
-        movableBall2.setVelocity(newV2);
+        // 접선 성분은 유지하고 법선 성분만 교체하여 속도 업데이트
+        movableBall1.setVelocity(v1x + (v1nNew - v1n) * nx, v1y + (v1nNew - v1n) * ny);
+        movableBall2.setVelocity(v2x + (v2nNew - v2n) * nx, v2y + (v2nNew - v2n) * ny);
     }
 
     /**
@@ -80,28 +84,30 @@ public class BallCollision {
      * @param ball2 두 번째 공
      */
     public static void separateBalls(Ball ball1, Ball ball2) {
-        Point center1 = ball1.getCenter();
-        Point center2 = ball2.getCenter();
-
-        double distance = center1.distanceTo(center2);
+        double x1 = ball1.getX();
+        double y1 = ball1.getY();
+        double x2 = ball2.getX();
+        double y2 = ball2.getY();
+
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double distance = Math.sqrt(dx * dx + dy * dy);
         double overlap = ball1.getRadius() + ball2.getRadius() - distance;
 
-        if (overlap > 0) {
-            // 분리 방향 (정규화된 벡터)
-            Vector2D separationDirection = center1.subtract(center2).normalize();
-
-            // 각 공을 겹침의 절반만큼 밀어냄
+        if (overlap > 0 && distance > 0) {
+            // 각 공을 겹침의 절반만큼 분리 방향(정규화된 벡터)으로 밀어냄
             double separationDistance = overlap / 2;
-
-            Vector2D separation1 = separationDirection.multiply(separationDistance);
-            Vector2D separation2 = separationDirection.multiply(-separationDistance);
+            double sx = dx / distance * separationDistance;
+            double sy = dy / distance * separationDistance;
 
             // 위치 업데이트 (MovableBall인 경우에만)
-            if (ball1 instanceof MovableBall movableBall1) {
-                movableBall1.moveTo(center1.add(separation1));
+            if (ball1 instanceof MovableBall) {
+                ball1.setX(x1 + sx);
+                ball1.setY(y1 + sy);
             }
-            if (ball2 instanceof MovableBall movableBall2) {
-                movableBall2.moveTo(center2.add(separation2));
+            if (ball2 instanceof MovableBall) {
+                ball2.setX(x2 - sx);
+                ball2.setY(y2 - sy);
             }
         }
     }
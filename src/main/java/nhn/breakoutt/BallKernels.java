@@ -0,0 +1,81 @@
+package nhn.breakoutt;
+
+/**
+ * 배열로 저장된 공 데이터를 한꺼번에 처리하는 계산 커널입니다.
+ * {@link BallStore}의 이동/경계 처리와 {@link UniformGridBroadPhase}의 셀 내부 겹침 검사에서 사용합니다.
+ *
+ * 기본 구현은 스칼라 반복문이며, 실행 시 {@code -Dbreakoutt.simd=true}와
+ * {@code --add-modules jdk.incubator.vector}를 함께 주면 Vector API(SIMD) 구현을 사용합니다.
+ * 두 구현은 같은 연산을 같은 순서로 수행하므로 결과가 비트 단위로 같습니다.
+ */
+public interface BallKernels {
+    /** SIMD 구현을 켜는 시스템 속성 이름 */
+    String SIMD_PROPERTY = "breakoutt.simd";
+
+    /**
+     * [from, to) 구간의 공에 가속도와 감쇠를 적용하고 위치를 갱신합니다.
+     * <pre>
+     * vx = vx * drag
+     * vy = (vy + ay * dt) * drag
+     * x += vx * dt, y += vy * dt
+     * </pre>
+     * @param ay 공별 Y 방향 가속도 (중력이 없으면 0)
+     * @param drag 공별 속도 감쇠 계수 (감쇠가 없으면 1)
+     */
+    void integrate(double[] x, double[] y, double[] vx, double[] vy, double[] ay, double[] drag,
+                   int from, int to, double deltaTime);
+
+    /**
+     * [from, to) 구간의 공을 영역 안으로 되돌리고, 경계에 닿은 축의 속도를 반전합니다 (BoundedBall.move와 같은 규칙).
+     */
+    void clamp(double[] x, double[] y, double[] vx, double[] vy, double[] radius, int from, int to,
+               double minX, double minY, double maxX, double maxY);
+
+    /**
+     * i번째 경계 사각형과 겹치는 사각형을 others[from, to)에서 찾아 out에 순서대로 기록합니다.
+     * 경계가 닿기만 해도 겹치는 것으로 봅니다 (Bounds.intersects와 같은 기준).
+     * @param out 결과를 기록할 배열 (길이가 to - from 이상이어야 함)
+     * @return 찾은 개수
+     */
+    int findOverlaps(double[] minX, double[] minY, double[] maxX, double[] maxY, int i,
+                     int[] others, int from, int to, int[] out);
+
+    /**
+     * 스칼라 구현을 반환합니다.
+     */
+    static BallKernels scalar() {
+        return ScalarBallKernels.INSTANCE;
+    }
+
+    /**
+     * jdk.incubator.vector 모듈이 로드되어 SIMD 구현을 사용할 수 있는지 확인합니다.
+     */
+    static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    /**
+     * SIMD 구현을 반환합니다.
+     * @throws IllegalStateException jdk.incubator.vector 모듈을 사용할 수 없는 경우
+     */
+    static BallKernels vector() {
+        if (!isVectorAvailable()) {
+            throw new IllegalStateException("jdk.incubator.vector 모듈이 없습니다 (--add-modules jdk.incubator.vector 필요)");
+        }
+        try {
+            // 모듈이 없을 때 클래스가 로드되지 않도록 이름으로 생성
+            return (BallKernels) Class.forName("nhn.breakoutt.VectorBallKernels")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("SIMD 커널을 생성할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 시스템 속성에 따라 선택된 기본 구현을 반환합니다.
+     * SIMD가 요청되었지만 사용할 수 없으면 스칼라 구현으로 대체합니다.
+     */
+    static BallKernels defaultKernels() {
+        return ScalarBallKernels.DEFAULT;
+    }
+}
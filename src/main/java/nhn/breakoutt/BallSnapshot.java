@@ -0,0 +1,148 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 시점의 공 위치, 반지름, 색상을 복사해 둔 스냅샷입니다. 그리기는 {@link ShapeRenderer#paintBalls}가 맡습니다.
+ * 시뮬레이션 스레드에서 만들고 렌더링 스레드에서 읽으며, 두 스냅샷 사이를 보간해 그릴 수 있습니다.
+ * 공은 객체 동일성으로 구분하므로, 직전 스냅샷에 없던 공은 보간 없이 현재 위치에 그립니다.
+ *
+ * <p>공개한 스냅샷은 바뀌지 않아야 하지만, 더 이상 읽지 않는 스냅샷은 {@link #capture(List, BallSnapshot)}에 넘겨
+ * 배열을 재사용할 수 있습니다. 직전 스냅샷에서 같은 공을 찾을 때는 같은 번호를 먼저 보고,
+ * 없으면 스냅샷마다 만들어 두는 공 → 번호 해시 표를 사용합니다.</p>
+ */
+public final class BallSnapshot {
+    private static final BallSnapshot EMPTY = new BallSnapshot();
+
+    private Ball[] owners = new Ball[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] radius = new double[0];
+    private int[] colors = new int[0];
+    private int size;
+
+    // 공의 identityHashCode로 찾는 개방 주소법 표 (값은 번호 + 1, 0은 빈 칸)
+    private int[] ownerTable = new int[1];
+
+    private BallSnapshot() {
+    }
+
+    public static BallSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 공 목록의 현재 상태를 새 스냅샷에 복사합니다.
+     */
+    public static BallSnapshot capture(List<? extends Ball> balls) {
+        return capture(balls, null);
+    }
+
+    /**
+     * 공 목록의 현재 상태를 복사합니다. recycled가 있으면 그 배열에 덮어쓰므로 새 배열을 만들지 않습니다.
+     * @param recycled 더 이상 아무도 읽지 않는 스냅샷, 또는 null
+     * @return 채운 스냅샷 (recycled가 있으면 recycled)
+     */
+    public static BallSnapshot capture(List<? extends Ball> balls, BallSnapshot recycled) {
+        BallSnapshot snapshot = recycled == null || recycled == EMPTY ? new BallSnapshot() : recycled;
+        snapshot.fill(balls);
+        return snapshot;
+    }
+
+    private void fill(List<? extends Ball> balls) {
+        int count = balls.size();
+        if (owners.length < count) {
+            int capacity = Math.max(count, owners.length * 2);
+            owners = Arrays.copyOf(owners, capacity);
+            x = new double[capacity];
+            y = new double[capacity];
+            radius = new double[capacity];
+            colors = new int[capacity];
+        }
+        // 빠진 공을 붙잡고 있지 않도록 지움
+        Arrays.fill(owners, count, Math.max(count, size), null);
+
+        int tableSize = Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1;
+        if (ownerTable.length < tableSize) {
+            ownerTable = new int[tableSize];
+        } else {
+            Arrays.fill(ownerTable, 0);
+        }
+        int mask = ownerTable.length - 1;
+
+        for (int i = 0; i < count; i++) {
+            Ball ball = balls.get(i);
+            owners[i] = ball;
+            x[i] = ball.getX();
+            y[i] = ball.getY();
+            radius[i] = ball.getRadius();
+            colors[i] = ball.getArgb();
+
+            int slot = hash(ball) & mask;
+            while (ownerTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            ownerTable[slot] = i + 1;
+        }
+        size = count;
+    }
+
+    private static int hash(Ball ball) {
+        int h = System.identityHashCode(ball) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getRadius(int index) {
+        return radius[index];
+    }
+
+    public int getArgb(int index) {
+        return colors[index];
+    }
+
+    /**
+     * 직전 스냅샷에서 같은 공의 위치를 찾아 보간한 X 좌표를 반환합니다.
+     * @param alpha 0이면 직전 위치, 1이면 현재 위치
+     */
+    public double interpolateX(int index, BallSnapshot previous, double alpha) {
+        int before = previous.indexOf(owners[index], index);
+        return before < 0 ? x[index] : previous.x[before] + (x[index] - previous.x[before]) * alpha;
+    }
+
+    /**
+     * 직전 스냅샷에서 같은 공의 위치를 찾아 보간한 Y 좌표를 반환합니다.
+     * @param alpha 0이면 직전 위치, 1이면 현재 위치
+     */
+    public double interpolateY(int index, BallSnapshot previous, double alpha) {
+        int before = previous.indexOf(owners[index], index);
+        return before < 0 ? y[index] : previous.y[before] + (y[index] - previous.y[before]) * alpha;
+    }
+
+    // 대부분 같은 인덱스에 있으므로 그 자리를 먼저 확인하고, 아니면 해시 표에서 찾음
+    private int indexOf(Ball owner, int hint) {
+        if (hint < size && owners[hint] == owner) {
+            return hint;
+        }
+        int mask = ownerTable.length - 1;
+        for (int slot = hash(owner) & mask; ownerTable[slot] != 0; slot = (slot + 1) & mask) {
+            int index = ownerTable[slot] - 1;
+            if (owners[index] == owner) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
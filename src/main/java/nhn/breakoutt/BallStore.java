@@ -0,0 +1,401 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+
+/**
+ * 많은 수의 공을 배열 묶음(Structure of Arrays)으로 저장하는 컨테이너입니다.
+ * 좌표, 속도, 반지름, 질량, 플래그를 각각의 double[]/int[]에 저장하고,
+ * {@link #integrate(double)}가 모든 공을 한 번의 반복문으로 이동시키고,
+ * {@link #resolveCollisions()}가 공끼리의 충돌을 배열에서 바로 처리합니다.
+ * 공은 추가할 때 받은 번호로 접근하며, 기존 Ball API(충돌 검사, Broad Phase 등)가 필요하면
+ * {@link #handle(int)}로 {@link StoredBall} 핸들을 받습니다. 핸들은 처음 요청할 때만 만듭니다.
+ * 실제 이동 계산은 {@link BallKernels}가 수행하며, SIMD 구현으로 바꿀 수 있습니다.
+ */
+public class BallStore {
+    /** 중력({@link PhysicsBall}과 같은 가속도)을 받는 공 */
+    public static final int FLAG_GRAVITY = 1;
+    /** 공기저항({@link PhysicsBall}과 같은 계수)을 받는 공 */
+    public static final int FLAG_AIR_RESISTANCE = 1 << 1;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    double[] x;
+    double[] y;
+    double[] vx;
+    double[] vy;
+    double[] radius;
+    double[] mass;
+    int[] flags;
+    // 플래그에서 계산한 공별 가속도/감쇠 계수 (커널이 분기 없이 계산하도록)
+    private double[] gravity;
+    private double[] drag;
+    private StoredBall[] handles; // 요청된 핸들만 채워짐
+    private int[] order = new int[0]; // resolveCollisions의 왼쪽 경계 순서 (프레임 사이에 유지)
+    private boolean orderValid; // 추가/제거 후에는 order를 다시 채움
+    private BallKernels kernels = BallKernels.defaultKernels();
+    private int size;
+
+    // 병렬 적분에서 구간마다 호출 (프레임마다 람다를 만들지 않도록 한 번만 만들어 둠)
+    private final ParallelIntegrator.RangeAction integrateRange = this::integrateRange;
+    private double integrateDeltaTime;
+
+    // 경계 (설정된 경우 BoundedBall과 같은 방식으로 반사)
+    private boolean bounded;
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+
+    public BallStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 처음에 확보할 공의 수
+     * @throws IllegalArgumentException 용량이 음수인 경우
+     */
+    public BallStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + initialCapacity);
+        }
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        vx = new double[initialCapacity];
+        vy = new double[initialCapacity];
+        radius = new double[initialCapacity];
+        mass = new double[initialCapacity];
+        flags = new int[initialCapacity];
+        gravity = new double[initialCapacity];
+        drag = new double[initialCapacity];
+        handles = new StoredBall[initialCapacity];
+    }
+
+    /**
+     * 공을 추가하고 그 공의 번호를 반환합니다. 번호는 다른 공을 제거하면 바뀔 수 있습니다.
+     * @param x 중심 X 좌표
+     * @param y 중심 Y 좌표
+     * @param radius 반지름
+     * @param vx X 방향 속도
+     * @param vy Y 방향 속도
+     * @param mass 질량
+     * @param flags {@link #FLAG_GRAVITY}, {@link #FLAG_AIR_RESISTANCE}의 조합
+     * @return 추가된 공의 번호
+     * @throws IllegalArgumentException 반지름이나 질량이 양수가 아닌 경우
+     */
+    public int add(double x, double y, double radius, double vx, double vy, double mass, int flags) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("반지름은 양수여야 합니다.");
+        }
+        if (mass <= 0) {
+            throw new IllegalArgumentException("질량은 양수여야 합니다.");
+        }
+
+        ensureCapacity(size + 1);
+        int index = size++;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.vx[index] = vx;
+        this.vy[index] = vy;
+        this.radius[index] = radius;
+        this.mass[index] = mass;
+        setFlags(index, flags);
+        orderValid = false;
+        return index;
+    }
+
+    /**
+     * 핸들이 가리키는 공을 제거합니다.
+     * @return 이 저장소의 공이었으면 true
+     * @see #remove(int)
+     */
+    public boolean remove(StoredBall ball) {
+        if (ball == null || ball.store != this || ball.index < 0) {
+            return false;
+        }
+        remove(ball.index);
+        return true;
+    }
+
+    /**
+     * index번째 공을 제거합니다. 마지막 공을 빈 자리로 옮기므로 공의 순서는 바뀔 수 있습니다.
+     * 제거된 공의 핸들은 더 이상 사용할 수 없습니다.
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        StoredBall removed = handles[index];
+        orderValid = false;
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            vx[index] = vx[last];
+            vy[index] = vy[last];
+            radius[index] = radius[last];
+            mass[index] = mass[last];
+            flags[index] = flags[last];
+            gravity[index] = gravity[last];
+            drag[index] = drag[last];
+            handles[index] = handles[last];
+            if (handles[index] != null) {
+                handles[index].index = index;
+            }
+        }
+        handles[last] = null;
+        if (removed != null) {
+            removed.index = -1;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (handles[i] != null) {
+                handles[i].index = -1;
+                handles[i] = null;
+            }
+        }
+        size = 0;
+        orderValid = false;
+    }
+
+    /**
+     * 공이 움직일 수 있는 영역을 설정합니다. 경계에 닿은 공은 BoundedBall처럼 반사됩니다.
+     */
+    public void setBounds(double minX, double minY, double maxX, double maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("경계의 최솟값이 최댓값보다 클 수 없습니다");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.bounded = true;
+    }
+
+    public void clearBounds() {
+        this.bounded = false;
+    }
+
+    void setFlags(int index, int flags) {
+        this.flags[index] = flags;
+        this.gravity[index] = (flags & FLAG_GRAVITY) != 0 ? PhysicsBall.GRAVITY : 0;
+        this.drag[index] = (flags & FLAG_AIR_RESISTANCE) != 0 ? PhysicsBall.AIR_RESISTANCE : 1;
+    }
+
+    /**
+     * 모든 공을 deltaTime만큼 이동시킵니다.
+     * PhysicsBall.move와 같은 순서(중력 → 공기저항 → 이동 → 경계 반사)로 계산합니다.
+     * @param deltaTime 경과 시간 (초)
+     */
+    public void integrate(double deltaTime) {
+        integrate(0, size, deltaTime);
+    }
+
+    /**
+     * [from, to) 구간의 공만 이동시킵니다.
+     */
+    public void integrate(int from, int to, double deltaTime) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("잘못된 구간입니다: [" + from + ", " + to + ")");
+        }
+
+        step(kernels, from, to, deltaTime);
+    }
+
+    /**
+     * 모든 공을 구간으로 나눠 여러 코어에서 이동시킵니다. 구간마다 {@link #integrate(int, int, double)}와 같은 계산을 하므로
+     * 결과는 {@link #integrate(double)}와 같습니다.
+     * @param deltaTime 경과 시간 (초)
+     * @param integrator 구간을 나눠 실행할 병렬 적분기
+     * @throws IllegalArgumentException integrator가 null인 경우
+     */
+    public void integrate(double deltaTime, ParallelIntegrator integrator) {
+        if (integrator == null) {
+            throw new IllegalArgumentException("병렬 적분기는 null일 수 없습니다");
+        }
+        integrateDeltaTime = deltaTime;
+        integrator.forEachRange(size, integrateRange);
+    }
+
+    private void integrateRange(int from, int to) {
+        step(kernels, from, to, integrateDeltaTime);
+    }
+
+    /**
+     * 공 하나를 이동시킵니다. {@link StoredBall#move(double)}에서 사용합니다.
+     */
+    void integrate(StoredBall ball, double deltaTime) {
+        step(BallKernels.scalar(), ball.index, ball.index + 1, deltaTime);
+    }
+
+    /**
+     * 겹친 공끼리 분리하고 탄성 충돌시킵니다. {@link BallCollision}과 같은 계산이지만
+     * 질량은 저장소의 질량을 사용하며, 핸들 없이 배열에서 바로 계산합니다.
+     * 왼쪽 경계 순으로 정렬한 뒤 쓸어 가며 x 구간이 겹치는 쌍만 검사하고, 정렬 순서는 다음 호출에 이어 씁니다
+     * (공이 조금씩 움직이면 삽입 정렬이 거의 선형 시간).
+     * @return 처리한 충돌 수
+     */
+    public int resolveCollisions() {
+        if (!orderValid) {
+            if (order.length < size) {
+                order = new int[Math.max(size, order.length * 2)];
+            }
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            orderValid = true;
+        }
+        sortByMinX();
+
+        int resolved = 0;
+        for (int a = 0; a < size; a++) {
+            int i = order[a];
+            double maxXi = x[i] + radius[i];
+            for (int b = a + 1; b < size; b++) {
+                int j = order[b];
+                if (x[j] - radius[j] > maxXi) {
+                    break; // 뒤의 공은 모두 더 오른쪽에서 시작
+                }
+                if (resolvePair(Math.min(i, j), Math.max(i, j))) {
+                    resolved++;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private void sortByMinX() {
+        for (int a = 1; a < size; a++) {
+            int index = order[a];
+            double key = x[index] - radius[index];
+            int b = a - 1;
+            while (b >= 0 && x[order[b]] - radius[order[b]] > key) {
+                order[b + 1] = order[b];
+                b--;
+            }
+            order[b + 1] = index;
+        }
+    }
+
+    private boolean resolvePair(int i, int j) {
+        double nx = x[j] - x[i];
+        double ny = y[j] - y[i];
+        double radiusSum = radius[i] + radius[j];
+        double distanceSq = nx * nx + ny * ny;
+        if (distanceSq >= radiusSum * radiusSum || distanceSq == 0) {
+            return false;
+        }
+        double distance = Math.sqrt(distanceSq);
+        nx /= distance;
+        ny /= distance;
+
+        // 이미 멀어지고 있으면 처리하지 않음
+        double v1n = vx[i] * nx + vy[i] * ny;
+        double v2n = vx[j] * nx + vy[j] * ny;
+        if (v1n - v2n <= 0) {
+            return false;
+        }
+
+        // 겹침의 절반씩 밀어냄
+        double separation = (radiusSum - distance) / 2;
+        x[i] -= nx * separation;
+        y[i] -= ny * separation;
+        x[j] += nx * separation;
+        y[j] += ny * separation;
+
+        double mass1 = mass[i];
+        double mass2 = mass[j];
+        double v1nNew = (v1n * (mass1 - mass2) + 2 * mass2 * v2n) / (mass1 + mass2);
+        double v2nNew = (v2n * (mass2 - mass1) + 2 * mass1 * v1n) / (mass1 + mass2);
+        vx[i] += (v1nNew - v1n) * nx;
+        vy[i] += (v1nNew - v1n) * ny;
+        vx[j] += (v2nNew - v2n) * nx;
+        vy[j] += (v2nNew - v2n) * ny;
+        return true;
+    }
+
+    private void step(BallKernels kernels, int from, int to, double deltaTime) {
+        kernels.integrate(x, y, vx, vy, gravity, drag, from, to, deltaTime);
+        if (bounded) {
+            kernels.clamp(x, y, vx, vy, radius, from, to, minX, minY, maxX, maxY);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, Math.max(DEFAULT_CAPACITY, x.length * 2));
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        vx = Arrays.copyOf(vx, newCapacity);
+        vy = Arrays.copyOf(vy, newCapacity);
+        radius = Arrays.copyOf(radius, newCapacity);
+        mass = Arrays.copyOf(mass, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        gravity = Arrays.copyOf(gravity, newCapacity);
+        drag = Arrays.copyOf(drag, newCapacity);
+        handles = Arrays.copyOf(handles, newCapacity);
+    }
+
+    /**
+     * index번째 공의 핸들을 반환합니다. 처음 요청할 때 만들고, 이후에는 같은 핸들을 반환합니다.
+     * 핸들은 공이 다른 자리로 옮겨져도 같은 공을 가리킵니다.
+     */
+    public StoredBall handle(int index) {
+        checkIndex(index);
+        StoredBall handle = handles[index];
+        if (handle == null) {
+            handle = new StoredBall(this, index);
+            handles[index] = handle;
+        }
+        return handle;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    public double getVelocityX(int index) {
+        checkIndex(index);
+        return vx[index];
+    }
+
+    public double getVelocityY(int index) {
+        checkIndex(index);
+        return vy[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("잘못된 인덱스입니다: " + index);
+        }
+    }
+
+    public BallKernels getKernels() {
+        return kernels;
+    }
+
+    /**
+     * 일괄 이동에 사용할 계산 커널을 설정합니다. 기본값은 {@link BallKernels#defaultKernels()}입니다.
+     */
+    public void setKernels(BallKernels kernels) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("커널은 null일 수 없습니다");
+        }
+        this.kernels = kernels;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+}
@@ -85,7 +85,7 @@ public class BallWorld extends Application {
      * 화면 전체를 다시 그립니다.
      */
     private void draw() {
-        world.draw(gc);
+        WorldRenderer.draw(gc, world);
     }
 
     public static void main(String[] args) {
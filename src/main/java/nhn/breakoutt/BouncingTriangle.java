@@ -18,7 +18,7 @@ public class BouncingTriangle extends Triangle {
      * 기본 생성자
      */
     public BouncingTriangle(double centerX, double centerY, double size) {
-        this(centerX, centerY, size, 0, 0, Color.ORANGE, CollisionAction.BOUNCE,
+        this(centerX, centerY, size, 0, 0, Argb.ORANGE, CollisionAction.BOUNCE,
              Math.PI, 2.0); // 기본 회전속도: π rad/s, 색상변화: 2.0
     }
 
@@ -28,7 +28,17 @@ public class BouncingTriangle extends Triangle {
     public BouncingTriangle(double centerX, double centerY, double size,
                            double dx, double dy, Color color, CollisionAction collisionAction,
                            double rotationSpeed, double colorChangeSpeed) {
-        super(centerX, centerY, size, dx, dy, color, collisionAction);
+        this(centerX, centerY, size, dx, dy, color != null ? FxColors.toArgb(color) : Argb.GREEN, collisionAction,
+             rotationSpeed, colorChangeSpeed);
+    }
+
+    /**
+     * 색을 {@link Argb} 값으로 받는 완전한 생성자
+     */
+    public BouncingTriangle(double centerX, double centerY, double size,
+                           double dx, double dy, int argb, CollisionAction collisionAction,
+                           double rotationSpeed, double colorChangeSpeed) {
+        super(centerX, centerY, size, dx, dy, argb, collisionAction);
         this.rotationSpeed = rotationSpeed;
         this.colorChangeSpeed = colorChangeSpeed;
         this.currentRotation = 0;
@@ -146,22 +156,20 @@ public class BouncingTriangle extends Triangle {
         double saturation = 0.8 + 0.2 * Math.sin(colorPhase * 1.5); // 0.8-1.0 범위
         double brightness = 0.7 + 0.3 * Math.sin(colorPhase * 2); // 0.7-1.0 범위
 
-        Color newColor = Color.hsb(hue, saturation, brightness);
-        setColor(newColor);
+        setArgb(Argb.hsb(hue, saturation, brightness));
     }
 
     /**
      * 색상을 랜덤하게 변경합니다.
      */
     private void changeColorRandomly() {
-        Color[] colors = {
-            Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW,
-            Color.PURPLE, Color.ORANGE, Color.PINK, Color.CYAN,
-            Color.LIME, Color.MAGENTA
+        int[] colors = {
+            Argb.RED, Argb.BLUE, Argb.GREEN, Argb.YELLOW,
+            Argb.PURPLE, Argb.ORANGE, Argb.PINK, Argb.CYAN,
+            Argb.LIME, Argb.MAGENTA
         };
 
-        Color newColor = colors[random.nextInt(colors.length)];
-        setColor(newColor);
+        setArgb(colors[random.nextInt(colors.length)]);
 
         // 색상 변화 위상도 랜덤하게 조정
         colorPhase = random.nextDouble() * 2 * Math.PI;
@@ -45,39 +45,40 @@ public class BoundedBall extends MovableBall{
             return;
         }
 
-        // 현재 위치와 속도
-        Point currentCenter = getCenter();
-        Vector2D currentVelocity = getVelocity();
+        // 현재 속도 (객체 생성 없이 성분으로 처리)
+        double vx = getVelocityX();
+        double vy = getVelocityY();
 
         // 다음 위치 계산
-        Point nextPoint = currentCenter.add(currentVelocity.multiply(deltaTime));
-        Vector2D newVelocity = currentVelocity;
+        double nextX = getX() + vx * deltaTime;
+        double nextY = getY() + vy * deltaTime;
 
         // X축 경계 충돌 검사 및 처리
-        if (nextPoint.getX() <= minX) {
+        if (nextX <= minX) {
             // 왼쪽 벽 충돌
-            newVelocity = new Vector2D(-newVelocity.getX(), newVelocity.getY());
-            nextPoint = new Point(minX, nextPoint.getY());
-        } else if (nextPoint.getX() >= maxX) {
+            vx = -vx;
+            nextX = minX;
+        } else if (nextX >= maxX) {
             // 오른쪽 벽 충돌
-            newVelocity = new Vector2D(-newVelocity.getX(), newVelocity.getY());
-            nextPoint = new Point(maxX, nextPoint.getY());
+            vx = -vx;
+            nextX = maxX;
         }
 
         // Y축 경계 충돌 검사 및 처리
-        if (nextPoint.getY() <= minY) {
+        if (nextY <= minY) {
             // 위쪽 벽 충돌
-            newVelocity = new Vector2D(newVelocity.getX(), -newVelocity.getY());
-            nextPoint = new Point(nextPoint.getX(), minY);
-        } else if (nextPoint.getY() >= maxY) {
+            vy = -vy;
+            nextY = minY;
+        } else if (nextY >= maxY) {
             // 아래쪽 벽 충돌
-            newVelocity = new Vector2D(newVelocity.getX(), -newVelocity.getY());
-            nextPoint = new Point(nextPoint.getX(), maxY);
+            vy = -vy;
+            nextY = maxY;
         }
 
         // 속도와 위치 업데이트
-        setVelocity(newVelocity);
-        moveTo(nextPoint);
+        setVelocity(vx, vy);
+        setX(nextX);
+        setY(nextY);
     }
 
 }
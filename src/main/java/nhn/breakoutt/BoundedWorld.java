@@ -1,5 +1,8 @@
 package nhn.breakoutt;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * MovableWorld를 상속받아 충돌 처리 기능을 통합한 클래스입니다.
  *
@@ -11,9 +14,28 @@ package nhn.breakoutt;
  * BoundedWorld (4장: 충돌 처리 추가)
  */
 public class BoundedWorld extends MovableWorld {
+    /**
+     * {@link FrameProfiler}에 기록하는 update 단계 이름 (단계 번호 순서)
+     */
+    public static final List<String> PROFILER_PHASES = List.of("move", "ballCollisions");
+
+    private static final int PHASE_MOVE = 0;
+    private static final int PHASE_BALL_COLLISIONS = 1;
+
+    private final BroadPhase.PairHandler ballPairHandler;
+    private BroadPhase broadPhase;
+    private List<? extends Ball> collisionBalls;
+    private FrameProfiler profiler = FrameProfiler.disabled();
+    private CollisionEventScheduler eventScheduler;
+    // 이벤트 기반 모드에서 직선으로 움직이지 않는 공 때문에 지난 프레임을 프레임 단위로 진행했는지
+    private boolean eventFallback;
+    private SleepSystem sleepSystem;
+    private ParallelNarrowPhase parallelNarrowPhase;
 
     public BoundedWorld(double width, double height) {
         super(width, height);
+        this.ballPairHandler = this::handleBallPair;
+        this.broadPhase = new SweepAndPruneBroadPhase();
     }
 
     /**
@@ -27,38 +49,218 @@ public class BoundedWorld extends MovableWorld {
         if (ball instanceof BoundedBall boundedBall) {
             boundedBall.setBounds(0, 0, getWidth(), getHeight());
         }
+        profiler.countObjectsAdded(1);
+    }
+
+    @Override
+    public void add(PaintableBall ball) {
+        super.add(ball);
+        profiler.countObjectsAdded(1);
+    }
+
+    @Override
+    public void remove(Ball ball) {
+        super.remove(ball);
+        profiler.countObjectsRemoved(1);
     }
 
     /**
      * 매 프레임 업데이트 - 이동, 벽 충돌, 공 간 충돌 처리
      * BoundedBall의 자체 충돌 처리에 의존합니다.
+     * 이벤트 기반 모드에서는 이동과 충돌 예측, 처리가 모두 ballCollisions 단계에 기록됩니다.
+     * 이벤트 기반 모드라도 직선으로 움직이지 않는 공이 있으면 그 프레임은 프레임 단위로 진행합니다.
      */
     @Override
     public void update(double deltaTime) {
+        WorldStepEvent stepEvent = new WorldStepEvent();
+        stepEvent.begin();
+        profiler.beginFrame();
+
+        boolean eventStep = eventScheduler != null && CollisionEventScheduler.canSchedule(getBallView());
+        if (eventScheduler != null && !eventStep) {
+            eventScheduler.invalidate(); // 다시 이벤트로 진행할 때 모든 예측을 새로 계산
+        } else if (eventStep && eventFallback && sleepSystem != null) {
+            sleepSystem.wakeAll(getBallView()); // 이벤트 기반 모드에서는 재우지 않음
+        }
+        eventFallback = eventScheduler != null && !eventStep;
+
         // 1. 모든 공 이동 (BoundedBall은 자체적으로 벽 충돌 처리)
-        super.update(deltaTime);
+        //    이벤트 기반 모드에서는 충돌을 처리하면서 공을 이동시키므로 건너뜀
+        if (!eventStep) {
+            long phaseStart = profiler.startPhase();
+            if (sleepSystem != null) {
+                sleepSystem.beginStep(getBallView());
+            }
+            super.update(deltaTime);
+            profiler.endPhase(PHASE_MOVE, phaseStart);
+        }
 
         // 2. 공 간의 충돌 검사 및 처리
-        handleBallCollisions();
+        CollisionPhaseEvent phaseEvent = new CollisionPhaseEvent();
+        phaseEvent.begin();
+        long phaseStart = profiler.startPhase();
+        if (eventStep) {
+            eventScheduler.advance(getBallView(), deltaTime, profiler);
+        } else {
+            if (parallelNarrowPhase != null && sleepSystem == null) {
+                parallelNarrowPhase.resolve(getBallView(), broadPhase, profiler);
+            } else {
+                handleBallCollisions();
+            }
+            if (sleepSystem != null) {
+                sleepSystem.endStep(getBallView(), deltaTime);
+            }
+        }
+        profiler.endPhase(PHASE_BALL_COLLISIONS, phaseStart);
+        if (phaseEvent.shouldCommit()) {
+            phaseEvent.world = getClass().getSimpleName();
+            phaseEvent.phase = PROFILER_PHASES.get(PHASE_BALL_COLLISIONS);
+            phaseEvent.entityCount = getBallCount();
+            phaseEvent.commit();
+        }
+
+        profiler.endFrame();
+        if (stepEvent.shouldCommit()) {
+            stepEvent.world = getClass().getSimpleName();
+            stepEvent.deltaTime = (long) (deltaTime * 1e9);
+            stepEvent.entityCount = getBallCount();
+            stepEvent.commit();
+        }
     }
 
     /**
-     * 모든 공 간의 충돌을 검사하고 처리합니다.
-     * 이중 루프로 모든 쌍을 검사하되, 중복 검사를 방지합니다.
+     * 공 간의 충돌을 검사하고 처리합니다.
+     * Broad Phase가 경계가 겹치는 쌍만 골라주면, 그 쌍에 대해서만 실제 충돌을 검사합니다.
      */
     private void handleBallCollisions() {
-        var balls = getBalls();
+        collisionBalls = getBallView();
+        broadPhase.findCandidatePairs(collisionBalls, ballPairHandler);
+        collisionBalls = null;
+    }
+
+    private void handleBallPair(int i, int j) {
+        Ball ball1 = collisionBalls.get(i);
+        Ball ball2 = collisionBalls.get(j);
 
-        for (int i = 0; i < balls.size(); i++) {
-            for (int j = i + 1; j < balls.size(); j++) {
-                Ball ball1 = balls.get(i);
-                Ball ball2 = balls.get(j);
+        if (sleepSystem != null && !sleepSystem.shouldTest(ball1, ball2)) {
+            return; // 잠든 공끼리는 검사하지 않음
+        }
 
-                // 충돌 검사 및 처리
-                if (BallCollision.areColliding(ball1, ball2)) {
-                    BallCollision.resolveElasticCollision(ball1, ball2);
-                }
+        // 충돌 검사 및 처리
+        profiler.countPairTested();
+        if (BallCollision.areColliding(ball1, ball2)) {
+            // 빠르게 부딪히면 잠든 섬을 깨운 뒤 탄성 충돌로, 쌓여 맞닿은 공은 반발 없이 처리
+            if (sleepSystem != null && sleepSystem.onContact(i, j, ball1, ball2)) {
+                sleepSystem.resolveRestingContact(ball1, ball2);
+            } else {
+                BallCollision.resolveElasticCollision(ball1, ball2);
             }
+            profiler.countCollisionResolved();
+        } else if (sleepSystem != null && sleepSystem.areTouching(ball1, ball2)) {
+            sleepSystem.onContact(i, j, ball1, ball2); // 맞닿아 쌓인 공도 같은 섬으로 묶음
+        }
+    }
+
+    public BroadPhase getBroadPhase() {
+        return broadPhase;
+    }
+
+    /**
+     * 공 간 충돌 후보를 찾을 Broad Phase를 설정합니다.
+     * 기본값은 {@link SweepAndPruneBroadPhase}입니다.
+     * @param broadPhase 사용할 Broad Phase
+     */
+    public void setBroadPhase(BroadPhase broadPhase) {
+        if (broadPhase == null) {
+            throw new IllegalArgumentException("Broad Phase는 null일 수 없습니다");
+        }
+        this.broadPhase = broadPhase;
+    }
+
+    /**
+     * 이벤트 기반 시뮬레이션 모드를 켜거나 끕니다.
+     * 켜면 매 프레임 공을 이동시키고 쌍을 검사하는 대신 {@link CollisionEventScheduler}가 충돌 시각을 예측해
+     * 충돌이 일어나는 순간에만 처리합니다. 충돌이 드문 장면에 적합하며, 벽은 BoundedBall의 경계 대신 세계의 경계입니다.
+     *
+     * <p>이벤트 기반 진행은 공이 충돌 사이에 직선으로 움직인다고 보고 move를 호출하지 않습니다.
+     * 중력과 공기저항이 있는 {@link PhysicsBall}처럼 move를 다시 정의한 공이 하나라도 있으면
+     * ({@link CollisionEventScheduler#isLinear}), 그런 공이 남아 있는 동안은 프레임 단위로 진행해 move를 그대로 적용합니다.</p>
+     * @param eventDriven 이벤트 기반 모드 사용 여부
+     */
+    public void setEventDriven(boolean eventDriven) {
+        if (eventDriven == isEventDriven()) {
+            return;
+        }
+        eventScheduler = eventDriven ? new CollisionEventScheduler(getWidth(), getHeight()) : null;
+        if (eventDriven && sleepSystem != null) {
+            sleepSystem.wakeAll(getBallView()); // 이벤트 기반 모드에서는 재우지 않음
+        }
+    }
+
+    public boolean isEventDriven() {
+        return eventScheduler != null;
+    }
+
+    /**
+     * @return 이벤트 기반 모드의 스케줄러, 모드가 꺼져 있으면 null
+     */
+    public CollisionEventScheduler getEventScheduler() {
+        return eventScheduler;
+    }
+
+    /**
+     * @return 잠자기 시스템, 꺼져 있으면 null
+     */
+    public SleepSystem getSleepSystem() {
+        return sleepSystem;
+    }
+
+    /**
+     * 멈춘 공들을 재우는 잠자기 시스템을 설정합니다. 잠든 공은 이동하지 않고 잠든 공끼리는 충돌 검사를 하지 않습니다.
+     * 프레임 단위 진행에서만 동작하며, 바꾸거나 끄면(null) 잠든 공을 모두 깨웁니다.
+     * @param sleepSystem 사용할 잠자기 시스템, 끄려면 null
+     */
+    public void setSleepSystem(SleepSystem sleepSystem) {
+        if (this.sleepSystem != null && this.sleepSystem != sleepSystem) {
+            this.sleepSystem.wakeAll(getBallView());
+        }
+        this.sleepSystem = sleepSystem;
+    }
+
+    /**
+     * 공 간 충돌 검사와 처리를 주어진 풀에서 병렬로 실행합니다.
+     * 같은 공을 공유하지 않는 쌍끼리 묶어 처리하므로 결과는 직렬 처리와 비트 단위로 같습니다.
+     * 잠자기 시스템은 처리 순서대로 섬을 깨우므로, 잠자기 시스템이 켜져 있는 동안에는 직렬로 처리합니다.
+     * @param pool 사용할 풀 (보통 {@link ForkJoinPool#commonPool()}), 끄려면 null
+     */
+    public void setNarrowPhasePool(ForkJoinPool pool) {
+        if (pool == null) {
+            parallelNarrowPhase = null;
+        } else if (parallelNarrowPhase == null || parallelNarrowPhase.getPool() != pool) {
+            parallelNarrowPhase = new ParallelNarrowPhase(pool);
+        }
+    }
+
+    public boolean isParallelNarrowPhase() {
+        return parallelNarrowPhase != null;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * update 단계별 계측기를 설정합니다. 기본값은 아무것도 기록하지 않는 {@link FrameProfiler#disabled()}입니다.
+     * @param profiler {@link #PROFILER_PHASES} 단계로 만든 계측기
+     * @throws IllegalArgumentException profiler가 null이거나 단계 수가 다른 경우
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        if (profiler == null) {
+            throw new IllegalArgumentException("계측기는 null일 수 없습니다");
+        }
+        if (profiler.isEnabled() && profiler.getPhaseCount() != PROFILER_PHASES.size()) {
+            throw new IllegalArgumentException("계측기의 단계 수가 맞지 않습니다: " + profiler.getPhaseNames());
         }
+        this.profiler = profiler;
     }
 }
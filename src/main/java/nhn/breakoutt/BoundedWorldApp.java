@@ -1,29 +1,35 @@
 package nhn.breakoutt;
 
-import javafx.animation.AnimationTimer;
 import javafx.application.Application;
-import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 public class BoundedWorldApp extends Application {
     private BoundedWorld world;
     private Canvas canvas;
     private GraphicsContext gc;
     private Label fpsLabel;
-    private AnimationTimer gameLoop;
+    private GameLoop gameLoop;
 
-    // FPS 계산용 변수들
-    private int frameCount = 0;
-    private long lastFpsTime = System.currentTimeMillis();
-    private long lastTime = System.nanoTime();
+    // 물리는 전용 스레드에서 고정 주기로 진행하고, FX 스레드는 스냅샷만 그림
+    private SimulationThread<BallSnapshot> simulationThread;
+
+    // 성능 오버레이 (F3): 세계 계측값은 시뮬레이션 스레드와 겹치지 않게 잠금 안에서 읽음
+    private final PerformanceOverlay overlay = new PerformanceOverlay();
+    private long framePhysicsNanos;
+
+    // 라벨에 마지막으로 표시한 값
+    private int displayedFps = -1;
+    private int displayedBallCount = -1;
 
     public static void main(String[] args) {
         launch(args);
@@ -53,16 +59,33 @@ public class BoundedWorldApp extends Application {
         primaryStage.setScene(scene);
         primaryStage.show();
 
-        // 마우스 클릭으로 새 공 추가
+        // 마우스 클릭으로 새 공 추가 (세계는 시뮬레이션 스레드에서만 변경)
         canvas.setOnMouseClicked(event -> {
-            addBallAtPosition(event.getX(), event.getY());
+            double x = event.getX();
+            double y = event.getY();
+            simulationThread.post(() -> addBallAtPosition(x, y));
         });
 
         // 초기 공들 생성
         createInitialBalls();
+        world.setProfiler(new FrameProfiler(BoundedWorld.PROFILER_PHASES, FrameProfiler.DEFAULT_CAPACITY));
+        scene.setOnKeyPressed(event -> {
+            if (event.getCode() == KeyCode.F3) {
+                overlay.toggle();
+            } else if (event.getCode() == KeyCode.E) {
+                // 이벤트 기반 충돌 처리 모드 전환
+                simulationThread.post(() -> world.setEventDriven(!world.isEventDriven()));
+            } else if (event.getCode() == KeyCode.P) {
+                // 공 간 충돌 병렬 처리 전환
+                simulationThread.post(() -> world.setNarrowPhasePool(
+                        world.isParallelNarrowPhase() ? null : ForkJoinPool.commonPool()));
+            }
+        });
+        simulationThread = new SimulationThread<>(world, SimulationThread.DEFAULT_STEPS_PER_SECOND,
+                recycled -> BallSnapshot.capture(world.getBallView(), recycled));
 
         // 초기 화면 그리기
-        draw();
+        draw(simulationThread.getFrame(), 1.0);
 
         // GameLoop 시작
         startGameLoop();
@@ -125,38 +148,37 @@ public class BoundedWorldApp extends Application {
     }
 
     private void startGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                // 델타 타임 계산 (초 단위)
-                double deltaTime = (now - lastTime) / 1_000_000_000.0;
-                lastTime = now;
-
-                // World 업데이트 (이동, 벽 충돌, 공 간 충돌 모두 처리)
-                world.update(deltaTime);
-
-                // 화면 그리기
-                draw();
-
-                // FPS 계산
-                calculateFPS();
-            }
-        };
+        // World 업데이트 (이동, 벽 충돌, 공 간 충돌)는 시뮬레이션 스레드가 240Hz로 처리
+        simulationThread.start();
+
+        // 화면은 GameLoop가 최근 두 스냅샷 사이를 보간해 그림
+        gameLoop = new GameLoop(context -> {
+            SimulationThread.Frame<BallSnapshot> frame = simulationThread.getFrame();
+            draw(frame, simulationThread.getAlpha(frame, System.nanoTime()));
+            simulationThread.runLocked(() -> framePhysicsNanos = overlay.sampleProfiler(world.getProfiler()));
+            overlay.paint(gc);
+        }, gc);
+        gameLoop.setFrameListener((deltaTime, updateNanos, renderNanos) -> {
+            updateFpsLabel();
+            overlay.recordFrame(framePhysicsNanos, renderNanos, simulationThread.getFrame().getCurrent().size());
+        });
         gameLoop.start();
     }
 
-    private void calculateFPS() {
-        frameCount++;
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFpsTime >= 1000) { // 1초마다
-            int fps = frameCount;
-            frameCount = 0;
-            lastFpsTime = currentTime;
-            Platform.runLater(() -> fpsLabel.setText("FPS: " + fps + " | Balls: " + world.getBallCount()));
+    /**
+     * FPS나 공 개수가 바뀌었을 때만 라벨을 갱신합니다. (FX 스레드에서 호출됨)
+     */
+    private void updateFpsLabel() {
+        int fps = gameLoop.getFramesPerSecond();
+        int ballCount = simulationThread.getFrame().getCurrent().size();
+        if (fps != displayedFps || ballCount != displayedBallCount) {
+            displayedFps = fps;
+            displayedBallCount = ballCount;
+            fpsLabel.setText("FPS: " + fps + " | Balls: " + ballCount);
         }
     }
 
-    private void draw() {
+    private void draw(SimulationThread.Frame<BallSnapshot> frame, double alpha) {
         // 화면 지우기
         gc.setFill(Color.BLACK);
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
@@ -167,11 +189,7 @@ public class BoundedWorldApp extends Application {
         gc.strokeRect(0, 0, 800, 600);
 
         // 모든 공 그리기
-        for (Ball ball : world.getBalls()) {
-            if (ball instanceof PaintableBall paintableBall) {
-                paintableBall.paint(gc);
-            }
-        }
+        ShapeRenderer.paintBalls(gc, frame.getCurrent(), frame.getPrevious(), alpha);
     }
 
     @Override
@@ -179,5 +197,8 @@ public class BoundedWorldApp extends Application {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
     }
 }
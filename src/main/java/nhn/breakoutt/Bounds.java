@@ -51,8 +51,16 @@ public abstract class Bounds {
         if (other == null) {
             return false;
         }
-        return !(other.getMaxX() < getMinX() || other.getMinX() > getMaxX() ||
-                 other.getMaxY() < getMinY() || other.getMinY() > getMaxY());
+        return intersects(other.getMinX(), other.getMinY(), other.getMaxX(), other.getMaxY());
+    }
+
+    /**
+     * 좌표로 주어진 사각형 영역과 겹치는지 확인합니다. 경계가 닿기만 해도 겹치는 것으로 봅니다.
+     * Bounds 객체를 만들지 않고 검사할 때 사용합니다.
+     */
+    public boolean intersects(double minX, double minY, double maxX, double maxY) {
+        return !(maxX < getMinX() || minX > getMaxX() ||
+                 maxY < getMinY() || minY > getMaxY());
     }
 
     public double getArea() {
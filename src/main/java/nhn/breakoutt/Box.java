@@ -7,12 +7,12 @@ public class Box implements Paintable, Collidable{
     private Point center;
     private double width;
     private double height;
-    private Color color = Color.BLUE;
+    private int argb = Argb.BLUE; // 0xAARRGGBB (Argb)
     private CollisionAction collisionAction = CollisionAction.BOUNCE;
 
     public Box(int i, int i1, int i2, int i3, Color blue) {
         this(new Point((double) i, (double) i1), (double)i2, (double)i3 );
-        this.color = blue;
+        this.argb = FxColors.toArgb(blue);
     }
 
     public void setPosition(Point center) {
@@ -83,8 +83,7 @@ public class Box implements Paintable, Collidable{
     // Paintable 구현
     @Override
     public void paint(GraphicsContext gc) {
-        gc.setFill(color);
-        gc.fillRect(center.getX(), center.getY(), width, height);
+        ShapeRenderer.paintBox(gc, this);
     }
 
     // Collidable 구현 (Boundable 포함)
@@ -109,14 +108,22 @@ public class Box implements Paintable, Collidable{
 
     // 추가 메서드들
     public Color getColor() {
-        return color;
+        return FxColors.toColor(getArgb());
     }
 
     public void setColor(Color color) {
-        if(color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다.");
-        }
-        this.color = color;
+        setArgb(FxColors.toArgb(color));
+    }
+
+    /**
+     * @return 0xAARRGGBB 형식의 색 ({@link Argb}). 그리지 않는 곳에서는 getColor 대신 사용합니다.
+     */
+    public int getArgb() {
+        return argb;
+    }
+
+    public void setArgb(int argb) {
+        this.argb = argb;
     }
 
     public void setCollisionAction(CollisionAction collisionAction) {
@@ -0,0 +1,28 @@
+package nhn.breakoutt;
+
+import java.util.List;
+
+/**
+ * 충돌 후보 쌍을 찾는 Broad Phase 인터페이스입니다.
+ * 경계(Bounds)가 겹칠 가능성이 있는 쌍만 걸러내고,
+ * 실제 충돌 여부(Narrow Phase)는 호출하는 쪽에서 검사합니다.
+ */
+public interface BroadPhase {
+
+    /**
+     * 후보 쌍을 찾아 handler에 전달합니다.
+     * 쌍은 항상 i &lt; j 이며, 이중 루프와 같은 순서(i 오름차순, 같은 i 안에서는 j 오름차순)로 전달됩니다.
+     * @param objects 검사할 객체 리스트
+     * @param handler 후보 쌍의 인덱스를 받을 콜백
+     */
+    void findCandidatePairs(List<? extends Boundable> objects, PairHandler handler);
+
+    /**
+     * 후보 쌍을 인덱스로 받는 콜백입니다.
+     * 쌍마다 객체를 만들지 않도록 인덱스만 전달합니다.
+     */
+    @FunctionalInterface
+    interface PairHandler {
+        void handle(int i, int j);
+    }
+}
@@ -0,0 +1,20 @@
+package nhn.breakoutt;
+
+import java.util.List;
+
+/**
+ * 모든 쌍을 후보로 전달하는 Broad Phase입니다.
+ * 기존 이중 루프와 동일하게 동작하며, 객체 수가 적을 때나 비교 기준으로 사용합니다.
+ */
+public class BruteForceBroadPhase implements BroadPhase {
+
+    @Override
+    public void findCandidatePairs(List<? extends Boundable> objects, PairHandler handler) {
+        int count = objects.size();
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                handler.handle(i, j);
+            }
+        }
+    }
+}
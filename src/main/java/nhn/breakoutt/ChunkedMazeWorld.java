@@ -0,0 +1,337 @@
+package nhn.breakoutt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * {@link MazeGenerator}로 끝없이 이어지는 미로를 조각 단위로 만들어 쓰는 세계입니다.
+ *
+ * <p>{@link MazeWorld}는 미로 전체를 배열로 받고 벽마다 Box를 미리 만들지만, 이 세계는 움직이는 객체 주변
+ * (객체가 있는 조각에서 activeRadius 조각 이내)의 조각만 만들어 벽 Box를 채웁니다.
+ * 만든 조각은 최근에 쓴 순서로 maxChunks개까지 두고, 넘치면 가장 오래 쓰지 않은 조각부터 버립니다.
+ * 버린 조각의 배열과 Box는 다음에 만드는 조각이 다시 쓰므로, 객체가 미로를 계속 돌아다녀도 메모리는 일정합니다.
+ * 조각은 시드로 정해지므로 버렸다가 다시 만들어도 같은 미로입니다.</p>
+ *
+ * <p>이번 프레임에 쓴 조각은 버리지 않으므로, 객체가 많이 흩어져 있으면 잠시 maxChunks보다 많이 둘 수 있습니다.
+ * 벽 충돌은 MazeWorld와 같이 {@link TileMapCollider}로 객체가 걸친 칸만 검사합니다.
+ * 칸 좌표는 int 범위이며, 칸 (col, row)는 (col * cellSize, row * cellSize)에서 시작합니다.</p>
+ */
+public class ChunkedMazeWorld implements Simulation {
+    public static final int DEFAULT_MAX_CHUNKS = 64;
+    public static final int DEFAULT_ACTIVE_RADIUS = 1;
+
+    private final MazeGenerator generator;
+    private final int chunkSize;
+    private final double cellSize;
+    private final int maxChunks;
+    private final int activeRadius;
+    private final TileMapCollider wallCollider;
+    private final TileMapCollider.TileSource wallTileSource;
+    // 접근 순서: 가장 오래 쓰지 않은 조각이 앞에 옴
+    private final LinkedHashMap<Long, Chunk> chunks = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Object> gameObjects = new ArrayList<>();
+
+    private Chunk lastChunk;
+    private Chunk spareChunk;
+    private long frame;
+    private long chunksGenerated;
+    private long chunksEvicted;
+
+    /**
+     * 미로의 한 조각입니다. 벽 칸의 Box는 조각을 다시 쓸 때 위치만 옮깁니다.
+     */
+    static final class Chunk {
+        int chunkX;
+        int chunkY;
+        final byte[] tiles;
+        final Box[] walls;
+        long lastUsedFrame;
+
+        Chunk(int cellCount) {
+            this.tiles = new byte[cellCount];
+            this.walls = new Box[cellCount];
+        }
+    }
+
+    public ChunkedMazeWorld(MazeGenerator generator, double cellSize) {
+        this(generator, cellSize, DEFAULT_MAX_CHUNKS, DEFAULT_ACTIVE_RADIUS);
+    }
+
+    /**
+     * @param generator 미로 생성기
+     * @param cellSize 칸 한 변의 길이
+     * @param maxChunks 캐시에 둘 조각 수
+     * @param activeRadius 움직이는 객체 주변에 미리 만들어 둘 조각 거리 (0이면 객체가 있는 조각만)
+     * @throws IllegalArgumentException generator가 null이거나, 칸 크기나 조각 수가 양수가 아니거나,
+     *         activeRadius가 음수인 경우
+     */
+    public ChunkedMazeWorld(MazeGenerator generator, double cellSize, int maxChunks, int activeRadius) {
+        if (generator == null) {
+            throw new IllegalArgumentException("미로 생성기는 null일 수 없습니다");
+        }
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("조각 수는 양수여야 합니다: " + maxChunks);
+        }
+        if (activeRadius < 0) {
+            throw new IllegalArgumentException("활성 거리는 음수일 수 없습니다: " + activeRadius);
+        }
+        this.generator = generator;
+        this.chunkSize = generator.getChunkSize();
+        this.wallCollider = new TileMapCollider(cellSize, cellSize);
+        this.cellSize = cellSize;
+        this.maxChunks = maxChunks;
+        this.activeRadius = activeRadius;
+        this.wallTileSource = this::getWallTile;
+    }
+
+    public void addObject(Object obj) {
+        gameObjects.add(obj);
+    }
+
+    public void removeObject(Object obj) {
+        gameObjects.remove(obj);
+    }
+
+    /**
+     * 움직이는 객체 주변의 조각을 준비한 뒤 객체를 움직이고 벽, 출구와의 충돌을 처리합니다.
+     * 마지막으로 캐시가 넘치면 이번 프레임에 쓰지 않은 조각을 버립니다.
+     */
+    @Override
+    public void update(double deltaTime) {
+        frame++;
+        for (Object obj : gameObjects) {
+            if (obj instanceof Movable && obj instanceof Boundable boundable) {
+                touchChunksAround(boundable.getBounds());
+            }
+        }
+
+        List<Object> toRemove = null;
+        for (Object obj : gameObjects) {
+            if (obj instanceof Movable movable) {
+                movable.move(deltaTime);
+
+                if (obj instanceof Collidable collidable) {
+                    wallCollider.collide(collidable, wallTileSource);
+                    checkExit(collidable);
+                }
+            }
+
+            if (obj instanceof Ball ball && ball.isDestroyed()) {
+                if (toRemove == null) {
+                    toRemove = new ArrayList<>();
+                }
+                toRemove.add(ball);
+            }
+        }
+
+        if (toRemove != null) {
+            gameObjects.removeAll(toRemove);
+        }
+        evictChunks();
+    }
+
+    private void touchChunksAround(Bounds bounds) {
+        int centerX = chunkOf(tileOf((bounds.getMinX() + bounds.getMaxX()) / 2));
+        int centerY = chunkOf(tileOf((bounds.getMinY() + bounds.getMaxY()) / 2));
+        for (int chunkY = centerY - activeRadius; chunkY <= centerY + activeRadius; chunkY++) {
+            for (int chunkX = centerX - activeRadius; chunkX <= centerX + activeRadius; chunkX++) {
+                // 캐시의 접근 순서를 갱신해야 하므로 lastChunk를 거치지 않음
+                Chunk chunk = chunks.get(key(chunkX, chunkY));
+                if (chunk == null) {
+                    loadChunk(chunkX, chunkY);
+                } else {
+                    chunk.lastUsedFrame = frame;
+                }
+            }
+        }
+    }
+
+    /**
+     * 공이 출구 칸에 들어오면 출구 도달로 표시합니다.
+     */
+    private void checkExit(Collidable collidable) {
+        if (collidable instanceof Ball ball && isExit(ball.getX(), ball.getY())) {
+            ball.setArgb(Argb.brighter(Argb.GOLD));
+        }
+    }
+
+    private Box getWallTile(int col, int row) {
+        Chunk chunk = getChunk(chunkOf(col), chunkOf(row));
+        int index = Math.floorMod(row, chunkSize) * chunkSize + Math.floorMod(col, chunkSize);
+        return chunk.tiles[index] == MazeGenerator.WALL ? chunk.walls[index] : null;
+    }
+
+    /**
+     * 조각을 돌려줍니다. 없으면 만듭니다. 같은 조각을 연달아 찾을 때는 캐시를 조회하지 않습니다.
+     */
+    private Chunk getChunk(int chunkX, int chunkY) {
+        Chunk chunk = lastChunk;
+        if (chunk != null && chunk.chunkX == chunkX && chunk.chunkY == chunkY) {
+            return chunk;
+        }
+        chunk = chunks.get(key(chunkX, chunkY));
+        if (chunk == null) {
+            chunk = loadChunk(chunkX, chunkY);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    private Chunk loadChunk(int chunkX, int chunkY) {
+        Chunk chunk = spareChunk != null ? spareChunk : new Chunk(chunkSize * chunkSize);
+        spareChunk = null;
+        chunk.chunkX = chunkX;
+        chunk.chunkY = chunkY;
+        chunk.lastUsedFrame = frame;
+        generator.generateChunk(chunkX, chunkY, chunk.tiles);
+
+        double originX = (double) chunkX * chunkSize * cellSize;
+        double originY = (double) chunkY * chunkSize * cellSize;
+        for (int ly = 0; ly < chunkSize; ly++) {
+            for (int lx = 0; lx < chunkSize; lx++) {
+                int index = ly * chunkSize + lx;
+                if (chunk.tiles[index] != MazeGenerator.WALL) {
+                    continue;
+                }
+                double x = originX + lx * cellSize;
+                double y = originY + ly * cellSize;
+                Box wall = chunk.walls[index];
+                if (wall == null) {
+                    wall = new Box(x, y, cellSize, cellSize);
+                    wall.setArgb(Argb.DARKGRAY);
+                    wall.setCollisionAction(CollisionAction.BOUNCE);
+                    chunk.walls[index] = wall;
+                } else {
+                    wall.moveTo(new Point(x, y));
+                }
+            }
+        }
+
+        chunks.put(key(chunkX, chunkY), chunk);
+        chunksGenerated++;
+        return chunk;
+    }
+
+    /**
+     * 캐시가 넘치면 가장 오래 쓰지 않은 조각부터 버립니다. 이번 프레임에 쓴 조각에 닿으면 멈춥니다.
+     */
+    private void evictChunks() {
+        Iterator<Chunk> iterator = chunks.values().iterator();
+        while (chunks.size() > maxChunks && iterator.hasNext()) {
+            Chunk eldest = iterator.next();
+            if (eldest.lastUsedFrame == frame) {
+                break;
+            }
+            iterator.remove();
+            if (eldest == lastChunk) {
+                lastChunk = null;
+            }
+            spareChunk = eldest;
+            chunksEvicted++;
+        }
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private int tileOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int chunkOf(int tile) {
+        return Math.floorDiv(tile, chunkSize);
+    }
+
+    /**
+     * 칸 값을 돌려줍니다 (0 = 통로, 1 = 벽, 2 = 출구). 조각이 없으면 만듭니다.
+     */
+    public int getTile(int col, int row) {
+        Chunk chunk = getChunk(chunkOf(col), chunkOf(row));
+        return chunk.tiles[Math.floorMod(row, chunkSize) * chunkSize + Math.floorMod(col, chunkSize)];
+    }
+
+    /**
+     * 특정 위치가 통로인지 확인합니다
+     */
+    public boolean isPassable(double x, double y) {
+        return getTile(tileOf(x), tileOf(y)) == MazeGenerator.PASSAGE;
+    }
+
+    /**
+     * 특정 위치가 출구인지 확인합니다
+     */
+    public boolean isExit(double x, double y) {
+        return getTile(tileOf(x), tileOf(y)) == MazeGenerator.EXIT;
+    }
+
+    /**
+     * @return 조각 (0, 0)의 첫 번째 방 중심 (벽이 아님)
+     */
+    public Point getStartPosition() {
+        return new Point(cellSize * 1.5, cellSize * 1.5);
+    }
+
+    /**
+     * 만들어 둔 조각들을 복사하지 않고 반환합니다. {@link WorldRenderer}가 매 프레임 읽기만 하며,
+     * 값 뷰를 순회하는 것은 접근 순서를 바꾸지 않습니다.
+     */
+    Collection<Chunk> getChunkView() {
+        return chunks.values();
+    }
+
+    List<Object> getObjectView() {
+        return gameObjects;
+    }
+
+    /**
+     * @return 조각이 캐시에 있는지 (캐시 순서는 바꾸지 않음)
+     */
+    public boolean isChunkLoaded(int chunkX, int chunkY) {
+        return chunks.containsKey(key(chunkX, chunkY));
+    }
+
+    public int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * @return 지금까지 만든 조각 수 (버렸다가 다시 만든 조각 포함)
+     */
+    public long getChunksGenerated() {
+        return chunksGenerated;
+    }
+
+    public long getChunksEvicted() {
+        return chunksEvicted;
+    }
+
+    public List<Object> getGameObjects() {
+        return new ArrayList<>(gameObjects);
+    }
+
+    public MazeGenerator getGenerator() {
+        return generator;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    public int getActiveRadius() {
+        return activeRadius;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChunkedMazeWorld[chunks=%d/%d, generated=%d, evicted=%d, objects=%d]",
+                chunks.size(), maxChunks, chunksGenerated, chunksEvicted, gameObjects.size());
+    }
+}
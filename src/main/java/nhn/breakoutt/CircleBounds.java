@@ -145,7 +145,7 @@ public class CircleBounds extends Bounds {
      * @return 원 내부에 있으면 true, 아니면 false
      */
     public boolean containsInCircle(double x, double y) {
-        return distanceFromCenter(x, y) <= radius;
+        return distanceSqFromCenter(x, y) <= radius * radius;
     }
 
     /**
@@ -157,8 +157,8 @@ public class CircleBounds extends Bounds {
         if (other == null) {
             return false;
         }
-        double distanceBetweenCenters = distanceFromCenter(other.centerX, other.centerY);
-        return distanceBetweenCenters <= (radius + other.radius);
+        double radiusSum = radius + other.radius;
+        return distanceSqFromCenter(other.centerX, other.centerY) <= radiusSum * radiusSum;
     }
 
     /**
@@ -180,9 +180,19 @@ public class CircleBounds extends Bounds {
      * @return 중심점으로부터의 거리
      */
     public double distanceFromCenter(double x, double y) {
+        return Math.sqrt(distanceSqFromCenter(x, y));
+    }
+
+    /**
+     * 중심점으로부터의 거리의 제곱을 계산합니다.
+     * @param x X 좌표
+     * @param y Y 좌표
+     * @return 중심점으로부터의 거리의 제곱
+     */
+    public double distanceSqFromCenter(double x, double y) {
         double dx = x - centerX;
         double dy = y - centerY;
-        return Math.sqrt(dx * dx + dy * dy);
+        return dx * dx + dy * dy;
     }
 
     /**
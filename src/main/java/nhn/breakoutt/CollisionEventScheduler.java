@@ -0,0 +1,561 @@
+package nhn.breakoutt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 공 사이, 공과 벽 사이의 충돌 시각을 미리 계산해 두고 다음 충돌까지 곧바로 시간을 진행하는 이벤트 기반 시뮬레이션입니다.
+ * 충돌이 드문 당구 같은 장면에서는 매 프레임 모든 공을 이동시키고 쌍을 검사하는 대신,
+ * 실제로 충돌이 일어나는 순간에 관련된 공만 처리하므로 연산량이 크게 줄고 충돌 시각도 정확합니다.
+ *
+ * <p>각 공은 자신이 가장 먼저 겪을 이벤트 하나만 우선순위 큐에 예약합니다. 공의 궤적이 바뀔 때마다 충돌 횟수를 올려
+ * 그 공이 포함된 이전 예약을 무효화하고, 무효가 된 예약을 꺼냈을 때 예약한 공의 궤적이 그대로라면 다시 예측합니다.</p>
+ *
+ * <p>공은 가장 큰 공의 지름보다 큰 격자 칸에 나누어 두고 주변 3x3 칸의 공과만 충돌을 예측합니다.
+ * 공의 중심이 칸 경계를 지나는 것도 이벤트로 예약해, 칸을 옮길 때 새 이웃과의 충돌을 다시 예측합니다.
+ * 위치는 마지막으로 궤적이 바뀐 시각 기준으로 보관하다가 {@link #advance}가 끝날 때 한 번에 공에 반영합니다.</p>
+ *
+ * <p>MovableBall만 움직이고 충돌하며, 벽은 세계의 경계입니다. 프레임 사이에 밖에서 바뀐 위치나 속도는
+ * 다음 {@link #advance}에서 감지해 다시 예측합니다.</p>
+ *
+ * <p>공은 충돌 사이에 직선으로 움직인다고 보고 move를 호출하지 않습니다. 중력이나 공기저항처럼
+ * move를 다시 정의한 공({@link #isLinear}가 false)은 예측할 수 없으므로, {@link BoundedWorld}는
+ * 그런 공이 있는 동안 프레임 단위 진행으로 되돌아갑니다.</p>
+ */
+public class CollisionEventScheduler {
+    /**
+     * 한 번의 advance에서 꺼내는 최대 이벤트 수 (공이 벽과 다른 공 사이에 끼어 같은 시각에 충돌이 끝없이 반복되는 경우 대비)
+     */
+    public static final int MAX_EVENTS_PER_ADVANCE = 1_000_000;
+
+    // move(double)를 MovableBall이나 BoundedBall에서 물려받은 (직선으로 움직이는) 클래스인지
+    private static final ClassValue<Boolean> LINEAR_MOTION = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaring = type.getMethod("move", double.class).getDeclaringClass();
+                return declaring == MovableBall.class || declaring == BoundedBall.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private static final int VERTICAL_WALL = -1;
+    private static final int HORIZONTAL_WALL = -2;
+    private static final int CELL_CROSSING_X = -3;
+    private static final int CELL_CROSSING_Y = -4;
+
+    // 칸 크기는 가장 큰 공 지름의 이 배수 이상 (위치 오차로 칸이 조금 어긋나도 이웃 칸 안에서 충돌이 일어나도록)
+    private static final double CELL_SIZE_PER_DIAMETER = 1.25;
+
+    private final double width;
+    private final double height;
+    private final PriorityQueue<Event> events;
+
+    private final List<MovableBall> balls;
+    private double[] x;
+    private double[] y;
+    private double[] vx;
+    private double[] vy;
+    private double[] radius;
+    private double[] lastTime;
+    private int[] collisionCounts;
+
+    // 칸별 공 목록 (이중 연결 리스트, -1은 끝)
+    private double cellSize;
+    private int cols;
+    private int rows;
+    private int[] cellHead;
+    private int[] cellOf;
+    private int[] nextInCell;
+    private int[] prevInCell;
+
+    private double time;
+    private boolean invalidated;
+
+    private long eventsProcessed;
+    private long cellCrossings;
+    private long staleEventsSkipped;
+    private long predictions;
+
+    /**
+     * 예약된 이벤트. partner가 음수이면 벽과의 충돌이나 칸 경계 통과입니다.
+     */
+    private static final class Event implements Comparable<Event> {
+        final double time;
+        final int owner;
+        final int partner;
+        final int ownerCount;
+        final int partnerCount;
+
+        Event(double time, int owner, int partner, int ownerCount, int partnerCount) {
+            this.time = time;
+            this.owner = owner;
+            this.partner = partner;
+            this.ownerCount = ownerCount;
+            this.partnerCount = partnerCount;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            return Double.compare(time, other.time);
+        }
+    }
+
+    /**
+     * @param width 세계 너비 (벽은 x=0, x=width)
+     * @param height 세계 높이 (벽은 y=0, y=height)
+     * @throws IllegalArgumentException 크기가 양수가 아닌 경우
+     */
+    public CollisionEventScheduler(double width, double height) {
+        if (!(width > 0) || !(height > 0)) {
+            throw new IllegalArgumentException("세계 크기는 양수여야 합니다");
+        }
+        this.width = width;
+        this.height = height;
+        this.events = new PriorityQueue<>();
+        this.balls = new ArrayList<>();
+        this.invalidated = true;
+    }
+
+    /**
+     * 공 목록을 deltaTime만큼 진행합니다. 그 사이의 충돌을 일어난 순서대로 처리한 뒤 모든 공의 위치를 갱신합니다.
+     * 공이 추가되거나 제거되었으면 모든 예측을 다시 계산합니다.
+     * @param ballList 세계의 공 목록 (MovableBall이 아닌 공은 무시)
+     * @param deltaTime 진행할 시간 (초)
+     * @param profiler 예측한 공 쌍 수와 처리한 공 간 충돌 수를 기록할 계측기
+     * @return 처리한 충돌 수 (벽 충돌 포함, 칸 경계 통과 제외)
+     * @throws IllegalArgumentException deltaTime이 음수인 경우
+     */
+    public int advance(List<? extends Ball> ballList, double deltaTime, FrameProfiler profiler) {
+        if (deltaTime < 0) {
+            throw new IllegalArgumentException("시간은 음수일 수 없습니다: " + deltaTime);
+        }
+
+        if (invalidated || !sameBalls(ballList)) {
+            rebuild(ballList, profiler);
+        } else {
+            detectExternalChanges(profiler);
+        }
+
+        double endTime = time + deltaTime;
+        int processed = 0;
+        int polled = 0;
+        while (!events.isEmpty() && events.peek().time <= endTime && polled < MAX_EVENTS_PER_ADVANCE) {
+            Event event = events.poll();
+            polled++;
+            if (isValid(event)) {
+                if (processEvent(event, profiler)) {
+                    processed++;
+                }
+            } else {
+                staleEventsSkipped++;
+                if (collisionCounts[event.owner] == event.ownerCount) {
+                    // 예약한 공의 궤적은 그대로인데 상대가 바뀌었으므로, 이 공의 다음 이벤트를 다시 찾음
+                    predict(event.owner, event.time, profiler);
+                }
+            }
+        }
+
+        time = endTime;
+        for (int i = 0; i < balls.size(); i++) {
+            advanceTo(i, endTime);
+            MovableBall ball = balls.get(i);
+            ball.setX(x[i]);
+            ball.setY(y[i]);
+            ball.setVelocity(vx[i], vy[i]);
+        }
+        eventsProcessed += processed;
+        return processed;
+    }
+
+    /**
+     * 공이 충돌 사이에 직선으로 움직이는지 확인합니다. MovableBall이 아닌 공은 스케줄러가 무시하므로 true입니다.
+     * @return move를 다시 정의하지 않은 MovableBall(또는 BoundedBall)이거나 MovableBall이 아니면 true
+     */
+    public static boolean isLinear(Ball ball) {
+        return !(ball instanceof MovableBall) || LINEAR_MOTION.get(ball.getClass());
+    }
+
+    /**
+     * 모든 공이 직선으로 움직여 이 스케줄러로 진행할 수 있는지 확인합니다.
+     */
+    public static boolean canSchedule(List<? extends Ball> balls) {
+        for (Ball ball : balls) {
+            if (!isLinear(ball)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 다음 advance에서 모든 예측을 처음부터 다시 계산하도록 합니다.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    private boolean sameBalls(List<? extends Ball> ballList) {
+        int index = 0;
+        for (Ball ball : ballList) {
+            if (ball instanceof MovableBall movableBall) {
+                if (index >= balls.size() || balls.get(index) != movableBall) {
+                    return false;
+                }
+                index++;
+            }
+        }
+        return index == balls.size();
+    }
+
+    private void rebuild(List<? extends Ball> ballList, FrameProfiler profiler) {
+        balls.clear();
+        for (Ball ball : ballList) {
+            if (ball instanceof MovableBall movableBall) {
+                balls.add(movableBall);
+            }
+        }
+
+        int count = balls.size();
+        x = new double[count];
+        y = new double[count];
+        vx = new double[count];
+        vy = new double[count];
+        radius = new double[count];
+        lastTime = new double[count];
+        collisionCounts = new int[count];
+        cellOf = new int[count];
+        nextInCell = new int[count];
+        prevInCell = new int[count];
+        events.clear();
+        time = 0;
+
+        double maxRadius = 0;
+        for (int i = 0; i < count; i++) {
+            readBall(i);
+            radius[i] = balls.get(i).getRadius();
+            maxRadius = Math.max(maxRadius, radius[i]);
+        }
+
+        // 칸 하나에 평균 공 하나 정도가 되도록 하되, 이웃 칸 밖의 공과는 닿을 수 없도록 지름보다 크게 잡음
+        double areaPerBall = width * height / Math.max(count, 1);
+        cellSize = Math.max(2 * maxRadius * CELL_SIZE_PER_DIAMETER, Math.sqrt(areaPerBall));
+        cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        cellHead = new int[cols * rows];
+        Arrays.fill(cellHead, -1);
+        for (int i = 0; i < count; i++) {
+            insertIntoCell(i, cellIndex(column(x[i]), row(y[i])));
+        }
+
+        for (int i = 0; i < count; i++) {
+            predict(i, 0, profiler);
+        }
+        invalidated = false;
+    }
+
+    /**
+     * 지난 advance가 끝날 때 반영한 값과 다른 공은 밖에서 바뀐 것이므로 궤적이 바뀐 것으로 처리합니다.
+     */
+    private void detectExternalChanges(FrameProfiler profiler) {
+        for (int i = 0; i < balls.size(); i++) {
+            MovableBall ball = balls.get(i);
+            if (ball.getX() != x[i] || ball.getY() != y[i]
+                    || ball.getVelocityX() != vx[i] || ball.getVelocityY() != vy[i]) {
+                readBall(i);
+                lastTime[i] = time;
+                collisionCounts[i]++;
+                moveToCell(i, cellIndex(column(x[i]), row(y[i])));
+                predict(i, time, profiler);
+            }
+        }
+    }
+
+    private void readBall(int i) {
+        MovableBall ball = balls.get(i);
+        x[i] = ball.getX();
+        y[i] = ball.getY();
+        vx[i] = ball.getVelocityX();
+        vy[i] = ball.getVelocityY();
+    }
+
+    private boolean isValid(Event event) {
+        if (collisionCounts[event.owner] != event.ownerCount) {
+            return false;
+        }
+        return event.partner < 0 || collisionCounts[event.partner] == event.partnerCount;
+    }
+
+    /**
+     * @return 충돌이면 true, 칸 경계 통과면 false
+     */
+    private boolean processEvent(Event event, FrameProfiler profiler) {
+        int a = event.owner;
+        int b = event.partner;
+        advanceTo(a, event.time);
+
+        switch (b) {
+            case CELL_CROSSING_X, CELL_CROSSING_Y -> {
+                // 궤적은 그대로이므로 다른 공의 예약은 유효함. 새 이웃과의 충돌만 다시 예측
+                int col = cellOf[a] % cols;
+                int row = cellOf[a] / cols;
+                if (b == CELL_CROSSING_X) {
+                    col += vx[a] > 0 ? 1 : -1;
+                } else {
+                    row += vy[a] > 0 ? 1 : -1;
+                }
+                moveToCell(a, cellIndex(col, row));
+                cellCrossings++;
+                predict(a, event.time, profiler);
+                return false;
+            }
+            case VERTICAL_WALL -> {
+                vx[a] = -vx[a];
+                x[a] = clamp(x[a], radius[a], width - radius[a]);
+            }
+            case HORIZONTAL_WALL -> {
+                vy[a] = -vy[a];
+                y[a] = clamp(y[a], radius[a], height - radius[a]);
+            }
+            default -> {
+                advanceTo(b, event.time);
+                resolveBallCollision(a, b);
+                collisionCounts[b]++;
+                profiler.countCollisionResolved();
+            }
+        }
+
+        collisionCounts[a]++;
+        predict(a, event.time, profiler);
+        if (b >= 0) {
+            predict(b, event.time, profiler);
+        }
+        return true;
+    }
+
+    /**
+     * 프레임 단위 시뮬레이션과 같은 탄성 충돌 공식을 쓰도록 BallCollision에 맡깁니다.
+     */
+    private void resolveBallCollision(int a, int b) {
+        MovableBall ballA = balls.get(a);
+        MovableBall ballB = balls.get(b);
+        ballA.setX(x[a]);
+        ballA.setY(y[a]);
+        ballA.setVelocity(vx[a], vy[a]);
+        ballB.setX(x[b]);
+        ballB.setY(y[b]);
+        ballB.setVelocity(vx[b], vy[b]);
+
+        BallCollision.resolveElasticCollision(ballA, ballB);
+
+        readBall(a);
+        readBall(b);
+    }
+
+    /**
+     * 공 i가 now 이후 가장 먼저 겪을 이벤트(벽, 주변 칸의 공, 칸 경계 통과)를 찾아 예약합니다.
+     */
+    private void predict(int i, double now, FrameProfiler profiler) {
+        advanceTo(i, now);
+
+        double earliest = Double.POSITIVE_INFINITY;
+        int partner = 0;
+
+        double wallX = timeToWall(x[i], vx[i], radius[i], width);
+        if (wallX < earliest) {
+            earliest = wallX;
+            partner = VERTICAL_WALL;
+        }
+        double wallY = timeToWall(y[i], vy[i], radius[i], height);
+        if (wallY < earliest) {
+            earliest = wallY;
+            partner = HORIZONTAL_WALL;
+        }
+
+        int col = cellOf[i] % cols;
+        int row = cellOf[i] / cols;
+        double crossX = timeToCellBoundary(x[i], vx[i], col, cols);
+        if (crossX < earliest) {
+            earliest = crossX;
+            partner = CELL_CROSSING_X;
+        }
+        double crossY = timeToCellBoundary(y[i], vy[i], row, rows);
+        if (crossY < earliest) {
+            earliest = crossY;
+            partner = CELL_CROSSING_Y;
+        }
+
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                for (int j = cellHead[r * cols + c]; j != -1; j = nextInCell[j]) {
+                    if (j == i) {
+                        continue;
+                    }
+                    profiler.countPairTested();
+                    predictions++;
+                    double t = timeToHit(i, j, now);
+                    if (t < earliest) {
+                        earliest = t;
+                        partner = j;
+                    }
+                }
+            }
+        }
+
+        if (earliest != Double.POSITIVE_INFINITY) {
+            int partnerCount = partner >= 0 ? collisionCounts[partner] : 0;
+            events.add(new Event(now + earliest, i, partner, collisionCounts[i], partnerCount));
+        }
+    }
+
+    /**
+     * 한 축에서 벽 [radius, size - radius]에 닿기까지 걸리는 시간입니다. 이미 벽을 넘었으면 0입니다.
+     */
+    private static double timeToWall(double position, double velocity, double radius, double size) {
+        if (velocity > 0) {
+            return Math.max(0, (size - radius - position) / velocity);
+        }
+        if (velocity < 0) {
+            return Math.max(0, (radius - position) / velocity);
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 한 축에서 중심이 지금 칸의 경계를 지나기까지 걸리는 시간입니다. 가장자리 칸에서 바깥으로 움직이면 통과하지 않습니다.
+     */
+    private double timeToCellBoundary(double position, double velocity, int cell, int cellCount) {
+        if (velocity > 0 && cell < cellCount - 1) {
+            return Math.max(0, ((cell + 1) * cellSize - position) / velocity);
+        }
+        if (velocity < 0 && cell > 0) {
+            return Math.max(0, (cell * cellSize - position) / velocity);
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * now 시각 기준으로 두 공이 닿기까지 걸리는 시간입니다. 이미 겹친 채 가까워지고 있으면 0입니다.
+     */
+    private double timeToHit(int i, int j, double now) {
+        double dx = (x[j] + vx[j] * (now - lastTime[j])) - x[i];
+        double dy = (y[j] + vy[j] * (now - lastTime[j])) - y[i];
+        double dvx = vx[j] - vx[i];
+        double dvy = vy[j] - vy[i];
+
+        double dvdr = dx * dvx + dy * dvy;
+        if (dvdr >= 0) {
+            return Double.POSITIVE_INFINITY; // 멀어지는 중
+        }
+
+        double dvdv = dvx * dvx + dvy * dvy;
+        double drdr = dx * dx + dy * dy;
+        double sigma = radius[i] + radius[j];
+        double c = drdr - sigma * sigma;
+        if (c <= 0) {
+            return 0;
+        }
+
+        double discriminant = dvdr * dvdr - dvdv * c;
+        if (discriminant < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -(dvdr + Math.sqrt(discriminant)) / dvdv;
+    }
+
+    private void advanceTo(int i, double t) {
+        double dt = t - lastTime[i];
+        if (dt != 0) {
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            lastTime[i] = t;
+        }
+    }
+
+    private int column(double position) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor(position / cellSize)));
+    }
+
+    private int row(double position) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(position / cellSize)));
+    }
+
+    private int cellIndex(int col, int row) {
+        return Math.max(0, Math.min(rows - 1, row)) * cols + Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private void insertIntoCell(int i, int cell) {
+        cellOf[i] = cell;
+        prevInCell[i] = -1;
+        nextInCell[i] = cellHead[cell];
+        if (cellHead[cell] != -1) {
+            prevInCell[cellHead[cell]] = i;
+        }
+        cellHead[cell] = i;
+    }
+
+    private void moveToCell(int i, int cell) {
+        if (cellOf[i] == cell) {
+            return;
+        }
+        if (prevInCell[i] != -1) {
+            nextInCell[prevInCell[i]] = nextInCell[i];
+        } else {
+            cellHead[cellOf[i]] = nextInCell[i];
+        }
+        if (nextInCell[i] != -1) {
+            prevInCell[nextInCell[i]] = prevInCell[i];
+        }
+        insertIntoCell(i, cell);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    /**
+     * @return 지금까지 처리한 충돌 수 (벽 충돌 포함)
+     */
+    public long getEventsProcessed() {
+        return eventsProcessed;
+    }
+
+    /**
+     * @return 지금까지 처리한 칸 경계 통과 수
+     */
+    public long getCellCrossings() {
+        return cellCrossings;
+    }
+
+    /**
+     * @return 궤적이 바뀌어 무효가 된 채 꺼낸 이벤트 수
+     */
+    public long getStaleEventsSkipped() {
+        return staleEventsSkipped;
+    }
+
+    /**
+     * @return 지금까지 계산한 공 쌍 충돌 예측 수
+     */
+    public long getPredictions() {
+        return predictions;
+    }
+
+    /**
+     * @return 큐에 남아 있는 (무효 포함) 이벤트 수
+     */
+    public int getPendingEvents() {
+        return events.size();
+    }
+
+    /**
+     * @return 마지막 advance가 끝난 시각 (다시 계산할 때 0부터 시작)
+     */
+    public double getTime() {
+        return time;
+    }
+}
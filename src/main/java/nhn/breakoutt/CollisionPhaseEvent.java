@@ -0,0 +1,29 @@
+package nhn.breakoutt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 세계 update 중 충돌 처리 단계 하나를 기록하는 JFR 이벤트입니다. 기본으로 꺼져 있습니다. ({@link WorldStepEvent} 참고)
+ */
+@Name("nhn.breakoutt.CollisionPhase")
+@Label("Collision Phase")
+@Category({"Breakout", "Physics"})
+@Description("충돌 처리 단계 하나의 소요 시간")
+@Enabled(false)
+@StackTrace(false)
+public final class CollisionPhaseEvent extends Event {
+    @Label("World")
+    public String world;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Entity Count")
+    public int entityCount;
+}
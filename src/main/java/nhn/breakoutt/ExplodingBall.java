@@ -19,7 +19,7 @@ public class ExplodingBall extends Ball {
      * 기본 생성자
      */
     public ExplodingBall(double x, double y, double radius) {
-        this(x, y, radius, 0, 0, Color.ORANGE, CollisionAction.CUSTOM, 4);
+        this(x, y, radius, 0, 0, Argb.ORANGE, CollisionAction.CUSTOM, 4, new Random());
     }
 
     public ExplodingBall(double x, double y, double radius, Color color){
@@ -31,10 +31,31 @@ public class ExplodingBall extends Ball {
      */
     public ExplodingBall(double x, double y, double radius, double dx, double dy,
                         Color color, CollisionAction collisionAction, int miniballCount) {
-        super(x, y, radius, dx, dy, color, collisionAction);
+        this(x, y, radius, dx, dy, color, collisionAction, miniballCount, new Random());
+    }
+
+    /**
+     * 난수 생성기를 지정하는 생성자 (같은 시드면 같은 폭발, 리플레이용)
+     * @throws IllegalArgumentException random이 null인 경우
+     */
+    public ExplodingBall(double x, double y, double radius, double dx, double dy,
+                        Color color, CollisionAction collisionAction, int miniballCount, Random random) {
+        this(x, y, radius, dx, dy, FxColors.toArgb(color), collisionAction, miniballCount, random);
+    }
+
+    /**
+     * 색을 {@link Argb} 값으로 받는 생성자
+     * @throws IllegalArgumentException random이 null인 경우
+     */
+    public ExplodingBall(double x, double y, double radius, double dx, double dy,
+                        int argb, CollisionAction collisionAction, int miniballCount, Random random) {
+        super(x, y, radius, dx, dy, argb, collisionAction);
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다");
+        }
         this.hasExploded = false;
         this.miniballCount = Math.max(3, Math.min(5, miniballCount)); // 3-5개 범위로 제한
-        this.random = new Random();
+        this.random = random;
         this.miniBalls = new ArrayList<>();
     }
 
@@ -110,7 +131,7 @@ public class ExplodingBall extends Ball {
             double startY = centerY + startDistance * Math.sin(angle);
 
             // 작은 공의 색상 (원본과 비슷하지만 약간 다름)
-            Color miniColor = generateMiniColor();
+            int miniColor = generateMiniColor();
 
             // 작은 공 생성
             Ball miniBall = new Ball(startX, startY, miniRadius, miniDx, miniDy,
@@ -123,15 +144,20 @@ public class ExplodingBall extends Ball {
     /**
      * 작은 공의 색상을 생성합니다 (원본과 비슷하지만 약간 다름).
      */
-    private Color generateMiniColor() {
-        Color originalColor = getColor();
+    private int generateMiniColor() {
+        int originalColor = getArgb();
 
         // 원본 색상에서 약간의 변화 추가
-        double red = Math.max(0, Math.min(1, originalColor.getRed() + (random.nextDouble() - 0.5) * 0.3));
-        double green = Math.max(0, Math.min(1, originalColor.getGreen() + (random.nextDouble() - 0.5) * 0.3));
-        double blue = Math.max(0, Math.min(1, originalColor.getBlue() + (random.nextDouble() - 0.5) * 0.3));
+        int red = varyChannel(Argb.red(originalColor));
+        int green = varyChannel(Argb.green(originalColor));
+        int blue = varyChannel(Argb.blue(originalColor));
+
+        return Argb.rgb(red, green, blue);
+    }
 
-        return new Color(red, green, blue, 1.0);
+    private int varyChannel(int channel) {
+        double value = Math.max(0, Math.min(1, channel / 255.0 + (random.nextDouble() - 0.5) * 0.3));
+        return (int) Math.round(value * 255);
     }
 
     /**
@@ -160,9 +186,7 @@ public class ExplodingBall extends Ball {
         // 폭발 효과 구현 (예: 파티클, 사운드 등)
         // 여기서는 단순히 색상을 밝게 변경
         if (!hasExploded) {
-            Color currentColor = getColor();
-            Color brightColor = currentColor.brighter().brighter();
-            setColor(brightColor);
+            setArgb(Argb.brighter(Argb.brighter(getArgb())));
         }
     }
 
@@ -0,0 +1,278 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세계의 update를 단계(phase)별로 계측해 최근 프레임들을 링 버퍼에 기록하는 클래스입니다.
+ * 프레임마다 단계별 소요 시간(나노초), 검사한 쌍 수, 해결한 충돌 수, 추가/제거된 객체 수를 남깁니다.
+ * 기록은 미리 할당한 배열에만 하므로 프레임마다 객체를 만들지 않습니다.
+ *
+ * <p>{@link #disabled()}가 반환하는 인스턴스는 아무것도 기록하지 않고 System.nanoTime도 호출하지 않으므로,
+ * 세계는 계측 코드를 그대로 둔 채 이 인스턴스를 기본값으로 사용합니다.</p>
+ *
+ * <p>동기화하지 않습니다. 다른 스레드에서 읽을 때는 update와 겹치지 않게 해야 합니다 (예: SimulationThread.runLocked).</p>
+ */
+public final class FrameProfiler {
+    public static final int DEFAULT_CAPACITY = 240;
+
+    private static final FrameProfiler DISABLED = new FrameProfiler();
+
+    private final boolean enabled;
+    private final List<String> phaseNames;
+    private final int phaseCount;
+    private final int capacity;
+
+    // 링 버퍼 (프레임 f는 f % capacity 칸에 기록됨)
+    private final long[] phaseNanos;
+    private final long[] frameNanos;
+    private final int[] pairsTested;
+    private final int[] collisionsResolved;
+    private final int[] objectsAdded;
+    private final int[] objectsRemoved;
+
+    // 기록 중인 프레임
+    private final long[] currentPhaseNanos;
+    private long frameStart;
+    private int currentPairsTested;
+    private int currentCollisionsResolved;
+    private int currentObjectsAdded;
+    private int currentObjectsRemoved;
+    private long frameCount;
+
+    // 계측을 시작한 이후 끝난 모든 프레임의 누적 시간 (링 버퍼에서 밀려난 프레임도 포함)
+    private final long[] totalPhaseNanos;
+    private long totalFrameNanos;
+
+    /**
+     * @param phaseNames 단계 이름 (update에서 endPhase에 넘기는 번호 순서)
+     * @param capacity 보관할 최근 프레임 수
+     * @throws IllegalArgumentException 단계가 없거나 capacity가 양수가 아닌 경우
+     */
+    public FrameProfiler(List<String> phaseNames, int capacity) {
+        if (phaseNames == null || phaseNames.isEmpty()) {
+            throw new IllegalArgumentException("단계 이름이 하나 이상 있어야 합니다");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("보관할 프레임 수는 양수여야 합니다: " + capacity);
+        }
+        this.enabled = true;
+        this.phaseNames = List.copyOf(phaseNames);
+        this.phaseCount = this.phaseNames.size();
+        this.capacity = capacity;
+        this.phaseNanos = new long[capacity * phaseCount];
+        this.frameNanos = new long[capacity];
+        this.pairsTested = new int[capacity];
+        this.collisionsResolved = new int[capacity];
+        this.objectsAdded = new int[capacity];
+        this.objectsRemoved = new int[capacity];
+        this.currentPhaseNanos = new long[phaseCount];
+        this.totalPhaseNanos = new long[phaseCount];
+    }
+
+    private FrameProfiler() {
+        this.enabled = false;
+        this.phaseNames = List.of();
+        this.phaseCount = 0;
+        this.capacity = 0;
+        this.phaseNanos = new long[0];
+        this.frameNanos = new long[0];
+        this.pairsTested = new int[0];
+        this.collisionsResolved = new int[0];
+        this.objectsAdded = new int[0];
+        this.objectsRemoved = new int[0];
+        this.currentPhaseNanos = new long[0];
+        this.totalPhaseNanos = new long[0];
+    }
+
+    /**
+     * 아무것도 기록하지 않는 공유 인스턴스를 반환합니다.
+     */
+    public static FrameProfiler disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 프레임 계측을 시작합니다.
+     */
+    public void beginFrame() {
+        if (enabled) {
+            frameStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return 단계 시작 시각 (비활성화 상태면 0)
+     */
+    public long startPhase() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * startPhase 이후 걸린 시간을 단계에 더합니다. 같은 단계를 한 프레임에 여러 번 기록할 수 있습니다.
+     */
+    public void endPhase(int phase, long startNanos) {
+        if (enabled) {
+            currentPhaseNanos[phase] += System.nanoTime() - startNanos;
+        }
+    }
+
+    public void countPairTested() {
+        if (enabled) {
+            currentPairsTested++;
+        }
+    }
+
+    public void countCollisionResolved() {
+        if (enabled) {
+            currentCollisionsResolved++;
+        }
+    }
+
+    /**
+     * 추가된 객체 수를 더합니다. 프레임 사이(update 밖)에서 추가된 객체는 다음 프레임에 기록됩니다.
+     */
+    public void countObjectsAdded(int count) {
+        if (enabled) {
+            currentObjectsAdded += count;
+        }
+    }
+
+    /**
+     * 제거된 객체 수를 더합니다. 프레임 사이(update 밖)에서 제거된 객체는 다음 프레임에 기록됩니다.
+     */
+    public void countObjectsRemoved(int count) {
+        if (enabled) {
+            currentObjectsRemoved += count;
+        }
+    }
+
+    /**
+     * 기록 중인 프레임을 링 버퍼에 저장하고 다음 프레임을 위해 값을 비웁니다.
+     */
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        int slot = (int) (frameCount % capacity);
+        System.arraycopy(currentPhaseNanos, 0, phaseNanos, slot * phaseCount, phaseCount);
+        frameNanos[slot] = System.nanoTime() - frameStart;
+        totalFrameNanos += frameNanos[slot];
+        for (int phase = 0; phase < phaseCount; phase++) {
+            totalPhaseNanos[phase] += currentPhaseNanos[phase];
+        }
+        pairsTested[slot] = currentPairsTested;
+        collisionsResolved[slot] = currentCollisionsResolved;
+        objectsAdded[slot] = currentObjectsAdded;
+        objectsRemoved[slot] = currentObjectsRemoved;
+        frameCount++;
+
+        Arrays.fill(currentPhaseNanos, 0);
+        currentPairsTested = 0;
+        currentCollisionsResolved = 0;
+        currentObjectsAdded = 0;
+        currentObjectsRemoved = 0;
+    }
+
+    /**
+     * 기록을 모두 지웁니다.
+     */
+    public void reset() {
+        frameCount = 0;
+        totalFrameNanos = 0;
+        Arrays.fill(totalPhaseNanos, 0);
+        Arrays.fill(currentPhaseNanos, 0);
+        currentPairsTested = 0;
+        currentCollisionsResolved = 0;
+        currentObjectsAdded = 0;
+        currentObjectsRemoved = 0;
+    }
+
+    /**
+     * 몇 프레임 전의 기록이 있는 링 버퍼 칸을 반환합니다. (0: 가장 최근 프레임)
+     */
+    private int slot(int framesAgo) {
+        if (framesAgo < 0 || framesAgo >= getRecordedFrames()) {
+            throw new IndexOutOfBoundsException("기록된 프레임 범위를 벗어났습니다: " + framesAgo);
+        }
+        return (int) ((frameCount - 1 - framesAgo) % capacity);
+    }
+
+    public long getPhaseNanos(int framesAgo, int phase) {
+        if (phase < 0 || phase >= phaseCount) {
+            throw new IndexOutOfBoundsException("단계 번호가 범위를 벗어났습니다: " + phase);
+        }
+        return phaseNanos[slot(framesAgo) * phaseCount + phase];
+    }
+
+    public long getFrameNanos(int framesAgo) {
+        return frameNanos[slot(framesAgo)];
+    }
+
+    public int getPairsTested(int framesAgo) {
+        return pairsTested[slot(framesAgo)];
+    }
+
+    public int getCollisionsResolved(int framesAgo) {
+        return collisionsResolved[slot(framesAgo)];
+    }
+
+    public int getObjectsAdded(int framesAgo) {
+        return objectsAdded[slot(framesAgo)];
+    }
+
+    public int getObjectsRemoved(int framesAgo) {
+        return objectsRemoved[slot(framesAgo)];
+    }
+
+    /**
+     * @return 지금 읽을 수 있는 프레임 수 (최대 capacity)
+     */
+    public int getRecordedFrames() {
+        return (int) Math.min(frameCount, capacity);
+    }
+
+    /**
+     * @return 계측을 시작한 이후 끝난 전체 프레임 수
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return 계측을 시작한 이후 끝난 모든 프레임의 update 시간 합 (나노초)
+     */
+    public long getTotalFrameNanos() {
+        return totalFrameNanos;
+    }
+
+    /**
+     * @return 계측을 시작한 이후 끝난 모든 프레임에서 해당 단계에 쓴 시간 합 (나노초)
+     */
+    public long getTotalPhaseNanos(int phase) {
+        if (phase < 0 || phase >= phaseCount) {
+            throw new IndexOutOfBoundsException("단계 번호가 범위를 벗어났습니다: " + phase);
+        }
+        return totalPhaseNanos[phase];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getPhaseCount() {
+        return phaseCount;
+    }
+
+    public String getPhaseName(int phase) {
+        return phaseNames.get(phase);
+    }
+
+    public List<String> getPhaseNames() {
+        return phaseNames;
+    }
+}
@@ -0,0 +1,55 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+
+/**
+ * 모델의 {@link Argb} 색과 JavaFX Color를 서로 바꾸는 렌더링 쪽 도우미입니다.
+ * 그릴 때마다 Color를 새로 만들지 않도록 최근에 변환한 색을 작은 표에 담아 둡니다.
+ */
+public final class FxColors {
+    private static final int CACHE_SIZE = 256;
+
+    // 색과 값을 한 객체에 담아 여러 스레드가 동시에 읽고 써도 짝이 어긋나지 않게 함
+    private static final Entry[] cache = new Entry[CACHE_SIZE];
+
+    private FxColors() {
+    }
+
+    /**
+     * @param argb 0xAARRGGBB 형식의 색
+     * @return 같은 색의 JavaFX Color
+     */
+    public static Color toColor(int argb) {
+        int slot = (argb ^ argb >>> 8 ^ argb >>> 16) & (CACHE_SIZE - 1);
+        Entry entry = cache[slot];
+        if (entry == null || entry.argb != argb) {
+            entry = new Entry(argb, Color.rgb(Argb.red(argb), Argb.green(argb), Argb.blue(argb), Argb.alpha(argb) / 255.0));
+            cache[slot] = entry;
+        }
+        return entry.color;
+    }
+
+    /**
+     * 채널당 8비트로 반올림해 바꿉니다. Color 상수와 Color.rgb로 만든 색은 그대로 되돌릴 수 있습니다.
+     * @throws IllegalArgumentException color가 null인 경우
+     */
+    public static int toArgb(Color color) {
+        if (color == null) {
+            throw new IllegalArgumentException("색상은 null일 수 없습니다.");
+        }
+        return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+
+    private static final class Entry {
+        final int argb;
+        final Color color;
+
+        Entry(int argb, Color color) {
+            this.argb = argb;
+            this.color = color;
+        }
+    }
+}
@@ -1,35 +1,224 @@
 package nhn.breakoutt;
 
 import javafx.animation.AnimationTimer;
-import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 
+/**
+ * 여러 App이 함께 사용하는 게임 루프입니다.
+ * 매 프레임 AnimationTimer가 넘겨주는 시각(now, 나노초)으로 deltaTime을 계산해 시뮬레이션을 진행하고,
+ * 같은 GraphicsContext에 다시 그립니다. 프레임마다 객체를 새로 만들지 않습니다.
+ *
+ * <ul>
+ *     <li>deltaTime은 {@link #setMaxDeltaTime(double)} 이하로 제한되어 창이 멈췄다 돌아와도 한 번에 크게 진행하지 않습니다.</li>
+ *     <li>{@link #pause()} 중에는 그리기만 하고, {@link #step()}으로 한 스텝씩 진행할 수 있습니다.</li>
+ *     <li>프레임마다 update/render에 걸린 시간을 기록하고 {@link FrameListener}에 알립니다.</li>
+ * </ul>
+ */
 public class GameLoop extends AnimationTimer {
-    private double lastUpdate;
-    private World world;
-    private GraphicsContext gc;
+    public static final double DEFAULT_MAX_DELTA_TIME = 0.1;
+    public static final double DEFAULT_STEP_TIME = 1.0 / 60;
 
-    @Override
-    public void handle(long low) {
-        double now = System.currentTimeMillis();
-        double deltaTime = (now - lastUpdate) / 1_000_000_000.0;
+    private static final Simulation NO_SIMULATION = deltaTime -> { };
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Simulation simulation;
+    private final Paintable renderer;
+    private final GraphicsContext gc;
+    private FrameListener frameListener;
+
+    private double maxDeltaTime = DEFAULT_MAX_DELTA_TIME;
+    private double stepTime = DEFAULT_STEP_TIME;
+    private boolean paused;
+    private int pendingSteps;
+
+    private long lastNanos = -1;
+    private double lastDeltaTime;
+    private long lastUpdateNanos;
+    private long lastRenderNanos;
+    private long frameCount;
 
-        update(deltaTime);
-        render();
+    // 초당 프레임 수 (1초마다 갱신)
+    private long fpsWindowStart = -1;
+    private int fpsWindowFrames;
+    private int framesPerSecond;
+
+    /**
+     * 프레임이 끝날 때마다 호출되는 리스너입니다.
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * @param deltaTime 이번 프레임에 진행한 시간 (초, 진행하지 않았으면 0)
+         * @param updateNanos update에 걸린 시간 (나노초)
+         * @param renderNanos render에 걸린 시간 (나노초)
+         */
+        void onFrame(double deltaTime, long updateNanos, long renderNanos);
+    }
+
+    /**
+     * 그리기만 하는 루프를 생성합니다. 시뮬레이션은 다른 곳(예: {@link SimulationThread})에서 진행할 때 사용합니다.
+     */
+    public GameLoop(Paintable renderer, GraphicsContext gc) {
+        this(NO_SIMULATION, renderer, gc);
     }
 
-    private void render() {
-        world = new World(800, 600);
-        Canvas canvas = new Canvas(800, 600);
-        gc = canvas.getGraphicsContext2D();
-        world.draw(gc);
+    /**
+     * @param simulation 매 프레임 진행할 시뮬레이션
+     * @param renderer 매 프레임 그릴 대상 (예: world::render)
+     * @param gc 그릴 GraphicsContext (루프가 끝날 때까지 재사용)
+     * @throws IllegalArgumentException 인자가 null인 경우
+     */
+    public GameLoop(Simulation simulation, Paintable renderer, GraphicsContext gc) {
+        if (simulation == null || renderer == null || gc == null) {
+            throw new IllegalArgumentException("시뮬레이션, 렌더러, GraphicsContext는 null일 수 없습니다");
+        }
+        this.simulation = simulation;
+        this.renderer = renderer;
+        this.gc = gc;
+    }
+
+    @Override
+    public void start() {
+        // 멈췄다 다시 시작하면 그 사이 시간은 진행하지 않음
+        lastNanos = -1;
+        super.start();
+    }
+
+    @Override
+    public void handle(long now) {
+        double deltaTime = 0;
+        if (lastNanos >= 0) {
+            deltaTime = Math.min((now - lastNanos) / (double) NANOS_PER_SECOND, maxDeltaTime);
+        }
+        lastNanos = now;
+        frame(now, deltaTime);
     }
 
-    private void update(double deltaTime) {
-        for(Ball ball: world.getBalls()){
-            if(ball instanceof MovableBall movableBall){
-                movableBall.move(deltaTime);
+    /**
+     * 한 프레임을 처리합니다. 일시정지 중이면 요청된 스텝만 진행합니다.
+     */
+    void frame(long now, double deltaTime) {
+        if (paused) {
+            if (pendingSteps > 0) {
+                pendingSteps--;
+                deltaTime = stepTime;
+            } else {
+                deltaTime = 0;
             }
         }
+
+        long updateStart = System.nanoTime();
+        if (deltaTime > 0) {
+            simulation.update(deltaTime);
+        }
+        long renderStart = System.nanoTime();
+        renderer.paint(gc);
+        long renderEnd = System.nanoTime();
+
+        lastDeltaTime = deltaTime;
+        lastUpdateNanos = renderStart - updateStart;
+        lastRenderNanos = renderEnd - renderStart;
+        frameCount++;
+        countFrame(now);
+
+        if (frameListener != null) {
+            frameListener.onFrame(deltaTime, lastUpdateNanos, lastRenderNanos);
+        }
+    }
+
+    private void countFrame(long now) {
+        if (fpsWindowStart < 0) {
+            fpsWindowStart = now; // 첫 프레임은 구간의 시작점으로만 사용
+            return;
+        }
+        fpsWindowFrames++;
+        if (now - fpsWindowStart >= NANOS_PER_SECOND) {
+            framesPerSecond = fpsWindowFrames;
+            fpsWindowFrames = 0;
+            fpsWindowStart = now;
+        }
+    }
+
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        paused = false;
+        pendingSteps = 0;
+    }
+
+    public void togglePause() {
+        if (paused) {
+            resume();
+        } else {
+            pause();
+        }
+    }
+
+    /**
+     * 일시정지 중에 다음 프레임에서 {@link #getStepTime()}만큼 한 번 진행합니다.
+     * 일시정지 상태가 아니면 무시합니다.
+     */
+    public void step() {
+        if (paused) {
+            pendingSteps++;
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setMaxDeltaTime(double maxDeltaTime) {
+        if (!(maxDeltaTime > 0)) {
+            throw new IllegalArgumentException("최대 deltaTime은 양수여야 합니다: " + maxDeltaTime);
+        }
+        this.maxDeltaTime = maxDeltaTime;
+    }
+
+    public double getMaxDeltaTime() {
+        return maxDeltaTime;
+    }
+
+    /**
+     * {@link #step()} 한 번에 진행할 시간을 설정합니다.
+     */
+    public void setStepTime(double stepTime) {
+        if (!(stepTime > 0)) {
+            throw new IllegalArgumentException("스텝 시간은 양수여야 합니다: " + stepTime);
+        }
+        this.stepTime = stepTime;
+    }
+
+    public double getStepTime() {
+        return stepTime;
+    }
+
+    public void setFrameListener(FrameListener frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    public double getLastDeltaTime() {
+        return lastDeltaTime;
+    }
+
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
+    public long getLastRenderNanos() {
+        return lastRenderNanos;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * 최근 1초 동안 처리한 프레임 수를 반환합니다. 첫 1초 동안은 0입니다.
+     */
+    public int getFramesPerSecond() {
+        return framesPerSecond;
     }
 }
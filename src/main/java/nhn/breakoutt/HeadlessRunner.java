@@ -0,0 +1,112 @@
+package nhn.breakoutt;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 화면(JavaFX 툴킷) 없이 시뮬레이션을 고정된 시간 간격으로 실행하는 클래스입니다.
+ * AnimationTimer 대신 반복문으로 update를 호출하므로, CI나 서버에서 실제 시간보다 빠르게 실행할 수 있습니다.
+ */
+public class HeadlessRunner {
+    public static final double DEFAULT_TIME_STEP = 1.0 / 60;
+
+    private final Simulation simulation;
+    private final double timeStep;
+    private long stepCount;
+
+    public HeadlessRunner(Simulation simulation) {
+        this(simulation, DEFAULT_TIME_STEP);
+    }
+
+    /**
+     * @param simulation 실행할 시뮬레이션
+     * @param timeStep 한 스텝의 시간 (초)
+     * @throws IllegalArgumentException simulation이 null이거나 timeStep이 양수가 아닌 경우
+     */
+    public HeadlessRunner(Simulation simulation, double timeStep) {
+        if (simulation == null) {
+            throw new IllegalArgumentException("시뮬레이션은 null일 수 없습니다");
+        }
+        if (!(timeStep > 0) || Double.isInfinite(timeStep)) {
+            throw new IllegalArgumentException("시간 간격은 양수여야 합니다: " + timeStep);
+        }
+        this.simulation = simulation;
+        this.timeStep = timeStep;
+    }
+
+    /**
+     * 한 스텝 진행합니다.
+     */
+    public void step() {
+        simulation.update(timeStep);
+        stepCount++;
+    }
+
+    /**
+     * 지정한 횟수만큼 스텝을 진행합니다.
+     * @param steps 스텝 수
+     * @throws IllegalArgumentException 스텝 수가 음수인 경우
+     */
+    public void run(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("스텝 수는 음수일 수 없습니다: " + steps);
+        }
+        for (long i = 0; i < steps; i++) {
+            step();
+        }
+    }
+
+    /**
+     * 시뮬레이션 시간으로 seconds만큼 진행합니다. 남는 시간이 한 스텝보다 짧으면 진행하지 않습니다.
+     * @return 진행한 스텝 수
+     */
+    public long runFor(double seconds) {
+        if (!(seconds >= 0)) {
+            throw new IllegalArgumentException("시간은 음수일 수 없습니다: " + seconds);
+        }
+        // 부동소수점 오차로 마지막 스텝이 빠지지 않도록 보정
+        long steps = (long) Math.floor(seconds / timeStep + 1e-9);
+        run(steps);
+        return steps;
+    }
+
+    /**
+     * 조건이 참이 되거나 최대 스텝 수에 도달할 때까지 진행합니다. 조건은 매 스텝 전에 확인합니다.
+     * @param condition 종료 조건
+     * @param maxSteps 최대 스텝 수
+     * @return 진행한 스텝 수
+     */
+    public long runUntil(BooleanSupplier condition, long maxSteps) {
+        if (condition == null) {
+            throw new IllegalArgumentException("종료 조건은 null일 수 없습니다");
+        }
+        if (maxSteps < 0) {
+            throw new IllegalArgumentException("스텝 수는 음수일 수 없습니다: " + maxSteps);
+        }
+
+        long steps = 0;
+        while (steps < maxSteps && !condition.getAsBoolean()) {
+            step();
+            steps++;
+        }
+        return steps;
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    public double getTimeStep() {
+        return timeStep;
+    }
+
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * 지금까지 진행한 시뮬레이션 시간(초)을 반환합니다.
+     */
+    public double getSimulatedTime() {
+        return stepCount * timeStep;
+    }
+}
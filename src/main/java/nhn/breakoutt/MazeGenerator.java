@@ -0,0 +1,203 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 시드로 끝없이 이어지는 미로를 조각(chunk) 단위로 만드는 생성기입니다.
+ * 같은 시드와 같은 조각 좌표면 언제 어떤 순서로 만들어도 같은 조각이 나오므로,
+ * 멀어진 조각을 버렸다가 다시 만들어도 미로가 바뀌지 않습니다.
+ *
+ * <p>칸 값은 {@link MazeWorld}와 같습니다 (0 = 통로, 1 = 벽, 2 = 출구).
+ * 조각은 chunkSize x chunkSize 칸이며, 홀수 행/열이 만나는 칸이 방, 짝수 행/열이 만나는 칸이 기둥(벽)입니다.
+ * 조각 안은 방 사이의 벽을 깊이 우선으로 허물어 모든 방이 이어지게 하고,
+ * 조각의 첫 열과 첫 행(왼쪽과 위 조각과의 경계)은 그 조각만 만들며 좌표로 정한 한 곳씩을 엽니다.
+ * 그래서 이웃 조각을 보지 않고도 경계가 맞고, 미로 전체가 이어집니다.</p>
+ *
+ * <p>작업용 배열을 재사용하므로 스레드 안전하지 않습니다.</p>
+ */
+public final class MazeGenerator {
+    public static final byte PASSAGE = 0;
+    public static final byte WALL = 1;
+    public static final byte EXIT = 2;
+
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+
+    private static final int[] ROOM_DX = {1, -1, 0, 0};
+    private static final int[] ROOM_DY = {0, 0, 1, -1};
+
+    private final long seed;
+    private final int chunkSize;
+    private final int rooms;
+    private final double exitChance;
+
+    // 조각 생성용 작업 공간
+    private final Random random = new Random();
+    private final boolean[] visited;
+    private final int[] stack;
+    private final int[] directions = {0, 1, 2, 3};
+
+    public MazeGenerator(long seed) {
+        this(seed, DEFAULT_CHUNK_SIZE, 0);
+    }
+
+    /**
+     * @param seed 미로 시드
+     * @param chunkSize 조각 한 변의 칸 수 (4 이상의 짝수)
+     * @param exitChance 조각마다 방 하나를 출구로 만들 확률
+     * @throws IllegalArgumentException 조각 크기가 잘못되었거나 확률이 0~1이 아닌 경우
+     */
+    public MazeGenerator(long seed, int chunkSize, double exitChance) {
+        if (chunkSize < 4 || chunkSize % 2 != 0 || chunkSize > 1 << 12) {
+            throw new IllegalArgumentException("조각 크기는 4 이상의 짝수여야 합니다: " + chunkSize);
+        }
+        if (!(exitChance >= 0 && exitChance <= 1)) {
+            throw new IllegalArgumentException("출구 확률은 0~1이어야 합니다: " + exitChance);
+        }
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+        this.rooms = chunkSize / 2;
+        this.exitChance = exitChance;
+        this.visited = new boolean[rooms * rooms];
+        this.stack = new int[rooms * rooms];
+    }
+
+    /**
+     * 조각 하나의 칸을 행 우선 순서로 채웁니다.
+     * 칸 (lx, ly)는 미로 전체의 열 chunkX * chunkSize + lx, 행 chunkY * chunkSize + ly입니다.
+     * @param tiles chunkSize * chunkSize 이상의 배열
+     * @throws IllegalArgumentException 배열이 작은 경우
+     */
+    public void generateChunk(int chunkX, int chunkY, byte[] tiles) {
+        if (tiles.length < chunkSize * chunkSize) {
+            throw new IllegalArgumentException("조각 배열이 작습니다: " + tiles.length);
+        }
+
+        // 기둥과 벽으로 채우고 방만 비움
+        for (int ly = 0; ly < chunkSize; ly++) {
+            int row = ly * chunkSize;
+            for (int lx = 0; lx < chunkSize; lx++) {
+                tiles[row + lx] = (lx & ly & 1) == 1 ? PASSAGE : WALL;
+            }
+        }
+
+        // 왼쪽, 위 경계에서 한 곳씩 열기 (조각 좌표로만 정하므로 이웃과 무관)
+        tiles[(2 * openingRoom(chunkX, chunkY, 1) + 1) * chunkSize] = PASSAGE;
+        tiles[2 * openingRoom(chunkX, chunkY, 2) + 1] = PASSAGE;
+
+        random.setSeed(mix(seed ^ mix(chunkX * 0x9E3779B97F4A7C15L + chunkY)));
+        carve(tiles);
+
+        if (random.nextDouble() < exitChance) {
+            int room = random.nextInt(rooms * rooms);
+            tiles[roomTile(room)] = EXIT;
+        }
+    }
+
+    /**
+     * 반복형 깊이 우선 탐색으로 조각 안의 모든 방을 잇습니다 (재귀 없이 스택 배열 사용).
+     */
+    private void carve(byte[] tiles) {
+        Arrays.fill(visited, false);
+        for (int i = 0; i < directions.length; i++) {
+            directions[i] = i; // 섞는 순서가 이전 조각에 따라 달라지지 않게 함
+        }
+        int start = random.nextInt(rooms * rooms);
+        visited[start] = true;
+        stack[0] = start;
+        int top = 1;
+
+        while (top > 0) {
+            int room = stack[top - 1];
+            int rx = room % rooms;
+            int ry = room / rooms;
+
+            shuffleDirections();
+            int next = -1;
+            for (int direction : directions) {
+                int nx = rx + ROOM_DX[direction];
+                int ny = ry + ROOM_DY[direction];
+                if (nx < 0 || nx >= rooms || ny < 0 || ny >= rooms || visited[ny * rooms + nx]) {
+                    continue;
+                }
+                // 두 방 사이의 벽을 허묾
+                tiles[(2 * ry + 1 + ROOM_DY[direction]) * chunkSize + 2 * rx + 1 + ROOM_DX[direction]] = PASSAGE;
+                next = ny * rooms + nx;
+                break;
+            }
+
+            if (next < 0) {
+                top--;
+            } else {
+                visited[next] = true;
+                stack[top++] = next;
+            }
+        }
+    }
+
+    private void shuffleDirections() {
+        for (int i = directions.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = directions[i];
+            directions[i] = directions[j];
+            directions[j] = swap;
+        }
+    }
+
+    private int roomTile(int room) {
+        return (2 * (room / rooms) + 1) * chunkSize + 2 * (room % rooms) + 1;
+    }
+
+    /**
+     * 조각 경계에서 열 방 번호. side 1은 왼쪽, 2는 위 경계입니다.
+     */
+    private int openingRoom(int chunkX, int chunkY, int side) {
+        long hash = mix(seed + side * 0xD1B54A32D192ED03L + mix(chunkX * 0xC2B2AE3D27D4EB4FL + chunkY));
+        return (int) ((hash >>> 1) % rooms);
+    }
+
+    /**
+     * SplitMix64의 마무리 단계: 비슷한 입력을 고르게 흩뜨림
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 미로의 왼쪽 위 (0, 0)부터 rows x cols 칸을 {@link MazeWorld}가 받는 배열로 만듭니다.
+     * 바깥 테두리는 막혀 있지 않으므로, 닫힌 미로가 필요하면 호출한 쪽에서 테두리를 벽으로 채웁니다.
+     * @throws IllegalArgumentException 크기가 양수가 아닌 경우
+     */
+    public int[][] generateLayout(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("미로 크기는 양수여야 합니다: " + rows + "x" + cols);
+        }
+        int[][] layout = new int[rows][cols];
+        byte[] tiles = new byte[chunkSize * chunkSize];
+        for (int chunkY = 0; chunkY * chunkSize < rows; chunkY++) {
+            for (int chunkX = 0; chunkX * chunkSize < cols; chunkX++) {
+                generateChunk(chunkX, chunkY, tiles);
+                for (int ly = 0; ly < chunkSize && chunkY * chunkSize + ly < rows; ly++) {
+                    for (int lx = 0; lx < chunkSize && chunkX * chunkSize + lx < cols; lx++) {
+                        layout[chunkY * chunkSize + ly][chunkX * chunkSize + lx] = tiles[ly * chunkSize + lx];
+                    }
+                }
+            }
+        }
+        return layout;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public double getExitChance() {
+        return exitChance;
+    }
+}
@@ -1,7 +1,5 @@
 package nhn.breakoutt;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,16 +7,24 @@ import java.util.List;
  * 미로 형태의 세계 클래스
  * 2차원 배열을 사용하여 미로를 구성합니다.
  * 1 = 벽, 0 = 통로, 2 = 출구
+ *
+ * 벽 충돌은 mazeLayout 격자를 직접 조회하므로, 객체는 자신의 경계가 걸친 칸의 벽과만 비교합니다.
+ * walls 리스트는 렌더링에만 사용합니다.
  */
-public class MazeWorld {
+public class MazeWorld implements Simulation {
     private double width;
     private double height;
     private int[][] mazeLayout;
     private List<Box> walls;
+    private Box[] wallTiles;
     private List<Box> exits;
     private List<Object> gameObjects;
     private double cellWidth;
     private double cellHeight;
+    private int rows;
+    private int cols;
+    private TileMapCollider wallCollider;
+    private TileMapCollider.TileSource wallTileSource;
 
     /**
      * 미로 생성자
@@ -34,6 +40,11 @@ public class MazeWorld {
         // 셀 크기 계산
         this.cellWidth = width / mazeLayout[0].length;
         this.cellHeight = height / mazeLayout.length;
+        this.rows = mazeLayout.length;
+        this.cols = mazeLayout[0].length;
+        this.wallTiles = new Box[rows * cols];
+        this.wallCollider = new TileMapCollider(cellWidth, cellHeight);
+        this.wallTileSource = this::getWallTile;
 
         // 미로 구조 생성
         generateMaze();
@@ -51,15 +62,15 @@ public class MazeWorld {
                 switch (mazeLayout[row][col]) {
                     case 1: // 벽
                         Box wall = new Box(x, y, cellWidth, cellHeight);
-                        wall.setColor(Color.DARKGRAY);
+                        wall.setArgb(Argb.DARKGRAY);
                         wall.setCollisionAction(CollisionAction.BOUNCE);
                         walls.add(wall);
-                        gameObjects.add(wall);
+                        wallTiles[row * cols + col] = wall;
                         break;
 
                     case 2: // 출구
                         Box exit = new Box(x, y, cellWidth, cellHeight);
-                        exit.setColor(Color.GOLD);
+                        exit.setArgb(Argb.GOLD);
                         exit.setCollisionAction(CollisionAction.CUSTOM);
                         exits.add(exit);
                         gameObjects.add(exit);
@@ -118,6 +129,7 @@ public class MazeWorld {
     /**
      * 미로를 업데이트합니다
      */
+    @Override
     public void update(double deltaTime) {
         List<Object> toRemove = new ArrayList<>();
         List<Object> toAdd = new ArrayList<>();
@@ -152,14 +164,20 @@ public class MazeWorld {
 
     /**
      * 벽과의 충돌을 검사합니다
+     * 객체의 경계가 걸친 칸의 벽만 확인하고, 충돌하면 타일 밖으로 밀어냅니다.
      */
     private void checkWallCollisions(Collidable collidable) {
-        for (Box wall : walls) {
-            if (collidable.isColliding(wall)) {
-                collidable.handleCollision(wall);
-                wall.handleCollision(collidable);
-            }
+        wallCollider.collide(collidable, wallTileSource);
+    }
+
+    /**
+     * 칸 좌표의 벽을 반환합니다. 벽이 아니거나 미로 밖이면 null을 반환합니다.
+     */
+    private Box getWallTile(int col, int row) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return null;
         }
+        return wallTiles[row * cols + col];
     }
 
     /**
@@ -182,7 +200,7 @@ public class MazeWorld {
             Ball ball = (Ball) collidable;
 
             // 출구 도달 효과
-            ball.setColor(Color.GOLD.brighter());
+            ball.setArgb(Argb.brighter(Argb.GOLD));
 
             // 성공 표시 (실제 게임에서는 레벨 클리어 등의 처리)
             System.out.println("출구 도달! Ball: " + ball);
@@ -192,57 +210,6 @@ public class MazeWorld {
         }
     }
 
-    /**
-     * 미로를 그립니다
-     */
-    public void render(GraphicsContext gc) {
-        // 배경 그리기
-        gc.setFill(Color.LIGHTGRAY);
-        gc.fillRect(0, 0, width, height);
-
-        // 통로 표시 (선택적)
-        gc.setFill(Color.WHITE);
-        for (int row = 0; row < mazeLayout.length; row++) {
-            for (int col = 0; col < mazeLayout[row].length; col++) {
-                if (mazeLayout[row][col] == 0) { // 통로
-                    double x = col * cellWidth;
-                    double y = row * cellHeight;
-                    gc.fillRect(x, y, cellWidth, cellHeight);
-                }
-            }
-        }
-
-        // 모든 객체 그리기
-        for (Object obj : gameObjects) {
-            if (obj instanceof Paintable) {
-                ((Paintable) obj).paint(gc);
-            }
-        }
-
-        // 격자 그리기 (선택적)
-        drawGrid(gc);
-    }
-
-    /**
-     * 격자를 그립니다 (디버깅용)
-     */
-    private void drawGrid(GraphicsContext gc) {
-        gc.setStroke(Color.LIGHTGRAY);
-        gc.setLineWidth(0.5);
-
-        // 세로선
-        for (int col = 0; col <= mazeLayout[0].length; col++) {
-            double x = col * cellWidth;
-            gc.strokeLine(x, 0, x, height);
-        }
-
-        // 가로선
-        for (int row = 0; row <= mazeLayout.length; row++) {
-            double y = row * cellHeight;
-            gc.strokeLine(0, y, width, y);
-        }
-    }
-
     /**
      * 랜덤한 통로 위치를 반환합니다
      */
@@ -286,6 +253,10 @@ public class MazeWorld {
         return new ArrayList<>(exits);
     }
 
+    /**
+     * 벽을 제외한 게임 객체들(출구와 추가된 객체)을 반환합니다.
+     * 벽은 getWalls()로 조회합니다.
+     */
     public List<Object> getGameObjects() {
         return new ArrayList<>(gameObjects);
     }
@@ -310,6 +281,22 @@ public class MazeWorld {
         return mazeLayout.clone();
     }
 
+    /**
+     * 아래 뷰들은 복사본을 만들지 않으며, {@link WorldRenderer}가 매 프레임 읽기만 합니다.
+     * @return 미로 배치 (수정하지 말 것)
+     */
+    int[][] getLayoutView() {
+        return mazeLayout;
+    }
+
+    List<Box> getWallView() {
+        return walls;
+    }
+
+    List<Object> getObjectView() {
+        return gameObjects;
+    }
+
     /**
      * 미로 정보를 출력합니다
      */
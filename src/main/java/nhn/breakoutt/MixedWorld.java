@@ -1,11 +1,9 @@
 package nhn.breakoutt;
 
-import javafx.scene.canvas.GraphicsContext;
-
 import java.util.ArrayList;
 import java.util.List;
 
-public class MixedWorld {
+public class MixedWorld implements Simulation {
     private List<Ball> balls;
     private List<Box> boxes;
     private double width;
@@ -44,6 +42,7 @@ public class MixedWorld {
         boxes.add(box);
     }
 
+    @Override
     public void update(double deltaTime){
         for(var a: balls){
             if(a instanceof MovableBall){
@@ -58,19 +57,12 @@ public class MixedWorld {
         }
     }
 
-    public void render(GraphicsContext gc){
-        gc.clearRect(0,0,width, height);
-
-        for(var a: balls){
-            if(a instanceof PaintableBall){
-                ((PaintableBall) a).paint(gc);
-            }
-        }
+    // 복사본을 만들지 않으며, WorldRenderer가 매 프레임 읽기만 함
+    List<Ball> getBallView(){
+        return balls;
+    }
 
-        for(var a:boxes){
-            if(a instanceof PaintableBox){
-                ((PaintableBox) a).paint(gc);
-            }
-        }
+    List<Box> getBoxView(){
+        return boxes;
     }
 }
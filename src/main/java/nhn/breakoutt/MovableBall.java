@@ -3,80 +3,146 @@ package nhn.breakoutt;
 import javafx.scene.paint.Color;
 
 public class MovableBall extends PaintableBall {
-    private Vector2D velocity;
+    // 속도는 성분별 기본형으로 저장하여 이동/충돌 처리 중 Vector2D 생성을 피함
+    private double vx;
+    private double vy;
+
+    // 잠자기 상태 (SleepSystem이 관리)
+    private boolean asleep;
+    private double restingTime;
+    private int sleepIsland = -1;
 
     public MovableBall(Point center, double radius) {
         super(center, radius);
-        // 속도 초기화
-        velocity = new Vector2D(0.0, 0.0);
     }
 
     public MovableBall(Point center, double radius, Color color) {
         super(center, radius, color);
-        // 속도 초기화
-        velocity = new Vector2D(0.0, 0.0);
     }
 
     public MovableBall(Point center, double radius, Color color, Vector2D velocity) {
         super(center, radius, color);
         // 속도 초기화
-        this.velocity = velocity;
+        if (velocity != null) {
+            this.vx = velocity.getX();
+            this.vy = velocity.getY();
+        }
     }
 
     // 시간 기반 이동 + 경계 충돌 검사
     public void move(double deltaTime) {
-        Point currentCenter = getCenter();
-        Vector2D displacement = new Vector2D(velocity.getX() * deltaTime, velocity.getY() * deltaTime);
-        Point newCenter = currentCenter.add(displacement);
-
-        // 경계 충돌 검사 및 처리
-        newCenter = checkBoundaryCollision(newCenter);
-
-        moveTo(newCenter);
-    }
-
-    public void move() {
-        // 기본 60 FPS 가정
-        // 메서드 활용
-        move((double) 1 /60);
-    }
-
-    public void setVelocity(Vector2D vector2D) {
-        this.velocity = vector2D;
-    }
-
-    public Vector2D getVelocity(){
-        return velocity;
-    }
-
-    // 경계 충돌 검사 및 속도 반전
-    private Point checkBoundaryCollision(Point newCenter) {
+        double x = getX() + vx * deltaTime;
+        double y = getY() + vy * deltaTime;
         double radius = getRadius();
-        double x = newCenter.getX();
-        double y = newCenter.getY();
 
         // 왼쪽 경계 충돌
         if (x - radius <= 0) {
             x = radius;
-            velocity = new Vector2D(-velocity.getX(), velocity.getY());
+            vx = -vx;
         }
         // 오른쪽 경계 충돌 (World 너비 가정: 800)
         else if (x + radius >= 800) {
             x = 800 - radius;
-            velocity = new Vector2D(-velocity.getX(), velocity.getY());
+            vx = -vx;
         }
 
         // 위쪽 경계 충돌
         if (y - radius <= 0) {
             y = radius;
-            velocity = new Vector2D(velocity.getX(), -velocity.getY());
+            vy = -vy;
         }
         // 아래쪽 경계 충돌 (World 높이 가정: 600)
         else if (y + radius >= 600) {
             y = 600 - radius;
-            velocity = new Vector2D(velocity.getX(), -velocity.getY());
+            vy = -vy;
+        }
+
+        setX(x);
+        setY(y);
+    }
+
+    public void move() {
+        // 기본 60 FPS 가정
+        // 메서드 활용
+        move((double) 1 /60);
+    }
+
+    public void setVelocity(Vector2D vector2D) {
+        if (vector2D == null) {
+            setVelocity(0, 0);
+        } else {
+            setVelocity(vector2D.getX(), vector2D.getY());
         }
+    }
+
+    /**
+     * 속도를 성분별로 설정합니다. Vector2D를 만들지 않습니다.
+     * @param vx X 방향 속도
+     * @param vy Y 방향 속도
+     */
+    public void setVelocity(double vx, double vy) {
+        this.vx = vx;
+        this.vy = vy;
+        if (asleep && (vx != 0 || vy != 0)) {
+            // 밖에서 속도를 주면 깨어남 (같은 섬의 다른 공은 부딪힐 때 깨어남)
+            wakeUp();
+        }
+    }
+
+    /**
+     * 현재 속도의 복사본을 반환합니다.
+     * 매번 새 Vector2D를 만들므로, 반복 호출되는 곳에서는 getVelocityX/getVelocityY를 사용합니다.
+     */
+    public Vector2D getVelocity(){
+        return new Vector2D(vx, vy);
+    }
+
+    public double getVelocityX() {
+        return vx;
+    }
+
+    public double getVelocityY() {
+        return vy;
+    }
+
+    /**
+     * 잠든 공은 이동하지 않고, 잠든 공끼리는 충돌 검사도 하지 않습니다.
+     * @return 잠들어 있으면 true
+     * @see SleepSystem
+     */
+    public boolean isAsleep() {
+        return asleep;
+    }
+
+    /**
+     * 공을 깨웁니다. 속도가 임계값 아래로 머문 시간도 처음부터 다시 셉니다.
+     */
+    public void wakeUp() {
+        asleep = false;
+        restingTime = 0;
+        sleepIsland = -1;
+    }
+
+    /**
+     * 공을 재우고 속도를 0으로 만듭니다.
+     * @param island 함께 잠든 공들의 섬 번호
+     */
+    void fallAsleep(int island) {
+        vx = 0;
+        vy = 0;
+        asleep = true;
+        sleepIsland = island;
+    }
+
+    int getSleepIsland() {
+        return sleepIsland;
+    }
+
+    double getRestingTime() {
+        return restingTime;
+    }
 
-        return new Point(x, y);
+    void setRestingTime(double restingTime) {
+        this.restingTime = restingTime;
     }
 }
@@ -1,14 +1,34 @@
 package nhn.breakoutt;
 
-public class MovableWorld extends World{
+import java.util.List;
+
+public class MovableWorld extends World implements Simulation {
+    private final ParallelIntegrator.RangeAction moveRange = this::moveRange;
+    private ParallelIntegrator integrator;
+    private double moveDeltaTime;
 
     public MovableWorld(double width, double height) {
         super(width, height);
     }
 
+    @Override
     public void update(double deltaTime){
-        for(Ball ball: getBalls()){
-            if(ball instanceof MovableBall movableBall){
+        if (integrator == null) {
+            moveRange(0, getBallCount(), deltaTime);
+        } else {
+            moveDeltaTime = deltaTime;
+            integrator.forEachRange(getBallCount(), moveRange);
+        }
+    }
+
+    private void moveRange(int from, int to) {
+        moveRange(from, to, moveDeltaTime);
+    }
+
+    private void moveRange(int from, int to, double deltaTime) {
+        List<? extends Ball> balls = getBallView();
+        for (int i = from; i < to; i++) {
+            if (balls.get(i) instanceof MovableBall movableBall && !movableBall.isAsleep()) {
                 movableBall.move(deltaTime);
             }
         }
@@ -17,4 +37,17 @@ public class MovableWorld extends World{
     public void move(double deltaTime) {
         update(deltaTime);
     }
+
+    public ParallelIntegrator getIntegrator() {
+        return integrator;
+    }
+
+    /**
+     * 공 이동을 여러 코어에 나눠 실행하도록 설정합니다.
+     * 각 공은 자기 상태만 바꾸므로 결과는 직렬 이동과 같습니다.
+     * @param integrator 사용할 병렬 적분기, 직렬로 이동하려면 null
+     */
+    public void setIntegrator(ParallelIntegrator integrator) {
+        this.integrator = integrator;
+    }
 }
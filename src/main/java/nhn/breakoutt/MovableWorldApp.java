@@ -1,8 +1,6 @@
 package nhn.breakoutt;
 
-import javafx.animation.AnimationTimer;
 import javafx.application.Application;
-import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -18,12 +16,8 @@ public class MovableWorldApp extends Application {
     private Canvas canvas;
     private GraphicsContext gc;
     private Label fpsLabel;
-    private AnimationTimer gameLoop;
-
-    // FPS 계산용 변수들
-    private int frameCount = 0;
-    private long lastFpsTime = System.currentTimeMillis();
-    private long lastTime = System.nanoTime();
+    private GameLoop gameLoop;
+    private int displayedFps = -1;
 
     public static void main(String[] args) {
         launch(args);
@@ -96,37 +90,20 @@ public class MovableWorldApp extends Application {
      * 게임 루프를 시작합니다.
      */
     private void startGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                // 델타 타임 계산 (초 단위)
-                double deltaTime = (now - lastTime) / 1_000_000_000.0;
-                lastTime = now;
-
-                // World 업데이트
-                world.move(deltaTime);
-
-                // 화면 그리기
-                draw();
-
-                // FPS 계산
-                calculateFPS();
-            }
-        };
+        // World 업데이트와 화면 그리기는 GameLoop가 매 프레임 처리
+        gameLoop = new GameLoop(world, context -> draw(), gc);
+        gameLoop.setFrameListener((deltaTime, updateNanos, renderNanos) -> updateFpsLabel());
         gameLoop.start();
     }
 
     /**
-     * FPS를 계산하고 표시합니다.
+     * FPS가 바뀌었을 때만 라벨을 갱신합니다. (FX 스레드에서 호출됨)
      */
-    private void calculateFPS() {
-        frameCount++;
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFpsTime >= 1000) { // 1초마다
-            int fps = frameCount;
-            frameCount = 0;
-            lastFpsTime = currentTime;
-            Platform.runLater(() -> fpsLabel.setText("FPS: " + fps));
+    private void updateFpsLabel() {
+        int fps = gameLoop.getFramesPerSecond();
+        if (fps != displayedFps) {
+            displayedFps = fps;
+            fpsLabel.setText("FPS: " + fps);
         }
     }
 
@@ -139,7 +116,7 @@ public class MovableWorldApp extends Application {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
 
         // World의 모든 객체 그리기
-        world.draw(gc);
+        WorldRenderer.draw(gc, world);
     }
 
     @Override
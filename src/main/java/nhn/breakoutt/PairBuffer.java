@@ -0,0 +1,54 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+
+/**
+ * Broad Phase가 찾은 후보 쌍을 모아두는 버퍼입니다.
+ * (i, j) 쌍을 long 하나로 묶어 저장하므로 쌍마다 객체를 생성하지 않고,
+ * 정렬하면 이중 루프와 같은 순서로 쌍을 꺼낼 수 있습니다.
+ */
+class PairBuffer {
+    private long[] pairs = new long[64];
+    private int size;
+
+    /**
+     * 쌍을 추가합니다. i와 j의 순서는 상관없습니다.
+     */
+    void add(int i, int j) {
+        if (size == pairs.length) {
+            pairs = Arrays.copyOf(pairs, size * 2);
+        }
+        int low = Math.min(i, j);
+        int high = Math.max(i, j);
+        pairs[size++] = ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    /**
+     * (i 오름차순, j 오름차순)으로 정렬합니다.
+     */
+    void sort() {
+        Arrays.sort(pairs, 0, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int first(int index) {
+        return (int) (pairs[index] >>> 32);
+    }
+
+    int second(int index) {
+        return (int) pairs[index];
+    }
+
+    void forEach(BroadPhase.PairHandler handler) {
+        for (int k = 0; k < size; k++) {
+            handler.handle(first(k), second(k));
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,105 @@
+package nhn.breakoutt;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 객체 이동(적분)을 여러 코어에 나눠 실행하는 클래스입니다.
+ *
+ * <p>객체 목록을 {@link #CHUNK_SIZE}개씩 고정된 구간으로 나누고, 구간들을 반씩 쪼개는 작업으로 ForkJoinPool에서 실행합니다.
+ * 구간은 객체 수만으로 정해지므로 같은 수의 객체는 항상 같은 구간으로 나뉩니다.
+ * 각 구간은 자기 객체만 이동시켜야 하며(다른 객체나 세계의 상태를 쓰지 않음), 그러면 결과는 직렬 이동과 같습니다.</p>
+ *
+ * <p>객체 수가 임계값보다 적으면 작업을 나누는 비용이 더 크므로 호출한 스레드에서 한 번에 처리합니다.</p>
+ */
+public class ParallelIntegrator {
+    /**
+     * 기본 임계값. 이보다 객체가 적으면 호출한 스레드에서 처리
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    /**
+     * 한 작업이 맡는 객체 수
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    /**
+     * [from, to) 구간의 객체를 처리하는 작업
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelIntegrator(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool 구간 작업을 실행할 풀
+     * @param threshold 이 수 이상의 객체부터 나눠서 실행
+     * @throws IllegalArgumentException pool이 null이거나 임계값이 1보다 작은 경우
+     */
+    public ParallelIntegrator(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool은 null일 수 없습니다");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("임계값은 1 이상이어야 합니다: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * [0, count) 구간을 나눠 action을 실행하고, 모든 구간이 끝나면 반환합니다.
+     * @param count 객체 수
+     * @param action 구간마다 실행할 작업
+     */
+    public void forEachRange(int count, RangeAction action) {
+        if (count < threshold) {
+            action.run(0, count);
+            return;
+        }
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        pool.invoke(new ChunkTask(action, count, 0, chunks));
+    }
+
+    /**
+     * [fromChunk, toChunk) 구간 묶음을 반으로 나눠가며 처리하는 작업
+     */
+    private static class ChunkTask extends RecursiveAction {
+        private final RangeAction action;
+        private final int count;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkTask(RangeAction action, int count, int fromChunk, int toChunk) {
+            this.action = action;
+            this.count = count;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                action.run(fromChunk * CHUNK_SIZE, Math.min(count, toChunk * CHUNK_SIZE));
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(action, count, fromChunk, middle), new ChunkTask(action, count, middle, toChunk));
+        }
+    }
+}
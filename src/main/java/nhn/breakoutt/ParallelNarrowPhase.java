@@ -0,0 +1,180 @@
+package nhn.breakoutt;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 공 간 충돌 검사와 처리(Narrow Phase)를 여러 코어에서 실행하는 클래스입니다.
+ *
+ * <p>Broad Phase가 넘겨준 후보 쌍을 받은 순서대로 모은 뒤, 같은 공을 공유하지 않는 쌍끼리 배치(batch)로 묶습니다.
+ * 쌍의 배치 번호는 두 공이 마지막으로 들어간 배치 중 큰 번호 + 1입니다. 따라서 한 공이 포함된 쌍들은
+ * 직렬 처리와 같은 순서로 처리되고, 결과는 직렬 처리와 비트 단위로 같습니다.
+ * 같은 배치의 쌍은 서로 다른 공만 읽고 쓰므로 배치 안에서는 동기화가 필요 없습니다.</p>
+ *
+ * <p>작은 배치는 작업을 나누는 비용이 더 크므로 호출한 스레드에서 바로 처리합니다.</p>
+ */
+class ParallelNarrowPhase {
+    /**
+     * 이보다 쌍이 적은 배치는 호출한 스레드에서 처리
+     */
+    static final int MIN_PARALLEL_BATCH = 256;
+
+    /**
+     * 더 나누지 않고 한 작업이 처리하는 쌍의 수
+     */
+    private static final int LEAF_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final BroadPhase.PairHandler collector;
+
+    // 쌍 번호는 Broad Phase가 넘겨준 순서
+    private int[] first = new int[64];
+    private int[] second = new int[64];
+    private int[] batchOf = new int[64];
+    private boolean[] resolved = new boolean[64];
+    // 배치 순서로 정렬한 쌍 번호와 배치별 시작 위치
+    private int[] order = new int[64];
+    private int[] batchStart = new int[2];
+    // 공마다 마지막으로 들어간 배치 (-1이면 아직 없음)
+    private int[] lastBatch = new int[0];
+
+    private int pairCount;
+    private int batchCount;
+    private List<? extends Ball> balls;
+
+    /**
+     * @param pool 배치를 실행할 풀
+     * @throws IllegalArgumentException pool이 null인 경우
+     */
+    ParallelNarrowPhase(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool은 null일 수 없습니다");
+        }
+        this.pool = pool;
+        this.collector = this::collect;
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * 후보 쌍을 찾아 충돌을 검사하고 처리합니다.
+     * @param balls 공 목록 (처리하는 동안 바뀌면 안 됨)
+     * @param broadPhase 후보 쌍을 찾을 Broad Phase
+     * @param profiler 검사한 쌍과 처리한 충돌 수를 기록할 프로파일러
+     */
+    void resolve(List<? extends Ball> balls, BroadPhase broadPhase, FrameProfiler profiler) {
+        int count = balls.size();
+        if (lastBatch.length < count) {
+            lastBatch = new int[Math.max(count, lastBatch.length * 2)];
+        }
+        Arrays.fill(lastBatch, 0, count, -1);
+        pairCount = 0;
+        batchCount = 0;
+        this.balls = balls;
+
+        broadPhase.findCandidatePairs(balls, collector);
+        sortByBatch();
+
+        for (int batch = 0; batch < batchCount; batch++) {
+            int from = batchStart[batch];
+            int to = batchStart[batch + 1];
+            if (to - from < MIN_PARALLEL_BATCH) {
+                resolveRange(from, to);
+            } else {
+                pool.invoke(new BatchTask(from, to));
+            }
+        }
+
+        for (int pair = 0; pair < pairCount; pair++) {
+            profiler.countPairTested();
+            if (resolved[pair]) {
+                profiler.countCollisionResolved();
+            }
+        }
+        this.balls = null;
+    }
+
+    private void collect(int i, int j) {
+        if (pairCount == first.length) {
+            int capacity = pairCount * 2;
+            first = Arrays.copyOf(first, capacity);
+            second = Arrays.copyOf(second, capacity);
+            batchOf = Arrays.copyOf(batchOf, capacity);
+            resolved = Arrays.copyOf(resolved, capacity);
+            order = new int[capacity];
+        }
+        int batch = Math.max(lastBatch[i], lastBatch[j]) + 1;
+        lastBatch[i] = batch;
+        lastBatch[j] = batch;
+        batchCount = Math.max(batchCount, batch + 1);
+
+        first[pairCount] = i;
+        second[pairCount] = j;
+        batchOf[pairCount] = batch;
+        pairCount++;
+    }
+
+    /**
+     * 쌍 번호를 배치 순서로 정렬합니다 (계수 정렬, 같은 배치 안에서는 받은 순서 유지).
+     */
+    private void sortByBatch() {
+        if (batchStart.length < batchCount + 1) {
+            batchStart = new int[Math.max(batchCount + 1, batchStart.length * 2)];
+        }
+        Arrays.fill(batchStart, 0, batchCount + 1, 0);
+        for (int pair = 0; pair < pairCount; pair++) {
+            batchStart[batchOf[pair] + 1]++;
+        }
+        for (int batch = 0; batch < batchCount; batch++) {
+            batchStart[batch + 1] += batchStart[batch];
+        }
+        // batchStart를 채울 위치로 쓰고 나서 한 칸씩 밀려난 만큼 되돌림
+        for (int pair = 0; pair < pairCount; pair++) {
+            order[batchStart[batchOf[pair]]++] = pair;
+        }
+        for (int batch = batchCount; batch > 0; batch--) {
+            batchStart[batch] = batchStart[batch - 1];
+        }
+        batchStart[0] = 0;
+    }
+
+    private void resolveRange(int from, int to) {
+        for (int k = from; k < to; k++) {
+            int pair = order[k];
+            Ball ball1 = balls.get(first[pair]);
+            Ball ball2 = balls.get(second[pair]);
+            boolean colliding = BallCollision.areColliding(ball1, ball2);
+            if (colliding) {
+                BallCollision.resolveElasticCollision(ball1, ball2);
+            }
+            resolved[pair] = colliding;
+        }
+    }
+
+    /**
+     * 한 배치의 쌍 범위를 반으로 나눠가며 처리하는 작업
+     */
+    private class BatchTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        BatchTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                resolveRange(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(from, middle), new BatchTask(middle, to));
+        }
+    }
+}
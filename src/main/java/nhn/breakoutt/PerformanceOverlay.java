@@ -0,0 +1,377 @@
+package nhn.breakoutt;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게임 화면 위에 성능 정보를 그리는 오버레이입니다. (F3 등으로 켜고 끔)
+ * FPS, 최근 프레임 시간 히스토그램과 p99, 물리/렌더 시간, 객체 수, GC 발생 표시, 세계의 단계별 시간을 보여줍니다.
+ *
+ * <p>집계는 {@link #recordFrame}에서 미리 해 둡니다. 프레임 시간은 링 버퍼와 버킷 히스토그램에 누적하고,
+ * 글자는 {@link #TEXT_REFRESH_FRAMES} 프레임마다 한 번만 다시 만들므로 {@link #paint}는 막대와 글자만 그립니다.</p>
+ *
+ * <p>FX 스레드에서만 사용합니다.</p>
+ */
+public class PerformanceOverlay {
+    public static final int DEFAULT_HISTORY = 120;
+    static final int TEXT_REFRESH_FRAMES = 15;
+
+    // 프레임 시간 히스토그램: 0.5ms 단위 버킷, 마지막 버킷은 그 이상 전부
+    private static final long BUCKET_NANOS = 500_000L;
+    private static final int BUCKET_COUNT = 100;
+
+    private static final double X = 10;
+    private static final double Y = 10;
+    private static final double WIDTH = 280;
+    private static final double LINE_HEIGHT = 16;
+    private static final double GRAPH_HEIGHT = 60;
+    private static final double GRAPH_SCALE_NANOS = 33_333_333; // 그래프 높이 = 2프레임 (30 FPS)
+    private static final long TARGET_FRAME_NANOS = 16_666_667;
+    private static final Font FONT = Font.font("Monospaced", 12);
+
+    private final int history;
+    private final long[] frameNanos;
+    private final long[] physicsNanos;
+    private final long[] renderNanos;
+    private final boolean[] gcMarks;
+    private final int[] buckets;
+    private int head;
+    private int size;
+    private long frameSum;
+    private long physicsSum;
+    private long renderSum;
+    private int gcFrames;
+
+    private long lastFrameTime = -1;
+    private int entityCount;
+
+    // GC 감지용
+    private final List<GarbageCollectorMXBean> gcBeans;
+    private long lastGcCount = -1;
+
+    // 세계 계측기 단계별 누적 시간 (글자를 다시 만들 때까지)
+    private List<String> phaseNames = List.of();
+    private long[] phaseWindowNanos = new long[0];
+    private int phaseWindowFrames;
+    private long lastProfilerFrame;
+    // sampleTotals에서 지난번에 읽은 누적값 (다시 보이게 되면 기준만 새로 잡음)
+    private final ProfilerTotals lastTotals = new ProfilerTotals();
+    private boolean totalsSynced;
+
+    private String[] lines = new String[0];
+    private int framesSinceText = TEXT_REFRESH_FRAMES;
+    private boolean visible;
+
+    public PerformanceOverlay() {
+        this(DEFAULT_HISTORY);
+    }
+
+    /**
+     * @param history 히스토그램과 통계에 사용할 최근 프레임 수
+     * @throws IllegalArgumentException history가 양수가 아닌 경우
+     */
+    public PerformanceOverlay(int history) {
+        if (history <= 0) {
+            throw new IllegalArgumentException("기록할 프레임 수는 양수여야 합니다: " + history);
+        }
+        this.history = history;
+        this.frameNanos = new long[history];
+        this.physicsNanos = new long[history];
+        this.renderNanos = new long[history];
+        this.gcMarks = new boolean[history];
+        this.buckets = new int[BUCKET_COUNT];
+        this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    }
+
+    /**
+     * 세계 계측기에서 지난 호출 이후 끝난 프레임들을 읽어 단계별 시간을 누적합니다.
+     * 계측기에 기록 중이 아닐 때 호출해야 합니다 (다른 스레드에서 진행하면 SimulationThread.runLocked 안에서).
+     * @return 읽은 프레임들의 update 시간 합 (나노초)
+     */
+    public long sampleProfiler(FrameProfiler profiler) {
+        if (!profiler.isEnabled()) {
+            return 0;
+        }
+        if (!profiler.getPhaseNames().equals(phaseNames)) {
+            phaseNames = profiler.getPhaseNames();
+            phaseWindowNanos = new long[phaseNames.size()];
+            phaseWindowFrames = 0;
+            lastProfilerFrame = profiler.getFrameCount();
+        }
+
+        long newFrames = profiler.getFrameCount() - lastProfilerFrame;
+        if (newFrames < 0) {
+            newFrames = profiler.getFrameCount(); // reset된 경우
+        }
+        int readable = (int) Math.min(newFrames, profiler.getRecordedFrames());
+        long total = 0;
+        for (int framesAgo = 0; framesAgo < readable; framesAgo++) {
+            total += profiler.getFrameNanos(framesAgo);
+            for (int phase = 0; phase < phaseWindowNanos.length; phase++) {
+                phaseWindowNanos[phase] += profiler.getPhaseNanos(framesAgo, phase);
+            }
+        }
+        phaseWindowFrames += readable;
+        lastProfilerFrame = profiler.getFrameCount();
+        return total;
+    }
+
+    /**
+     * 다른 스레드가 복사해 둔 계측기 누적값에서 지난 호출 이후 늘어난 만큼을 단계별 시간에 더합니다.
+     * 잠금이 필요 없으므로 스냅샷과 함께 넘겨받은 값을 렌더링 스레드에서 바로 읽을 수 있습니다.
+     * 처음 호출하거나 오버레이가 다시 보이게 된 뒤에는 기준만 잡고 0을 반환합니다.
+     * @return 지난 호출 이후 끝난 프레임들의 update 시간 합 (나노초)
+     */
+    public long sampleTotals(ProfilerTotals totals) {
+        if (!totals.getPhaseNames().equals(phaseNames)) {
+            phaseNames = totals.getPhaseNames();
+            phaseWindowNanos = new long[phaseNames.size()];
+            phaseWindowFrames = 0;
+            totalsSynced = false;
+        }
+        if (!totalsSynced || totals.getFrameCount() < lastTotals.getFrameCount()) {
+            // 처음이거나 reset된 경우
+            lastTotals.copyFrom(totals);
+            totalsSynced = true;
+            return 0;
+        }
+
+        for (int phase = 0; phase < phaseWindowNanos.length; phase++) {
+            phaseWindowNanos[phase] += totals.getPhaseNanos(phase) - lastTotals.getPhaseNanos(phase);
+        }
+        phaseWindowFrames += (int) (totals.getFrameCount() - lastTotals.getFrameCount());
+        long total = totals.getFrameNanos() - lastTotals.getFrameNanos();
+        lastTotals.copyFrom(totals);
+        return total;
+    }
+
+    /**
+     * 화면 한 프레임의 측정값을 기록합니다. 프레임 간격은 직전 호출과의 시간 차이로 계산합니다.
+     * @param physicsNanos 이번 프레임 동안 물리에 쓴 시간
+     * @param renderNanos 이번 프레임 렌더링 시간
+     * @param entityCount 세계의 객체 수
+     */
+    public void recordFrame(long physicsNanos, long renderNanos, int entityCount) {
+        recordFrame(System.nanoTime(), physicsNanos, renderNanos, entityCount, pollGc());
+    }
+
+    void recordFrame(long now, long physics, long render, int entities, boolean gcOccurred) {
+        this.entityCount = entities;
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            return;
+        }
+        long frame = now - lastFrameTime;
+        lastFrameTime = now;
+
+        if (size == history) {
+            // 가장 오래된 프레임을 밀어냄
+            frameSum -= frameNanos[head];
+            physicsSum -= physicsNanos[head];
+            renderSum -= renderNanos[head];
+            buckets[bucketOf(frameNanos[head])]--;
+            if (gcMarks[head]) {
+                gcFrames--;
+            }
+        } else {
+            size++;
+        }
+
+        frameNanos[head] = frame;
+        physicsNanos[head] = physics;
+        renderNanos[head] = render;
+        gcMarks[head] = gcOccurred;
+        frameSum += frame;
+        physicsSum += physics;
+        renderSum += render;
+        buckets[bucketOf(frame)]++;
+        if (gcOccurred) {
+            gcFrames++;
+        }
+        head = (head + 1) % history;
+
+        if (++framesSinceText >= TEXT_REFRESH_FRAMES) {
+            framesSinceText = 0;
+            rebuildText();
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        return (int) Math.min(BUCKET_COUNT - 1, Math.max(0, nanos / BUCKET_NANOS));
+    }
+
+    /**
+     * 지난 호출 이후 GC가 한 번이라도 실행되었는지 확인합니다.
+     */
+    private boolean pollGc() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        boolean collected = lastGcCount >= 0 && count > lastGcCount;
+        lastGcCount = count;
+        return collected;
+    }
+
+    private void rebuildText() {
+        int lineCount = 3 + (phaseWindowFrames > 0 ? 1 : 0);
+        String[] text = new String[lineCount];
+        text[0] = String.format(Locale.ROOT, "FPS %5.1f  frame %5.2fms  p99 %5.2fms",
+                getFramesPerSecond(), getAverageFrameNanos() / 1e6, getP99FrameNanos() / 1e6);
+        text[1] = String.format(Locale.ROOT, "physics %5.2fms  render %5.2fms",
+                size == 0 ? 0 : physicsSum / (double) size / 1e6, size == 0 ? 0 : renderSum / (double) size / 1e6);
+        text[2] = String.format(Locale.ROOT, "entities %d  GC %d/%d frames", entityCount, gcFrames, size);
+
+        if (phaseWindowFrames > 0) {
+            StringBuilder phases = new StringBuilder();
+            for (int phase = 0; phase < phaseWindowNanos.length; phase++) {
+                if (phase > 0) {
+                    phases.append("  ");
+                }
+                phases.append(String.format(Locale.ROOT, "%s %.2f", phaseNames.get(phase),
+                        phaseWindowNanos[phase] / (double) phaseWindowFrames / 1e6));
+            }
+            text[3] = phases.toString();
+            Arrays.fill(phaseWindowNanos, 0);
+            phaseWindowFrames = 0;
+        }
+        lines = text;
+    }
+
+    /**
+     * 오버레이를 그립니다. 보이지 않는 상태면 아무것도 하지 않습니다.
+     */
+    public void paint(GraphicsContext gc) {
+        if (!visible) {
+            return;
+        }
+
+        double textHeight = lines.length * LINE_HEIGHT;
+        double height = textHeight + GRAPH_HEIGHT + 15;
+
+        gc.save();
+        gc.setGlobalAlpha(0.75);
+        gc.setFill(Color.BLACK);
+        gc.fillRect(X, Y, WIDTH, height);
+        gc.setGlobalAlpha(1.0);
+
+        gc.setFont(FONT);
+        gc.setFill(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            gc.fillText(lines[i], X + 5, Y + LINE_HEIGHT * (i + 1));
+        }
+
+        paintHistogram(gc, X + 5, Y + textHeight + 10, WIDTH - 10);
+        gc.restore();
+    }
+
+    /**
+     * 최근 프레임 시간을 막대로 그립니다. (오래된 것부터 왼쪽에서 오른쪽으로)
+     */
+    private void paintHistogram(GraphicsContext gc, double left, double top, double width) {
+        double bottom = top + GRAPH_HEIGHT;
+        double barWidth = width / history;
+
+        // 60 FPS 기준선
+        gc.setStroke(Color.GRAY);
+        gc.setLineWidth(1);
+        double targetY = bottom - GRAPH_HEIGHT * TARGET_FRAME_NANOS / GRAPH_SCALE_NANOS;
+        gc.strokeLine(left, targetY, left + width, targetY);
+
+        int start = size == history ? head : 0;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % history;
+            long nanos = frameNanos[index];
+            double barHeight = Math.min(GRAPH_HEIGHT, GRAPH_HEIGHT * nanos / GRAPH_SCALE_NANOS);
+            double x = left + i * barWidth;
+
+            gc.setFill(nanos <= TARGET_FRAME_NANOS ? Color.LIMEGREEN
+                    : nanos <= 2 * TARGET_FRAME_NANOS ? Color.GOLD : Color.RED);
+            gc.fillRect(x, bottom - barHeight, Math.max(1, barWidth - 1), barHeight);
+
+            if (gcMarks[index]) {
+                gc.setFill(Color.MAGENTA);
+                gc.fillRect(x, top - 4, Math.max(1, barWidth - 1), 3);
+            }
+        }
+
+        // p99 선
+        if (size > 0) {
+            double p99Y = bottom - Math.min(GRAPH_HEIGHT, GRAPH_HEIGHT * getP99FrameNanos() / GRAPH_SCALE_NANOS);
+            gc.setStroke(Color.ORANGE);
+            gc.strokeLine(left, p99Y, left + width, p99Y);
+        }
+    }
+
+    public void toggle() {
+        setVisible(!visible);
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void setVisible(boolean visible) {
+        if (visible && !this.visible) {
+            // 숨겨 둔 동안 쌓인 누적값을 한 프레임에 몰아 더하지 않도록 함
+            totalsSynced = false;
+        }
+        this.visible = visible;
+    }
+
+    /**
+     * @return 최근 프레임들의 99번째 백분위 프레임 시간 (버킷 상한, 나노초)
+     */
+    public long getP99FrameNanos() {
+        if (size == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(size * 0.99);
+        int seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT - 1; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return (bucket + 1) * BUCKET_NANOS;
+            }
+        }
+        return getMaxFrameNanos(); // 마지막 버킷은 상한이 없으므로 실제 최댓값
+    }
+
+    public long getMaxFrameNanos() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, frameNanos[i]);
+        }
+        return max;
+    }
+
+    public double getAverageFrameNanos() {
+        return size == 0 ? 0 : frameSum / (double) size;
+    }
+
+    public double getFramesPerSecond() {
+        return frameSum == 0 ? 0 : size * 1e9 / frameSum;
+    }
+
+    /**
+     * @return 최근 프레임 중 GC가 실행된 프레임 수
+     */
+    public int getGcFrames() {
+        return gcFrames;
+    }
+
+    public int getRecordedFrames() {
+        return size;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+}
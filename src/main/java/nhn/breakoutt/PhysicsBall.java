@@ -3,8 +3,8 @@ package nhn.breakoutt;
 import javafx.scene.paint.Color;
 
 public class PhysicsBall extends MovableBall {
-    private static final double GRAVITY = 980.0; // 중력 가속도 (pixels/s²)
-    private static final double AIR_RESISTANCE = 0.99; // 공기저항 계수
+    static final double GRAVITY = 980.0; // 중력 가속도 (pixels/s²)
+    static final double AIR_RESISTANCE = 0.99; // 공기저항 계수
 
     protected double mass; // 질량
     protected double restitution; // 반발계수 (0-1)
@@ -18,20 +18,24 @@ public class PhysicsBall extends MovableBall {
     }
 
     public PhysicsBall(Point center, double radius) {
-        this(center, radius, Color.BLACK);
+        super(center, radius);
+        setArgb(Argb.BLACK);
+        this.mass = 1.0;
+        this.restitution = 0.8;
+        this.affectedByGravity = true;
     }
 
     @Override
     public void move(double deltaTime) {
+        double vx = getVelocityX();
+        double vy = getVelocityY();
         if (affectedByGravity) {
             // 중력을 속도에 추가
-            Vector2D currentVelocity = getVelocity();
-            Vector2D gravityVelocity = new Vector2D(0, GRAVITY * deltaTime);
-            setVelocity(currentVelocity.add(gravityVelocity));
+            vy += GRAVITY * deltaTime;
         }
 
         // 공기저항 적용
-        setVelocity(getVelocity().multiply(AIR_RESISTANCE));
+        setVelocity(vx * AIR_RESISTANCE, vy * AIR_RESISTANCE);
 
         // 부모 클래스의 이동 처리
         super.move(deltaTime);
@@ -1,8 +1,18 @@
 package nhn.breakoutt;
 
+/**
+ * 2차원 좌표를 표현하는 불변 클래스입니다.
+ * 좌표는 기본형 double로 저장하므로 좌표를 읽을 때 박싱/언박싱이 일어나지 않습니다.
+ * 충돌 검사처럼 자주 호출되는 곳에서는 Point를 만들지 않는 (x, y) 오버로드를 사용합니다.
+ */
 public class Point {
-    private final Double x;
-    private final Double y;
+    private final double x;
+    private final double y;
+
+    public Point(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
 
     public Point(Double x, Double y) {
         if(x == null || y == null) throw new IllegalArgumentException();
@@ -19,11 +29,29 @@ public class Point {
     }
 
     public double distanceTo(Point other) {
-        return Math.sqrt(Math.pow(other.x-this.x, 2) + Math.pow(other.y - this.y, 2));
+        return Math.sqrt(distanceSq(other.x, other.y));
+    }
+
+    public double distanceTo(double otherX, double otherY) {
+        return Math.sqrt(distanceSq(otherX, otherY));
+    }
+
+    /**
+     * 다른 좌표까지 거리의 제곱을 반환합니다.
+     * 거리 비교만 필요한 경우 제곱근 계산 없이 사용합니다.
+     */
+    public double distanceSq(Point other) {
+        return distanceSq(other.x, other.y);
+    }
+
+    public double distanceSq(double otherX, double otherY) {
+        double dx = otherX - x;
+        double dy = otherY - y;
+        return dx * dx + dy * dy;
     }
 
     public Point getCenter() {
-        return new Point(x, y);
+        return this;
     }
 
     public Point add(Vector2D vector) {
@@ -0,0 +1,71 @@
+package nhn.breakoutt;
+
+import java.util.List;
+
+/**
+ * {@link FrameProfiler}가 지금까지 끝낸 프레임 수와 누적 시간을 복사해 두는 클래스입니다.
+ * 시뮬레이션 스레드가 스텝 사이에 {@link #copyFrom(FrameProfiler)}로 채우면,
+ * 렌더링 스레드는 잠금 없이 {@link PerformanceOverlay#sampleTotals}에 넘겨 읽습니다.
+ *
+ * <p>단계 수가 같으면 배열을 다시 쓰므로 채울 때 객체를 만들지 않습니다.</p>
+ */
+public final class ProfilerTotals {
+    private List<String> phaseNames = List.of();
+    private long frameCount;
+    private long frameNanos;
+    private long[] phaseNanos = new long[0];
+
+    /**
+     * 계측기의 현재 누적값을 복사합니다. 계측기에 기록 중이 아닐 때 호출해야 합니다.
+     */
+    public void copyFrom(FrameProfiler profiler) {
+        setPhaseNames(profiler.getPhaseNames());
+        frameCount = profiler.getFrameCount();
+        frameNanos = profiler.getTotalFrameNanos();
+        for (int phase = 0; phase < phaseNanos.length; phase++) {
+            phaseNanos[phase] = profiler.getTotalPhaseNanos(phase);
+        }
+    }
+
+    /**
+     * 다른 누적값을 복사합니다.
+     */
+    public void copyFrom(ProfilerTotals other) {
+        setPhaseNames(other.phaseNames);
+        frameCount = other.frameCount;
+        frameNanos = other.frameNanos;
+        System.arraycopy(other.phaseNanos, 0, phaseNanos, 0, phaseNanos.length);
+    }
+
+    private void setPhaseNames(List<String> names) {
+        if (names.size() != phaseNanos.length) {
+            phaseNanos = new long[names.size()];
+        }
+        phaseNames = names;
+    }
+
+    public List<String> getPhaseNames() {
+        return phaseNames;
+    }
+
+    /**
+     * @return 계측을 시작한 이후 끝난 전체 프레임 수
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return 끝난 프레임들의 update 시간 합 (나노초)
+     */
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * @return 끝난 프레임들에서 해당 단계에 쓴 시간 합 (나노초)
+     */
+    public long getPhaseNanos(int phase) {
+        return phaseNanos[phase];
+    }
+}
@@ -0,0 +1,27 @@
+package nhn.breakoutt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 세계(또는 스냅샷)를 GraphicsContext에 그리는 한 번의 렌더 패스를 기록하는 JFR 이벤트입니다.
+ * 기본으로 꺼져 있습니다. ({@link WorldStepEvent} 참고)
+ */
+@Name("nhn.breakoutt.RenderPass")
+@Label("Render Pass")
+@Category({"Breakout", "Rendering"})
+@Description("한 번의 렌더 패스")
+@Enabled(false)
+@StackTrace(false)
+public final class RenderPassEvent extends Event {
+    @Label("Pass")
+    public String pass;
+
+    @Label("Entity Count")
+    public int entityCount;
+}
@@ -0,0 +1,74 @@
+package nhn.breakoutt;
+
+/**
+ * {@link BallKernels}의 스칼라 구현입니다. SIMD를 사용할 수 없을 때의 대체 구현이기도 합니다.
+ */
+class ScalarBallKernels implements BallKernels {
+    static final ScalarBallKernels INSTANCE = new ScalarBallKernels();
+    static final BallKernels DEFAULT = selectDefault();
+
+    private static BallKernels selectDefault() {
+        if (Boolean.getBoolean(SIMD_PROPERTY) && BallKernels.isVectorAvailable()) {
+            try {
+                return BallKernels.vector();
+            } catch (IllegalStateException e) {
+                // 스칼라 구현으로 대체
+            }
+        }
+        return INSTANCE;
+    }
+
+    @Override
+    public void integrate(double[] x, double[] y, double[] vx, double[] vy, double[] ay, double[] drag,
+                          int from, int to, double deltaTime) {
+        for (int i = from; i < to; i++) {
+            double velocityX = vx[i] * drag[i];
+            double velocityY = (vy[i] + ay[i] * deltaTime) * drag[i];
+            x[i] += velocityX * deltaTime;
+            y[i] += velocityY * deltaTime;
+            vx[i] = velocityX;
+            vy[i] = velocityY;
+        }
+    }
+
+    @Override
+    public void clamp(double[] x, double[] y, double[] vx, double[] vy, double[] radius, int from, int to,
+                      double minX, double minY, double maxX, double maxY) {
+        for (int i = from; i < to; i++) {
+            double r = radius[i];
+            double low = minX + r;
+            double high = maxX - r;
+            if (x[i] <= low) {
+                x[i] = low;
+                vx[i] = -vx[i];
+            } else if (x[i] >= high) {
+                x[i] = high;
+                vx[i] = -vx[i];
+            }
+
+            low = minY + r;
+            high = maxY - r;
+            if (y[i] <= low) {
+                y[i] = low;
+                vy[i] = -vy[i];
+            } else if (y[i] >= high) {
+                y[i] = high;
+                vy[i] = -vy[i];
+            }
+        }
+    }
+
+    @Override
+    public int findOverlaps(double[] minX, double[] minY, double[] maxX, double[] maxY, int i,
+                            int[] others, int from, int to, int[] out) {
+        int count = 0;
+        for (int k = from; k < to; k++) {
+            int j = others[k];
+            if (!(maxX[j] < minX[i] || minX[j] > maxX[i] ||
+                  maxY[j] < minY[i] || minY[j] > maxY[i])) {
+                out[count++] = j;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,214 @@
+package nhn.breakoutt;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * 공, 상자 같은 기본 도형을 JavaFX 캔버스에 그리는 클래스입니다.
+ * 도형 클래스는 색을 {@link Argb} 값으로만 가지고, 그리는 코드는 여기에 모아 두므로
+ * 화면 없이 실행할 때는 이 클래스와 JavaFX가 로드되지 않습니다.
+ * 각 도형의 {@link Paintable#paint}는 이 클래스의 메서드를 호출합니다.
+ */
+public final class ShapeRenderer {
+    private ShapeRenderer() {
+    }
+
+    public static void paintBall(GraphicsContext gc, Ball ball) {
+        double radius = ball.getRadius();
+        gc.setFill(FxColors.toColor(ball.getArgb()));
+        gc.fillOval(ball.getX() - radius, ball.getY() - radius, radius * 2, radius * 2);
+    }
+
+    /**
+     * 스냅샷의 공들을 직전 스냅샷과 보간한 위치에 그립니다.
+     */
+    public static void paintBalls(GraphicsContext gc, BallSnapshot current, BallSnapshot previous, double alpha) {
+        RenderPassEvent renderEvent = new RenderPassEvent();
+        renderEvent.begin();
+
+        int size = current.size();
+        for (int i = 0; i < size; i++) {
+            double r = current.getRadius(i);
+            gc.setFill(FxColors.toColor(current.getArgb(i)));
+            gc.fillOval(current.interpolateX(i, previous, alpha) - r, current.interpolateY(i, previous, alpha) - r,
+                    r * 2, r * 2);
+        }
+
+        if (renderEvent.shouldCommit()) {
+            renderEvent.pass = "BallSnapshot";
+            renderEvent.entityCount = size;
+            renderEvent.commit();
+        }
+    }
+
+    public static void paintBox(GraphicsContext gc, Box box) {
+        gc.setFill(FxColors.toColor(box.getArgb()));
+        gc.fillRect(box.getX(), box.getY(), box.getWidth(), box.getHeight());
+    }
+
+    /**
+     * PaintableBox는 오른쪽 아래 좌표를 너비, 높이 자리에 넘겨 그려 왔으므로 그 모양을 그대로 유지합니다.
+     */
+    public static void paintPaintableBox(GraphicsContext gc, PaintableBox box) {
+        Point center = box.getCenter();
+        double rightX = center.getX() + box.getWidth();
+        double rightY = center.getY() + box.getHeight();
+
+        gc.setFill(FxColors.toColor(box.getArgb()));
+        gc.fillRect(center.getX(), center.getY(), rightX, rightY);
+    }
+
+    public static void paintStar(GraphicsContext gc, Star star) {
+        Point[] vertices = star.calculateVertices();
+        Color color = FxColors.toColor(star.getArgb());
+
+        // 별 채우기
+        gc.setFill(color);
+        double[] xPoints = new double[10];
+        double[] yPoints = new double[10];
+
+        for (int i = 0; i < 10; i++) {
+            xPoints[i] = vertices[i].getX();
+            yPoints[i] = vertices[i].getY();
+        }
+
+        gc.fillPolygon(xPoints, yPoints, 10);
+
+        // 테두리 그리기
+        gc.setStroke(color.darker());
+        gc.setLineWidth(2);
+        gc.strokePolygon(xPoints, yPoints, 10);
+    }
+
+    public static void paintTriangle(GraphicsContext gc, Triangle triangle) {
+        Color color = FxColors.toColor(triangle.getArgb());
+        gc.setFill(color);
+
+        // 다각형 그리기
+        Point[] vertices = triangle.getVertices();
+        double[] xPoints = {vertices[0].getX(), vertices[1].getX(), vertices[2].getX()};
+        double[] yPoints = {vertices[0].getY(), vertices[1].getY(), vertices[2].getY()};
+
+        gc.fillPolygon(xPoints, yPoints, 3);
+
+        // 테두리 그리기
+        gc.setStroke(color.darker());
+        gc.setLineWidth(1);
+        gc.strokePolygon(xPoints, yPoints, 3);
+    }
+
+    /**
+     * 특수 영역을 반투명 배경, 테두리, 효과 아이콘으로 그립니다.
+     */
+    public static void paintSpecialZone(GraphicsContext gc, SpecialZone zone) {
+        Color effectColor = FxColors.toColor(zone.getArgb());
+
+        // 반투명 배경
+        gc.setGlobalAlpha(0.3);
+        gc.setFill(effectColor);
+        gc.fillRect(zone.getX(), zone.getY(), zone.getWidth(), zone.getHeight());
+
+        // 테두리
+        gc.setGlobalAlpha(0.8);
+        gc.setStroke(effectColor.brighter());
+        gc.setLineWidth(2);
+        gc.strokeRect(zone.getX(), zone.getY(), zone.getWidth(), zone.getHeight());
+
+        // 효과 표시 아이콘
+        gc.setGlobalAlpha(1.0);
+        drawEffectIcon(gc, zone, effectColor);
+
+        // 투명도 복원
+        gc.setGlobalAlpha(1.0);
+    }
+
+    /**
+     * 효과 타입에 따른 아이콘을 그립니다
+     */
+    private static void drawEffectIcon(GraphicsContext gc, SpecialZone zone, Color effectColor) {
+        double centerX = zone.getX() + zone.getWidth() / 2;
+        double centerY = zone.getY() + zone.getHeight() / 2;
+        double iconSize = Math.min(zone.getWidth(), zone.getHeight()) * 0.3;
+
+        gc.setFill(effectColor.brighter().brighter());
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+
+        switch (zone.getZoneType()) {
+            case SPEED_UP:
+                // 화살표 (오른쪽)
+                drawArrow(gc, centerX, centerY, iconSize, 0);
+                break;
+
+            case SLOW_DOWN:
+                // 원 (느림 표시)
+                gc.fillOval(centerX - iconSize/2, centerY - iconSize/2, iconSize, iconSize);
+                gc.strokeOval(centerX - iconSize/2, centerY - iconSize/2, iconSize, iconSize);
+                break;
+
+            case GRAVITY:
+                // 아래 화살표
+                drawArrow(gc, centerX, centerY, iconSize, Math.PI/2);
+                break;
+
+            case ANTI_GRAVITY:
+                // 위 화살표
+                drawArrow(gc, centerX, centerY, iconSize, -Math.PI/2);
+                break;
+
+            case TELEPORT:
+                // 별 모양
+                drawStar(gc, centerX, centerY, iconSize);
+                break;
+        }
+    }
+
+    /**
+     * 화살표를 그립니다
+     */
+    private static void drawArrow(GraphicsContext gc, double x, double y, double size, double angle) {
+        double arrowLength = size;
+        double arrowWidth = size * 0.6;
+
+        // 화살표 몸체
+        double endX = x + arrowLength * Math.cos(angle);
+        double endY = y + arrowLength * Math.sin(angle);
+
+        gc.strokeLine(x, y, endX, endY);
+
+        // 화살표 머리
+        double headAngle1 = angle + Math.PI * 3/4;
+        double headAngle2 = angle - Math.PI * 3/4;
+        double headLength = arrowWidth * 0.5;
+
+        gc.strokeLine(endX, endY,
+                     endX + headLength * Math.cos(headAngle1),
+                     endY + headLength * Math.sin(headAngle1));
+        gc.strokeLine(endX, endY,
+                     endX + headLength * Math.cos(headAngle2),
+                     endY + headLength * Math.sin(headAngle2));
+    }
+
+    /**
+     * 별 모양을 그립니다
+     */
+    private static void drawStar(GraphicsContext gc, double centerX, double centerY, double size) {
+        int numPoints = 5;
+        double[] xPoints = new double[numPoints * 2];
+        double[] yPoints = new double[numPoints * 2];
+
+        double outerRadius = size / 2;
+        double innerRadius = outerRadius * 0.4;
+
+        for (int i = 0; i < numPoints * 2; i++) {
+            double angle = i * Math.PI / numPoints;
+            double radius = (i % 2 == 0) ? outerRadius : innerRadius;
+
+            xPoints[i] = centerX + radius * Math.cos(angle - Math.PI/2);
+            yPoints[i] = centerY + radius * Math.sin(angle - Math.PI/2);
+        }
+
+        gc.fillPolygon(xPoints, yPoints, numPoints * 2);
+        gc.strokePolygon(xPoints, yPoints, numPoints * 2);
+    }
+}
@@ -1,8 +1,6 @@
 package nhn.breakoutt;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -11,11 +9,33 @@ import java.util.List;
  * 인터페이스를 활용한 단순화된 World 클래스
  * 다양한 타입의 게임 객체들을 관리하고 업데이트합니다.
  */
-public class SimpleWorld {
+public class SimpleWorld implements Simulation {
+    /**
+     * {@link FrameProfiler}에 기록하는 update 단계 이름 (단계 번호 순서)
+     */
+    public static final List<String> PROFILER_PHASES =
+            List.of("move", "removeDestroyed", "boundaryCollisions", "objectCollisions");
+
+    private static final int PHASE_MOVE = 0;
+    private static final int PHASE_REMOVE_DESTROYED = 1;
+    private static final int PHASE_BOUNDARY_COLLISIONS = 2;
+    private static final int PHASE_OBJECT_COLLISIONS = 3;
+
+    private static final int SNAPSHOT_MAGIC = 0x53575331; // "SWS1"
+    private static final byte KIND_BALL = 1;
+    private static final byte KIND_BOX = 2;
+
     private final double width;
     private final double height;
     private final List<Object> gameObjects;
     private final List<Box> boundaries;
+    private final List<Collidable> collidables;
+    private final BroadPhase.PairHandler candidatePairHandler;
+    private final ParallelIntegrator.RangeAction moveRange;
+    private BroadPhase broadPhase;
+    private FrameProfiler profiler = FrameProfiler.disabled();
+    private ParallelIntegrator integrator;
+    private double moveDeltaTime;
 
     public SimpleWorld(double width, double height) {
         if (width <= 0 || height <= 0) {
@@ -26,6 +46,10 @@ public class SimpleWorld {
         this.height = height;
         this.gameObjects = new ArrayList<>();
         this.boundaries = new ArrayList<>();
+        this.collidables = new ArrayList<>();
+        this.candidatePairHandler = this::handleCandidatePair;
+        this.moveRange = this::moveRange;
+        this.broadPhase = new UniformGridBroadPhase();
 
         createBoundaries();
     }
@@ -65,6 +89,7 @@ public class SimpleWorld {
     public void addObject(Object object) {
         if (object != null) {
             gameObjects.add(object);
+            profiler.countObjectsAdded(1);
         }
     }
 
@@ -73,13 +98,16 @@ public class SimpleWorld {
      * @param object 제거할 객체
      */
     public void removeObject(Object object) {
-        gameObjects.remove(object);
+        if (gameObjects.remove(object)) {
+            profiler.countObjectsRemoved(1);
+        }
     }
 
     /**
      * 모든 게임 객체를 제거합니다.
      */
     public void clearObjects() {
+        profiler.countObjectsRemoved(gameObjects.size());
         gameObjects.clear();
     }
 
@@ -99,31 +127,84 @@ public class SimpleWorld {
         return new ArrayList<>(gameObjects);
     }
 
+    /**
+     * 게임 객체 리스트를 복사하지 않고 반환합니다. {@link WorldRenderer}가 매 프레임 읽기만 합니다.
+     * @return 게임 객체 리스트 (수정하지 말 것)
+     */
+    List<Object> getObjectView() {
+        return gameObjects;
+    }
+
     /**
      * 세계를 업데이트합니다.
      * @param deltaTime 델타 타임 (초)
      */
+    @Override
     public void update(double deltaTime) {
+        WorldStepEvent stepEvent = new WorldStepEvent();
+        stepEvent.begin();
+        profiler.beginFrame();
+
         // 1. Movable 객체들 이동
+        long phaseStart = profiler.startPhase();
         moveObjects(deltaTime);
+        profiler.endPhase(PHASE_MOVE, phaseStart);
 
         // 2. 파괴된 객체들 제거
+        phaseStart = profiler.startPhase();
         removeDestroyedObjects();
+        profiler.endPhase(PHASE_REMOVE_DESTROYED, phaseStart);
 
         // 3. 경계와의 충돌 처리
+        CollisionPhaseEvent phaseEvent = new CollisionPhaseEvent();
+        phaseEvent.begin();
+        phaseStart = profiler.startPhase();
         handleBoundaryCollisions();
+        profiler.endPhase(PHASE_BOUNDARY_COLLISIONS, phaseStart);
+        commitPhaseEvent(phaseEvent, PHASE_BOUNDARY_COLLISIONS);
 
         // 4. 객체 간 충돌 처리
+        phaseEvent = new CollisionPhaseEvent();
+        phaseEvent.begin();
+        phaseStart = profiler.startPhase();
         handleObjectCollisions();
+        profiler.endPhase(PHASE_OBJECT_COLLISIONS, phaseStart);
+        commitPhaseEvent(phaseEvent, PHASE_OBJECT_COLLISIONS);
+
+        profiler.endFrame();
+        if (stepEvent.shouldCommit()) {
+            stepEvent.world = getClass().getSimpleName();
+            stepEvent.deltaTime = (long) (deltaTime * 1e9);
+            stepEvent.entityCount = gameObjects.size();
+            stepEvent.commit();
+        }
+    }
+
+    private void commitPhaseEvent(CollisionPhaseEvent event, int phase) {
+        if (event.shouldCommit()) {
+            event.world = getClass().getSimpleName();
+            event.phase = PROFILER_PHASES.get(phase);
+            event.entityCount = gameObjects.size();
+            event.commit();
+        }
     }
 
     /**
      * Movable 객체들을 이동시킵니다.
      */
     private void moveObjects(double deltaTime) {
-        for (Object obj : gameObjects) {
-            if (obj instanceof Movable) {
-                ((Movable) obj).move(deltaTime);
+        moveDeltaTime = deltaTime;
+        if (integrator == null) {
+            moveRange(0, gameObjects.size());
+        } else {
+            integrator.forEachRange(gameObjects.size(), moveRange);
+        }
+    }
+
+    private void moveRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (gameObjects.get(i) instanceof Movable movable) {
+                movable.move(moveDeltaTime);
             }
         }
     }
@@ -138,6 +219,7 @@ public class SimpleWorld {
             // Ball 클래스의 isDestroyed 메서드 확인
             if (obj instanceof Ball && ((Ball) obj).isDestroyed()) {
                 iterator.remove();
+                profiler.countObjectsRemoved(1);
             }
         }
     }
@@ -151,8 +233,10 @@ public class SimpleWorld {
                 Collidable collidableObj = (Collidable) obj;
 
                 for (Box boundary : boundaries) {
+                    profiler.countPairTested();
                     if (collidableObj.isColliding(boundary)) {
                         handleBoundaryCollision(collidableObj, boundary);
+                        profiler.countCollisionResolved();
                     }
                 }
             }
@@ -189,27 +273,32 @@ public class SimpleWorld {
 
     /**
      * 객체 간 충돌을 처리합니다.
+     * Broad Phase로 후보 쌍을 찾은 뒤, 실제로 충돌한 쌍만 처리합니다.
      */
     private void handleObjectCollisions() {
-        List<Collidable> collidables = new ArrayList<>();
-
-        // Collidable 객체들만 추출
+        // Collidable 객체들만 추출 (리스트는 매 프레임 재사용)
+        collidables.clear();
         for (Object obj : gameObjects) {
             if (obj instanceof Collidable) {
                 collidables.add((Collidable) obj);
             }
         }
 
-        // 이중 루프로 충돌 검사 (각 쌍을 한 번만 검사)
-        for (int i = 0; i < collidables.size(); i++) {
-            for (int j = i + 1; j < collidables.size(); j++) {
-                Collidable obj1 = collidables.get(i);
-                Collidable obj2 = collidables.get(j);
+        broadPhase.findCandidatePairs(collidables, candidatePairHandler);
+        collidables.clear();
+    }
 
-                if (obj1.isColliding(obj2)) {
-                    handleObjectCollision(obj1, obj2);
-                }
-            }
+    /**
+     * Broad Phase가 찾은 후보 쌍의 실제 충돌을 검사합니다.
+     */
+    private void handleCandidatePair(int i, int j) {
+        Collidable obj1 = collidables.get(i);
+        Collidable obj2 = collidables.get(j);
+
+        profiler.countPairTested();
+        if (obj1.isColliding(obj2)) {
+            handleObjectCollision(obj1, obj2);
+            profiler.countCollisionResolved();
         }
     }
 
@@ -247,25 +336,82 @@ public class SimpleWorld {
     }
 
     /**
-     * 세계를 렌더링합니다.
-     * @param gc GraphicsContext
+     * 현재 객체 목록을 스냅샷으로 버퍼에 씁니다. 버퍼는 재사용할 수 있으며, 현재 위치부터 씁니다.
+     *
+     * <p>본문: double 너비, double 높이, int 객체 수, 객체마다 byte 종류와 {@link SnapshotFormat}의 공 또는 상자 기록.
+     * 객체는 정확히 {@link Ball}이나 {@link Box}인 것만 저장할 수 있습니다. 하위 클래스는 숨은 상태가 있어
+     * 같은 형식으로 되살릴 수 없기 때문입니다.</p>
+     *
+     * @throws IllegalArgumentException 저장할 수 없는 종류의 객체가 있는 경우 (버퍼 위치는 바뀌지 않음)
+     * @throws java.nio.BufferOverflowException 버퍼 공간이 {@link #getSnapshotSize()}보다 작은 경우
      */
-    public void render(GraphicsContext gc) {
-        // 배경 그리기
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, width, height);
+    public void writeSnapshot(ByteBuffer buffer) {
+        for (Object obj : gameObjects) {
+            if (obj.getClass() != Ball.class && obj.getClass() != Box.class) {
+                throw new IllegalArgumentException("스냅샷을 지원하지 않는 객체입니다: " + obj.getClass().getName());
+            }
+        }
 
-        // 경계 그리기 (선택사항 - 디버깅용)
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(2);
-        gc.strokeRect(0, 0, width, height);
+        int start = SnapshotFormat.beginSnapshot(buffer, SNAPSHOT_MAGIC);
+        buffer.putDouble(width);
+        buffer.putDouble(height);
+        buffer.putInt(gameObjects.size());
+        for (Object obj : gameObjects) {
+            if (obj instanceof Ball ball) {
+                buffer.put(KIND_BALL);
+                SnapshotFormat.writeBall(buffer, ball);
+            } else {
+                buffer.put(KIND_BOX);
+                SnapshotFormat.writeBox(buffer, (Box) obj);
+            }
+        }
+        SnapshotFormat.endSnapshot(buffer, start);
+    }
 
-        // Paintable 객체들만 그리기
+    /**
+     * @return 지금 {@link #writeSnapshot}이 쓸 바이트 수
+     */
+    public int getSnapshotSize() {
+        int size = SnapshotFormat.HEADER_SIZE + 2 * Double.BYTES + Integer.BYTES;
         for (Object obj : gameObjects) {
-            if (obj instanceof Paintable) {
-                ((Paintable) obj).paint(gc);
+            size += 1 + (obj instanceof Ball ? SnapshotFormat.BALL_SIZE : SnapshotFormat.BOX_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * 스냅샷으로 객체 목록을 되돌립니다. 같은 자리에 같은 종류의 객체가 있으면 새로 만들지 않고 상태만 덮어쓰므로,
+     * 같은 세계를 여러 번 되감을 때 객체를 거의 만들지 않습니다.
+     * @throws IllegalArgumentException 이 세계의 스냅샷이 아니거나, 크기가 다르거나, 잘린 경우
+     */
+    public void readSnapshot(ByteBuffer buffer) {
+        SnapshotFormat.readHeader(buffer, SNAPSHOT_MAGIC);
+        if (buffer.getDouble() != width || buffer.getDouble() != height) {
+            throw new IllegalArgumentException("세계 크기가 다른 스냅샷입니다");
+        }
+
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            Object existing = i < gameObjects.size() ? gameObjects.get(i) : null;
+            byte kind = buffer.get();
+            Object restored;
+            if (kind == KIND_BALL) {
+                restored = SnapshotFormat.readBall(buffer, existing);
+            } else if (kind == KIND_BOX) {
+                restored = SnapshotFormat.readBox(buffer, existing);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 객체 종류입니다: " + kind);
+            }
+
+            if (existing == null) {
+                gameObjects.add(restored);
+            } else if (restored != existing) {
+                gameObjects.set(i, restored);
             }
         }
+        if (gameObjects.size() > count) {
+            gameObjects.subList(count, gameObjects.size()).clear();
+        }
     }
 
     // Getter 메서드들
@@ -281,6 +427,55 @@ public class SimpleWorld {
         return new ArrayList<>(boundaries);
     }
 
+    public BroadPhase getBroadPhase() {
+        return broadPhase;
+    }
+
+    /**
+     * 객체 간 충돌 후보를 찾을 Broad Phase를 설정합니다.
+     * 기본값은 {@link UniformGridBroadPhase}이며, 기존 이중 루프가 필요하면
+     * {@link BruteForceBroadPhase}를 설정합니다.
+     * @param broadPhase 사용할 Broad Phase
+     */
+    public void setBroadPhase(BroadPhase broadPhase) {
+        if (broadPhase == null) {
+            throw new IllegalArgumentException("Broad Phase는 null일 수 없습니다");
+        }
+        this.broadPhase = broadPhase;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public ParallelIntegrator getIntegrator() {
+        return integrator;
+    }
+
+    /**
+     * 객체 이동을 여러 코어에 나눠 실행하도록 설정합니다.
+     * 각 객체는 자기 상태만 바꾸므로 결과는 직렬 이동과 같습니다.
+     * @param integrator 사용할 병렬 적분기, 직렬로 이동하려면 null
+     */
+    public void setIntegrator(ParallelIntegrator integrator) {
+        this.integrator = integrator;
+    }
+
+    /**
+     * update 단계별 계측기를 설정합니다. 기본값은 아무것도 기록하지 않는 {@link FrameProfiler#disabled()}입니다.
+     * @param profiler {@link #PROFILER_PHASES} 단계로 만든 계측기
+     * @throws IllegalArgumentException profiler가 null이거나 단계 수가 다른 경우
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        if (profiler == null) {
+            throw new IllegalArgumentException("계측기는 null일 수 없습니다");
+        }
+        if (profiler.isEnabled() && profiler.getPhaseCount() != PROFILER_PHASES.size()) {
+            throw new IllegalArgumentException("계측기의 단계 수가 맞지 않습니다: " + profiler.getPhaseNames());
+        }
+        this.profiler = profiler;
+    }
+
     /**
      * 특정 타입의 객체들을 반환합니다.
      * @param clazz 찾을 클래스 타입
@@ -0,0 +1,14 @@
+package nhn.breakoutt;
+
+/**
+ * 시간에 따라 상태가 바뀌는 세계(시뮬레이션)를 나타내는 인터페이스입니다.
+ * JavaFX 타입에 의존하지 않으므로, 화면 없이 {@link HeadlessRunner}로 실행하거나
+ * 화면이 있을 때는 렌더링({@link Paintable})을 따로 붙여 사용할 수 있습니다.
+ */
+public interface Simulation {
+    /**
+     * 세계를 deltaTime만큼 진행시킵니다.
+     * @param deltaTime 경과 시간 (초)
+     */
+    void update(double deltaTime);
+}
@@ -0,0 +1,316 @@
+package nhn.breakoutt;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 시뮬레이션을 전용 스레드에서 고정된 주기(기본 240Hz)로 진행시키는 클래스입니다.
+ *
+ * 화면 갱신 주기와 상관없이 흐른 시간을 누산기(accumulator)에 쌓아 두고, 한 스텝 시간만큼씩 꺼내 update를 호출합니다.
+ * 따라서 GC 등으로 화면이 잠시 멈춰도 큰 deltaTime 한 번이 아니라 작은 스텝 여러 번으로 나누어 진행됩니다.
+ *
+ * 스텝마다 스냅샷을 만들어 직전 스냅샷과 함께 {@link Frame}으로 공개합니다(이중 버퍼).
+ * 렌더링 스레드는 세계를 직접 읽지 않고 Frame과 {@link #getAlpha(Frame, long)}로 두 스냅샷 사이를 보간해 그립니다.
+ * 입력처럼 세계를 바꾸는 작업은 {@link #post(Runnable)}로 넘기면 다음 스텝 직전에 시뮬레이션 스레드에서 실행됩니다.
+ *
+ * <p>Frame과 스냅샷은 작은 풀에서 돌려 씁니다. 렌더링 스레드가 {@link #getFrame()}으로 받은 Frame과 그 두 스냅샷은
+ * 다음 getFrame 호출 전까지 다시 쓰이지 않으며, 그 밖의 스냅샷은 {@link SnapshotCapture}에 재사용할 객체로 넘겨집니다.
+ * 따라서 Frame을 읽는 렌더링 스레드는 하나여야 합니다.</p>
+ *
+ * @param <S> 스냅샷 타입 (공개한 뒤에는 재사용으로 넘겨받기 전까지 바뀌지 않아야 함)
+ */
+public class SimulationThread<S> {
+    public static final double DEFAULT_STEPS_PER_SECOND = 240;
+
+    // 한 번에 따라잡을 최대 시간 (이보다 오래 멈췄으면 나머지는 버림)
+    private static final long MAX_ELAPSED_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    // 공개된 Frame의 두 스냅샷, 렌더링 중인 Frame의 두 스냅샷, 새로 쓸 스냅샷 하나
+    private static final int SNAPSHOT_POOL_SIZE = 5;
+    // 공개된 Frame, 렌더링 중인 Frame, 새로 채울 Frame 하나
+    private static final int FRAME_POOL_SIZE = 3;
+
+    private final Simulation simulation;
+    private final SnapshotCapture<S> snapshotCapture;
+    private final double timeStep;
+    private final long stepNanos;
+    private final Queue<Runnable> pendingTasks;
+    private final Object lock;
+    private final Object[] snapshots;
+    private final Frame<S>[] frames;
+
+    private volatile Frame<S> frame;
+    private volatile Frame<S> readingFrame; // 렌더링 스레드가 마지막으로 받은 Frame
+    private volatile boolean running;
+    private Thread thread;
+    private long accumulatedNanos;
+    private volatile long stepCount;
+
+    /**
+     * 스텝이 끝날 때마다 시뮬레이션 스레드에서 스냅샷을 만드는 함수입니다.
+     * @param <S> 스냅샷 타입
+     */
+    @FunctionalInterface
+    public interface SnapshotCapture<S> {
+        /**
+         * @param recycled 더 이상 읽히지 않는 이전 스냅샷 (내용을 덮어써서 반환해도 됨). 처음 몇 번은 null
+         * @return 현재 상태의 스냅샷
+         */
+        S capture(S recycled);
+    }
+
+    /**
+     * 직전 스냅샷과 현재 스냅샷의 묶음입니다.
+     * @param <S> 스냅샷 타입
+     */
+    public static final class Frame<S> {
+        private S previous;
+        private S current;
+        private int previousSlot;
+        private int currentSlot;
+        private long stepIndex;
+        private long publishedNanos;
+
+        private void set(S previous, int previousSlot, S current, int currentSlot, long stepIndex, long publishedNanos) {
+            this.previous = previous;
+            this.previousSlot = previousSlot;
+            this.current = current;
+            this.currentSlot = currentSlot;
+            this.stepIndex = stepIndex;
+            this.publishedNanos = publishedNanos;
+        }
+
+        private boolean usesSlot(int slot) {
+            return previousSlot == slot || currentSlot == slot;
+        }
+
+        public S getPrevious() {
+            return previous;
+        }
+
+        public S getCurrent() {
+            return current;
+        }
+
+        public long getStepIndex() {
+            return stepIndex;
+        }
+
+        public long getPublishedNanos() {
+            return publishedNanos;
+        }
+    }
+
+    public SimulationThread(Simulation simulation, Supplier<? extends S> snapshotCapture) {
+        this(simulation, DEFAULT_STEPS_PER_SECOND, snapshotCapture);
+    }
+
+    /**
+     * 스냅샷을 재사용하지 않고 스텝마다 새로 만드는 시뮬레이션 스레드를 생성합니다.
+     * @throws IllegalArgumentException 인자가 null이거나 스텝 수가 양수가 아닌 경우
+     */
+    public SimulationThread(Simulation simulation, double stepsPerSecond, Supplier<? extends S> snapshotCapture) {
+        this(simulation, stepsPerSecond, fromSupplier(snapshotCapture));
+    }
+
+    /**
+     * @param simulation 진행할 시뮬레이션
+     * @param stepsPerSecond 초당 스텝 수
+     * @param snapshotCapture 스텝이 끝날 때마다 시뮬레이션 스레드에서 호출되어 스냅샷을 만드는 함수
+     * @throws IllegalArgumentException 인자가 null이거나 스텝 수가 양수가 아닌 경우
+     */
+    @SuppressWarnings("unchecked")
+    public SimulationThread(Simulation simulation, double stepsPerSecond, SnapshotCapture<S> snapshotCapture) {
+        if (simulation == null || snapshotCapture == null) {
+            throw new IllegalArgumentException("시뮬레이션과 스냅샷 함수는 null일 수 없습니다");
+        }
+        if (!(stepsPerSecond > 0) || Double.isInfinite(stepsPerSecond)) {
+            throw new IllegalArgumentException("초당 스텝 수는 양수여야 합니다: " + stepsPerSecond);
+        }
+
+        this.simulation = simulation;
+        this.snapshotCapture = snapshotCapture;
+        this.timeStep = 1.0 / stepsPerSecond;
+        this.stepNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / stepsPerSecond));
+        this.pendingTasks = new ConcurrentLinkedQueue<>();
+        this.lock = new Object();
+        this.snapshots = new Object[SNAPSHOT_POOL_SIZE];
+        this.frames = new Frame[FRAME_POOL_SIZE];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new Frame<>();
+        }
+
+        S initial = snapshotCapture.capture(null);
+        snapshots[0] = initial;
+        frames[0].set(initial, 0, initial, 0, 0, System.nanoTime());
+        this.frame = frames[0];
+    }
+
+    private static <S> SnapshotCapture<S> fromSupplier(Supplier<? extends S> supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("시뮬레이션과 스냅샷 함수는 null일 수 없습니다");
+        }
+        return recycled -> supplier.get();
+    }
+
+    /**
+     * 시뮬레이션 스레드를 시작합니다.
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("이미 실행 중입니다");
+        }
+        running = true;
+        thread = new Thread(this::runLoop, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 시뮬레이션 스레드를 멈추고 종료될 때까지 기다립니다.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    private void runLoop() {
+        long previousNanos = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            advance(now - previousNanos);
+            previousNanos = now;
+
+            // 다음 스텝까지 남은 시간만큼 대기
+            LockSupport.parkNanos(stepNanos - accumulatedNanos);
+        }
+    }
+
+    /**
+     * 흐른 시간을 누산기에 더하고, 쌓인 만큼 고정 스텝을 진행합니다.
+     * @return 진행한 스텝 수
+     */
+    int advance(long elapsedNanos) {
+        accumulatedNanos += Math.max(0, Math.min(elapsedNanos, MAX_ELAPSED_NANOS));
+
+        int steps = 0;
+        while (accumulatedNanos >= stepNanos) {
+            step();
+            accumulatedNanos -= stepNanos;
+            steps++;
+        }
+        return steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void step() {
+        // 공개된 Frame과 렌더링 중인 Frame이 쓰지 않는 스냅샷과 Frame을 고름
+        Frame<S> published = frame;
+        Frame<S> reading = readingFrame;
+        int slot = freeSnapshotSlot(published, reading);
+        Frame<S> next = freeFrame(published, reading);
+
+        S snapshot;
+        synchronized (lock) {
+            Runnable task;
+            while ((task = pendingTasks.poll()) != null) {
+                task.run();
+            }
+            simulation.update(timeStep);
+            stepCount++;
+            snapshot = snapshotCapture.capture((S) snapshots[slot]);
+        }
+        snapshots[slot] = snapshot;
+        next.set(published.current, published.currentSlot, snapshot, slot, stepCount, System.nanoTime());
+        frame = next;
+    }
+
+    private int freeSnapshotSlot(Frame<S> published, Frame<S> reading) {
+        for (int slot = 0; slot < snapshots.length; slot++) {
+            if (!published.usesSlot(slot) && (reading == null || !reading.usesSlot(slot))) {
+                return slot;
+            }
+        }
+        throw new IllegalStateException("빈 스냅샷 자리가 없습니다");
+    }
+
+    private Frame<S> freeFrame(Frame<S> published, Frame<S> reading) {
+        for (Frame<S> candidate : frames) {
+            if (candidate != published && candidate != reading) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("빈 Frame이 없습니다");
+    }
+
+    /**
+     * 다음 스텝 직전에 시뮬레이션 스레드에서 실행할 작업을 등록합니다. 입력 처리에 사용합니다.
+     */
+    public void post(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("작업은 null일 수 없습니다");
+        }
+        pendingTasks.add(task);
+    }
+
+    /**
+     * 시뮬레이션 스텝과 겹치지 않도록 잠금을 잡은 채로 작업을 실행합니다.
+     * 스냅샷으로 옮기기 어려운 상태를 다른 스레드에서 읽을 때 사용합니다.
+     */
+    public void runLocked(Runnable task) {
+        synchronized (lock) {
+            task.run();
+        }
+    }
+
+    /**
+     * 가장 최근에 공개된 Frame을 반환합니다. 반환한 Frame과 그 스냅샷은 다음 getFrame 호출 전까지 재사용되지 않습니다.
+     * 렌더링 스레드 하나에서만 호출해야 합니다.
+     */
+    public Frame<S> getFrame() {
+        // 읽는 Frame을 알린 뒤에도 여전히 공개된 Frame이면, 이후 스텝은 반드시 이 Frame을 피해 감
+        Frame<S> acquired;
+        do {
+            acquired = frame;
+            readingFrame = acquired;
+        } while (frame != acquired);
+        return acquired;
+    }
+
+    /**
+     * Frame이 공개된 뒤 흐른 시간을 한 스텝에 대한 비율(0~1)로 반환합니다.
+     * 렌더링할 때 previous + (current - previous) * alpha로 보간합니다.
+     */
+    public double getAlpha(Frame<S> frame, long nowNanos) {
+        double alpha = (double) (nowNanos - frame.getPublishedNanos()) / stepNanos;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    public double getTimeStep() {
+        return timeStep;
+    }
+
+    /**
+     * 진행한 스텝 수입니다. 다른 스레드에서 읽어도 됩니다.
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,349 @@
+package nhn.breakoutt;
+
+import java.util.List;
+
+/**
+ * 바닥에 쌓여 멈춘 공들을 재워서 이동과 충돌 검사를 건너뛰게 하는 클래스입니다.
+ *
+ * <p>매 스텝 서로 닿아 있는 움직이는 공들을 섬(island)으로 묶고, 섬의 운동 에너지가 속도 임계값 아래에
+ * 일정 시간 이상 머물렀으면 섬 전체를 재웁니다. 쌓인 공 더미는 중력 때문에 공 하나하나가 계속 조금씩 떨리므로,
+ * 공마다 속도를 보지 않고 섬의 질량 가중 평균 제곱 속도를 봅니다 (공 하나라도 임계값의 {@link #MAX_SPEED_RATIO}배를 넘으면 재우지 않음).
+ * 잠든 공끼리는 충돌 검사를 하지 않으며, 깨어 있는 공이 임계값보다 빠르게 다가와 잠든 공에 부딪히면 그 공이 속한 섬 전체를 깨웁니다.
+ * 그보다 느린 접촉(쌓여 맞닿은 공)은 섬을 잇기만 하고 깨우지 않으며, {@link #resolveRestingContact}로
+ * 반발 없이 처리해 떨림이 잦아들게 합니다.
+ * 깨우는 일은 드물기 때문에 섬의 공 목록을 따로 두지 않고, 깨울 때 공 목록에서 같은 섬 번호를 찾습니다.</p>
+ *
+ * <p>사용 순서: {@link #beginStep} → 후보 쌍마다 {@link #shouldTest}, 맞닿은 쌍마다 {@link #onContact}
+ * (느린 접촉이면 {@link #resolveRestingContact}) → {@link #endStep}.
+ * MovableBall만 재우며, 움직이지 않는 공과의 접촉은 섬을 잇지 않습니다.</p>
+ */
+public class SleepSystem {
+    /**
+     * 기본 속도 임계값 (픽셀/초). 바닥에 놓인 공은 60Hz에서 매 스텝 중력으로 약 16 픽셀/초씩 떨리므로 그보다 크게 잡습니다.
+     */
+    public static final double DEFAULT_SLEEP_SPEED = 30;
+
+    /**
+     * 기본 잠들기까지 걸리는 시간 (초)
+     */
+    public static final double DEFAULT_TIME_TO_SLEEP = 0.5;
+
+    /**
+     * 겹치지 않아도 이 거리(픽셀) 안이면 닿은 것으로 보고 같은 섬으로 묶음.
+     * 바닥에 나란히 놓인 공은 충돌 처리 후 정확히 맞닿아 있어 겹침 검사로는 이어지지 않기 때문입니다.
+     */
+    public static final double CONTACT_MARGIN = 0.5;
+
+    /**
+     * 섬의 평균이 낮아도 이 배수보다 빠른 공이 있으면 섬을 재우지 않음
+     */
+    public static final double MAX_SPEED_RATIO = 4;
+
+    /**
+     * 평균 제곱 속도가 임계값의 이 배수(제곱) 아래인, 거의 멈춘 섬의 공에 매 스텝 곱하는 감쇠 계수.
+     * 벽과 공의 탄성 반발이 중력으로 생긴 떨림을 되살리므로, 더미가 잠들 수 있도록 남은 움직임을 줄입니다.
+     */
+    public static final double RESTING_DAMPING = 0.8;
+    private static final double DAMPING_SPEED_RATIO = 2;
+
+    private final double sleepSpeed;
+    private final double sleepSpeedSq;
+    private final double timeToSleep;
+
+    // 이번 스텝의 접촉으로 만든 섬 (유니온 파인드, 공 목록 인덱스 기준)
+    private int[] parent = new int[0];
+    private double[] islandMinResting = new double[0];
+    private double[] islandMass = new double[0];
+    private double[] islandEnergy = new double[0];
+    private double[] islandMaxSpeedSq = new double[0];
+    private int[] islandIds = new int[0];
+
+    private List<? extends Ball> stepBalls = List.of();
+    private int nextIsland;
+    private int sleepingCount;
+    private long islandsWoken;
+
+    public SleepSystem() {
+        this(DEFAULT_SLEEP_SPEED, DEFAULT_TIME_TO_SLEEP);
+    }
+
+    /**
+     * @param sleepSpeed 이 속도(픽셀/초) 미만이면 멈춘 것으로 봄
+     * @param timeToSleep 섬의 모든 공이 멈춘 채 이 시간(초)이 지나면 재움
+     * @throws IllegalArgumentException 값이 양수가 아닌 경우
+     */
+    public SleepSystem(double sleepSpeed, double timeToSleep) {
+        if (!(sleepSpeed > 0) || !(timeToSleep > 0)) {
+            throw new IllegalArgumentException("속도 임계값과 시간은 양수여야 합니다");
+        }
+        this.sleepSpeed = sleepSpeed;
+        this.sleepSpeedSq = sleepSpeed * sleepSpeed;
+        this.timeToSleep = timeToSleep;
+    }
+
+    /**
+     * 스텝을 시작합니다. 각 공을 자기 자신만 있는 섬으로 초기화합니다.
+     * @param balls 이번 스텝의 공 목록 (이후 인덱스는 이 목록 기준)
+     */
+    public void beginStep(List<? extends Ball> balls) {
+        int count = balls.size();
+        if (parent.length < count) {
+            parent = new int[Math.max(count, parent.length * 2)];
+            islandMinResting = new double[parent.length];
+            islandMass = new double[parent.length];
+            islandEnergy = new double[parent.length];
+            islandMaxSpeedSq = new double[parent.length];
+            islandIds = new int[parent.length];
+        }
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+        }
+        stepBalls = balls;
+    }
+
+    /**
+     * @return 두 공이 모두 잠들어 있으면 false (충돌 검사를 건너뜀)
+     */
+    public boolean shouldTest(Ball ball1, Ball ball2) {
+        return !(isAsleep(ball1) && isAsleep(ball2));
+    }
+
+    /**
+     * @return 두 공이 겹치거나 {@link #CONTACT_MARGIN} 안으로 맞닿아 있으면 true
+     */
+    public boolean areTouching(Ball ball1, Ball ball2) {
+        double dx = ball2.getX() - ball1.getX();
+        double dy = ball2.getY() - ball1.getY();
+        double reach = ball1.getRadius() + ball2.getRadius() + CONTACT_MARGIN;
+        return dx * dx + dy * dy <= reach * reach;
+    }
+
+    /**
+     * 충돌하거나 맞닿은 쌍을 알립니다. 두 공이 모두 움직일 수 있으면 같은 섬으로 묶고,
+     * 법선 방향으로 다가오는 속도가 임계값보다 빠르면 잠든 공의 섬을 깨웁니다.
+     * 충돌 처리 전에 호출해야 깨어난 공이 정상적으로 반응합니다.
+     * @param i 첫 번째 공의 인덱스
+     * @param j 두 번째 공의 인덱스
+     * @return 임계값 이하로 느린 접촉이면 true ({@link #resolveRestingContact}로 처리), 부딪히는 충돌이면 false
+     */
+    public boolean onContact(int i, int j, Ball ball1, Ball ball2) {
+        if (!(ball1 instanceof MovableBall movable1) || !(ball2 instanceof MovableBall movable2)) {
+            return false;
+        }
+        union(i, j);
+        if (approachSpeed(movable1, movable2) <= sleepSpeed) {
+            return true; // 쌓여 맞닿은 공은 깨우지 않음
+        }
+        if (movable1.isAsleep()) {
+            wakeIsland(movable1);
+        }
+        if (movable2.isAsleep()) {
+            wakeIsland(movable2);
+        }
+        return false;
+    }
+
+    /**
+     * 느린 접촉을 반발 없이 처리합니다. 겹침을 풀고 법선 방향으로 다가오는 속도만 없앱니다.
+     * 잠든 공은 움직이지 않는 것으로 보고, 깨어 있는 공만 밀어내고 멈춥니다.
+     */
+    public void resolveRestingContact(Ball ball1, Ball ball2) {
+        if (!(ball1 instanceof MovableBall movable1) || !(ball2 instanceof MovableBall movable2)) {
+            return;
+        }
+        double nx = ball2.getX() - ball1.getX();
+        double ny = ball2.getY() - ball1.getY();
+        double distance = Math.sqrt(nx * nx + ny * ny);
+        if (distance == 0) {
+            return; // 중심이 같으면 방향을 정할 수 없음
+        }
+        nx /= distance;
+        ny /= distance;
+        double overlap = ball1.getRadius() + ball2.getRadius() - distance;
+        boolean asleep1 = movable1.isAsleep();
+        boolean asleep2 = movable2.isAsleep();
+        if (asleep1 && asleep2) {
+            return;
+        }
+
+        // 잠든 쪽은 질량이 무한한 것으로 봄
+        double inverseMass1 = asleep1 ? 0 : 1 / mass(ball1);
+        double inverseMass2 = asleep2 ? 0 : 1 / mass(ball2);
+        double inverseMassSum = inverseMass1 + inverseMass2;
+        if (overlap > 0) {
+            double push1 = overlap * inverseMass1 / inverseMassSum;
+            double push2 = overlap * inverseMass2 / inverseMassSum;
+            ball1.setX(ball1.getX() - nx * push1);
+            ball1.setY(ball1.getY() - ny * push1);
+            ball2.setX(ball2.getX() + nx * push2);
+            ball2.setY(ball2.getY() + ny * push2);
+        }
+
+        double approach = approachSpeed(movable1, movable2);
+        if (approach <= 0) {
+            return; // 이미 멀어지고 있음
+        }
+        double impulse = approach / inverseMassSum;
+        if (!asleep1) {
+            double change = impulse * inverseMass1;
+            movable1.setVelocity(movable1.getVelocityX() - nx * change, movable1.getVelocityY() - ny * change);
+        }
+        if (!asleep2) {
+            double change = impulse * inverseMass2;
+            movable2.setVelocity(movable2.getVelocityX() + nx * change, movable2.getVelocityY() + ny * change);
+        }
+    }
+
+    /**
+     * 스텝을 마칩니다. 깨어 있는 공의 정지 시간을 갱신하고, 모든 공이 충분히 오래 멈춘 섬을 재웁니다.
+     * @param balls beginStep에 넘긴 것과 같은 공 목록
+     * @param deltaTime 스텝 시간 (초)
+     */
+    public void endStep(List<? extends Ball> balls, double deltaTime) {
+        int count = balls.size();
+        sleepingCount = 0;
+        for (int i = 0; i < count; i++) {
+            islandMinResting[i] = Double.POSITIVE_INFINITY;
+            islandIds[i] = -1;
+            islandMass[i] = 0;
+            islandEnergy[i] = 0;
+            islandMaxSpeedSq[i] = 0;
+        }
+
+        // 섬별 질량과 운동 에너지 합산 (느린 접촉으로 이어진 잠든 공이 있으면 그 섬 번호를 이어받음)
+        for (int i = 0; i < count; i++) {
+            if (!(balls.get(i) instanceof MovableBall ball)) {
+                continue;
+            }
+            int root = find(i);
+            if (ball.isAsleep()) {
+                sleepingCount++;
+                if (islandIds[root] == -1) {
+                    islandIds[root] = ball.getSleepIsland();
+                }
+                continue;
+            }
+            double vx = ball.getVelocityX();
+            double vy = ball.getVelocityY();
+            double speedSq = vx * vx + vy * vy;
+            double mass = mass(ball);
+            islandMass[root] += mass;
+            islandEnergy[root] += mass * speedSq;
+            islandMaxSpeedSq[root] = Math.max(islandMaxSpeedSq[root], speedSq);
+        }
+
+        // 섬의 평균 제곱 속도가 임계값 아래면 정지 시간을 늘리고 섬별 최솟값 계산
+        double maxSpeedSq = sleepSpeedSq * MAX_SPEED_RATIO * MAX_SPEED_RATIO;
+        double dampingSpeedSq = sleepSpeedSq * DAMPING_SPEED_RATIO * DAMPING_SPEED_RATIO;
+        for (int i = 0; i < count; i++) {
+            if (!(balls.get(i) instanceof MovableBall ball) || ball.isAsleep()) {
+                continue;
+            }
+            int root = find(i);
+            if (islandEnergy[root] < dampingSpeedSq * islandMass[root]) {
+                ball.setVelocity(ball.getVelocityX() * RESTING_DAMPING, ball.getVelocityY() * RESTING_DAMPING);
+            }
+            boolean resting = islandEnergy[root] < sleepSpeedSq * islandMass[root]
+                    && islandMaxSpeedSq[root] < maxSpeedSq;
+            double restingTime = resting ? ball.getRestingTime() + deltaTime : 0;
+            ball.setRestingTime(restingTime);
+            islandMinResting[root] = Math.min(islandMinResting[root], restingTime);
+        }
+
+        // 섬 전체가 충분히 멈췄으면 재움 (잠드는 섬마다 새 번호를 붙임)
+        for (int i = 0; i < count; i++) {
+            if (!(balls.get(i) instanceof MovableBall ball) || ball.isAsleep()) {
+                continue;
+            }
+            int root = find(i);
+            if (islandMinResting[root] < timeToSleep) {
+                continue;
+            }
+            if (islandIds[root] == -1) {
+                islandIds[root] = nextIsland++;
+            }
+            ball.fallAsleep(islandIds[root]);
+            sleepingCount++;
+        }
+        stepBalls = List.of();
+    }
+
+    private void wakeIsland(MovableBall ball) {
+        int island = ball.getSleepIsland();
+        for (Ball other : stepBalls) {
+            if (other instanceof MovableBall member && member.isAsleep() && member.getSleepIsland() == island) {
+                member.wakeUp();
+            }
+        }
+        ball.wakeUp();
+        islandsWoken++;
+    }
+
+    /**
+     * 목록의 잠든 공을 모두 깨웁니다.
+     */
+    public void wakeAll(List<? extends Ball> balls) {
+        for (Ball ball : balls) {
+            if (ball instanceof MovableBall movableBall && movableBall.isAsleep()) {
+                movableBall.wakeUp();
+            }
+        }
+        sleepingCount = 0;
+    }
+
+    /**
+     * @return ball1에서 ball2 방향으로 두 공이 서로 다가오는 속도 (멀어지면 음수)
+     */
+    private static double approachSpeed(MovableBall ball1, MovableBall ball2) {
+        double nx = ball2.getX() - ball1.getX();
+        double ny = ball2.getY() - ball1.getY();
+        double distance = Math.sqrt(nx * nx + ny * ny);
+        if (distance == 0) {
+            return 0;
+        }
+        return ((ball1.getVelocityX() - ball2.getVelocityX()) * nx
+                + (ball1.getVelocityY() - ball2.getVelocityY()) * ny) / distance;
+    }
+
+    /**
+     * BallCollision과 같이 질량은 반지름의 세제곱에 비례한다고 봄
+     */
+    private static double mass(Ball ball) {
+        double radius = ball.getRadius();
+        return radius * radius * radius;
+    }
+
+    private static boolean isAsleep(Ball ball) {
+        return ball instanceof MovableBall movableBall && movableBall.isAsleep();
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]]; // 경로 절반 압축
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private void union(int i, int j) {
+        int rootI = find(i);
+        int rootJ = find(j);
+        if (rootI != rootJ) {
+            parent[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+        }
+    }
+
+    /**
+     * @return 마지막 스텝이 끝났을 때 잠들어 있던 공의 수
+     */
+    public int getSleepingCount() {
+        return sleepingCount;
+    }
+
+    /**
+     * @return 지금까지 깨운 섬의 수
+     */
+    public long getIslandsWoken() {
+        return islandsWoken;
+    }
+}
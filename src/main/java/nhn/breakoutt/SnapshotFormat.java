@@ -0,0 +1,187 @@
+package nhn.breakoutt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 세계 스냅샷의 공통 이진 형식을 읽고 쓰는 도우미입니다.
+ * 리플렉션이나 Java 직렬화 없이 필드를 정해진 순서로 {@link ByteBuffer}에 씁니다.
+ *
+ * <p>모든 스냅샷은 헤더로 시작합니다 (바이트 순서는 버퍼 설정을 따름):</p>
+ * <pre>
+ * int 세계별 MAGIC, byte VERSION, int 본문 길이 (바이트)
+ * </pre>
+ * <p>복원은 본문 길이만큼 버퍼에 남아 있는지 먼저 확인하므로, 잘린 스냅샷으로 세계 상태를 반쯤 바꾸는 일은 없습니다.</p>
+ *
+ * <p>색은 {@link Argb} 값을 채널당 8비트(RGBA 순서)로 저장하므로 그대로 복원됩니다.</p>
+ */
+public final class SnapshotFormat {
+    public static final byte VERSION = 2;
+    public static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+    public static final int COLOR_SIZE = 4;
+    /**
+     * {@link #writeBall}이 쓰는 바이트 수
+     */
+    public static final int BALL_SIZE = 5 * Double.BYTES + COLOR_SIZE + 2;
+    /**
+     * {@link #writeBox}가 쓰는 바이트 수
+     */
+    public static final int BOX_SIZE = 4 * Double.BYTES + COLOR_SIZE + 1;
+
+    private static final CollisionAction[] ACTIONS = CollisionAction.values();
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * 헤더를 쓰고 본문을 쓸 자리로 이동합니다. 본문을 다 쓴 뒤 {@link #endSnapshot}을 호출해야 합니다.
+     * @return 헤더가 시작하는 위치
+     * @throws java.nio.BufferOverflowException 버퍼 공간이 부족한 경우
+     */
+    public static int beginSnapshot(ByteBuffer buffer, int magic) {
+        int start = buffer.position();
+        buffer.putInt(magic);
+        buffer.put(VERSION);
+        buffer.putInt(0); // 본문 길이는 endSnapshot에서 채움
+        return start;
+    }
+
+    /**
+     * 헤더에 본문 길이를 기록합니다.
+     * @param start {@link #beginSnapshot}이 돌려준 위치
+     */
+    public static void endSnapshot(ByteBuffer buffer, int start) {
+        buffer.putInt(start + Integer.BYTES + 1, buffer.position() - start - HEADER_SIZE);
+    }
+
+    /**
+     * 헤더를 읽어 확인합니다.
+     * @return 본문 길이
+     * @throws IllegalArgumentException 다른 세계의 스냅샷이거나, 버전이 다르거나, 본문이 잘린 경우
+     */
+    public static int readHeader(ByteBuffer buffer, int magic) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IllegalArgumentException("스냅샷 헤더가 잘렸습니다");
+        }
+        if (buffer.getInt() != magic) {
+            throw new IllegalArgumentException("이 세계의 스냅샷이 아닙니다");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("스냅샷 본문이 잘렸습니다: " + buffer.remaining() + "/" + length);
+        }
+        return length;
+    }
+
+    public static void writeColor(ByteBuffer buffer, int argb) {
+        buffer.put((byte) Argb.red(argb));
+        buffer.put((byte) Argb.green(argb));
+        buffer.put((byte) Argb.blue(argb));
+        buffer.put((byte) Argb.alpha(argb));
+    }
+
+    public static int readColor(ByteBuffer buffer) {
+        int red = buffer.get() & 0xFF;
+        int green = buffer.get() & 0xFF;
+        int blue = buffer.get() & 0xFF;
+        int alpha = buffer.get() & 0xFF;
+        return Argb.rgba(red, green, blue, alpha);
+    }
+
+    public static void writeAction(ByteBuffer buffer, CollisionAction action) {
+        buffer.put((byte) action.ordinal());
+    }
+
+    public static CollisionAction readAction(ByteBuffer buffer) {
+        return ACTIONS[buffer.get()];
+    }
+
+    /**
+     * 공의 위치, 반지름, 속도, 색, 충돌 액션, 파괴 여부를 씁니다.
+     */
+    public static void writeBall(ByteBuffer buffer, Ball ball) {
+        buffer.putDouble(ball.getX());
+        buffer.putDouble(ball.getY());
+        buffer.putDouble(ball.getRadius());
+        buffer.putDouble(ball.getDx());
+        buffer.putDouble(ball.getDy());
+        writeColor(buffer, ball.getArgb());
+        writeAction(buffer, ball.getCollisionAction());
+        buffer.put((byte) (ball.isDestroyed() ? 1 : 0));
+    }
+
+    /**
+     * {@link #writeBall}로 쓴 공을 읽습니다.
+     * @param reuse 상태를 덮어쓸 기존 객체. 정확히 Ball이고 반지름이 같을 때만 재사용하며, 아니면 새 공을 만듦
+     * @return 복원한 공
+     */
+    public static Ball readBall(ByteBuffer buffer, Object reuse) {
+        double x = buffer.getDouble();
+        double y = buffer.getDouble();
+        double radius = buffer.getDouble();
+        double dx = buffer.getDouble();
+        double dy = buffer.getDouble();
+        int argb = readColor(buffer);
+        CollisionAction action = readAction(buffer);
+        boolean destroyed = buffer.get() != 0;
+
+        Ball ball;
+        if (reuse != null && reuse.getClass() == Ball.class && ((Ball) reuse).getRadius() == radius) {
+            ball = (Ball) reuse;
+            ball.setX(x);
+            ball.setY(y);
+            ball.setDx(dx);
+            ball.setDy(dy);
+            ball.setArgb(argb);
+            ball.setCollisionAction(action);
+        } else {
+            ball = new Ball(x, y, radius, dx, dy, argb, action);
+        }
+        ball.setDestroyed(destroyed);
+        return ball;
+    }
+
+    /**
+     * 상자의 위치, 크기, 색, 충돌 액션을 씁니다.
+     */
+    public static void writeBox(ByteBuffer buffer, Box box) {
+        buffer.putDouble(box.getX());
+        buffer.putDouble(box.getY());
+        buffer.putDouble(box.getWidth());
+        buffer.putDouble(box.getHeight());
+        writeColor(buffer, box.getArgb());
+        writeAction(buffer, box.getCollisionAction());
+    }
+
+    /**
+     * {@link #writeBox}로 쓴 상자를 읽습니다.
+     * @param reuse 상태를 덮어쓸 기존 객체. 정확히 Box일 때만 재사용하며, 아니면 새 상자를 만듦
+     * @return 복원한 상자
+     */
+    public static Box readBox(ByteBuffer buffer, Object reuse) {
+        double x = buffer.getDouble();
+        double y = buffer.getDouble();
+        double width = buffer.getDouble();
+        double height = buffer.getDouble();
+        int argb = readColor(buffer);
+        CollisionAction action = readAction(buffer);
+
+        Box box;
+        if (reuse != null && reuse.getClass() == Box.class) {
+            box = (Box) reuse;
+            if (box.getX() != x || box.getY() != y) {
+                box.moveTo(new Point(x, y));
+            }
+            box.setWidth(width);
+            box.setHeight(height);
+        } else {
+            box = new Box(x, y, width, height);
+        }
+        box.setArgb(argb);
+        box.setCollisionAction(action);
+        return box;
+    }
+}
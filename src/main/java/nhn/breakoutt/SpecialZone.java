@@ -1,7 +1,6 @@
 package nhn.breakoutt;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 /**
  * 특수 효과를 제공하는 영역 클래스
@@ -21,7 +20,6 @@ public class SpecialZone extends Box {
     }
 
     private ZoneType zoneType;
-    private Color effectColor;
     private Point teleportDestination; // TELEPORT 타입일 때 사용
 
     /**
@@ -30,8 +28,7 @@ public class SpecialZone extends Box {
     public SpecialZone(double x, double y, double width, double height, ZoneType zoneType) {
         super(x, y, width, height);
         this.zoneType = zoneType;
-        this.effectColor = getEffectColor(zoneType);
-        setColor(effectColor);
+        setArgb(getEffectColor(zoneType));
         setCollisionAction(CollisionAction.CUSTOM);
     }
 
@@ -84,20 +81,20 @@ public class SpecialZone extends Box {
     /**
      * 효과에 따른 색상을 반환합니다
      */
-    private Color getEffectColor(ZoneType type) {
+    private int getEffectColor(ZoneType type) {
         switch (type) {
             case SPEED_UP:
-                return Color.RED.deriveColor(0, 1, 1, 0.3); // 빨간색 반투명
+                return Argb.withOpacity(Argb.RED, 0.3); // 빨간색 반투명
             case SLOW_DOWN:
-                return Color.BLUE.deriveColor(0, 1, 1, 0.3); // 파란색 반투명
+                return Argb.withOpacity(Argb.BLUE, 0.3); // 파란색 반투명
             case GRAVITY:
-                return Color.BROWN.deriveColor(0, 1, 1, 0.3); // 갈색 반투명
+                return Argb.withOpacity(Argb.BROWN, 0.3); // 갈색 반투명
             case ANTI_GRAVITY:
-                return Color.CYAN.deriveColor(0, 1, 1, 0.3); // 시안색 반투명
+                return Argb.withOpacity(Argb.CYAN, 0.3); // 시안색 반투명
             case TELEPORT:
-                return Color.PURPLE.deriveColor(0, 1, 1, 0.3); // 보라색 반투명
+                return Argb.withOpacity(Argb.PURPLE, 0.3); // 보라색 반투명
             default:
-                return Color.GRAY.deriveColor(0, 1, 1, 0.3);
+                return Argb.withOpacity(Argb.GRAY, 0.3);
         }
     }
 
@@ -106,113 +103,7 @@ public class SpecialZone extends Box {
      */
     @Override
     public void paint(GraphicsContext gc) {
-        // 반투명 배경
-        gc.setGlobalAlpha(0.3);
-        gc.setFill(effectColor);
-        gc.fillRect(getX(), getY(), getWidth(), getHeight());
-
-        // 테두리
-        gc.setGlobalAlpha(0.8);
-        gc.setStroke(effectColor.brighter());
-        gc.setLineWidth(2);
-        gc.strokeRect(getX(), getY(), getWidth(), getHeight());
-
-        // 효과 표시 아이콘
-        gc.setGlobalAlpha(1.0);
-        drawEffectIcon(gc);
-
-        // 투명도 복원
-        gc.setGlobalAlpha(1.0);
-    }
-
-    /**
-     * 효과 타입에 따른 아이콘을 그립니다
-     */
-    private void drawEffectIcon(GraphicsContext gc) {
-        double centerX = getX() + getWidth() / 2;
-        double centerY = getY() + getHeight() / 2;
-        double iconSize = Math.min(getWidth(), getHeight()) * 0.3;
-
-        gc.setFill(effectColor.brighter().brighter());
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(2);
-
-        switch (zoneType) {
-            case SPEED_UP:
-                // 화살표 (오른쪽)
-                drawArrow(gc, centerX, centerY, iconSize, 0);
-                break;
-
-            case SLOW_DOWN:
-                // 원 (느림 표시)
-                gc.fillOval(centerX - iconSize/2, centerY - iconSize/2, iconSize, iconSize);
-                gc.strokeOval(centerX - iconSize/2, centerY - iconSize/2, iconSize, iconSize);
-                break;
-
-            case GRAVITY:
-                // 아래 화살표
-                drawArrow(gc, centerX, centerY, iconSize, Math.PI/2);
-                break;
-
-            case ANTI_GRAVITY:
-                // 위 화살표
-                drawArrow(gc, centerX, centerY, iconSize, -Math.PI/2);
-                break;
-
-            case TELEPORT:
-                // 별 모양
-                drawStar(gc, centerX, centerY, iconSize);
-                break;
-        }
-    }
-
-    /**
-     * 화살표를 그립니다
-     */
-    private void drawArrow(GraphicsContext gc, double x, double y, double size, double angle) {
-        double arrowLength = size;
-        double arrowWidth = size * 0.6;
-
-        // 화살표 몸체
-        double endX = x + arrowLength * Math.cos(angle);
-        double endY = y + arrowLength * Math.sin(angle);
-
-        gc.strokeLine(x, y, endX, endY);
-
-        // 화살표 머리
-        double headAngle1 = angle + Math.PI * 3/4;
-        double headAngle2 = angle - Math.PI * 3/4;
-        double headLength = arrowWidth * 0.5;
-
-        gc.strokeLine(endX, endY,
-                     endX + headLength * Math.cos(headAngle1),
-                     endY + headLength * Math.sin(headAngle1));
-        gc.strokeLine(endX, endY,
-                     endX + headLength * Math.cos(headAngle2),
-                     endY + headLength * Math.sin(headAngle2));
-    }
-
-    /**
-     * 별 모양을 그립니다
-     */
-    private void drawStar(GraphicsContext gc, double centerX, double centerY, double size) {
-        int numPoints = 5;
-        double[] xPoints = new double[numPoints * 2];
-        double[] yPoints = new double[numPoints * 2];
-
-        double outerRadius = size / 2;
-        double innerRadius = outerRadius * 0.4;
-
-        for (int i = 0; i < numPoints * 2; i++) {
-            double angle = i * Math.PI / numPoints;
-            double radius = (i % 2 == 0) ? outerRadius : innerRadius;
-
-            xPoints[i] = centerX + radius * Math.cos(angle - Math.PI/2);
-            yPoints[i] = centerY + radius * Math.sin(angle - Math.PI/2);
-        }
-
-        gc.fillPolygon(xPoints, yPoints, numPoints * 2);
-        gc.strokePolygon(xPoints, yPoints, numPoints * 2);
+        ShapeRenderer.paintSpecialZone(gc, this);
     }
 
     /**
@@ -232,8 +123,7 @@ public class SpecialZone extends Box {
 
     public void setZoneType(ZoneType zoneType) {
         this.zoneType = zoneType;
-        this.effectColor = getEffectColor(zoneType);
-        setColor(effectColor);
+        setArgb(getEffectColor(zoneType));
     }
 
     public Point getTeleportDestination() {
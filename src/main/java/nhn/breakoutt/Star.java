@@ -14,7 +14,7 @@ public class Star implements Paintable, Movable, Collidable {
     private double rotation;        // 회전 각도 (라디안)
     private double dx;              // X 방향 속도
     private double dy;              // Y 방향 속도
-    private Color color;            // 색상
+    private int argb;               // 색상 (0xAARRGGBB, Argb)
     private CollisionAction collisionAction; // 충돌 액션
     private boolean destroyed = false;
 
@@ -25,7 +25,7 @@ public class Star implements Paintable, Movable, Collidable {
      * @param outerRadius 외곽 반지름
      */
     public Star(double centerX, double centerY, double outerRadius) {
-        this(centerX, centerY, outerRadius, outerRadius * 0.4, 0, 0, 0, Color.YELLOW, CollisionAction.BOUNCE);
+        this(centerX, centerY, outerRadius, outerRadius * 0.4, 0, 0, 0, Argb.YELLOW, CollisionAction.BOUNCE);
     }
 
     /**
@@ -33,6 +33,14 @@ public class Star implements Paintable, Movable, Collidable {
      */
     public Star(double centerX, double centerY, double outerRadius, double innerRadius,
                double rotation, double dx, double dy, Color color, CollisionAction collisionAction) {
+        this(centerX, centerY, outerRadius, innerRadius, rotation, dx, dy, FxColors.toArgb(color), collisionAction);
+    }
+
+    /**
+     * 색을 {@link Argb} 값으로 받는 완전한 생성자
+     */
+    public Star(double centerX, double centerY, double outerRadius, double innerRadius,
+               double rotation, double dx, double dy, int argb, CollisionAction collisionAction) {
         if (outerRadius <= 0) {
             throw new IllegalArgumentException("외곽 반지름은 양수여야 합니다");
         }
@@ -42,9 +50,6 @@ public class Star implements Paintable, Movable, Collidable {
         if (innerRadius >= outerRadius) {
             throw new IllegalArgumentException("내부 반지름은 외곽 반지름보다 작아야 합니다");
         }
-        if (color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다");
-        }
         if (collisionAction == null) {
             throw new IllegalArgumentException("충돌 액션은 null일 수 없습니다");
         }
@@ -55,7 +60,7 @@ public class Star implements Paintable, Movable, Collidable {
         this.rotation = rotation;
         this.dx = dx;
         this.dy = dy;
-        this.color = color;
+        this.argb = argb;
         this.collisionAction = collisionAction;
     }
 
@@ -63,7 +68,7 @@ public class Star implements Paintable, Movable, Collidable {
      * 5각 별의 꼭짓점들을 계산합니다.
      * @return 10개의 점 배열 (외곽 5개 + 내부 5개 교대로)
      */
-    private Point[] calculateVertices() {
+    Point[] calculateVertices() {
         Point[] vertices = new Point[10];
         double angleStep = Math.PI / 5; // 36도 (2π/10)
 
@@ -82,24 +87,7 @@ public class Star implements Paintable, Movable, Collidable {
     // Paintable 구현
     @Override
     public void paint(GraphicsContext gc) {
-        Point[] vertices = calculateVertices();
-
-        // 별 채우기
-        gc.setFill(color);
-        double[] xPoints = new double[10];
-        double[] yPoints = new double[10];
-
-        for (int i = 0; i < 10; i++) {
-            xPoints[i] = vertices[i].getX();
-            yPoints[i] = vertices[i].getY();
-        }
-
-        gc.fillPolygon(xPoints, yPoints, 10);
-
-        // 테두리 그리기
-        gc.setStroke(color.darker());
-        gc.setLineWidth(2);
-        gc.strokePolygon(xPoints, yPoints, 10);
+        ShapeRenderer.paintStar(gc, this);
     }
 
     // Movable 구현
@@ -241,14 +229,22 @@ public class Star implements Paintable, Movable, Collidable {
     }
 
     public Color getColor() {
-        return color;
+        return FxColors.toColor(argb);
     }
 
     public void setColor(Color color) {
-        if (color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다");
-        }
-        this.color = color;
+        this.argb = FxColors.toArgb(color);
+    }
+
+    /**
+     * @return 0xAARRGGBB 형식의 색 ({@link Argb})
+     */
+    public int getArgb() {
+        return argb;
+    }
+
+    public void setArgb(int argb) {
+        this.argb = argb;
     }
 
     public void setCollisionAction(CollisionAction collisionAction) {
@@ -269,6 +265,6 @@ public class Star implements Paintable, Movable, Collidable {
     @Override
     public String toString() {
         return String.format("Star[center=%.1f,%.1f, outerRadius=%.1f, innerRadius=%.1f, rotation=%.2f, color=%s, action=%s]",
-            center.getX(), center.getY(), outerRadius, innerRadius, rotation, color, collisionAction);
+            center.getX(), center.getY(), outerRadius, innerRadius, rotation, Argb.toString(argb), collisionAction);
     }
 }
@@ -0,0 +1,110 @@
+package nhn.breakoutt;
+
+/**
+ * {@link BallStore}에 저장된 공 하나를 가리키는 핸들입니다.
+ * 좌표, 속도, 반지름을 따로 복사해 두지 않고 저장소의 배열에서 바로 읽고 쓰므로
+ * Ball을 받는 기존 코드(충돌 검사, Broad Phase 등)에서 그대로 사용할 수 있습니다.
+ * 핸들은 {@link BallStore#handle(int)}로 처음 요청할 때 만들어지며, 저장소에서 제거된 핸들을 사용하면
+ * IllegalStateException이 발생합니다.
+ *
+ * <p>MovableBall이 아니므로 {@link BallCollision#resolveElasticCollision}과 MovableWorld/BoundedWorld의
+ * 공 간 충돌 처리는 이 핸들을 움직이지 않는 공으로 봅니다. 저장소의 공끼리 충돌시키려면
+ * {@link BallStore#resolveCollisions()}를 사용합니다.</p>
+ */
+public class StoredBall extends Ball {
+    final BallStore store;
+    int index;
+
+    StoredBall(BallStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    /**
+     * 저장소 안에서의 현재 위치를 반환합니다. 다른 공이 제거되면 바뀔 수 있습니다.
+     */
+    public int getIndex() {
+        return checkedIndex();
+    }
+
+    public BallStore getStore() {
+        return store;
+    }
+
+    public boolean isStored() {
+        return index >= 0;
+    }
+
+    @Override
+    public double getX() {
+        return store.x[checkedIndex()];
+    }
+
+    @Override
+    public double getY() {
+        return store.y[checkedIndex()];
+    }
+
+    @Override
+    public void setX(double x) {
+        store.x[checkedIndex()] = x;
+    }
+
+    @Override
+    public void setY(double y) {
+        store.y[checkedIndex()] = y;
+    }
+
+    @Override
+    public double getRadius() {
+        return store.radius[checkedIndex()];
+    }
+
+    @Override
+    public double getDx() {
+        return store.vx[checkedIndex()];
+    }
+
+    @Override
+    public double getDy() {
+        return store.vy[checkedIndex()];
+    }
+
+    @Override
+    public void setDx(double dx) {
+        store.vx[checkedIndex()] = dx;
+    }
+
+    @Override
+    public void setDy(double dy) {
+        store.vy[checkedIndex()] = dy;
+    }
+
+    public double getMass() {
+        return store.mass[checkedIndex()];
+    }
+
+    public int getFlags() {
+        return store.flags[checkedIndex()];
+    }
+
+    public void setFlags(int flags) {
+        store.setFlags(checkedIndex(), flags);
+    }
+
+    /**
+     * 저장소의 플래그(중력, 공기저항, 경계)를 적용해 이 공만 이동시킵니다.
+     */
+    @Override
+    public void move(double deltaTime) {
+        checkedIndex();
+        store.integrate(this, deltaTime);
+    }
+
+    private int checkedIndex() {
+        if (index < 0) {
+            throw new IllegalStateException("저장소에서 제거된 공입니다");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,132 @@
+package nhn.breakoutt;
+
+import java.util.List;
+
+/**
+ * X축 기준 Sort and Sweep(Sweep and Prune) Broad Phase입니다.
+ * 객체들을 경계 시작점(minX) 순서로 정렬해 두고, 앞에서부터 훑으면서
+ * X 구간이 겹치는 객체끼리만 Y 구간을 비교합니다.
+ *
+ * 정렬 순서는 프레임 사이에 유지됩니다. 공은 한 프레임에 조금씩만 움직이므로
+ * 이전 순서는 거의 정렬된 상태이고, 삽입 정렬로 O(n)에 가깝게 다시 정렬됩니다.
+ */
+public class SweepAndPruneBroadPhase implements BroadPhase {
+    private final PairBuffer pairs;
+
+    // 인덱스별 경계 (매 프레임 갱신)
+    private double[] minX = new double[0];
+    private double[] maxX = new double[0];
+    private double[] minY = new double[0];
+    private double[] maxY = new double[0];
+
+    // minX 기준으로 정렬된 인덱스 (프레임 사이에 유지)
+    private int[] order = new int[0];
+    private int orderSize;
+
+    public SweepAndPruneBroadPhase() {
+        this.pairs = new PairBuffer();
+    }
+
+    @Override
+    public void findCandidatePairs(List<? extends Boundable> objects, PairHandler handler) {
+        int count = objects.size();
+        ensureCapacity(count);
+
+        // 1. 경계 갱신
+        for (int i = 0; i < count; i++) {
+            Boundable object = objects.get(i);
+            if (object instanceof Ball ball) {
+                // 공은 getBounds()로 CircleBounds를 만들지 않고 좌표에서 바로 계산
+                double radius = ball.getRadius();
+                minX[i] = ball.getX() - radius;
+                maxX[i] = ball.getX() + radius;
+                minY[i] = ball.getY() - radius;
+                maxY[i] = ball.getY() + radius;
+            } else {
+                Bounds bounds = object.getBounds();
+                minX[i] = bounds.getMinX();
+                maxX[i] = bounds.getMaxX();
+                minY[i] = bounds.getMinY();
+                maxY[i] = bounds.getMaxY();
+            }
+        }
+
+        // 2. 객체 수가 바뀐 경우 정렬 순서 보정
+        syncOrder(count);
+
+        // 3. 이전 순서에서 삽입 정렬
+        insertionSort();
+
+        // 4. 훑으면서 겹치는 구간 찾기
+        sweep();
+
+        pairs.sort();
+        pairs.forEach(handler);
+        pairs.clear();
+    }
+
+    private void ensureCapacity(int count) {
+        if (minX.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, minX.length * 2);
+        minX = new double[capacity];
+        maxX = new double[capacity];
+        minY = new double[capacity];
+        maxY = new double[capacity];
+
+        int[] newOrder = new int[capacity];
+        System.arraycopy(order, 0, newOrder, 0, orderSize);
+        order = newOrder;
+    }
+
+    /**
+     * 제거된 인덱스는 빼고, 새로 추가된 인덱스는 뒤에 붙입니다.
+     * 나머지 인덱스의 상대 순서는 유지되므로 삽입 정렬이 여전히 빠르게 동작합니다.
+     */
+    private void syncOrder(int count) {
+        if (orderSize > count) {
+            int kept = 0;
+            for (int k = 0; k < orderSize; k++) {
+                if (order[k] < count) {
+                    order[kept++] = order[k];
+                }
+            }
+            orderSize = kept;
+        }
+        while (orderSize < count) {
+            order[orderSize] = orderSize;
+            orderSize++;
+        }
+    }
+
+    private void insertionSort() {
+        for (int k = 1; k < orderSize; k++) {
+            int index = order[k];
+            double key = minX[index];
+            int position = k - 1;
+            while (position >= 0 && minX[order[position]] > key) {
+                order[position + 1] = order[position];
+                position--;
+            }
+            order[position + 1] = index;
+        }
+    }
+
+    private void sweep() {
+        for (int a = 0; a < orderSize; a++) {
+            int i = order[a];
+            double limit = maxX[i];
+
+            for (int b = a + 1; b < orderSize; b++) {
+                int j = order[b];
+                if (minX[j] > limit) {
+                    break; // 이후 객체들은 모두 오른쪽에 있음
+                }
+                if (!(maxY[j] < minY[i] || minY[j] > maxY[i])) {
+                    pairs.add(i, j);
+                }
+            }
+        }
+    }
+}
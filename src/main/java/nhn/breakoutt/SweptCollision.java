@@ -0,0 +1,166 @@
+package nhn.breakoutt;
+
+/**
+ * 움직이는 원과 고정된 사각형(AABB) 사이의 연속 충돌을 계산하는 클래스입니다.
+ * 스텝이 끝난 위치에서만 겹침을 검사하면 빠른 공이 얇은 벽돌을 건너뛸 수 있으므로,
+ * 이동 경로 전체를 훑어 처음 닿는 시각(time of impact)을 구합니다.
+ *
+ * 사각형을 반지름만큼 키운 모서리가 둥근 사각형에 공의 중심(반직선)을 쏘는 방식으로,
+ * 변 영역은 슬랩 검사로, 꼭짓점 영역은 꼭짓점을 중심으로 한 원과의 교차로 계산합니다.
+ */
+public class SweptCollision {
+
+    /**
+     * 충돌하지 않을 때 반환하는 시각
+     */
+    public static final double NO_HIT = Double.POSITIVE_INFINITY;
+
+    /**
+     * 속도 (dx, dy)로 움직이는 원이 사각형에 처음 닿는 시각을 구합니다.
+     * 이미 겹친 상태에서 사각형 안쪽으로 움직이고 있으면 0을, 멀어지거나 나란히 움직이면 {@link #NO_HIT}을 반환합니다.
+     * @param x 원 중심의 X 좌표
+     * @param y 원 중심의 Y 좌표
+     * @param radius 원의 반지름
+     * @param dx X 방향 속도
+     * @param dy Y 방향 속도
+     * @param minX 사각형의 최소 X
+     * @param minY 사각형의 최소 Y
+     * @param maxX 사각형의 최대 X
+     * @param maxY 사각형의 최대 Y
+     * @return 처음 닿는 시각 (0 이상), 닿지 않으면 {@link #NO_HIT}
+     */
+    public static double timeOfImpact(double x, double y, double radius, double dx, double dy,
+                                      double minX, double minY, double maxX, double maxY) {
+        // 이미 닿아 있는 경우: 안쪽으로 움직일 때만 즉시 충돌
+        double closestX = Math.max(minX, Math.min(x, maxX));
+        double closestY = Math.max(minY, Math.min(y, maxY));
+        double offsetX = x - closestX;
+        double offsetY = y - closestY;
+        if (offsetX * offsetX + offsetY * offsetY < radius * radius) {
+            if (offsetX == 0 && offsetY == 0) {
+                // 중심이 사각형 안: 속도가 있으면 빠져나갈 때까지 계속 충돌로 봄
+                return dx != 0 || dy != 0 ? 0 : NO_HIT;
+            }
+            return offsetX * dx + offsetY * dy < 0 ? 0 : NO_HIT;
+        }
+
+        // 반지름만큼 키운 사각형에 대한 슬랩 검사
+        double enter = Double.NEGATIVE_INFINITY;
+        double exit = Double.POSITIVE_INFINITY;
+
+        if (dx == 0) {
+            if (x < minX - radius || x > maxX + radius) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minX - radius - x) / dx;
+            double t2 = (maxX + radius - x) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        if (dy == 0) {
+            if (y < minY - radius || y > maxY + radius) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minY - radius - y) / dy;
+            double t2 = (maxY + radius - y) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        if (enter > exit || exit <= 0) {
+            return NO_HIT;
+        }
+
+        // 키운 사각형에 들어선 지점이 변 영역이면 그대로 충돌
+        double time = Math.max(enter, 0);
+        double hitX = x + dx * time;
+        double hitY = y + dy * time;
+        if (hitX >= minX && hitX <= maxX) {
+            // 위/아래 변: 변을 향해 움직일 때만 충돌 (변을 따라 스치는 경우 제외)
+            return (hitY < minY ? dy > 0 : dy < 0) ? time : NO_HIT;
+        }
+        if (hitY >= minY && hitY <= maxY) {
+            // 왼쪽/오른쪽 변
+            return (hitX < minX ? dx > 0 : dx < 0) ? time : NO_HIT;
+        }
+
+        // 꼭짓점 영역: 둥근 모서리(꼭짓점 중심, 반지름 radius)와의 교차
+        // 이 영역에서 원을 비껴가면 키운 사각형의 바깥 변으로 빠져나가므로 다른 변과는 닿지 않음
+        double cornerX = hitX < minX ? minX : maxX;
+        double cornerY = hitY < minY ? minY : maxY;
+        return timeOfImpactWithPoint(x - cornerX, y - cornerY, radius, dx, dy);
+    }
+
+    /**
+     * 원점에 대해 상대 위치 (relX, relY)에서 출발한 원의 중심이 원점으로부터 radius 거리에 처음 닿는 시각입니다.
+     */
+    private static double timeOfImpactWithPoint(double relX, double relY, double radius, double dx, double dy) {
+        double a = dx * dx + dy * dy;
+        double b = relX * dx + relY * dy;
+        double c = relX * relX + relY * relY - radius * radius;
+        if (b >= 0) {
+            return NO_HIT; // 멀어지는 중
+        }
+
+        double discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return NO_HIT;
+        }
+
+        double time = (-b - Math.sqrt(discriminant)) / a;
+        return Math.max(time, 0);
+    }
+
+    /**
+     * 사각형에 닿아 있는 공의 속도를 접촉 법선에 대해 반사시킵니다.
+     * 변에 닿았으면 해당 축의 성분만, 꼭짓점에 닿았으면 꼭짓점에서 중심 방향을 법선으로 반사합니다.
+     * 이미 멀어지고 있으면 속도를 바꾸지 않습니다.
+     * @param ball 반사시킬 공
+     * @param minX 사각형의 최소 X
+     * @param minY 사각형의 최소 Y
+     * @param maxX 사각형의 최대 X
+     * @param maxY 사각형의 최대 Y
+     * @return 속도가 바뀌었으면 true
+     */
+    public static boolean reflect(Ball ball, double minX, double minY, double maxX, double maxY) {
+        double x = ball.getX();
+        double y = ball.getY();
+        double normalX = x - Math.max(minX, Math.min(x, maxX));
+        double normalY = y - Math.max(minY, Math.min(y, maxY));
+
+        if (normalX == 0 && normalY == 0) {
+            // 중심이 사각형 안: 가장 가까운 변의 바깥 방향을 법선으로 사용
+            double toLeft = x - minX;
+            double toRight = maxX - x;
+            double toTop = y - minY;
+            double toBottom = maxY - y;
+            double nearest = Math.min(Math.min(toLeft, toRight), Math.min(toTop, toBottom));
+
+            if (nearest == toLeft) {
+                normalX = -1;
+            } else if (nearest == toRight) {
+                normalX = 1;
+            } else if (nearest == toTop) {
+                normalY = -1;
+            } else {
+                normalY = 1;
+            }
+        } else {
+            double length = Math.sqrt(normalX * normalX + normalY * normalY);
+            normalX /= length;
+            normalY /= length;
+        }
+
+        double velocityAlongNormal = ball.getDx() * normalX + ball.getDy() * normalY;
+        if (velocityAlongNormal >= 0) {
+            return false;
+        }
+
+        ball.setDx(ball.getDx() - 2 * velocityAlongNormal * normalX);
+        ball.setDy(ball.getDy() - 2 * velocityAlongNormal * normalY);
+        return true;
+    }
+}
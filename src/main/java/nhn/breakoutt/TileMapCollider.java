@@ -0,0 +1,157 @@
+package nhn.breakoutt;
+
+/**
+ * 격자(타일 맵)로 표현된 벽과의 충돌을 처리하는 클래스입니다.
+ * 객체의 경계가 걸치는 칸만 확인하므로, 벽의 개수와 관계없이 객체 하나당 검사 비용이 일정합니다.
+ * 충돌한 Ball과 Box는 타일 모서리 밖으로 밀어내 벽에 파묻히지 않도록 합니다.
+ */
+public class TileMapCollider {
+    private final double cellWidth;
+    private final double cellHeight;
+
+    /**
+     * 칸 좌표로 벽 타일을 조회하는 인터페이스입니다.
+     */
+    @FunctionalInterface
+    public interface TileSource {
+        /**
+         * @param col 열 번호 (음수일 수 있음)
+         * @param row 행 번호 (음수일 수 있음)
+         * @return 해당 칸이 벽이면 벽 Box, 아니면 null
+         */
+        Box getSolidTile(int col, int row);
+    }
+
+    /**
+     * @param cellWidth 칸 너비
+     * @param cellHeight 칸 높이
+     * @throws IllegalArgumentException 칸 크기가 양수가 아닌 경우
+     */
+    public TileMapCollider(double cellWidth, double cellHeight) {
+        if (!(cellWidth > 0) || !(cellHeight > 0)) {
+            throw new IllegalArgumentException("칸 크기는 양수여야 합니다");
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * 객체와 겹치는 벽 타일들과의 충돌을 처리합니다.
+     * 타일은 행 우선 순서로 검사하며, 충돌할 때마다 양쪽의 handleCollision을 호출한 뒤 겹침을 해소합니다.
+     * @param collidable 검사할 객체
+     * @param tiles 벽 타일 조회
+     * @return 충돌한 타일 수
+     */
+    public int collide(Collidable collidable, TileSource tiles) {
+        Bounds bounds = collidable.getBounds();
+
+        // 칸 c는 [c*cellWidth, (c+1)*cellWidth] 구간을 차지함 (경계가 닿아도 겹침)
+        int colFrom = (int) Math.ceil(bounds.getMinX() / cellWidth - 1);
+        int colTo = (int) Math.floor(bounds.getMaxX() / cellWidth);
+        int rowFrom = (int) Math.ceil(bounds.getMinY() / cellHeight - 1);
+        int rowTo = (int) Math.floor(bounds.getMaxY() / cellHeight);
+
+        int hits = 0;
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                Box tile = tiles.getSolidTile(col, row);
+                if (tile == null || !collidable.isColliding(tile)) {
+                    continue; // 앞의 타일에서 밀려나 더 이상 겹치지 않을 수도 있음
+                }
+
+                collidable.handleCollision(tile);
+                tile.handleCollision(collidable);
+                resolvePenetration(collidable, tile);
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 객체를 타일 밖으로 밀어냅니다. 위치를 바꿀 수 있는 Ball과 Box만 처리합니다.
+     */
+    private void resolvePenetration(Collidable collidable, Box tile) {
+        double tileMinX = tile.getX();
+        double tileMinY = tile.getY();
+        double tileMaxX = tileMinX + tile.getWidth();
+        double tileMaxY = tileMinY + tile.getHeight();
+
+        if (collidable instanceof Ball ball) {
+            resolveBall(ball, tileMinX, tileMinY, tileMaxX, tileMaxY);
+        } else if (collidable instanceof Box box && box != tile) {
+            resolveBox(box, tileMinX, tileMinY, tileMaxX, tileMaxY);
+        }
+    }
+
+    private void resolveBall(Ball ball, double tileMinX, double tileMinY, double tileMaxX, double tileMaxY) {
+        double x = ball.getX();
+        double y = ball.getY();
+        double radius = ball.getRadius();
+
+        boolean centerInside = x > tileMinX && x < tileMaxX && y > tileMinY && y < tileMaxY;
+        if (centerInside) {
+            // 중심이 타일 안에 있으면 가장 가까운 모서리 쪽으로 밀어냄
+            double toLeft = x - tileMinX;
+            double toRight = tileMaxX - x;
+            double toTop = y - tileMinY;
+            double toBottom = tileMaxY - y;
+            double nearest = Math.min(Math.min(toLeft, toRight), Math.min(toTop, toBottom));
+
+            if (nearest == toLeft) {
+                ball.setX(tileMinX - radius);
+            } else if (nearest == toRight) {
+                ball.setX(tileMaxX + radius);
+            } else if (nearest == toTop) {
+                ball.setY(tileMinY - radius);
+            } else {
+                ball.setY(tileMaxY + radius);
+            }
+            return;
+        }
+
+        // 타일에서 가장 가까운 점으로부터 반지름만큼 떨어뜨림
+        double closestX = Math.max(tileMinX, Math.min(x, tileMaxX));
+        double closestY = Math.max(tileMinY, Math.min(y, tileMaxY));
+        double dx = x - closestX;
+        double dy = y - closestY;
+        double distanceSq = dx * dx + dy * dy;
+
+        if (distanceSq >= radius * radius || distanceSq == 0) {
+            return; // 원은 닿지 않음 (경계 사각형만 겹침)
+        }
+
+        double distance = Math.sqrt(distanceSq);
+        double push = radius - distance;
+        ball.setX(x + dx / distance * push);
+        ball.setY(y + dy / distance * push);
+    }
+
+    private void resolveBox(Box box, double tileMinX, double tileMinY, double tileMaxX, double tileMaxY) {
+        double overlapX = Math.min(box.getX() + box.getWidth(), tileMaxX) - Math.max(box.getX(), tileMinX);
+        double overlapY = Math.min(box.getY() + box.getHeight(), tileMaxY) - Math.max(box.getY(), tileMinY);
+        if (overlapX <= 0 || overlapY <= 0) {
+            return;
+        }
+
+        double boxCenterX = box.getX() + box.getWidth() / 2;
+        double boxCenterY = box.getY() + box.getHeight() / 2;
+
+        // 덜 겹친 축으로 밀어냄
+        if (overlapX < overlapY) {
+            double shift = boxCenterX < (tileMinX + tileMaxX) / 2 ? -overlapX : overlapX;
+            box.moveTo(new Point(box.getX() + shift, box.getY()));
+        } else {
+            double shift = boxCenterY < (tileMinY + tileMaxY) / 2 ? -overlapY : overlapY;
+            box.moveTo(new Point(box.getX(), box.getY() + shift));
+        }
+    }
+
+    public double getCellWidth() {
+        return cellWidth;
+    }
+
+    public double getCellHeight() {
+        return cellHeight;
+    }
+}
@@ -0,0 +1,195 @@
+package nhn.breakoutt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link TrajectoryRecorder}가 기록한 궤적 파일을 읽는 클래스입니다. 형식은 TrajectoryRecorder 문서를 참고하세요.
+ *
+ * <p>{@link #seek(long)}으로 프레임을 고르면 그 프레임이 든 조각만 읽기 전용으로 매핑하므로,
+ * 몇 GB짜리 파일도 전체를 읽지 않고 원하는 프레임으로 바로 이동할 수 있습니다.
+ * 같은 조각 안에서 이동할 때는 다시 매핑하지 않습니다.</p>
+ *
+ * <p>기록 중인 파일도 열 수 있습니다. 그때는 헤더의 프레임 수까지만 보이며, {@link #refresh()}로 다시 읽습니다.
+ * 스레드 안전하지 않습니다.</p>
+ */
+public class TrajectoryReader implements Closeable {
+    private final FileChannel channel;
+    private final int ballCapacity;
+    private final double timeStep;
+    private final int frameSize;
+    private final long chunkFrames;
+    private long frameCount;
+
+    private MappedByteBuffer chunk;
+    private long chunkFirstFrame = -1;
+    private long frame = -1;
+    private int frameOffset;
+    private int ballCount;
+
+    /**
+     * 파일을 열고 헤더를 읽습니다. 처음에는 어느 프레임도 고르지 않은 상태입니다.
+     * @throws IOException 읽기에 실패했거나 궤적 파일이 아닌 경우
+     */
+    public TrajectoryReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = readHeader();
+            if (header.getInt(0) != TrajectoryRecorder.MAGIC) {
+                throw new IOException("궤적 파일이 아닙니다");
+            }
+            int version = header.getInt(4);
+            if (version != TrajectoryRecorder.VERSION) {
+                throw new IOException("지원하지 않는 궤적 파일 버전입니다: " + version);
+            }
+            this.ballCapacity = header.getInt(8);
+            if (ballCapacity <= 0) {
+                throw new IOException("공 용량이 잘못되었습니다: " + ballCapacity);
+            }
+            this.timeStep = header.getDouble(16);
+            this.frameSize = TrajectoryRecorder.frameSize(ballCapacity);
+            this.chunkFrames = Math.max(1, TrajectoryRecorder.DEFAULT_CHUNK_BYTES / frameSize);
+            this.frameCount = countFrames(header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(TrajectoryRecorder.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("궤적 파일 헤더가 잘렸습니다");
+            }
+        }
+        return header;
+    }
+
+    /**
+     * 헤더의 프레임 수와 파일 크기에 온전히 들어 있는 프레임 수 중 작은 쪽
+     */
+    private long countFrames(ByteBuffer header) throws IOException {
+        long recorded = header.getLong(TrajectoryRecorder.FRAME_COUNT_OFFSET);
+        long stored = (channel.size() - TrajectoryRecorder.HEADER_SIZE) / frameSize;
+        return Math.max(0, Math.min(recorded, stored));
+    }
+
+    /**
+     * 기록 중인 파일의 헤더를 다시 읽어 프레임 수를 갱신합니다.
+     * @return 갱신한 프레임 수
+     */
+    public long refresh() throws IOException {
+        frameCount = countFrames(readHeader());
+        return frameCount;
+    }
+
+    /**
+     * 읽을 프레임을 고릅니다. 프레임이 다른 조각에 있으면 그 조각을 매핑합니다.
+     * @param frame 프레임 번호 (0부터)
+     * @throws IndexOutOfBoundsException 기록된 프레임 범위를 벗어난 경우
+     * @throws UncheckedIOException 조각을 매핑하지 못한 경우
+     */
+    public void seek(long frame) {
+        if (frame < 0 || frame >= frameCount) {
+            throw new IndexOutOfBoundsException("프레임 범위를 벗어났습니다: " + frame + "/" + frameCount);
+        }
+        long firstFrame = frame / chunkFrames * chunkFrames;
+        long frames = Math.min(chunkFrames, frameCount - firstFrame);
+        if (firstFrame != chunkFirstFrame || chunk.capacity() < frames * frameSize) {
+            try {
+                chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        TrajectoryRecorder.HEADER_SIZE + firstFrame * frameSize, frames * frameSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunk.order(ByteOrder.LITTLE_ENDIAN);
+            chunkFirstFrame = firstFrame;
+        }
+        this.frame = frame;
+        this.frameOffset = (int) ((frame - firstFrame) * frameSize);
+        this.ballCount = chunk.getInt(frameOffset + 8);
+    }
+
+    private void checkFrame() {
+        if (frame < 0) {
+            throw new IllegalStateException("먼저 seek로 프레임을 골라야 합니다");
+        }
+    }
+
+    private int ballOffset(int ball) {
+        checkFrame();
+        if (ball < 0 || ball >= ballCount) {
+            throw new IndexOutOfBoundsException("공 번호가 범위를 벗어났습니다: " + ball + "/" + ballCount);
+        }
+        return frameOffset + TrajectoryRecorder.FRAME_HEADER_SIZE + ball * TrajectoryRecorder.BALL_RECORD_SIZE;
+    }
+
+    /**
+     * @return 고른 프레임 번호, 아직 고르지 않았으면 -1
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    public long getStep() {
+        checkFrame();
+        return chunk.getLong(frameOffset);
+    }
+
+    public int getBallCount() {
+        checkFrame();
+        return ballCount;
+    }
+
+    public int getPairsTested() {
+        checkFrame();
+        return chunk.getInt(frameOffset + 12);
+    }
+
+    public int getCollisionsResolved() {
+        checkFrame();
+        return chunk.getInt(frameOffset + 16);
+    }
+
+    public float getX(int ball) {
+        return chunk.getFloat(ballOffset(ball));
+    }
+
+    public float getY(int ball) {
+        return chunk.getFloat(ballOffset(ball) + 4);
+    }
+
+    public float getVelocityX(int ball) {
+        return chunk.getFloat(ballOffset(ball) + 8);
+    }
+
+    public float getVelocityY(int ball) {
+        return chunk.getFloat(ballOffset(ball) + 12);
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public int getBallCapacity() {
+        return ballCapacity;
+    }
+
+    public double getTimeStep() {
+        return timeStep;
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunk = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,305 @@
+package nhn.breakoutt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link BoundedWorld}의 공 궤적을 프레임마다 고정 크기 기록으로 메모리 매핑 파일에 덧붙이는 클래스입니다.
+ * 공이 수만 개인 세계를 몇 시간씩 돌리는 내구 시험에서 전체 궤적을 디스크에 남길 때 사용하며,
+ * {@link TrajectoryReader}로 파일 전체를 읽지 않고 원하는 프레임으로 바로 이동해 읽을 수 있습니다.
+ *
+ * <p>파일 형식 (리틀 엔디언):</p>
+ * <pre>
+ * 헤더 (HEADER_SIZE 바이트): int MAGIC, int VERSION, int 공 용량, int 예약, double 스텝 시간, long 기록한 프레임 수
+ * 프레임 (getFrameSize() 바이트): long 스텝 번호, int 공 수, int 검사한 쌍 수, int 처리한 충돌 수, int 예약,
+ *   공 용량만큼 float x, float y, float vx, float vy (공 수보다 뒤는 0)
+ * </pre>
+ *
+ * <p>파일은 프레임 여러 개 단위의 조각으로 매핑합니다. 매핑 전용 스레드가 다음 조각을 미리 매핑하고
+ * 페이지마다 한 바이트씩 읽어 ({@link MappedByteBuffer#load()}) 페이지 폴트까지 미리 겪어 둡니다. 조각이 차면 준비된 조각으로 바꾸고
+ * 그다음 조각의 시작 위치만 알려 주므로, {@link #recordFrame(long)}은 다른 스레드를 기다리거나 객체를 만들지 않습니다.
+ * 조각 하나를 채우는 동안 매핑이 끝나지 않았으면 기다리지 않고 기록 스레드에서 직접 매핑합니다
+ * ({@link #getInlineChunkMaps()}).
+ * 디스크 쓰기는 운영체제가 맡으며, 헤더의 프레임 수는 프레임을 다 쓴 뒤에 늘리므로
+ * 프로세스가 비정상 종료돼도 헤더의 프레임 수까지는 온전히 남습니다.</p>
+ *
+ * <p>충돌 수는 세계의 {@link FrameProfiler}에서 읽으므로, 계측기가 꺼져 있으면 0으로 기록됩니다.
+ * 위치와 속도는 float로 줄여 저장합니다 (공 하나에 16바이트).
+ * 스레드 안전하지 않습니다. recordFrame은 세계를 진행하는 스레드에서 update 사이에 호출합니다.</p>
+ */
+public class TrajectoryRecorder implements Closeable {
+    static final int MAGIC = 0x42545231; // "BTR1"
+    static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    static final int FRAME_HEADER_SIZE = 24;
+    static final int BALL_RECORD_SIZE = 4 * Float.BYTES;
+    static final int FRAME_COUNT_OFFSET = 24;
+
+    /**
+     * 기본 조각 크기 (바이트). 프레임 크기의 배수로 내림합니다.
+     */
+    public static final int DEFAULT_CHUNK_BYTES = 64 << 20;
+
+    private final BoundedWorld world;
+    private final int ballCapacity;
+    private final int frameSize;
+    private final long chunkBytes;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final Thread mapper;
+
+    // 매퍼 스레드가 미리 매핑할 조각의 시작 위치와, 매핑을 마친 조각
+    private volatile long mapTarget;
+    private volatile PreparedChunk prepared;
+    private volatile boolean closed;
+
+    private MappedByteBuffer chunk;
+    private long nextChunkStart;
+    private long frameCount;
+    private long inlineChunkMaps;
+
+    public TrajectoryRecorder(Path path, BoundedWorld world, int ballCapacity, double timeStep) throws IOException {
+        this(path, world, ballCapacity, timeStep, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * 파일을 새로 만들고 (있으면 비우고) 헤더와 첫 조각을 매핑합니다.
+     * @param path 기록할 파일
+     * @param world 기록할 세계
+     * @param ballCapacity 프레임마다 기록할 최대 공 수 (이보다 많으면 앞의 공만 기록)
+     * @param timeStep 세계를 진행하는 고정 스텝 시간 (초, 읽을 때 참고용)
+     * @param chunkBytes 한 번에 매핑할 조각 크기 (바이트, 프레임 하나보다 작으면 프레임 하나)
+     * @throws IllegalArgumentException 인자가 null이거나, 용량이 양수가 아니거나 프레임이 너무 큰 경우,
+     *         timeStep이 양수가 아닌 경우
+     */
+    public TrajectoryRecorder(Path path, BoundedWorld world, int ballCapacity, double timeStep, int chunkBytes)
+            throws IOException {
+        if (path == null || world == null) {
+            throw new IllegalArgumentException("파일과 세계는 null일 수 없습니다");
+        }
+        if (ballCapacity <= 0 || ballCapacity > (Integer.MAX_VALUE - FRAME_HEADER_SIZE) / BALL_RECORD_SIZE) {
+            throw new IllegalArgumentException("공 용량이 잘못되었습니다: " + ballCapacity);
+        }
+        if (!(timeStep > 0) || Double.isInfinite(timeStep)) {
+            throw new IllegalArgumentException("시간 간격은 양수여야 합니다: " + timeStep);
+        }
+
+        this.world = world;
+        this.ballCapacity = ballCapacity;
+        this.frameSize = frameSize(ballCapacity);
+        this.chunkBytes = (long) Math.max(1, chunkBytes / frameSize) * frameSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.mapper = new Thread(this::runMapper, "trajectory-mapper");
+        mapper.setDaemon(true);
+
+        try {
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putInt(8, ballCapacity);
+            header.putInt(12, 0);
+            header.putDouble(16, timeStep);
+            header.putLong(FRAME_COUNT_OFFSET, 0);
+
+            this.chunk = mapChunk(HEADER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.nextChunkStart = HEADER_SIZE + this.chunkBytes;
+        this.mapTarget = nextChunkStart;
+        mapper.start();
+    }
+
+    static int frameSize(int ballCapacity) {
+        return FRAME_HEADER_SIZE + ballCapacity * BALL_RECORD_SIZE;
+    }
+
+    private MappedByteBuffer mapChunk(long start) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, chunkBytes);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    /**
+     * 매퍼 스레드 본문: mapTarget이 바뀔 때마다 그 조각을 매핑하고 미리 건드린 뒤 prepared로 넘깁니다.
+     * 매핑에 실패하면 넘기지 않으며, 기록 스레드가 직접 매핑하면서 오류를 알립니다.
+     */
+    private void runMapper() {
+        long mapped = -1;
+        while (!closed) {
+            long target = mapTarget;
+            if (target == mapped) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                MappedByteBuffer buffer = mapChunk(target);
+                // 페이지마다 한 바이트씩 읽어 페이지 폴트를 미리 겪음. 기록 스레드가 같은 영역을 직접 매핑해
+                // 이미 쓰고 있을 수 있으므로 쓰지 않고 읽기만 함
+                buffer.load();
+                prepared = new PreparedChunk(target, buffer);
+            } catch (IOException | RuntimeException e) {
+                // 기록 스레드가 직접 매핑하면서 같은 오류를 만남
+            }
+            mapped = target;
+        }
+    }
+
+    /**
+     * 세계의 현재 상태를 한 프레임으로 기록합니다. 몇 스텝마다 한 번만 기록해도 됩니다.
+     * @param step 이 프레임의 스텝 번호 (예: {@link HeadlessRunner#getStepCount()})
+     * @throws IllegalStateException 이미 닫힌 경우
+     * @throws UncheckedIOException 다음 조각을 매핑하지 못한 경우
+     */
+    public void recordFrame(long step) {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 기록기입니다");
+        }
+        if (!chunk.hasRemaining()) {
+            advanceChunk();
+        }
+
+        List<? extends Ball> balls = world.getBallView();
+        int count = Math.min(balls.size(), ballCapacity);
+        FrameProfiler profiler = world.getProfiler();
+        boolean counted = profiler.isEnabled() && profiler.getRecordedFrames() > 0;
+
+        MappedByteBuffer out = chunk;
+        int base = out.position();
+        out.putLong(base, step);
+        out.putInt(base + 8, count);
+        out.putInt(base + 12, counted ? profiler.getPairsTested(0) : 0);
+        out.putInt(base + 16, counted ? profiler.getCollisionsResolved(0) : 0);
+        out.putInt(base + 20, 0);
+
+        int offset = base + FRAME_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            Ball ball = balls.get(i);
+            out.putFloat(offset, (float) ball.getX());
+            out.putFloat(offset + 4, (float) ball.getY());
+            if (ball instanceof MovableBall movable) {
+                out.putFloat(offset + 8, (float) movable.getVelocityX());
+                out.putFloat(offset + 12, (float) movable.getVelocityY());
+            } else {
+                out.putFloat(offset + 8, (float) ball.getDx());
+                out.putFloat(offset + 12, (float) ball.getDy());
+            }
+            offset += BALL_RECORD_SIZE;
+        }
+        // 공이 용량보다 적으면 남은 자리를 0으로 채움
+        int end = base + frameSize;
+        while (offset + Long.BYTES <= end) {
+            out.putLong(offset, 0);
+            offset += Long.BYTES;
+        }
+        out.position(end);
+
+        frameCount++;
+        header.putLong(FRAME_COUNT_OFFSET, frameCount);
+    }
+
+    /**
+     * 미리 매핑해 둔 다음 조각으로 바꾸고, 매퍼 스레드에 그다음 조각의 위치를 알립니다.
+     * 아직 준비되지 않았으면 기다리지 않고 직접 매핑합니다 (늦게 끝난 매퍼의 조각은 위치가 달라 버려짐).
+     */
+    private void advanceChunk() {
+        long start = nextChunkStart;
+        PreparedChunk ready = prepared;
+        if (ready != null && ready.start == start) {
+            chunk = ready.buffer;
+        } else {
+            try {
+                chunk = mapChunk(start);
+            } catch (IOException e) {
+                throw new UncheckedIOException("다음 조각을 매핑하지 못했습니다", e);
+            }
+            inlineChunkMaps++;
+        }
+        nextChunkStart = start + chunkBytes;
+        mapTarget = nextChunkStart;
+        LockSupport.unpark(mapper);
+    }
+
+    /**
+     * 매퍼 스레드가 다음 조각을 다 준비했는지 확인합니다 (시험용).
+     */
+    boolean isNextChunkReady() {
+        PreparedChunk ready = prepared;
+        return ready != null && ready.start == nextChunkStart;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return 조각을 바꿀 때 미리 매핑된 조각이 없어 기록 스레드에서 직접 매핑한 횟수
+     */
+    public long getInlineChunkMaps() {
+        return inlineChunkMaps;
+    }
+
+    public int getBallCapacity() {
+        return ballCapacity;
+    }
+
+    /**
+     * @return 프레임 하나의 크기 (바이트)
+     */
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    /**
+     * 기록한 프레임 뒤의 미리 매핑한 영역을 잘라내고 파일을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // 파일을 잘라내기 전에 매퍼가 미리 건드리던 영역에서 손을 떼게 함
+        LockSupport.unpark(mapper);
+        boolean interrupted = false;
+        while (mapper.isAlive()) {
+            try {
+                mapper.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        chunk = null;
+        prepared = null;
+        header.force();
+        channel.truncate(HEADER_SIZE + frameCount * frameSize);
+        channel.close();
+    }
+
+    /**
+     * 매퍼 스레드가 매핑을 마친 조각과 그 시작 위치
+     */
+    private static final class PreparedChunk {
+        final long start;
+        final MappedByteBuffer buffer;
+
+        PreparedChunk(long start, MappedByteBuffer buffer) {
+            this.start = start;
+            this.buffer = buffer;
+        }
+    }
+}
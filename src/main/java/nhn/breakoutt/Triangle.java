@@ -9,7 +9,7 @@ public class Triangle implements Paintable, Movable, Collidable {
     private Point vertex3;  // 세 번째 꼭짓점
     private double dx;      // X 방향 속도
     private double dy;      // Y 방향 속도
-    private Color color;    // 색상
+    private int argb;       // 색상 (0xAARRGGBB, Argb)
     private CollisionAction collisionAction; // 충돌 액션
     private boolean destroyed = false;
 
@@ -20,7 +20,7 @@ public class Triangle implements Paintable, Movable, Collidable {
      * @param vertex3 세 번째 꼭짓점
      */
     public Triangle(Point vertex1, Point vertex2, Point vertex3) {
-        this(vertex1, vertex2, vertex3, 0, 0, Color.GREEN, CollisionAction.BOUNCE);
+        this(vertex1, vertex2, vertex3, 0, 0, Argb.GREEN, CollisionAction.BOUNCE);
     }
 
     /**
@@ -28,12 +28,17 @@ public class Triangle implements Paintable, Movable, Collidable {
      */
     public Triangle(Point vertex1, Point vertex2, Point vertex3,
                    double dx, double dy, Color color, CollisionAction collisionAction) {
+        this(vertex1, vertex2, vertex3, dx, dy, FxColors.toArgb(color), collisionAction);
+    }
+
+    /**
+     * 색을 {@link Argb} 값으로 받는 완전한 생성자
+     */
+    public Triangle(Point vertex1, Point vertex2, Point vertex3,
+                   double dx, double dy, int argb, CollisionAction collisionAction) {
         if (vertex1 == null || vertex2 == null || vertex3 == null) {
             throw new IllegalArgumentException("꼭짓점은 null일 수 없습니다");
         }
-        if (color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다");
-        }
         if (collisionAction == null) {
             throw new IllegalArgumentException("충돌 액션은 null일 수 없습니다");
         }
@@ -43,7 +48,7 @@ public class Triangle implements Paintable, Movable, Collidable {
         this.vertex3 = vertex3;
         this.dx = dx;
         this.dy = dy;
-        this.color = color;
+        this.argb = argb;
         this.collisionAction = collisionAction;
     }
 
@@ -54,7 +59,7 @@ public class Triangle implements Paintable, Movable, Collidable {
      * @param size 삼각형 크기 (반지름)
      */
     public Triangle(double centerX, double centerY, double size) {
-        this(centerX, centerY, size, 0, 0, Color.GREEN, CollisionAction.BOUNCE);
+        this(centerX, centerY, size, 0, 0, Argb.GREEN, CollisionAction.BOUNCE);
     }
 
     public Triangle(double centerX, double centerY, double size, Color color){
@@ -63,6 +68,14 @@ public class Triangle implements Paintable, Movable, Collidable {
 
     public Triangle(double centerX, double centerY, double size,
                    double dx, double dy, Color color, CollisionAction collisionAction) {
+        this(centerX, centerY, size, dx, dy, color != null ? FxColors.toArgb(color) : Argb.GREEN, collisionAction);
+    }
+
+    /**
+     * 색을 {@link Argb} 값으로 받는 정삼각형 생성자
+     */
+    public Triangle(double centerX, double centerY, double size,
+                   double dx, double dy, int argb, CollisionAction collisionAction) {
         // 정삼각형의 꼭짓점 계산 (위쪽을 향하는 삼각형)
         double height = size * Math.sqrt(3) / 2; // 정삼각형의 높이
 
@@ -72,25 +85,14 @@ public class Triangle implements Paintable, Movable, Collidable {
 
         this.dx = dx;
         this.dy = dy;
-        this.color = color != null ? color : Color.GREEN;
+        this.argb = argb;
         this.collisionAction = collisionAction != null ? collisionAction : CollisionAction.BOUNCE;
     }
 
     // Paintable 구현
     @Override
     public void paint(GraphicsContext gc) {
-        gc.setFill(color);
-
-        // 다각형 그리기
-        double[] xPoints = {vertex1.getX(), vertex2.getX(), vertex3.getX()};
-        double[] yPoints = {vertex1.getY(), vertex2.getY(), vertex3.getY()};
-
-        gc.fillPolygon(xPoints, yPoints, 3);
-
-        // 테두리 그리기
-        gc.setStroke(color.darker());
-        gc.setLineWidth(1);
-        gc.strokePolygon(xPoints, yPoints, 3);
+        ShapeRenderer.paintTriangle(gc, this);
     }
 
     // Movable 구현
@@ -178,14 +180,22 @@ public class Triangle implements Paintable, Movable, Collidable {
 
     // 추가 메서드들
     public Color getColor() {
-        return color;
+        return FxColors.toColor(argb);
     }
 
     public void setColor(Color color) {
-        if (color == null) {
-            throw new IllegalArgumentException("색상은 null일 수 없습니다");
-        }
-        this.color = color;
+        this.argb = FxColors.toArgb(color);
+    }
+
+    /**
+     * @return 0xAARRGGBB 형식의 색 ({@link Argb})
+     */
+    public int getArgb() {
+        return argb;
+    }
+
+    public void setArgb(int argb) {
+        this.argb = argb;
     }
 
     public void setCollisionAction(CollisionAction collisionAction) {
@@ -239,7 +249,7 @@ public class Triangle implements Paintable, Movable, Collidable {
             vertex1.getX(), vertex1.getY(),
             vertex2.getX(), vertex2.getY(),
             vertex3.getX(), vertex3.getY(),
-            color, collisionAction);
+            Argb.toString(argb), collisionAction);
     }
 
     public double getX() {
@@ -0,0 +1,312 @@
+package nhn.breakoutt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 균일 격자(공간 해시)를 사용하는 Broad Phase입니다.
+ * 각 객체의 Bounds 최소/최대 좌표가 걸치는 셀에 객체를 등록하고,
+ * 같은 셀에 들어있는 객체끼리만 후보 쌍으로 검사합니다.
+ *
+ * 두 객체가 여러 셀을 함께 차지하더라도, 두 경계가 겹치는 영역의 왼쪽 위 셀에서만
+ * 쌍을 보고하므로 중복 없이 전달됩니다.
+ * 셀 안의 겹침 검사는 {@link BallKernels#findOverlaps}로 수행하므로 SIMD 구현을 사용할 수 있습니다.
+ *
+ * 셀 좌표는 프레임마다 재사용하는 개방 주소법 해시 표(long 키 → 셀 번호)로 찾으며,
+ * 표와 큰 객체 표시는 프레임 번호(epoch)를 찍어 두는 방식이라 프레임마다 지우거나 객체를 만들지 않습니다.
+ */
+public class UniformGridBroadPhase implements BroadPhase {
+    public static final double DEFAULT_CELL_SIZE = 64.0;
+    private static final int MAX_CELLS_PER_OBJECT = 64;
+    private static final int INITIAL_TABLE_CAPACITY = 64; // 2의 거듭제곱
+
+    private final double cellSize;
+    private final List<Cell> cellPool;
+    private final PairBuffer pairs;
+    private int usedCellCount;
+    private BallKernels kernels = BallKernels.defaultKernels();
+    private int[] overlaps = new int[8];
+
+    // 셀 좌표 → cellPool 번호 해시 표. stamp가 현재 epoch인 칸만 사용 중
+    private long[] tableKeys = new long[INITIAL_TABLE_CAPACITY];
+    private int[] tableCells = new int[INITIAL_TABLE_CAPACITY];
+    private int[] tableStamps = new int[INITIAL_TABLE_CAPACITY];
+    private int epoch;
+
+    // 객체별 경계와 셀 범위 (프레임마다 재사용)
+    private double[] minX = new double[0];
+    private double[] minY = new double[0];
+    private double[] maxX = new double[0];
+    private double[] maxY = new double[0];
+    private int[] minCellX = new int[0];
+    private int[] minCellY = new int[0];
+
+    // 셀에 넣기에는 너무 큰 객체들 (모든 객체와 직접 비교)
+    private int[] oversized = new int[0];
+    private int oversizedCount;
+    private int[] oversizedStamps = new int[0]; // 현재 epoch이면 큰 객체
+
+    private static class Cell {
+        int cellX;
+        int cellY;
+        int[] items = new int[8];
+        int size;
+
+        void add(int index) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = index;
+        }
+    }
+
+    public UniformGridBroadPhase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize 격자 셀 한 변의 길이. 주로 움직이는 객체 지름 정도가 적당합니다.
+     * @throws IllegalArgumentException 셀 크기가 양수가 아닌 경우
+     */
+    public UniformGridBroadPhase(double cellSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("셀 크기는 양수여야 합니다: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.cellPool = new ArrayList<>();
+        this.pairs = new PairBuffer();
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public BallKernels getKernels() {
+        return kernels;
+    }
+
+    /**
+     * 셀 안의 겹침 검사에 사용할 계산 커널을 설정합니다. 기본값은 {@link BallKernels#defaultKernels()}입니다.
+     */
+    public void setKernels(BallKernels kernels) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("커널은 null일 수 없습니다");
+        }
+        this.kernels = kernels;
+    }
+
+    @Override
+    public void findCandidatePairs(List<? extends Boundable> objects, PairHandler handler) {
+        int count = objects.size();
+        prepare(count);
+
+        // 1. 객체를 셀에 등록
+        for (int i = 0; i < count; i++) {
+            storeBounds(i, objects.get(i));
+            insert(i);
+        }
+
+        // 2. 셀 안에서 쌍 찾기
+        for (int c = 0; c < usedCellCount; c++) {
+            collectCellPairs(cellPool.get(c));
+        }
+
+        // 3. 큰 객체는 모든 객체와 비교
+        collectOversizedPairs(count);
+
+        // 이중 루프와 같은 순서로 전달
+        pairs.sort();
+        pairs.forEach(handler);
+        pairs.clear();
+    }
+
+    private void prepare(int count) {
+        if (minX.length < count) {
+            int capacity = Math.max(count, minX.length * 2);
+            minX = new double[capacity];
+            minY = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
+            minCellX = new int[capacity];
+            minCellY = new int[capacity];
+            oversized = new int[capacity];
+            oversizedStamps = new int[capacity];
+        }
+
+        // epoch을 올리면 해시 표와 큰 객체 표시가 한꺼번에 비워짐
+        if (++epoch == 0) {
+            Arrays.fill(tableStamps, 0);
+            Arrays.fill(oversizedStamps, 0);
+            epoch = 1;
+        }
+        for (int c = 0; c < usedCellCount; c++) {
+            cellPool.get(c).size = 0;
+        }
+        usedCellCount = 0;
+        oversizedCount = 0;
+    }
+
+    private void storeBounds(int index, Boundable object) {
+        if (object instanceof Ball ball) {
+            // 공은 getBounds()로 CircleBounds를 만들지 않고 좌표에서 바로 계산
+            double radius = ball.getRadius();
+            minX[index] = ball.getX() - radius;
+            minY[index] = ball.getY() - radius;
+            maxX[index] = ball.getX() + radius;
+            maxY[index] = ball.getY() + radius;
+            return;
+        }
+
+        Bounds bounds = object.getBounds();
+        minX[index] = bounds.getMinX();
+        minY[index] = bounds.getMinY();
+        maxX[index] = bounds.getMaxX();
+        maxY[index] = bounds.getMaxY();
+    }
+
+    private void insert(int index) {
+        if (!Double.isFinite(minX[index]) || !Double.isFinite(minY[index]) ||
+            !Double.isFinite(maxX[index]) || !Double.isFinite(maxY[index])) {
+            markOversized(index);
+            return;
+        }
+
+        int fromX = toCell(minX[index]);
+        int fromY = toCell(minY[index]);
+        int toX = toCell(maxX[index]);
+        int toY = toCell(maxY[index]);
+
+        long cellCount = ((long) toX - fromX + 1) * ((long) toY - fromY + 1);
+        if (cellCount > MAX_CELLS_PER_OBJECT) {
+            markOversized(index);
+            return;
+        }
+
+        minCellX[index] = fromX;
+        minCellY[index] = fromY;
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                getOrCreateCell(cx, cy).add(index);
+            }
+        }
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private void markOversized(int index) {
+        oversized[oversizedCount++] = index;
+        oversizedStamps[index] = epoch;
+    }
+
+    private Cell getOrCreateCell(int cellX, int cellY) {
+        long key = cellKey(cellX, cellY);
+        int mask = tableKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (tableStamps[slot] == epoch) {
+            if (tableKeys[slot] == key) {
+                return cellPool.get(tableCells[slot]);
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (usedCellCount == cellPool.size()) {
+            cellPool.add(new Cell());
+        }
+        int cellIndex = usedCellCount++;
+        Cell cell = cellPool.get(cellIndex);
+        cell.cellX = cellX;
+        cell.cellY = cellY;
+        tableKeys[slot] = key;
+        tableCells[slot] = cellIndex;
+        tableStamps[slot] = epoch;
+
+        // 사용률이 절반을 넘으면 표를 늘림
+        if (usedCellCount * 2 > tableKeys.length) {
+            growTable();
+        }
+        return cell;
+    }
+
+    private void growTable() {
+        int capacity = tableKeys.length * 2;
+        tableKeys = new long[capacity];
+        tableCells = new int[capacity];
+        tableStamps = new int[capacity];
+        int mask = capacity - 1;
+        for (int c = 0; c < usedCellCount; c++) {
+            Cell cell = cellPool.get(c);
+            long key = cellKey(cell.cellX, cell.cellY);
+            int slot = hash(key) & mask;
+            while (tableStamps[slot] == epoch) {
+                slot = (slot + 1) & mask;
+            }
+            tableKeys[slot] = key;
+            tableCells[slot] = c;
+            tableStamps[slot] = epoch;
+        }
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    // 이웃한 셀 좌표가 같은 칸에 몰리지 않도록 섞음
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void collectCellPairs(Cell cell) {
+        int[] items = cell.items;
+        if (overlaps.length < cell.size) {
+            overlaps = new int[Math.max(cell.size, overlaps.length * 2)];
+        }
+
+        for (int a = 0; a < cell.size; a++) {
+            int i = items[a];
+            int found = kernels.findOverlaps(minX, minY, maxX, maxY, i, items, a + 1, cell.size, overlaps);
+            for (int k = 0; k < found; k++) {
+                int j = overlaps[k];
+
+                // 두 객체가 함께 차지하는 셀 중 왼쪽 위 셀에서만 보고 (중복 방지)
+                if (Math.max(minCellX[i], minCellX[j]) != cell.cellX ||
+                    Math.max(minCellY[i], minCellY[j]) != cell.cellY) {
+                    continue;
+                }
+                pairs.add(i, j);
+            }
+        }
+    }
+
+    private void collectOversizedPairs(int count) {
+        for (int k = 0; k < oversizedCount; k++) {
+            int big = oversized[k];
+            for (int other = 0; other < count; other++) {
+                if (other == big) {
+                    continue;
+                }
+                // 큰 객체끼리는 한 번만 보고
+                if (isOversized(other) && other < big) {
+                    continue;
+                }
+                if (overlaps(big, other)) {
+                    pairs.add(big, other);
+                }
+            }
+        }
+    }
+
+    private boolean isOversized(int index) {
+        return oversizedStamps[index] == epoch;
+    }
+
+    // Bounds.intersects와 같은 기준 (경계가 닿아도 겹침)
+    private boolean overlaps(int i, int j) {
+        return !(maxX[j] < minX[i] || minX[j] > maxX[i] ||
+                 maxY[j] < minY[i] || minY[j] > maxY[i]);
+    }
+}
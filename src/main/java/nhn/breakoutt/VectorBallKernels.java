@@ -0,0 +1,105 @@
+package nhn.breakoutt;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector를 사용하는 {@link BallKernels} 구현입니다.
+ * 레인 수(AVX2에서 double 4개)로 나누어떨어지지 않는 나머지는 스칼라 구현으로 처리합니다.
+ * 이 클래스는 {@link BallKernels#vector()}를 통해서만 생성되며, 모듈이 없으면 로드되지 않습니다.
+ */
+class VectorBallKernels implements BallKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final BallKernels scalar = ScalarBallKernels.INSTANCE;
+
+    @Override
+    public void integrate(double[] x, double[] y, double[] vx, double[] vy, double[] ay, double[] drag,
+                          int from, int to, double deltaTime) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector dragV = DoubleVector.fromArray(SPECIES, drag, i);
+            DoubleVector velocityX = DoubleVector.fromArray(SPECIES, vx, i).mul(dragV);
+            DoubleVector velocityY = DoubleVector.fromArray(SPECIES, vy, i)
+                    .add(DoubleVector.fromArray(SPECIES, ay, i).mul(deltaTime))
+                    .mul(dragV);
+
+            DoubleVector.fromArray(SPECIES, x, i).add(velocityX.mul(deltaTime)).intoArray(x, i);
+            DoubleVector.fromArray(SPECIES, y, i).add(velocityY.mul(deltaTime)).intoArray(y, i);
+            velocityX.intoArray(vx, i);
+            velocityY.intoArray(vy, i);
+        }
+        scalar.integrate(x, y, vx, vy, ay, drag, i, to, deltaTime);
+    }
+
+    @Override
+    public void clamp(double[] x, double[] y, double[] vx, double[] vy, double[] radius, int from, int to,
+                      double minX, double minY, double maxX, double maxY) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, i);
+            clampAxis(x, vx, i, r, minX, maxX);
+            clampAxis(y, vy, i, r, minY, maxY);
+        }
+        scalar.clamp(x, y, vx, vy, radius, i, to, minX, minY, maxX, maxY);
+    }
+
+    private static void clampAxis(double[] position, double[] velocity, int i, DoubleVector r,
+                                  double min, double max) {
+        DoubleVector p = DoubleVector.fromArray(SPECIES, position, i);
+        DoubleVector low = DoubleVector.broadcast(SPECIES, min).add(r);
+        DoubleVector high = DoubleVector.broadcast(SPECIES, max).sub(r);
+
+        // 스칼라 구현의 if / else if와 같은 우선순위
+        VectorMask<Double> below = p.compare(VectorOperators.LE, low);
+        VectorMask<Double> above = p.compare(VectorOperators.GE, high).andNot(below);
+        VectorMask<Double> hit = below.or(above);
+        if (!hit.anyTrue()) {
+            return;
+        }
+
+        p.blend(low, below).blend(high, above).intoArray(position, i);
+        DoubleVector v = DoubleVector.fromArray(SPECIES, velocity, i);
+        v.blend(v.neg(), hit).intoArray(velocity, i);
+    }
+
+    @Override
+    public int findOverlaps(double[] minX, double[] minY, double[] maxX, double[] maxY, int i,
+                            int[] others, int from, int to, int[] out) {
+        DoubleVector minXi = DoubleVector.broadcast(SPECIES, minX[i]);
+        DoubleVector minYi = DoubleVector.broadcast(SPECIES, minY[i]);
+        DoubleVector maxXi = DoubleVector.broadcast(SPECIES, maxX[i]);
+        DoubleVector maxYi = DoubleVector.broadcast(SPECIES, maxY[i]);
+
+        int count = 0;
+        int k = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; k < upper; k += SPECIES.length()) {
+            // others[k..]가 가리키는 경계를 모아서(gather) 한 번에 비교
+            VectorMask<Double> separated =
+                    DoubleVector.fromArray(SPECIES, maxX, 0, others, k).compare(VectorOperators.LT, minXi)
+                    .or(DoubleVector.fromArray(SPECIES, minX, 0, others, k).compare(VectorOperators.GT, maxXi))
+                    .or(DoubleVector.fromArray(SPECIES, maxY, 0, others, k).compare(VectorOperators.LT, minYi))
+                    .or(DoubleVector.fromArray(SPECIES, minY, 0, others, k).compare(VectorOperators.GT, maxYi));
+
+            long hits = separated.not().toLong();
+            while (hits != 0) {
+                int lane = Long.numberOfTrailingZeros(hits);
+                out[count++] = others[k + lane];
+                hits &= hits - 1;
+            }
+        }
+        for (; k < to; k++) {
+            int j = others[k];
+            if (!(maxX[j] < minX[i] || minX[j] > maxX[i] ||
+                  maxY[j] < minY[i] || minY[j] > maxY[i])) {
+                out[count++] = j;
+            }
+        }
+        return count;
+    }
+}
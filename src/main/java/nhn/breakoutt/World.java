@@ -1,8 +1,7 @@
 package nhn.breakoutt;
 
-import javafx.scene.canvas.GraphicsContext;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -11,12 +10,14 @@ public class World {
     private final double height;
 
     private final List<PaintableBall> balls;
+    private final List<PaintableBall> ballView;
 
     public World(double width, double height) {
         if(width <= 0 || height <= 0) throw new IllegalArgumentException();
         this.width = width;
         this.height = height;
         this.balls = new ArrayList<>();
+        this.ballView = Collections.unmodifiableList(balls);
     }
 
     public void add(PaintableBall ball) {
@@ -67,6 +68,15 @@ public class World {
         return new ArrayList<>(balls);
     }
 
+    /**
+     * 공 리스트의 읽기 전용 뷰를 반환합니다.
+     * getBalls()와 달리 복사본을 만들지 않으므로 매 프레임 순회하는 곳에서 사용합니다.
+     * @return 공 리스트의 읽기 전용 뷰
+     */
+    protected List<? extends Ball> getBallView(){
+        return ballView;
+    }
+
     public int getBallCount(){
         return balls.size();
     }
@@ -79,13 +89,6 @@ public class World {
         return height;
     }
 
-    public void draw(GraphicsContext gc) {
-        gc.clearRect(0, 0, width, height);
-        for(var a: balls){
-            a.paint(gc);
-        }
-    }
-
     private boolean isInBounds(Ball ball){
         return (ball.getCenter().getX() >= ball.getRadius() && ball.getCenter().getX() <= width - ball.getRadius()) && (ball.getCenter().getY() >= ball.getRadius() && ball.getCenter().getY() <= height - ball.getRadius());
     }
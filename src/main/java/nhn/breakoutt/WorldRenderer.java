@@ -0,0 +1,169 @@
+package nhn.breakoutt;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * 세계 클래스들을 JavaFX 캔버스에 그리는 클래스입니다.
+ * 세계 클래스는 시뮬레이션 상태만 가지고, 배경, 격자 같은 화면 표시는 여기서 그립니다.
+ * 그래서 {@link HeadlessRunner}처럼 화면 없이 세계를 돌릴 때는 JavaFX가 필요 없습니다.
+ */
+public final class WorldRenderer {
+    private WorldRenderer() {
+    }
+
+    /**
+     * 화면을 지우고 공들을 그립니다.
+     */
+    public static void draw(GraphicsContext gc, World world) {
+        gc.clearRect(0, 0, world.getWidth(), world.getHeight());
+        for (Ball ball : world.getBallView()) {
+            ball.paint(gc);
+        }
+    }
+
+    /**
+     * 검은 배경과 경계선 위에 Paintable 객체들을 그립니다.
+     */
+    public static void render(GraphicsContext gc, SimpleWorld world) {
+        RenderPassEvent renderEvent = new RenderPassEvent();
+        renderEvent.begin();
+
+        double width = world.getWidth();
+        double height = world.getHeight();
+
+        // 배경 그리기
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, width, height);
+
+        // 경계 그리기 (선택사항 - 디버깅용)
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+        gc.strokeRect(0, 0, width, height);
+
+        // Paintable 객체들만 그리기
+        for (Object obj : world.getObjectView()) {
+            if (obj instanceof Paintable) {
+                ((Paintable) obj).paint(gc);
+            }
+        }
+
+        if (renderEvent.shouldCommit()) {
+            renderEvent.pass = world.getClass().getSimpleName();
+            renderEvent.entityCount = world.getObjectCount();
+            renderEvent.commit();
+        }
+    }
+
+    /**
+     * 미로를 그립니다
+     */
+    public static void render(GraphicsContext gc, MazeWorld world) {
+        int[][] mazeLayout = world.getLayoutView();
+        double cellWidth = world.getCellWidth();
+        double cellHeight = world.getCellHeight();
+
+        // 배경 그리기
+        gc.setFill(Color.LIGHTGRAY);
+        gc.fillRect(0, 0, world.getWidth(), world.getHeight());
+
+        // 통로 표시 (선택적)
+        gc.setFill(Color.WHITE);
+        for (int row = 0; row < mazeLayout.length; row++) {
+            for (int col = 0; col < mazeLayout[row].length; col++) {
+                if (mazeLayout[row][col] == 0) { // 통로
+                    double x = col * cellWidth;
+                    double y = row * cellHeight;
+                    gc.fillRect(x, y, cellWidth, cellHeight);
+                }
+            }
+        }
+
+        // 벽 그리기
+        for (Box wall : world.getWallView()) {
+            wall.paint(gc);
+        }
+
+        // 모든 객체 그리기
+        for (Object obj : world.getObjectView()) {
+            if (obj instanceof Paintable) {
+                ((Paintable) obj).paint(gc);
+            }
+        }
+
+        // 격자 그리기 (선택적)
+        drawGrid(gc, world);
+    }
+
+    /**
+     * 격자를 그립니다 (디버깅용)
+     */
+    private static void drawGrid(GraphicsContext gc, MazeWorld world) {
+        int[][] mazeLayout = world.getLayoutView();
+        double cellWidth = world.getCellWidth();
+        double cellHeight = world.getCellHeight();
+
+        gc.setStroke(Color.LIGHTGRAY);
+        gc.setLineWidth(0.5);
+
+        // 세로선
+        for (int col = 0; col <= mazeLayout[0].length; col++) {
+            double x = col * cellWidth;
+            gc.strokeLine(x, 0, x, world.getHeight());
+        }
+
+        // 가로선
+        for (int row = 0; row <= mazeLayout.length; row++) {
+            double y = row * cellHeight;
+            gc.strokeLine(0, y, world.getWidth(), y);
+        }
+    }
+
+    /**
+     * 만들어 둔 조각의 벽과 객체를 그립니다. 화면 이동은 호출한 쪽에서 gc의 변환으로 처리합니다.
+     */
+    public static void render(GraphicsContext gc, ChunkedMazeWorld world) {
+        int chunkSize = world.getGenerator().getChunkSize();
+        double cellSize = world.getCellSize();
+        double size = chunkSize * cellSize;
+
+        for (ChunkedMazeWorld.Chunk chunk : world.getChunkView()) {
+            gc.setFill(Color.WHITE);
+            gc.fillRect((double) chunk.chunkX * size, (double) chunk.chunkY * size, size, size);
+            for (int index = 0; index < chunk.tiles.length; index++) {
+                if (chunk.tiles[index] == MazeGenerator.WALL) {
+                    chunk.walls[index].paint(gc);
+                } else if (chunk.tiles[index] == MazeGenerator.EXIT) {
+                    gc.setFill(Color.GOLD);
+                    gc.fillRect(((double) chunk.chunkX * chunkSize + index % chunkSize) * cellSize,
+                            ((double) chunk.chunkY * chunkSize + index / chunkSize) * cellSize, cellSize, cellSize);
+                }
+            }
+        }
+
+        for (Object obj : world.getObjectView()) {
+            if (obj instanceof Paintable paintable) {
+                paintable.paint(gc);
+            }
+        }
+    }
+
+    /**
+     * 화면을 지우고 그릴 수 있는 공과 상자를 그립니다.
+     */
+    public static void render(GraphicsContext gc, MixedWorld world) {
+        gc.clearRect(0, 0, world.getWidth(), world.getHeight());
+
+        for (Ball ball : world.getBallView()) {
+            if (ball instanceof PaintableBall) {
+                ((PaintableBall) ball).paint(gc);
+            }
+        }
+
+        for (Box box : world.getBoxView()) {
+            if (box instanceof PaintableBox) {
+                ((PaintableBox) box).paint(gc);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package nhn.breakoutt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 세계의 update 한 번(한 스텝)을 기록하는 JFR 이벤트입니다.
+ *
+ * <p>기본으로 꺼져 있으며, 저장소의 jfr/breakoutt.jfc 설정으로 켭니다.</p>
+ * <pre>
+ * java -XX:StartFlightRecording:settings=default,settings=jfr/breakoutt.jfc,filename=run.jfr ...
+ * </pre>
+ * 기록하지 않을 때는 shouldCommit()이 false이므로 필드를 채우지 않고, 이벤트 객체 생성도 JIT가 제거합니다.
+ */
+@Name("nhn.breakoutt.WorldStep")
+@Label("World Step")
+@Category({"Breakout", "Physics"})
+@Description("세계의 update 한 번")
+@Enabled(false)
+@StackTrace(false)
+public final class WorldStepEvent extends Event {
+    @Label("World")
+    public String world;
+
+    @Label("Delta Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long deltaTime;
+
+    @Label("Entity Count")
+    public int entityCount;
+}
@@ -1,33 +1,46 @@
 package nhn.breakoutt.breakout;
 
-import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
 import javafx.scene.input.KeyEvent;
-import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import nhn.breakoutt.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
 public class BreakoutGame extends Application {
     private static final int GAME_WIDTH = 800;
     private static final int GAME_HEIGHT = 600;
-    private static final int INITIAL_LIVES = 3;
-    private static final double BALL_SPEED = 200;
+    // 공은 연속 충돌 검사로 벽돌을 건너뛰지 않으므로 기본값(240Hz)보다 긴 스텝을 사용
+    private static final double PHYSICS_STEPS_PER_SECOND = 120;
 
-    private BreakoutWorld world;
+    // 게임 진행은 세션이 담당 (시뮬레이션 스레드에서 바뀌고 FX 스레드에서 읽힘)
+    private BreakoutSession session;
+    private ReplayRecorder recorder;
     private Canvas canvas;
     private GraphicsContext gc;
-    private AnimationTimer gameLoop;
-
-    private GameState gameState;
-    private int lives;
-    private long lastTime;
+    private GameLoop gameLoop;
+    private SimulationThread<BreakoutSnapshot> simulationThread;
+    // 스냅샷을 되돌려 그리는 FX 스레드 전용 세계 (시뮬레이션 중인 세계는 읽지 않음)
+    private final BreakoutWorld renderWorld = new BreakoutWorld(GAME_WIDTH, GAME_HEIGHT, 0);
+    private long restoredStep = -1;
+
+    // 성능 오버레이 (F3): 세계 계측값은 스냅샷에 복사된 누적값을 보일 때만 읽음
+    private final FrameProfiler profiler = new FrameProfiler(BreakoutWorld.PROFILER_PHASES, FrameProfiler.DEFAULT_CAPACITY);
+    private final PerformanceOverlay overlay = new PerformanceOverlay();
+    private long framePhysicsNanos;
+    private int frameEntityCount;
 
     private Label scoreLabel;
     private Label livesLabel;
@@ -42,17 +55,36 @@ public class BreakoutGame extends Application {
     }
 
     private void setupGame() {
-        world = new BreakoutWorld(GAME_WIDTH, GAME_HEIGHT);
+        session = new BreakoutSession(GAME_WIDTH, GAME_HEIGHT, new Random().nextLong());
+        session.setProfiler(profiler);
         canvas = new Canvas(GAME_WIDTH, GAME_HEIGHT);
         gc = canvas.getGraphicsContext2D();
-        gameState = GameState.MENU;
-        lives = INITIAL_LIVES;
-        lastTime = System.nanoTime();
+
+        // --levels=파일 로 실행하면 레벨 묶음의 배치를 사용
+        String levelsPath = getParameters().getNamed().get("levels");
+        if (levelsPath != null) {
+            try {
+                session.setLevelPack(LevelPack.open(Path.of(levelsPath)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // --record=파일 로 실행하면 시드와 입력을 기록 (BreakoutReplayer로 재생)
+        String recordPath = getParameters().getNamed().get("record");
+        if (recordPath != null) {
+            try {
+                recorder = new ReplayRecorder(Files.newOutputStream(Path.of(recordPath)), session,
+                        1.0 / PHYSICS_STEPS_PER_SECOND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     private void setupUI(Stage primaryStage) {
         scoreLabel = new Label("점수: 0");
-        livesLabel = new Label("생명: " + lives);
+        livesLabel = new Label("생명: " + session.getLives());
         levelLabel = new Label("레벨: 1");
         statusLabel = new Label("마우스를 움직여 패들을 조작하고, 클릭으로 게임을 시작하세요!");
 
@@ -84,11 +116,15 @@ public class BreakoutGame extends Application {
     }
 
     private void setupEventHandlers(Canvas canvas) {
+        // 입력은 시뮬레이션 스레드로 넘겨 다음 스텝 직전에 처리
         // 마우스 이동: 패들 제어
-        canvas.setOnMouseMoved(this::handleMouseMove);
+        canvas.setOnMouseMoved(event -> {
+            double x = event.getX();
+            simulationThread.post(() -> session.moveMouse(x));
+        });
 
         // 마우스 클릭: 게임 시작/공 발사
-        canvas.setOnMouseClicked(this::handleMouseClick);
+        canvas.setOnMouseClicked(event -> simulationThread.post(session::click));
 
         // 키보드 입력
         canvas.setOnKeyPressed(this::handleKeyPress);
@@ -97,148 +133,67 @@ public class BreakoutGame extends Application {
         canvas.setFocusTraversable(true);
     }
 
-    private void handleMouseMove(MouseEvent event) {
-        if (gameState == GameState.PLAYING || gameState == GameState.BALL_LOST) {
-            world.getPaddle().setTargetX(event.getX());
-        }
-    }
-
-    private void handleMouseClick(MouseEvent event) {
-        switch (gameState) {
-            case MENU:
-                startNewGame();
-                break;
-
-            case BALL_LOST:
-                if (lives > 0) {
-                    launchBall();
-                    gameState = GameState.PLAYING;
-                }
-                break;
-
-            case PLAYING:
-                // 끈끈한 패들에서 공 발사
-                if (world.getPaddle().isStickyMode()) {
-                    world.getPaddle().releaseBall();
-                }
-                break;
-
-            case GAME_OVER:
-            case GAME_WON:
-                restartGame();
-                break;
-        }
-    }
-
     private void handleKeyPress(KeyEvent event) {
         switch (event.getCode()) {
             case SPACE:
-                if (gameState == GameState.PLAYING) {
-                    gameState = GameState.PAUSED;
-                } else if (gameState == GameState.PAUSED) {
-                    gameState = GameState.PLAYING;
-                }
+                simulationThread.post(session::togglePause);
                 break;
 
             case R:
-                restartGame();
+                simulationThread.post(session::restart);
+                break;
+
+            case F3:
+                overlay.toggle();
                 break;
 
             case ESCAPE:
-                System.exit(0);
+                // stop()에서 시뮬레이션 스레드를 멈추고 녹화를 마무리하도록 정상 종료
+                Platform.exit();
                 break;
         }
     }
 
     private void startGame() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                double deltaTime = (now - lastTime) / 1_000_000_000.0;
-                lastTime = now;
-
-                update(deltaTime);
-                render();
-            }
-        };
+        // 물리는 시뮬레이션 스레드에서 고정 주기로 진행
+        simulationThread = new SimulationThread<>(session, PHYSICS_STEPS_PER_SECOND,
+                recycled -> BreakoutSnapshot.capture(session.getWorld(), recycled));
+        simulationThread.start();
+
+        // FX 스레드는 렌더링만 담당
+        gameLoop = new GameLoop(context -> render(), gc);
+        gameLoop.setFrameListener((deltaTime, updateNanos, renderNanos) -> {
+            updateUI();
+            overlay.recordFrame(framePhysicsNanos, renderNanos, frameEntityCount);
+        });
         gameLoop.start();
     }
 
-    private void update(double deltaTime) {
-        if (gameState == GameState.PLAYING) {
-            world.update(deltaTime);
-            checkGameState();
-        }
-        updateUI();
-    }
-
-    private void checkGameState() {
-        // 레벨 완료 확인
-        if (world.isLevelComplete()) {
-            gameState = GameState.LEVEL_COMPLETE;
-            nextLevel();
-        }
-
-        // 공을 모두 잃었는지 확인
-        if (world.areAllBallsLost()) {
-            lives--;
-            if (lives > 0) {
-                gameState = GameState.BALL_LOST;
-            } else {
-                gameState = GameState.GAME_OVER;
-            }
-        }
-    }
-
-    private void nextLevel() {
-        world.createLevel(world.getLevel() + 1);
-        launchBall();
-        gameState = GameState.PLAYING;
+    private void render() {
+        SimulationThread.Frame<BreakoutSnapshot> frame = simulationThread.getFrame();
+        double alpha = simulationThread.getAlpha(frame, System.nanoTime());
 
-        // 공 속도 증가
-        for (Ball ball : world.getBalls()) {
-            double speedMultiplier = 1.0 + (world.getLevel() - 1) * 0.1;
-            ball.setDx(ball.getDx() * speedMultiplier);
-            ball.setDy(ball.getDy() * speedMultiplier);
+        // 새 스텝이면 벽돌, 패들 등을 렌더링 전용 세계에 되돌림
+        if (frame.getStepIndex() != restoredStep) {
+            frame.getCurrent().restore(renderWorld);
+            restoredStep = frame.getStepIndex();
         }
-    }
 
-    private void startNewGame() {
-        world.createLevel(1);
-        launchBall();
-        gameState = GameState.PLAYING;
-        lives = INITIAL_LIVES;
-    }
-
-    private void launchBall() {
-        // 기존 공들 제거
-        world.getBalls().clear();
-
-        // 새 공 생성
-        BreakoutPaddle paddle = world.getPaddle();
-        double ballX = paddle.getX() + paddle.getWidth() / 2;
-        double ballY = paddle.getY() - 15;
-
-        Ball ball = new Ball(ballX, ballY, 10, BALL_SPEED * 0.5, -BALL_SPEED, Color.WHITE, CollisionAction.BOUNCE);
-
-        world.addBall(ball);
-    }
-
-    private void restartGame() {
-        world = new BreakoutWorld(GAME_WIDTH, GAME_HEIGHT);
-        startNewGame();
-    }
-
-    private void render() {
         // 화면 지우기
         gc.setFill(Color.BLACK);
         gc.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
 
-        // 게임 월드 렌더링
-        world.render(gc);
+        // 게임 월드 렌더링 (스냅샷에서 되돌린 세계이므로 잠금 없이 그림)
+        BreakoutRenderer.renderWithoutBalls(gc, renderWorld);
+        frameEntityCount = renderWorld.getEntityCount();
+        framePhysicsNanos = overlay.isVisible() ? overlay.sampleTotals(frame.getCurrent().getProfilerTotals()) : 0;
+
+        // 공은 최근 두 스냅샷 사이를 보간해서 그림
+        ShapeRenderer.paintBalls(gc, frame.getCurrent().getBalls(), frame.getPrevious().getBalls(), alpha);
 
         // 게임 상태별 오버레이
         renderGameStateOverlay();
+        overlay.paint(gc);
     }
 
     private void renderGameStateOverlay() {
@@ -246,7 +201,7 @@ public class BreakoutGame extends Application {
         gc.setFont(javafx.scene.text.Font.font(24));
 
         String message = "";
-        switch (gameState) {
+        switch (session.getGameState()) {
             case MENU:
                 message = "벽돌 깨기 게임\\n클릭하여 시작!";
                 break;
@@ -260,10 +215,10 @@ public class BreakoutGame extends Application {
                 message = "레벨 완료!\\n다음 레벨로...";
                 break;
             case GAME_OVER:
-                message = "게임 오버\\n최종 점수: " + world.getScore() + "\\n클릭하여 재시작";
+                message = "게임 오버\\n최종 점수: " + renderWorld.getScore() + "\\n클릭하여 재시작";
                 break;
             case GAME_WON:
-                message = "축하합니다!\\n모든 레벨 클리어!\\n최종 점수: " + world.getScore();
+                message = "축하합니다!\\n모든 레벨 클리어!\\n최종 점수: " + renderWorld.getScore();
                 break;
         }
 
@@ -287,11 +242,12 @@ public class BreakoutGame extends Application {
     }
 
     private void updateUI() {
+        BreakoutWorld world = renderWorld; // 화면에 그린 스텝의 점수와 레벨
         scoreLabel.setText("점수: " + world.getScore());
-        livesLabel.setText("생명: " + lives);
+        livesLabel.setText("생명: " + session.getLives());
         levelLabel.setText("레벨: " + world.getLevel());
 
-        switch (gameState) {
+        switch (session.getGameState()) {
             case PLAYING:
                 statusLabel.setText("게임 진행 중 - Space: 일시정지, R: 재시작, ESC: 종료");
                 break;
@@ -315,6 +271,17 @@ public class BreakoutGame extends Application {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
+        if (recorder != null) {
+            // 시뮬레이션 스레드가 멈춘 뒤 전체 스텝 수를 기록
+            try (ReplayRecorder finishing = recorder) {
+                finishing.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     public static void main(String[] args) {
@@ -1,8 +1,8 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import nhn.breakoutt.*;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,7 +13,7 @@ public class BreakoutPaddle extends Box {
     private boolean stickyMode;
     private Ball stuckBall;
 
-    private static class TimedPowerUp {
+    static class TimedPowerUp {
         PowerUpProvider.PowerUpType type;
         double remainingTime;
         double originalValue;
@@ -31,7 +31,7 @@ public class BreakoutPaddle extends Box {
         this.activePowerUps = new ArrayList<>();
         this.stickyMode = false;
         this.stuckBall = null;
-        setColor(Color.DARKBLUE);
+        setArgb(Argb.DARKBLUE);
     }
 
     public void setTargetX(double mouseX) {
@@ -144,54 +144,7 @@ public class BreakoutPaddle extends Box {
 
     @Override
     public void paint(GraphicsContext gc) {
-        // 3D 효과가 있는 패들 그리기
-        Color baseColor = getColor();
-
-        // 그림자
-        gc.setFill(baseColor.darker().darker());
-        gc.fillRoundRect(getX() + 3, getY() + 3, getWidth(), getHeight(), 10, 10);
-
-        // 본체
-        gc.setFill(baseColor);
-        gc.fillRoundRect(getX(), getY(), getWidth(), getHeight(), 10, 10);
-
-        // 하이라이트
-        gc.setFill(baseColor.brighter());
-        gc.fillRoundRect(getX(), getY(), getWidth(), getHeight() * 0.3, 10, 10);
-
-        // 끈끈한 패들 효과 표시
-        if (stickyMode) {
-            gc.setStroke(Color.YELLOW);
-            gc.setLineWidth(2);
-            gc.strokeRoundRect(getX() - 2, getY() - 2, getWidth() + 4, getHeight() + 4, 12, 12);
-        }
-
-        // 활성 파워업 표시
-        displayActivePowerUps(gc);
-    }
-
-    private void displayActivePowerUps(GraphicsContext gc) {
-        double iconSize = 12;
-        double iconY = getY() - iconSize - 5;
-
-        for (int i = 0; i < activePowerUps.size(); i++) {
-            TimedPowerUp powerUp = activePowerUps.get(i);
-            double iconX = getX() + i * (iconSize + 2);
-
-            // 파워업 아이콘 배경
-            gc.setFill(Color.WHITE);
-            gc.fillOval(iconX, iconY, iconSize, iconSize);
-
-            // 파워업 심볼
-            gc.setFill(Color.BLACK);
-            gc.fillText(powerUp.type.getSymbol(), iconX + 3, iconY + 8);
-
-            // 남은 시간 표시 (원형 진행 바)
-            double angle = (powerUp.remainingTime / powerUp.type.getDuration()) * 360;
-            gc.setStroke(Color.GREEN);
-            gc.setLineWidth(2);
-            gc.strokeArc(iconX - 1, iconY - 1, iconSize + 2, iconSize + 2, 90, -angle, javafx.scene.shape.ArcType.OPEN);
-        }
+        BreakoutRenderer.paintPaddle(gc, this);
     }
 
     @Override
@@ -201,7 +154,79 @@ public class BreakoutPaddle extends Box {
         }
     }
 
+    /**
+     * 스냅샷에 위치, 크기, 목표 위치, 끈끈한 상태, 남은 파워업 시간을 씁니다.
+     * @param balls 세계의 공 목록 (붙어 있는 공은 이 목록의 번호로 씀)
+     */
+    void writeState(ByteBuffer buffer, List<Ball> balls) {
+        buffer.putDouble(getX());
+        buffer.putDouble(getY());
+        buffer.putDouble(getWidth());
+        buffer.putDouble(getHeight());
+        buffer.putDouble(targetX);
+        buffer.put((byte) (stickyMode ? 1 : 0));
+        buffer.putInt(stuckBall == null ? -1 : balls.indexOf(stuckBall));
+        buffer.putInt(activePowerUps.size());
+        for (TimedPowerUp powerUp : activePowerUps) {
+            buffer.put((byte) powerUp.type.ordinal());
+            buffer.putDouble(powerUp.remainingTime);
+            buffer.putDouble(powerUp.originalValue);
+        }
+    }
+
+    /**
+     * @return {@link #writeState}가 쓸 바이트 수
+     */
+    int getStateSize() {
+        return 5 * Double.BYTES + 1 + 2 * Integer.BYTES + activePowerUps.size() * (1 + 2 * Double.BYTES);
+    }
+
+    /**
+     * {@link #writeState}로 쓴 상태로 되돌립니다. 남은 파워업 기록 객체는 가능한 한 재사용합니다.
+     * @param balls 이미 복원한 세계의 공 목록
+     */
+    void readState(ByteBuffer buffer, List<Ball> balls) {
+        double x = buffer.getDouble();
+        double y = buffer.getDouble();
+        if (x != getX() || y != getY()) {
+            moveTo(new Point(x, y));
+        }
+        setWidth(buffer.getDouble());
+        setHeight(buffer.getDouble());
+        targetX = buffer.getDouble();
+        stickyMode = buffer.get() != 0;
+        int stuckIndex = buffer.getInt();
+        stuckBall = stuckIndex < 0 ? null : balls.get(stuckIndex);
+
+        PowerUpProvider.PowerUpType[] types = PowerUpProvider.PowerUpType.values();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            PowerUpProvider.PowerUpType type = types[buffer.get()];
+            double remainingTime = buffer.getDouble();
+            TimedPowerUp powerUp;
+            if (i < activePowerUps.size()) {
+                powerUp = activePowerUps.get(i);
+                powerUp.type = type;
+                powerUp.remainingTime = remainingTime;
+            } else {
+                powerUp = new TimedPowerUp(type, remainingTime);
+                activePowerUps.add(powerUp);
+            }
+            powerUp.originalValue = buffer.getDouble();
+        }
+        if (activePowerUps.size() > count) {
+            activePowerUps.subList(count, activePowerUps.size()).clear();
+        }
+    }
+
     public boolean isStickyMode() {
         return stickyMode;
     }
+
+    /**
+     * @return 활성 파워업 목록 (복사하지 않으며, {@link BreakoutRenderer}가 읽기만 함)
+     */
+    List<TimedPowerUp> getActivePowerUpView() {
+        return activePowerUps;
+    }
 }
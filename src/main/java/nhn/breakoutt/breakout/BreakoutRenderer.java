@@ -0,0 +1,371 @@
+package nhn.breakoutt.breakout;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import nhn.breakoutt.*;
+
+import java.util.List;
+
+/**
+ * 벽돌 깨기 세계와 그 안의 벽돌, 패들, 파워업, 폭발 효과를 JavaFX 캔버스에 그리는 클래스입니다.
+ * 모델은 색을 {@link Argb} 값으로만 가지므로, {@link BreakoutReplayer}처럼 화면 없이 돌릴 때는 JavaFX가 필요 없습니다.
+ * 각 모델의 {@link Paintable#paint}는 이 클래스의 메서드를 호출합니다.
+ */
+public final class BreakoutRenderer {
+    private static final Color[] RAINBOW_COLORS = {
+        Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.PURPLE
+    };
+
+    private BreakoutRenderer() {
+    }
+
+    /**
+     * 게임 월드 렌더링
+     */
+    public static void render(GraphicsContext gc, BreakoutWorld world) {
+        renderWithoutBalls(gc, world);
+
+        // 공 그리기
+        for (Ball ball : world.getBallView()) {
+            ball.paint(gc);
+        }
+    }
+
+    /**
+     * 공을 제외한 게임 월드를 렌더링합니다.
+     * 공을 스냅샷에서 보간해 따로 그릴 때 사용합니다.
+     */
+    public static void renderWithoutBalls(GraphicsContext gc, BreakoutWorld world) {
+        RenderPassEvent renderEvent = new RenderPassEvent();
+        renderEvent.begin();
+
+        // 배경
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, world.getWidth(), world.getHeight());
+
+        // 벽 그리기
+        for (UnbreakableBrick wall : world.getWallView()) {
+            wall.paint(gc);
+        }
+
+        // 벽돌 그리기
+        for (Breakable brick : world.getBrickView()) {
+            if (brick instanceof Paintable && !brick.isBroken()) {
+                ((Paintable) brick).paint(gc);
+            }
+        }
+
+        // 패들 그리기
+        world.getPaddle().paint(gc);
+
+        // 파워업 그리기
+        for (PowerUp powerUp : world.getPowerUpView()) {
+            powerUp.paint(gc);
+        }
+
+        // 폭발 효과 그리기
+        for (ExplosionEffect explosion : world.getExplosionView()) {
+            explosion.paint(gc);
+        }
+
+        if (renderEvent.shouldCommit()) {
+            renderEvent.pass = world.getClass().getSimpleName();
+            renderEvent.entityCount = world.getEntityCount();
+            renderEvent.commit();
+        }
+    }
+
+    public static void paintStaticObject(GraphicsContext gc, StaticObject object) {
+        if (object.isDestroyed()) return;
+
+        Color color = FxColors.toColor(object.getArgb());
+        double x = object.getX();
+        double y = object.getY();
+
+        // 3D 효과를 위한 그림자
+        gc.setFill(color.darker().darker());
+        gc.fillRect(x + 2, y + 2, object.getWidth(), object.getHeight());
+
+        // 본체
+        gc.setFill(color);
+        gc.fillRect(x, y, object.getWidth(), object.getHeight());
+
+        // 테두리
+        gc.setStroke(color.brighter());
+        gc.setLineWidth(1);
+        gc.strokeRect(x, y, object.getWidth(), object.getHeight());
+    }
+
+    public static void paintSimpleBrick(GraphicsContext gc, SimpleBrick brick) {
+        if (brick.isDestroyed()) return;
+
+        Color color = FxColors.toColor(brick.getArgb());
+        double x = brick.getX();
+        double y = brick.getY();
+        double width = brick.getWidth();
+        double height = brick.getHeight();
+
+        // 3D 효과를 위한 그림자
+        gc.setFill(color.darker().darker());
+        gc.fillRect(x + 2, y + 2, width, height);
+
+        // 본체
+        gc.setFill(color);
+        gc.fillRect(x, y, width, height);
+
+        // 하이라이트 (3D 효과)
+        gc.setFill(color.brighter());
+        gc.fillRect(x, y, width, 3); // 상단 하이라이트
+        gc.fillRect(x, y, 3, height); // 좌측 하이라이트
+
+        // 테두리
+        gc.setStroke(color.darker());
+        gc.setLineWidth(1);
+        gc.strokeRect(x, y, width, height);
+    }
+
+    public static void paintMultiHitBrick(GraphicsContext gc, MultiHitBrick brick) {
+        if (brick.isDestroyed()) return;
+
+        // 기본 벽돌 그리기
+        paintSimpleBrick(gc, brick);
+
+        double x = brick.getX();
+        double y = brick.getY();
+        double width = brick.getWidth();
+        double height = brick.getHeight();
+        MultiHit.DamageState damageState = brick.getDamageState();
+
+        // 피해 상태에 따른 추가 시각 효과
+        if (damageState != MultiHit.DamageState.PERFECT) {
+            gc.setStroke(Color.DARKRED);
+            gc.setLineWidth(1);
+
+            // 균열 효과
+            if (damageState == MultiHit.DamageState.DAMAGED) {
+                // 가로 균열 1개
+                gc.strokeLine(x + 5, y + height/2, x + width - 5, y + height/2);
+            } else if (damageState == MultiHit.DamageState.CRITICAL) {
+                // 가로 균열 2개
+                gc.strokeLine(x + 3, y + height/3, x + width - 3, y + height/3);
+                gc.strokeLine(x + 5, y + 2*height/3, x + width - 5, y + 2*height/3);
+
+                // 세로 균열 1개
+                gc.strokeLine(x + width/2, y + 3, x + width/2, y + height - 3);
+            }
+        }
+
+        // 남은 체력 표시 (작은 점들)
+        gc.setFill(Color.WHITE);
+        for (int i = 0; i < brick.hitPoints; i++) {
+            double dotX = x + width - 8 - (i * 4);
+            double dotY = y + 4;
+            gc.fillOval(dotX, dotY, 2, 2);
+        }
+    }
+
+    public static void paintExplodingBrick(GraphicsContext gc, ExplodingBrick brick) {
+        if (brick.isDestroyed()) return;
+
+        // 기본 벽돌 그리기
+        paintSimpleBrick(gc, brick);
+
+        // 폭발 벽돌임을 나타내는 특수 표시
+        gc.setFill(Color.YELLOW);
+        gc.setStroke(Color.RED);
+        gc.setLineWidth(2);
+
+        // 폭발 심볼 (작은 별)
+        double centerX = brick.getX() + brick.getWidth()/2;
+        double centerY = brick.getY() + brick.getHeight()/2;
+        double size = Math.min(brick.getWidth(), brick.getHeight()) * 0.3;
+
+        // 별 모양 그리기
+        drawExplosionSymbol(gc, centerX, centerY, size);
+    }
+
+    private static void drawExplosionSymbol(GraphicsContext gc, double centerX, double centerY, double size) {
+        // 간단한 폭발 심볼 (X 모양)
+        gc.strokeLine(centerX - size/2, centerY - size/2, centerX + size/2, centerY + size/2);
+        gc.strokeLine(centerX + size/2, centerY - size/2, centerX - size/2, centerY + size/2);
+
+        // 추가 선들로 폭발 효과 강화
+        gc.strokeLine(centerX, centerY - size/2, centerX, centerY + size/2);
+        gc.strokeLine(centerX - size/2, centerY, centerX + size/2, centerY);
+    }
+
+    public static void paintPowerUpBrick(GraphicsContext gc, PowerUpBrick brick) {
+        if (brick.isDestroyed()) return;
+
+        // 기본 벽돌 그리기
+        paintSimpleBrick(gc, brick);
+
+        double x = brick.getX();
+        double y = brick.getY();
+        double width = brick.getWidth();
+        double height = brick.getHeight();
+
+        // 파워업 벽돌임을 나타내는 특수 표시 (무지개 테두리)
+        gc.setLineWidth(2);
+
+        // 무지개 효과를 위한 여러 색상 테두리
+        for (int i = 0; i < RAINBOW_COLORS.length; i++) {
+            gc.setStroke(RAINBOW_COLORS[i]);
+            double offset = i * 0.5;
+            gc.strokeRect(x - offset, y - offset, width + 2*offset, height + 2*offset);
+        }
+
+        // 파워업 심볼 표시
+        gc.setFill(Color.WHITE);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
+
+        double centerX = x + width/2;
+        double centerY = y + height/2;
+        double symbolSize = Math.min(width, height) * 0.4;
+
+        // 파워업 타입에 따른 심볼 그리기
+        drawPowerUpSymbol(gc, centerX, centerY, symbolSize);
+    }
+
+    private static void drawPowerUpSymbol(GraphicsContext gc, double centerX, double centerY, double size) {
+        // 물음표 심볼 (파워업이 무엇인지 모르게)
+        gc.fillOval(centerX - size/2, centerY - size/2, size, size);
+        gc.strokeOval(centerX - size/2, centerY - size/2, size, size);
+
+        // "?" 문자
+        gc.setFill(Color.BLACK);
+        gc.fillText("?", centerX - 3, centerY + 3);
+    }
+
+    public static void paintPowerUp(GraphicsContext gc, PowerUp powerUp) {
+        if (powerUp.isCollected() || powerUp.isDestroyed()) return;
+
+        Color backgroundColor = FxColors.toColor(powerUp.getArgb());
+        double x = powerUp.getX();
+        double y = powerUp.getY();
+        double radius = powerUp.getRadius();
+
+        // 원형 배경
+        gc.setFill(backgroundColor);
+        gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+
+        // 테두리
+        gc.setStroke(backgroundColor.brighter());
+        gc.setLineWidth(2);
+        gc.strokeOval(x - radius, y - radius, radius * 2, radius * 2);
+
+        // 파워업 심볼 텍스트
+        gc.setFill(Color.WHITE);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
+
+        String symbol = powerUp.getType().getSymbol();
+        double textX = x - symbol.length() * 3;
+        double textY = y + 4;
+
+        // 텍스트 그림자
+        gc.setFill(Color.BLACK);
+        gc.fillText(symbol, textX + 1, textY + 1);
+
+        // 텍스트 본체
+        gc.setFill(Color.WHITE);
+        gc.fillText(symbol, textX, textY);
+    }
+
+    public static void paintPaddle(GraphicsContext gc, BreakoutPaddle paddle) {
+        // 3D 효과가 있는 패들 그리기
+        Color baseColor = FxColors.toColor(paddle.getArgb());
+        double x = paddle.getX();
+        double y = paddle.getY();
+        double width = paddle.getWidth();
+        double height = paddle.getHeight();
+
+        // 그림자
+        gc.setFill(baseColor.darker().darker());
+        gc.fillRoundRect(x + 3, y + 3, width, height, 10, 10);
+
+        // 본체
+        gc.setFill(baseColor);
+        gc.fillRoundRect(x, y, width, height, 10, 10);
+
+        // 하이라이트
+        gc.setFill(baseColor.brighter());
+        gc.fillRoundRect(x, y, width, height * 0.3, 10, 10);
+
+        // 끈끈한 패들 효과 표시
+        if (paddle.isStickyMode()) {
+            gc.setStroke(Color.YELLOW);
+            gc.setLineWidth(2);
+            gc.strokeRoundRect(x - 2, y - 2, width + 4, height + 4, 12, 12);
+        }
+
+        // 활성 파워업 표시
+        displayActivePowerUps(gc, paddle);
+    }
+
+    private static void displayActivePowerUps(GraphicsContext gc, BreakoutPaddle paddle) {
+        List<BreakoutPaddle.TimedPowerUp> activePowerUps = paddle.getActivePowerUpView();
+        double iconSize = 12;
+        double iconY = paddle.getY() - iconSize - 5;
+
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            BreakoutPaddle.TimedPowerUp powerUp = activePowerUps.get(i);
+            double iconX = paddle.getX() + i * (iconSize + 2);
+
+            // 파워업 아이콘 배경
+            gc.setFill(Color.WHITE);
+            gc.fillOval(iconX, iconY, iconSize, iconSize);
+
+            // 파워업 심볼
+            gc.setFill(Color.BLACK);
+            gc.fillText(powerUp.type.getSymbol(), iconX + 3, iconY + 8);
+
+            // 남은 시간 표시 (원형 진행 바)
+            double angle = (powerUp.remainingTime / powerUp.type.getDuration()) * 360;
+            gc.setStroke(Color.GREEN);
+            gc.setLineWidth(2);
+            gc.strokeArc(iconX - 1, iconY - 1, iconSize + 2, iconSize + 2, 90, -angle, ArcType.OPEN);
+        }
+    }
+
+    public static void paintExplosion(GraphicsContext gc, ExplosionEffect explosion) {
+        double currentRadius = explosion.getCurrentRadius();
+        if (explosion.isFinished() || currentRadius <= 0) return;
+
+        Color color = FxColors.toColor(explosion.getArgb());
+        double centerX = explosion.getCenterX();
+        double centerY = explosion.getCenterY();
+
+        // 투명도 계산 (시간이 지날수록 투명해짐)
+        double alpha = 1.0 - explosion.getProgress();
+        alpha = Math.max(0, Math.min(1, alpha));
+
+        // 폭발 원 그리기 (여러 개의 동심원으로 효과 강화)
+        for (int i = 0; i < 3; i++) {
+            double radius = currentRadius * (1.0 - i * 0.2);
+            double ringAlpha = alpha * (1.0 - i * 0.3);
+
+            Color ringColor = new Color(
+                color.getRed(),
+                color.getGreen() * (1.0 - i * 0.2),
+                color.getBlue() * (1.0 - i * 0.4),
+                ringAlpha
+            );
+
+            gc.setGlobalAlpha(ringAlpha);
+            gc.setStroke(ringColor);
+            gc.setLineWidth(3 - i);
+            gc.strokeOval(
+                centerX - radius,
+                centerY - radius,
+                radius * 2,
+                radius * 2
+            );
+        }
+
+        // 투명도 복원
+        gc.setGlobalAlpha(1.0);
+    }
+}
@@ -0,0 +1,112 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.FrameProfiler;
+import nhn.breakoutt.HeadlessRunner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@link ReplayLog}의 입력을 기록된 스텝에 다시 넣어 게임을 화면 없이 최대 속도로 재실행하는 클래스입니다.
+ * 같은 시드의 {@link BreakoutSession}에 같은 스텝 시간으로 입력을 넣으므로 녹화한 판과 같은 결과가 나옵니다.
+ * 계측기를 넘기면 실제 플레이에서 나온 장면의 단계별 비용을 반복해서 측정할 수 있습니다.
+ */
+public class BreakoutReplayer {
+    private final ReplayLog log;
+    private final LevelPack levelPack;
+    private long elapsedNanos;
+
+    public BreakoutReplayer(ReplayLog log) {
+        this(log, null);
+    }
+
+    /**
+     * @param levelPack 녹화할 때 쓴 레벨 묶음 (로그에는 기록되지 않음), 기본 배치였으면 null
+     * @throws IllegalArgumentException log가 null인 경우
+     */
+    public BreakoutReplayer(ReplayLog log, LevelPack levelPack) {
+        if (log == null) {
+            throw new IllegalArgumentException("리플레이 로그는 null일 수 없습니다");
+        }
+        this.log = log;
+        this.levelPack = levelPack;
+    }
+
+    public BreakoutSession run() {
+        return run(FrameProfiler.disabled());
+    }
+
+    /**
+     * 새 세션을 만들어 기록의 처음부터 끝까지 재생합니다.
+     * @param profiler 세계에 붙일 계측기
+     * @return 재생을 마친 세션 (점수, 레벨, 상태를 확인할 수 있음)
+     */
+    public BreakoutSession run(FrameProfiler profiler) {
+        BreakoutSession session = new BreakoutSession(log.getWidth(), log.getHeight(), log.getSeed());
+        session.setProfiler(profiler);
+        session.setLevelPack(levelPack);
+        HeadlessRunner runner = new HeadlessRunner(session, log.getTimeStep());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < log.getEventCount(); i++) {
+            runner.run(log.getStep(i) - session.getStepCount());
+            apply(session, log.getType(i), log.getValue(i));
+        }
+        runner.run(log.getTotalSteps() - session.getStepCount());
+        elapsedNanos = System.nanoTime() - start;
+        return session;
+    }
+
+    private static void apply(BreakoutSession session, byte type, double value) {
+        switch (type) {
+            case ReplayRecorder.TYPE_MOUSE:
+                session.moveMouse(value);
+                break;
+            case ReplayRecorder.TYPE_CLICK:
+                session.click();
+                break;
+            case ReplayRecorder.TYPE_KEY:
+                if ((byte) value == ReplayRecorder.KEY_PAUSE) {
+                    session.togglePause();
+                } else if ((byte) value == ReplayRecorder.KEY_RESTART) {
+                    session.restart();
+                }
+                break;
+        }
+    }
+
+    /**
+     * @return 마지막 run에 걸린 시간 (나노초)
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return 마지막 run의 초당 스텝 수
+     */
+    public double getStepsPerSecond() {
+        return elapsedNanos == 0 ? 0 : log.getTotalSteps() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * 사용법: BreakoutReplayer &lt;리플레이 로그&gt; [레벨 묶음]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 && args.length != 2) {
+            System.err.println("사용법: BreakoutReplayer <리플레이 로그> [레벨 묶음]");
+            System.exit(1);
+        }
+        ReplayLog log = ReplayLog.read(Path.of(args[0]));
+        LevelPack levelPack = args.length == 2 ? LevelPack.open(Path.of(args[1])) : null;
+        BreakoutReplayer replayer = new BreakoutReplayer(log, levelPack);
+        BreakoutSession session = replayer.run();
+
+        System.out.printf("스텝: %d (입력 %d개%s)%n", log.getTotalSteps(), log.getEventCount(),
+                log.isComplete() ? "" : ", 끝 기록 없음");
+        System.out.printf("재생 시간: %.1f ms, 초당 스텝: %.0f%n",
+                replayer.getElapsedNanos() / 1e6, replayer.getStepsPerSecond());
+        System.out.printf("상태: %s, 점수: %d, 레벨: %d, 생명: %d%n", session.getGameState().getDescription(),
+                session.getWorld().getScore(), session.getWorld().getLevel(), session.getLives());
+    }
+}
@@ -0,0 +1,277 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.*;
+
+import java.util.Random;
+
+/**
+ * 벽돌 깨기 한 판의 진행 상태(메뉴, 게임 중, 일시정지, 생명, 레벨)를 관리하는 클래스입니다.
+ *
+ * <p>화면과 무관하게 입력(마우스 이동, 클릭, 키)과 고정 간격 스텝만으로 진행하므로,
+ * 같은 시드와 같은 입력 순서를 주면 항상 같은 게임이 됩니다. 녹화기를 붙이면 입력을 스텝 번호와 함께 기록하고,
+ * {@link BreakoutReplayer}가 그 기록으로 게임을 화면 없이 다시 실행합니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 입력과 update는 같은 스레드(시뮬레이션 스레드)에서 호출해야 합니다.
+ * 다른 스레드에서는 getter로 읽기만 합니다.</p>
+ */
+public class BreakoutSession implements Simulation {
+    public static final int INITIAL_LIVES = 3;
+    public static final double BALL_SPEED = 200;
+
+    private final double width;
+    private final double height;
+    private final long seed;
+    // 재시작할 때마다 새 세계의 시드를 뽑음 (세션 시드만으로 모든 판이 정해짐)
+    private final Random worldSeeds;
+    private FrameProfiler profiler = FrameProfiler.disabled();
+    private ReplayRecorder recorder;
+    private LevelPack levelPack;
+    private long stepCount;
+
+    // world, gameState, lives는 시뮬레이션 스레드에서 바뀌고 다른 스레드(FX)에서 읽힘
+    private volatile BreakoutWorld world;
+    private volatile GameState gameState;
+    private volatile int lives;
+
+    /**
+     * @param width 세계 너비
+     * @param height 세계 높이
+     * @param seed 세션 시드
+     */
+    public BreakoutSession(double width, double height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.worldSeeds = new Random(seed);
+        this.world = createWorld();
+        this.gameState = GameState.MENU;
+        this.lives = INITIAL_LIVES;
+    }
+
+    private BreakoutWorld createWorld() {
+        BreakoutWorld newWorld = new BreakoutWorld(width, height, worldSeeds.nextLong());
+        newWorld.setProfiler(profiler);
+        return newWorld;
+    }
+
+    /**
+     * 한 스텝 진행합니다. 게임 중이 아니면 세계는 멈춰 있지만 스텝 번호는 늘어납니다.
+     */
+    @Override
+    public void update(double deltaTime) {
+        if (gameState == GameState.PLAYING) {
+            world.update(deltaTime);
+            checkGameState();
+        }
+        stepCount++;
+        if (recorder != null) {
+            recorder.stepEnded(stepCount);
+        }
+    }
+
+    /**
+     * 마우스 이동: 게임 중이거나 공을 잃은 상태면 패들의 목표 위치를 옮깁니다.
+     */
+    public void moveMouse(double mouseX) {
+        if (recorder != null) {
+            recorder.mouseMoved(stepCount, mouseX);
+        }
+        if (gameState == GameState.PLAYING || gameState == GameState.BALL_LOST) {
+            world.getPaddle().setTargetX(mouseX);
+        }
+    }
+
+    /**
+     * 마우스 클릭: 게임 시작, 공 발사, 재시작
+     */
+    public void click() {
+        if (recorder != null) {
+            recorder.clicked(stepCount);
+        }
+        switch (gameState) {
+            case MENU:
+                startNewGame();
+                break;
+
+            case BALL_LOST:
+                if (lives > 0) {
+                    launchBall();
+                    gameState = GameState.PLAYING;
+                }
+                break;
+
+            case PLAYING:
+                // 끈끈한 패들에서 공 발사
+                if (world.getPaddle().isStickyMode()) {
+                    world.getPaddle().releaseBall();
+                }
+                break;
+
+            case GAME_OVER:
+            case GAME_WON:
+                restartGame();
+                break;
+        }
+    }
+
+    /**
+     * 일시정지 키 (Space)
+     */
+    public void togglePause() {
+        if (recorder != null) {
+            recorder.keyPressed(stepCount, ReplayRecorder.KEY_PAUSE);
+        }
+        if (gameState == GameState.PLAYING) {
+            gameState = GameState.PAUSED;
+        } else if (gameState == GameState.PAUSED) {
+            gameState = GameState.PLAYING;
+        }
+    }
+
+    /**
+     * 재시작 키 (R)
+     */
+    public void restart() {
+        if (recorder != null) {
+            recorder.keyPressed(stepCount, ReplayRecorder.KEY_RESTART);
+        }
+        restartGame();
+    }
+
+    private void checkGameState() {
+        // 레벨 완료 확인
+        if (world.isLevelComplete()) {
+            gameState = GameState.LEVEL_COMPLETE;
+            nextLevel();
+        }
+
+        // 공을 모두 잃었는지 확인
+        if (world.areAllBallsLost()) {
+            lives--;
+            if (lives > 0) {
+                gameState = GameState.BALL_LOST;
+            } else {
+                gameState = GameState.GAME_OVER;
+            }
+        }
+    }
+
+    private void nextLevel() {
+        createLevel(world.getLevel() + 1);
+        launchBall();
+        gameState = GameState.PLAYING;
+
+        // 공 속도 증가
+        for (Ball ball : world.getBalls()) {
+            double speedMultiplier = 1.0 + (world.getLevel() - 1) * 0.1;
+            ball.setDx(ball.getDx() * speedMultiplier);
+            ball.setDy(ball.getDy() * speedMultiplier);
+        }
+    }
+
+    private void startNewGame() {
+        createLevel(1);
+        launchBall();
+        gameState = GameState.PLAYING;
+        lives = INITIAL_LIVES;
+    }
+
+    /**
+     * 레벨 묶음에 있는 레벨이면 묶음의 배치를, 없으면 기본 배치를 사용합니다.
+     * 묶음을 쓸 때는 다음 레벨을 미리 파싱해 캐시에 넣어, 레벨을 깼을 때 바로 넘어가게 합니다.
+     */
+    private void createLevel(int number) {
+        if (levelPack != null && number <= levelPack.getLevelCount()) {
+            world.createLevel(levelPack.getLevel(number));
+            if (number < levelPack.getLevelCount()) {
+                levelPack.getLevel(number + 1);
+            }
+        } else {
+            world.createLevel(number);
+        }
+    }
+
+    private void launchBall() {
+        // 기존 공들 제거
+        world.getBalls().clear();
+
+        // 새 공 생성
+        BreakoutPaddle paddle = world.getPaddle();
+        double ballX = paddle.getX() + paddle.getWidth() / 2;
+        double ballY = paddle.getY() - 15;
+
+        Ball ball = new Ball(ballX, ballY, 10, BALL_SPEED * 0.5, -BALL_SPEED, Argb.WHITE, CollisionAction.BOUNCE);
+
+        world.addBall(ball);
+    }
+
+    private void restartGame() {
+        world = createWorld();
+        startNewGame();
+    }
+
+    public BreakoutWorld getWorld() {
+        return world;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return 지금까지 진행한 스텝 수 (입력은 이 번호의 스텝 직전에 처리된 것으로 기록됨)
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * 세계에 붙일 계측기를 설정합니다. 재시작으로 만드는 세계에도 같은 계측기를 붙입니다.
+     * @throws IllegalArgumentException profiler가 null이거나 단계 수가 다른 경우
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        world.setProfiler(profiler);
+        this.profiler = profiler;
+    }
+
+    public LevelPack getLevelPack() {
+        return levelPack;
+    }
+
+    /**
+     * 이후에 시작하는 레벨의 배치를 가져올 레벨 묶음을 설정합니다. 묶음의 레벨을 다 깨면 기본 배치로 이어집니다.
+     * 리플레이 로그에는 묶음이 기록되지 않으므로, 재생할 때도 같은 묶음을 설정해야 합니다.
+     * @param levelPack 레벨 묶음, 기본 배치만 쓰려면 null
+     */
+    public void setLevelPack(LevelPack levelPack) {
+        this.levelPack = levelPack;
+    }
+
+    public ReplayRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * 이후의 입력을 기록할 녹화기를 설정합니다. 처음부터 재현하려면 첫 스텝 전에 설정해야 합니다.
+     * @param recorder 녹화기, 기록하지 않으려면 null
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+}
@@ -0,0 +1,64 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.BallSnapshot;
+import nhn.breakoutt.ProfilerTotals;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 렌더링 스레드에 넘기는 벽돌 깨기 한 스텝의 상태입니다.
+ * 공은 보간할 수 있도록 {@link BallSnapshot}으로, 벽돌, 패들, 파워업, 폭발 효과는
+ * {@link BreakoutWorld#writeSnapshot}의 이진 스냅샷으로 담습니다.
+ * 성능 오버레이가 잠금 없이 읽을 수 있도록 세계 계측기의 누적값도 함께 복사합니다.
+ * 렌더링 스레드는 이 상태를 자기만 쓰는 거울 세계에 {@link #restore}로 되돌려 잠금 없이 그립니다.
+ *
+ * <p>{@link nhn.breakoutt.SimulationThread}가 돌려 쓰므로, 다시 채울 때 버퍼와 공 스냅샷을 재사용합니다.</p>
+ */
+final class BreakoutSnapshot {
+    private BallSnapshot balls;
+    private ByteBuffer world = ByteBuffer.allocate(0);
+    private final ProfilerTotals profiler = new ProfilerTotals();
+
+    private BreakoutSnapshot() {
+    }
+
+    /**
+     * 세계의 현재 상태를 복사합니다. 시뮬레이션 스레드에서 스텝 사이에 호출합니다.
+     * @param recycled 더 이상 읽지 않는 스냅샷, 또는 null
+     * @return 채운 스냅샷 (recycled가 있으면 recycled)
+     */
+    static BreakoutSnapshot capture(BreakoutWorld source, BreakoutSnapshot recycled) {
+        BreakoutSnapshot snapshot = recycled == null ? new BreakoutSnapshot() : recycled;
+        snapshot.balls = BallSnapshot.capture(source.getBallView(), snapshot.balls);
+        snapshot.profiler.copyFrom(source.getProfiler());
+
+        int size = source.getSnapshotSize();
+        if (snapshot.world.capacity() < size) {
+            snapshot.world = ByteBuffer.allocate(Math.max(size, snapshot.world.capacity() * 2));
+        }
+        snapshot.world.clear();
+        source.writeSnapshot(snapshot.world);
+        snapshot.world.flip();
+        return snapshot;
+    }
+
+    BallSnapshot getBalls() {
+        return balls;
+    }
+
+    /**
+     * @return 이 스텝까지 세계 계측기가 기록한 누적값
+     */
+    ProfilerTotals getProfilerTotals() {
+        return profiler;
+    }
+
+    /**
+     * 벽돌, 공, 패들, 파워업, 폭발 효과를 거울 세계에 되돌립니다. 렌더링 스레드에서 호출합니다.
+     * @param mirror 같은 크기의 렌더링 전용 세계
+     */
+    void restore(BreakoutWorld mirror) {
+        world.rewind();
+        mirror.readSnapshot(world);
+    }
+}
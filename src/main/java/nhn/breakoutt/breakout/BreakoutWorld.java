@@ -1,32 +1,79 @@
 package nhn.breakoutt.breakout;
 
 import nhn.breakoutt.*;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Iterator;
+import java.util.Random;
+
+public class BreakoutWorld implements Simulation {
+    /**
+     * {@link FrameProfiler}에 기록하는 update 단계 이름 (단계 번호 순서)
+     */
+    public static final List<String> PROFILER_PHASES = List.of("move", "collisions", "removeDestroyed");
+
+    private static final int PHASE_MOVE = 0;
+    private static final int PHASE_COLLISIONS = 1;
+    private static final int PHASE_REMOVE_DESTROYED = 2;
+
+    /**
+     * 한 스텝에서 공 하나가 처리하는 최대 충돌 횟수 (좁은 틈에 끼어 충돌이 반복될 때 스텝이 끝나도록 함)
+     */
+    private static final int MAX_HITS_PER_STEP = 8;
+
+    private static final int SNAPSHOT_MAGIC = 0x42575331; // "BWS1"
+    private static final byte BRICK_SIMPLE = 0;
+    private static final byte BRICK_MULTI_HIT = 1;
+    private static final byte BRICK_POWER_UP = 2;
+    private static final byte BRICK_EXPLODING = 3;
+    private static final int BRICK_SIZE = Integer.BYTES + 2 + Integer.BYTES + 2 * Short.BYTES + SnapshotFormat.COLOR_SIZE;
+    private static final int POWER_UP_BRICK_EXTRA_SIZE = 1 + Double.BYTES;
+    private static final int EXPLODING_BRICK_EXTRA_SIZE = Double.BYTES;
+    static final double POWER_UP_DROP_CHANCE = 0.3;
 
-public class BreakoutWorld {
     private double width;
     private double height;
 
     private List<UnbreakableBrick> walls;
     private List<Breakable> bricks;
+    private BrickGrid brickGrid;
+    private final List<Breakable> nearbyBricks;
+    private final double[] targetBounds = new double[4];
+    private double earliestHitTime; // findEarliestHit의 결과 (객체를 만들지 않고 넘김)
     private List<Ball> balls;
     private BreakoutPaddle paddle;
     private List<PowerUp> powerUps;
     private List<ExplosionEffect> explosions;
 
+    private final SnapshotRandom random;
     private int score;
     private int level;
+    private FrameProfiler profiler = FrameProfiler.disabled();
+    private final ParallelIntegrator.RangeAction movePowerUpRange = this::movePowerUpRange;
+    private ParallelIntegrator integrator;
+    private double moveDeltaTime;
+    // 스냅샷 복원 중 재사용할 이전 격자의 벽돌 (복원이 끝나면 비움)
+    private Breakable[] previousCells = new Breakable[0];
 
     public BreakoutWorld(double width, double height) {
+        this(width, height, new Random().nextLong());
+    }
+
+    /**
+     * 시드를 지정해 만듭니다. 같은 시드와 같은 입력이면 파워업 종류와 드롭이 같으므로 게임을 재현할 수 있습니다.
+     * @param seed 파워업 벽돌이 사용할 난수 시드
+     */
+    public BreakoutWorld(double width, double height, long seed) {
+        this.random = new SnapshotRandom(seed);
         this.width = width;
         this.height = height;
         this.walls = new ArrayList<>();
         this.bricks = new ArrayList<>();
+        this.brickGrid = BrickGrid.empty();
+        this.nearbyBricks = new ArrayList<>();
         this.balls = new ArrayList<>();
         this.powerUps = new ArrayList<>();
         this.explosions = new ArrayList<>();
@@ -52,93 +99,274 @@ public class BreakoutWorld {
         paddle = new BreakoutPaddle(paddleX, paddleY, paddleWidth, paddleHeight);
     }
 
+    @Override
     public void update(double deltaTime) {
-        paddle.update(deltaTime);
+        WorldStepEvent stepEvent = new WorldStepEvent();
+        stepEvent.begin();
+        profiler.beginFrame();
 
-        for (Ball ball : balls) {
-            ball.move(deltaTime);
-        }
+        // 공은 충돌 단계에서 경로를 따라 이동시킴
+        long phaseStart = profiler.startPhase();
+        paddle.update(deltaTime);
 
-        for (PowerUp powerUp : powerUps) {
-            powerUp.move(deltaTime);
+        // 파워업은 자기 위치만 바꾸므로 나눠서 이동 가능 (공은 벽돌을 깨므로 충돌 단계에서 차례로 이동)
+        moveDeltaTime = deltaTime;
+        if (integrator == null) {
+            movePowerUpRange(0, powerUps.size());
+        } else {
+            integrator.forEachRange(powerUps.size(), movePowerUpRange);
         }
 
         for (ExplosionEffect explosion : explosions) {
             explosion.update(deltaTime);
         }
+        profiler.endPhase(PHASE_MOVE, phaseStart);
+
+        CollisionPhaseEvent phaseEvent = new CollisionPhaseEvent();
+        phaseEvent.begin();
+        phaseStart = profiler.startPhase();
+        handleCollisions(deltaTime);
+        profiler.endPhase(PHASE_COLLISIONS, phaseStart);
+        if (phaseEvent.shouldCommit()) {
+            phaseEvent.world = getClass().getSimpleName();
+            phaseEvent.phase = PROFILER_PHASES.get(PHASE_COLLISIONS);
+            phaseEvent.entityCount = getEntityCount();
+            phaseEvent.commit();
+        }
 
-        handleCollisions();
-
+        phaseStart = profiler.startPhase();
         removeDestroyedObjects();
+        profiler.endPhase(PHASE_REMOVE_DESTROYED, phaseStart);
 
         processExplosions();
+
+        profiler.endFrame();
+        if (stepEvent.shouldCommit()) {
+            stepEvent.world = getClass().getSimpleName();
+            stepEvent.deltaTime = (long) (deltaTime * 1e9);
+            stepEvent.entityCount = getEntityCount();
+            stepEvent.commit();
+        }
     }
 
-    private void handleCollisions() {
+    private void movePowerUpRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            powerUps.get(i).move(moveDeltaTime);
+        }
+    }
+
+    /**
+     * 공은 이동 경로를 따라 벽, 패들, 벽돌과의 충돌 시각을 구해 가장 먼저 닿는 것부터 처리하므로
+     * 스텝이 길거나 공이 빨라도 얇은 벽돌을 건너뛰지 않습니다.
+     */
+    private void handleCollisions(double deltaTime) {
         for (Ball ball : balls) {
-            for (UnbreakableBrick wall : walls) {
-                if (ball.isColliding(wall)) {
-                    ball.handleCollision(wall);
+            moveBall(ball, deltaTime);
+        }
+
+        for (PowerUp powerUp : powerUps) {
+            profiler.countPairTested();
+            if (powerUp.isColliding(paddle)) {
+                powerUp.handleCollision(paddle);
+                profiler.countCollisionResolved();
+                if (powerUp.isCollected()) {
+                    applyPowerUp(powerUp);
                 }
             }
         }
+    }
 
-        for (Ball ball : balls) {
-            if (ball.isColliding(paddle)) {
-                paddle.handleCollision(ball);
+    /**
+     * 공을 deltaTime만큼 이동시키며, 도중에 닿는 물체가 있으면 닿는 위치까지 이동해 충돌을 처리한 뒤
+     * 남은 시간 동안 계속 이동합니다.
+     */
+    private void moveBall(Ball ball, double deltaTime) {
+        double remaining = deltaTime;
+        Collidable lastHit = null;
+
+        for (int hits = 0; hits < MAX_HITS_PER_STEP; hits++) {
+            Collidable target = findEarliestHit(ball, remaining, lastHit);
+            if (target == null) {
+                ball.move(remaining);
+                return;
             }
+
+            ball.move(earliestHitTime);
+            remaining -= earliestHitTime;
+            lastHit = target;
+            resolveBallHit(ball, target);
         }
+        // 최대 충돌 횟수에 도달하면 남은 시간 동안 다음 충돌 직전까지만 이동 (그 충돌은 다음 스텝에서 처리)
+        findEarliestHit(ball, remaining, lastHit);
+        ball.move(earliestHitTime);
+    }
 
-        for (Ball ball : balls) {
-            for (Breakable brick : bricks) {
-                if (brick instanceof Collidable collidable) {
-                    if (ball.isColliding(collidable)) {
-                        brick.hit(1);
-                        ball.handleCollision(collidable);
-
-                        if (brick.isBroken()) {
-                            handleBrickDestruction(brick);
-                        }
-                        break; // 한 번에 하나의 벽돌만 충돌
-                    }
+    /**
+     * 공이 remaining 동안 이동하며 가장 먼저 닿는 물체를 찾습니다. 닿는 시각은 earliestHitTime에 남깁니다.
+     * @param lastHit 방금 충돌을 처리해 제외할 물체, 또는 null
+     * @return 가장 먼저 닿는 물체, 닿는 물체가 없으면 null (earliestHitTime은 remaining)
+     */
+    private Collidable findEarliestHit(Ball ball, double remaining, Collidable lastHit) {
+        double x = ball.getX();
+        double y = ball.getY();
+        double radius = ball.getRadius();
+        double dx = ball.getDx();
+        double dy = ball.getDy();
+
+        double earliest = remaining;
+        Collidable target = null;
+
+        for (UnbreakableBrick wall : walls) {
+            if (wall != lastHit) {
+                double time = timeOfImpact(ball, wall);
+                if (time < earliest) {
+                    earliest = time;
+                    target = wall;
                 }
             }
         }
 
-        for (PowerUp powerUp : powerUps) {
-            if (powerUp.isColliding(paddle)) {
-                powerUp.handleCollision(paddle);
-                if (powerUp.isCollected()) {
-                    applyPowerUp(powerUp);
+        if (paddle != lastHit) {
+            double time = timeOfImpact(ball, paddle);
+            if (time < earliest) {
+                earliest = time;
+                target = paddle;
+            }
+        }
+
+        // 이번 이동 경로가 지나는 격자 칸의 벽돌만 검사
+        nearbyBricks.clear();
+        brickGrid.query(Math.min(x, x + dx * remaining) - radius, Math.min(y, y + dy * remaining) - radius,
+                        Math.max(x, x + dx * remaining) + radius, Math.max(y, y + dy * remaining) + radius,
+                        nearbyBricks);
+        for (Breakable brick : nearbyBricks) {
+            if (brick instanceof Collidable collidable && collidable != lastHit && !brick.isBroken()) {
+                double time = timeOfImpact(ball, collidable);
+                if (time < earliest) {
+                    earliest = time;
+                    target = collidable;
                 }
             }
         }
+
+        earliestHitTime = earliest;
+        return target;
+    }
+
+    private double timeOfImpact(Ball ball, Collidable target) {
+        profiler.countPairTested();
+        loadBounds(target);
+        return SweptCollision.timeOfImpact(ball.getX(), ball.getY(), ball.getRadius(), ball.getDx(), ball.getDy(),
+                targetBounds[0], targetBounds[1], targetBounds[2], targetBounds[3]);
+    }
+
+    private void resolveBallHit(Ball ball, Collidable target) {
+        profiler.countCollisionResolved();
+
+        if (target == paddle) {
+            paddle.handleCollision(ball);
+            return;
+        }
+
+        if (target instanceof Breakable brick) {
+            brick.hit(1);
+        }
+        if (ball.getCollisionAction() == CollisionAction.BOUNCE) {
+            loadBounds(target);
+            SweptCollision.reflect(ball, targetBounds[0], targetBounds[1], targetBounds[2], targetBounds[3]);
+        } else {
+            ball.handleCollision(target);
+        }
+        if (target instanceof Breakable brick && brick.isBroken()) {
+            handleBrickDestruction(brick);
+        }
+    }
+
+    /**
+     * 대상의 경계(minX, minY, maxX, maxY)를 targetBounds에 채웁니다. 벽, 벽돌, 패들은 객체를 만들지 않고 읽습니다.
+     */
+    private void loadBounds(Collidable target) {
+        if (target instanceof StaticObject staticObject) {
+            targetBounds[0] = staticObject.getX();
+            targetBounds[1] = staticObject.getY();
+            targetBounds[2] = staticObject.getX() + staticObject.getWidth();
+            targetBounds[3] = staticObject.getY() + staticObject.getHeight();
+        } else if (target instanceof Box box) {
+            targetBounds[0] = box.getX();
+            targetBounds[1] = box.getY();
+            targetBounds[2] = box.getX() + box.getWidth();
+            targetBounds[3] = box.getY() + box.getHeight();
+        } else {
+            Bounds bounds = target.getBounds();
+            targetBounds[0] = bounds.getMinX();
+            targetBounds[1] = bounds.getMinY();
+            targetBounds[2] = bounds.getMaxX();
+            targetBounds[3] = bounds.getMaxY();
+        }
     }
 
     private void handleBrickDestruction(Breakable brick) {
+        BrickDestructionEvent destructionEvent = new BrickDestructionEvent();
+        destructionEvent.begin();
+        int bricksBroken = 1;
+        boolean powerUpDropped = false;
+
         score += brick.getPoints();
 
         // 폭발 효과
         if (brick instanceof Exploding explodingBrick) {
+            ExplosionEvent explosionEvent = new ExplosionEvent();
+            explosionEvent.begin();
+
             // 폭발로 영향받는 벽돌들 찾기
-            List<Breakable> affectedBricks = explodingBrick.explode(getBreakableObjects());
+            List<Boundable> candidates = getBreakableObjects();
+            List<Breakable> affectedBricks = explodingBrick.explode(candidates);
+            int brokenByExplosion = 0;
             for (Breakable affected : affectedBricks) {
                 affected.hit(explodingBrick.getExplosionDamage());
                 if (affected.isBroken()) {
                     score += affected.getPoints();
+                    brokenByExplosion++;
                 }
             }
+            bricksBroken += brokenByExplosion;
 
             // 폭발 효과 생성
             explosions.add(explodingBrick.createExplosionEffect());
+            profiler.countObjectsAdded(1);
+
+            if (explosionEvent.shouldCommit()) {
+                explosionEvent.candidateBricks = candidates.size();
+                explosionEvent.affectedBricks = affectedBricks.size();
+                explosionEvent.bricksBroken = brokenByExplosion;
+                explosionEvent.damage = explodingBrick.getExplosionDamage();
+                explosionEvent.commit();
+            }
         }
 
         // 파워업 드롭
         if (brick instanceof PowerUpProvider provider) {
             if (provider.shouldDropPowerUp()) {
                 createPowerUp(brick, provider.getPowerUpType());
+                powerUpDropped = true;
             }
         }
+
+        if (destructionEvent.shouldCommit()) {
+            destructionEvent.brickType = brick.getClass().getSimpleName();
+            destructionEvent.bricksBroken = bricksBroken;
+            destructionEvent.points = brick.getPoints();
+            destructionEvent.powerUpDropped = powerUpDropped;
+            // 깨진 벽돌은 이번 스텝이 끝날 때 목록에서 빠지므로 직접 셈 (기록 중일 때만)
+            int remaining = 0;
+            for (Breakable other : bricks) {
+                if (!other.isBroken()) {
+                    remaining++;
+                }
+            }
+            destructionEvent.remainingBricks = remaining;
+            destructionEvent.commit();
+        }
     }
 
     private List<Boundable> getBreakableObjects() {
@@ -158,6 +386,7 @@ public class BreakoutWorld {
 
             PowerUp powerUp = new PowerUp(x, y, type);
             powerUps.add(powerUp);
+            profiler.countObjectsAdded(1);
         }
     }
 
@@ -200,9 +429,10 @@ public class BreakoutWorld {
 
                 newBall.setDx(speed * Math.cos(angle));
                 newBall.setDy(speed * Math.sin(angle));
-                newBall.setColor(Color.ORANGE);
+                newBall.setArgb(Argb.ORANGE);
 
                 balls.add(newBall);
+                profiler.countObjectsAdded(1);
             }
         }
     }
@@ -215,8 +445,16 @@ public class BreakoutWorld {
     }
 
     private void removeDestroyedObjects() {
-        // 파괴된 벽돌 제거
-        bricks.removeIf(Breakable::isBroken);
+        int before = bricks.size() + powerUps.size() + explosions.size() + balls.size();
+
+        // 파괴된 벽돌 제거 (격자에서도 함께 제거)
+        bricks.removeIf(brick -> {
+            if (!brick.isBroken()) {
+                return false;
+            }
+            brickGrid.remove(brick);
+            return true;
+        });
 
         // 수집된 파워업 제거
         powerUps.removeIf(powerUp -> powerUp.isCollected() || powerUp.isDestroyed());
@@ -226,111 +464,373 @@ public class BreakoutWorld {
 
         // 화면 밖으로 나간 공 제거
         balls.removeIf(ball -> ball.getY() > height + 50);
+
+        profiler.countObjectsRemoved(before - (bricks.size() + powerUps.size() + explosions.size() + balls.size()));
     }
 
     private void processExplosions() {
         // 폭발 효과 처리는 이미 handleBrickDestruction에서 수행됨
     }
 
+    public void createLevel(int levelNumber) {
+        createLevel(LevelDefinition.builtIn(levelNumber, width));
+    }
+
     /**
-     * 게임 월드 렌더링
+     * 레벨 정의대로 벽돌을 배치합니다. 벽돌은 행 우선 순서로 만들며, 빈 칸은 건너뜁니다.
+     * 파워업 벽돌은 세계의 난수 생성기를 사용하므로 같은 시드면 같은 배치가 나옵니다.
+     * @throws IllegalArgumentException definition이 null인 경우
      */
-    public void render(GraphicsContext gc) {
-        // 배경
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, width, height);
+    public void createLevel(LevelDefinition definition) {
+        if (definition == null) {
+            throw new IllegalArgumentException("레벨 정의는 null일 수 없습니다");
+        }
+        bricks.clear();
+        this.level = definition.getNumber();
 
-        // 벽 그리기
-        for (UnbreakableBrick wall : walls) {
-            wall.paint(gc);
+        double brickWidth = definition.getBrickWidth();
+        double brickHeight = definition.getBrickHeight();
+        double spacing = definition.getSpacing();
+        double startX = definition.getStartX();
+        double startY = definition.getStartY();
+        int rows = definition.getRows();
+        int cols = definition.getCols();
+
+        brickGrid = new BrickGrid(startX, startY, brickWidth, brickHeight, spacing, rows, cols);
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int kind = definition.getKindIndex(row, col);
+                if (kind < 0) {
+                    continue;
+                }
+                double x = startX + col * (brickWidth + spacing);
+                double y = startY + row * (brickHeight + spacing);
+
+                Breakable brick = definition.getKind(kind).createBrick(x, y, brickWidth, brickHeight, random);
+                bricks.add(brick);
+                brickGrid.put(row, col, brick);
+            }
         }
+    }
 
-        // 벽돌 그리기
+    /**
+     * 세계 상태를 스냅샷으로 버퍼에 씁니다. 버퍼는 재사용할 수 있으며, 현재 위치부터 씁니다.
+     * 되감기, 중단 후 복구, 같은 상태에서 여러 갈래로 시뮬레이션할 때 {@link #readSnapshot}과 함께 사용합니다.
+     *
+     * <p>본문 (벽은 크기로 정해지므로 쓰지 않음):</p>
+     * <pre>
+     * double 너비, double 높이, int 점수, int 레벨, long 난수 상태
+     * 벽돌 격자 배치, int 벽돌 수, 벽돌마다 칸 번호, 종류, 파괴 여부, 점수, 남은/최대 타격 횟수, 색
+     *   (파워업 벽돌은 파워업 종류와 드롭 확률을, 폭발 벽돌은 폭발 반경을 덧붙임)
+     * int 공 수, 공마다 {@link SnapshotFormat#writeBall} 기록
+     * int 파워업 수, 파워업마다 위치, 종류, 수집 여부
+     * int 폭발 효과 수, 폭발마다 중심, 크기, 진행 시간
+     * 패들 위치, 크기, 목표 위치, 끈끈한 상태, 붙은 공 번호, 남은 파워업 시간
+     * </pre>
+     *
+     * @throws IllegalArgumentException 스냅샷을 지원하지 않는 종류의 공이나 벽돌이 있는 경우 (버퍼 위치는 바뀌지 않음)
+     * @throws java.nio.BufferOverflowException 버퍼 공간이 {@link #getSnapshotSize()}보다 작은 경우
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        for (Ball ball : balls) {
+            if (ball.getClass() != Ball.class) {
+                throw new IllegalArgumentException("스냅샷을 지원하지 않는 공입니다: " + ball.getClass().getName());
+            }
+        }
         for (Breakable brick : bricks) {
-            if (brick instanceof Paintable && !brick.isBroken()) {
-                ((Paintable) brick).paint(gc);
+            if (brickKind(brick) < 0 || brickGrid.indexOf(brick) < 0) {
+                throw new IllegalArgumentException("스냅샷을 지원하지 않는 벽돌입니다: " + brick.getClass().getName());
             }
         }
 
-        // 패들 그리기
-        paddle.paint(gc);
+        int start = SnapshotFormat.beginSnapshot(buffer, SNAPSHOT_MAGIC);
+        buffer.putDouble(width);
+        buffer.putDouble(height);
+        buffer.putInt(score);
+        buffer.putInt(level);
+        buffer.putLong(random.getState());
+
+        brickGrid.writeLayout(buffer);
+        buffer.putInt(bricks.size());
+        for (Breakable brick : bricks) {
+            writeBrick(buffer, (SimpleBrick) brick);
+        }
 
-        // 공 그리기
+        buffer.putInt(balls.size());
         for (Ball ball : balls) {
-            ball.paint(gc);
+            SnapshotFormat.writeBall(buffer, ball);
         }
 
-        // 파워업 그리기
+        buffer.putInt(powerUps.size());
         for (PowerUp powerUp : powerUps) {
-            powerUp.paint(gc);
+            powerUp.writeState(buffer);
         }
 
-        // 폭발 효과 그리기
+        buffer.putInt(explosions.size());
         for (ExplosionEffect explosion : explosions) {
-            explosion.paint(gc);
+            explosion.writeState(buffer);
         }
+
+        paddle.writeState(buffer, balls);
+        SnapshotFormat.endSnapshot(buffer, start);
     }
 
-    public void createLevel(int levelNumber) {
-        bricks.clear();
-        this.level = levelNumber;
+    private void writeBrick(ByteBuffer buffer, SimpleBrick brick) {
+        byte kind = brickKind(brick);
+        buffer.putInt(brickGrid.indexOf(brick));
+        buffer.put(kind);
+        buffer.put((byte) (brick.isDestroyed() ? 1 : 0));
+        buffer.putInt(brick.points);
+        buffer.putShort((short) brick.hitPoints);
+        buffer.putShort((short) brick.maxHitPoints);
+        SnapshotFormat.writeColor(buffer, brick instanceof MultiHitBrick multiHit ? multiHit.getOriginalArgb() : brick.getArgb());
+        if (brick instanceof PowerUpBrick powerUpBrick) {
+            buffer.put((byte) powerUpBrick.getPowerUpType().ordinal());
+            buffer.putDouble(powerUpBrick.getDropChance());
+        } else if (brick instanceof ExplodingBrick explodingBrick) {
+            buffer.putDouble(explodingBrick.getExplosionRadius());
+        }
+    }
 
-        double brickWidth = 60;
-        double brickHeight = 20;
-        double spacing = 5;
-        double startX = 50;
-        double startY = 80;
+    private static byte brickKind(Breakable brick) {
+        Class<?> type = brick.getClass();
+        if (type == SimpleBrick.class) {
+            return BRICK_SIMPLE;
+        } else if (type == MultiHitBrick.class) {
+            return BRICK_MULTI_HIT;
+        } else if (type == PowerUpBrick.class) {
+            return BRICK_POWER_UP;
+        } else if (type == ExplodingBrick.class) {
+            return BRICK_EXPLODING;
+        }
+        return -1;
+    }
 
-        int rows = Math.min(5 + levelNumber, 10); // 최대 10줄
-        int cols = (int) ((width - 2 * startX) / (brickWidth + spacing));
+    /**
+     * @return 지금 {@link #writeSnapshot}이 쓸 바이트 수
+     */
+    public int getSnapshotSize() {
+        int size = SnapshotFormat.HEADER_SIZE + 2 * Double.BYTES + 2 * Integer.BYTES + Long.BYTES;
+        size += BrickGrid.LAYOUT_SIZE + Integer.BYTES + bricks.size() * BRICK_SIZE;
+        for (Breakable brick : bricks) {
+            if (brick instanceof PowerUpBrick) {
+                size += POWER_UP_BRICK_EXTRA_SIZE;
+            } else if (brick instanceof ExplodingBrick) {
+                size += EXPLODING_BRICK_EXTRA_SIZE;
+            }
+        }
+        size += Integer.BYTES + balls.size() * SnapshotFormat.BALL_SIZE;
+        size += Integer.BYTES + powerUps.size() * PowerUp.SNAPSHOT_SIZE;
+        size += Integer.BYTES + explosions.size() * ExplosionEffect.SNAPSHOT_SIZE;
+        return size + paddle.getStateSize();
+    }
 
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                double x = startX + col * (brickWidth + spacing);
-                double y = startY + row * (brickHeight + spacing);
+    /**
+     * 스냅샷으로 세계 상태를 되돌립니다. 난수 상태도 되돌리므로 이후 파워업 드롭은 스냅샷을 쓴 세계와 같습니다.
+     *
+     * <p>같은 칸의 벽돌, 같은 번호의 공/파워업/폭발 효과가 같은 종류면 새로 만들지 않고 상태만 덮어씁니다.
+     * 벽, 패들, 계측기, 병렬 적분기는 그대로 둡니다.</p>
+     *
+     * @throws IllegalArgumentException 이 세계의 스냅샷이 아니거나, 세계 크기가 다르거나, 잘린 경우
+     */
+    public void readSnapshot(ByteBuffer buffer) {
+        SnapshotFormat.readHeader(buffer, SNAPSHOT_MAGIC);
+        if (buffer.getDouble() != width || buffer.getDouble() != height) {
+            throw new IllegalArgumentException("세계 크기가 다른 스냅샷입니다");
+        }
+        score = buffer.getInt();
+        level = buffer.getInt();
+        random.setState(buffer.getLong());
+
+        readBricks(buffer);
+
+        int ballCount = buffer.getInt();
+        for (int i = 0; i < ballCount; i++) {
+            Ball existing = i < balls.size() ? balls.get(i) : null;
+            Ball ball = SnapshotFormat.readBall(buffer, existing);
+            if (existing == null) {
+                balls.add(ball);
+            } else if (ball != existing) {
+                balls.set(i, ball);
+            }
+        }
+        truncate(balls, ballCount);
 
-                Breakable brick = createBrickForLevel(x, y, brickWidth, brickHeight, row, col, levelNumber);
-                bricks.add(brick);
+        int powerUpCount = buffer.getInt();
+        for (int i = 0; i < powerUpCount; i++) {
+            if (i == powerUps.size()) {
+                powerUps.add(new PowerUp(0, 0, PowerUpProvider.PowerUpType.WIDER_PADDLE));
+            }
+            powerUps.get(i).readState(buffer);
+        }
+        truncate(powerUps, powerUpCount);
+
+        int explosionCount = buffer.getInt();
+        for (int i = 0; i < explosionCount; i++) {
+            if (i == explosions.size()) {
+                explosions.add(new ExplosionEffect(0, 0, 0));
             }
+            explosions.get(i).readState(buffer);
         }
+        truncate(explosions, explosionCount);
+
+        paddle.readState(buffer, balls);
     }
 
-    private Breakable createBrickForLevel(double x, double y, double width, double height, int row, int col, int level) {
-        Color color = getBrickColor(row);
-        int points = (row + 1) * 10;
+    private void readBricks(ByteBuffer buffer) {
+        BrickGrid grid = brickGrid.readLayout(buffer);
+        int cellCount = grid.getCellCount();
+        boolean reuseCells = grid == brickGrid;
+        if (reuseCells) {
+            if (previousCells.length < cellCount) {
+                previousCells = new Breakable[cellCount];
+            }
+            grid.copyCellsTo(previousCells);
+            grid.clear();
+        }
 
-        // 레벨과 위치에 따른 벽돌 타입 결정
-        if (level >= 3 && (row + col) % 7 == 0) {
-            // 폭발 벽돌
-            return new ExplodingBrick(x, y, width, height, Color.RED, points * 2);
-        } else if (level >= 2 && row < 2) {
-            // 다중 타격 벽돌 (상위 줄)
-            return new MultiHitBrick(x, y, width, height, color, points, 2 + level/3);
-        } else if ((row + col) % 5 == 0) {
-            // 파워업 벽돌
-            return new PowerUpBrick(x, y, width, height, color, points, 0.3);
+        bricks.clear();
+        int brickCount = buffer.getInt();
+        for (int i = 0; i < brickCount; i++) {
+            int cell = buffer.getInt();
+            if (cell < 0 || cell >= cellCount) {
+                throw new IllegalArgumentException("격자 범위를 벗어난 벽돌입니다: " + cell);
+            }
+            SimpleBrick brick = readBrick(buffer, grid, cell, reuseCells ? previousCells[cell] : null);
+            grid.putCell(cell, brick);
+            bricks.add(brick);
+        }
+
+        if (reuseCells) {
+            Arrays.fill(previousCells, 0, cellCount, null);
+        }
+        brickGrid = grid;
+    }
+
+    private SimpleBrick readBrick(ByteBuffer buffer, BrickGrid grid, int cell, Breakable previous) {
+        byte kind = buffer.get();
+        boolean destroyed = buffer.get() != 0;
+        int points = buffer.getInt();
+        int hitPoints = buffer.getShort();
+        int maxHitPoints = buffer.getShort();
+        int argb = SnapshotFormat.readColor(buffer);
+        PowerUpProvider.PowerUpType powerUpType = null;
+        double dropChance = 0;
+        if (kind == BRICK_POWER_UP) {
+            powerUpType = PowerUpProvider.PowerUpType.values()[buffer.get()];
+            dropChance = buffer.getDouble();
+        }
+        double explosionRadius = 0;
+        if (kind == BRICK_EXPLODING) {
+            explosionRadius = buffer.getDouble();
+        }
+
+        SimpleBrick brick;
+        if (previous != null && brickKind(previous) == kind
+                && isSameBrick((SimpleBrick) previous, points, maxHitPoints, argb, powerUpType, dropChance,
+                        explosionRadius)) {
+            brick = (SimpleBrick) previous;
         } else {
-            // 일반 벽돌
-            return new SimpleBrick(x, y, width, height, color, points);
+            double x = grid.getCellX(cell);
+            double y = grid.getCellY(cell);
+            double brickWidth = grid.getBrickWidth();
+            double brickHeight = grid.getBrickHeight();
+            brick = switch (kind) {
+                case BRICK_SIMPLE -> new SimpleBrick(x, y, brickWidth, brickHeight, argb, points);
+                case BRICK_MULTI_HIT -> new MultiHitBrick(x, y, brickWidth, brickHeight, argb, points, maxHitPoints);
+                case BRICK_POWER_UP -> new PowerUpBrick(x, y, brickWidth, brickHeight, argb, points, dropChance,
+                        random, powerUpType);
+                case BRICK_EXPLODING -> new ExplodingBrick(x, y, brickWidth, brickHeight, argb, points,
+                        explosionRadius);
+                default -> throw new IllegalArgumentException("알 수 없는 벽돌 종류입니다: " + kind);
+            };
+        }
+        brick.restoreHitPoints(hitPoints, destroyed);
+        return brick;
+    }
+
+    /**
+     * 이전 벽돌을 그대로 쓸 수 있는지 (생성할 때 정해지는 값이 모두 같은지) 확인합니다.
+     */
+    private static boolean isSameBrick(SimpleBrick brick, int points, int maxHitPoints, int argb,
+                                       PowerUpProvider.PowerUpType powerUpType, double dropChance,
+                                       double explosionRadius) {
+        if (brick.points != points || brick.maxHitPoints != maxHitPoints) {
+            return false;
+        }
+        if (brick instanceof MultiHitBrick multiHit) {
+            return multiHit.getOriginalArgb() == argb;
         }
+        if (brick instanceof PowerUpBrick powerUpBrick
+                && (powerUpBrick.getPowerUpType() != powerUpType || powerUpBrick.getDropChance() != dropChance)) {
+            return false;
+        }
+        if (brick instanceof ExplodingBrick explodingBrick && explodingBrick.getExplosionRadius() != explosionRadius) {
+            return false;
+        }
+        return brick.getArgb() == argb;
     }
 
-    private Color getBrickColor(int row) {
-        Color[] colors = {
-            Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE,
-            Color.PURPLE, Color.PINK, Color.CYAN, Color.LIME, Color.MAGENTA
-        };
-        return colors[row % colors.length];
+    private static void truncate(List<?> list, int size) {
+        if (list.size() > size) {
+            list.subList(size, list.size()).clear();
+        }
     }
 
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
     public int getScore() { return score; }
     public int getLevel() { return level; }
     public boolean isLevelComplete() { return bricks.isEmpty(); }
     public boolean areAllBallsLost() { return balls.isEmpty(); }
+    public int getEntityCount() { return bricks.size() + balls.size() + powerUps.size() + explosions.size(); }
     public BreakoutPaddle getPaddle() { return paddle; }
     public List<Ball> getBalls() {
         return new ArrayList<>(balls);
     }
+    public int getBallCount() { return balls.size(); }
+    public List<Breakable> getBricks() {
+        return new ArrayList<>(bricks);
+    }
+
+    // 아래 뷰들은 복사본을 만들지 않으며, BreakoutRenderer가 매 프레임 읽기만 함
+    List<UnbreakableBrick> getWallView() { return walls; }
+    List<Breakable> getBrickView() { return bricks; }
+    List<Ball> getBallView() { return balls; }
+    List<PowerUp> getPowerUpView() { return powerUps; }
+    List<ExplosionEffect> getExplosionView() { return explosions; }
+
+    public void addBall(Ball ball) {
+        balls.add(ball);
+        profiler.countObjectsAdded(1);
+    }
+
+    public FrameProfiler getProfiler() { return profiler; }
 
-    public void addBall(Ball ball) { balls.add(ball); }
+    public ParallelIntegrator getIntegrator() { return integrator; }
+
+    /**
+     * 파워업 이동을 여러 코어에 나눠 실행하도록 설정합니다.
+     * 공은 벽돌과 점수를 바꾸므로 충돌 단계에서 항상 차례로 이동합니다.
+     * @param integrator 사용할 병렬 적분기, 직렬로 이동하려면 null
+     */
+    public void setIntegrator(ParallelIntegrator integrator) {
+        this.integrator = integrator;
+    }
+
+    /**
+     * update 단계별 계측기를 설정합니다. 기본값은 아무것도 기록하지 않는 {@link FrameProfiler#disabled()}입니다.
+     * @param profiler {@link #PROFILER_PHASES} 단계로 만든 계측기
+     * @throws IllegalArgumentException profiler가 null이거나 단계 수가 다른 경우
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        if (profiler == null) {
+            throw new IllegalArgumentException("계측기는 null일 수 없습니다");
+        }
+        if (profiler.isEnabled() && profiler.getPhaseCount() != PROFILER_PHASES.size()) {
+            throw new IllegalArgumentException("계측기의 단계 수가 맞지 않습니다: " + profiler.getPhaseNames());
+        }
+        this.profiler = profiler;
+    }
 }
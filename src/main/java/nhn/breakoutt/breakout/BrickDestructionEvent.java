@@ -0,0 +1,37 @@
+package nhn.breakoutt.breakout;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 벽돌 하나가 깨졌을 때의 처리(점수, 폭발, 파워업 드롭)를 기록하는 JFR 이벤트입니다.
+ * 기본으로 꺼져 있습니다. ({@link nhn.breakoutt.WorldStepEvent} 참고)
+ */
+@Name("nhn.breakoutt.BrickDestruction")
+@Label("Brick Destruction")
+@Category({"Breakout", "Game"})
+@Description("깨진 벽돌 하나와 그로 인해 함께 깨진 벽돌들")
+@Enabled(false)
+@StackTrace(false)
+public final class BrickDestructionEvent extends Event {
+    @Label("Brick Type")
+    public String brickType;
+
+    @Label("Bricks Broken")
+    @Description("이 벽돌과 폭발로 함께 깨진 벽돌의 수")
+    public int bricksBroken;
+
+    @Label("Points")
+    public int points;
+
+    @Label("Power-Up Dropped")
+    public boolean powerUpDropped;
+
+    @Label("Remaining Bricks")
+    public int remainingBricks;
+}
@@ -0,0 +1,259 @@
+package nhn.breakoutt.breakout;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벽돌 배치 격자(행/열)의 각 칸에 벽돌을 매핑하는 인덱스입니다.
+ * createLevel처럼 일정한 간격으로 배치된 벽돌에서, 주어진 영역과 겹치는 칸만 찾아볼 수 있습니다.
+ */
+public class BrickGrid {
+    private final double startX;
+    private final double startY;
+    private final double brickWidth;
+    private final double brickHeight;
+    private final double pitchX;
+    private final double pitchY;
+    private final int rows;
+    private final int cols;
+    private final Breakable[] cells;
+    private final Map<Breakable, Integer> cellIndexOf;
+    private int size;
+
+    /**
+     * 벽돌 격자를 생성합니다.
+     * @param startX 첫 번째 열의 X 좌표
+     * @param startY 첫 번째 행의 Y 좌표
+     * @param brickWidth 벽돌 너비
+     * @param brickHeight 벽돌 높이
+     * @param spacing 벽돌 사이 간격
+     * @param rows 행 수
+     * @param cols 열 수
+     * @throws IllegalArgumentException 크기가 잘못된 경우
+     */
+    public BrickGrid(double startX, double startY, double brickWidth, double brickHeight,
+                     double spacing, int rows, int cols) {
+        this(startX, startY, brickWidth, brickHeight, pitch(brickWidth, spacing), pitch(brickHeight, spacing), rows, cols);
+    }
+
+    /**
+     * 칸 간격(벽돌 크기 + 간격)을 그대로 받아 생성합니다. 스냅샷에서 같은 격자를 비트 단위로 똑같이 되살릴 때 사용합니다.
+     */
+    private BrickGrid(double startX, double startY, double brickWidth, double brickHeight,
+                      double pitchX, double pitchY, int rows, int cols) {
+        if (brickWidth <= 0 || brickHeight <= 0) {
+            throw new IllegalArgumentException("벽돌 크기는 양수여야 합니다");
+        }
+        if (!(pitchX >= brickWidth) || !(pitchY >= brickHeight)) {
+            throw new IllegalArgumentException("벽돌 간격은 음수일 수 없습니다");
+        }
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("행과 열의 수는 음수일 수 없습니다");
+        }
+
+        this.startX = startX;
+        this.startY = startY;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.pitchX = pitchX;
+        this.pitchY = pitchY;
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new Breakable[rows * cols];
+        this.cellIndexOf = new IdentityHashMap<>();
+    }
+
+    private static double pitch(double size, double spacing) {
+        if (spacing < 0) {
+            throw new IllegalArgumentException("벽돌 간격은 음수일 수 없습니다: " + spacing);
+        }
+        return size + spacing;
+    }
+
+    /**
+     * 빈 격자를 생성합니다.
+     */
+    public static BrickGrid empty() {
+        return new BrickGrid(0, 0, 1, 1, 0, 0, 0);
+    }
+
+    /**
+     * 지정한 칸에 벽돌을 넣습니다. 이미 다른 벽돌이 있으면 교체합니다.
+     */
+    public void put(int row, int col, Breakable brick) {
+        if (brick == null) {
+            throw new IllegalArgumentException("벽돌은 null일 수 없습니다");
+        }
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("격자 범위를 벗어났습니다: (" + row + ", " + col + ")");
+        }
+
+        int index = row * cols + col;
+        if (cells[index] != null) {
+            cellIndexOf.remove(cells[index]);
+            size--;
+        }
+        cells[index] = brick;
+        cellIndexOf.put(brick, index);
+        size++;
+    }
+
+    /**
+     * 벽돌을 격자에서 제거합니다.
+     * @return 격자에 있던 벽돌이면 true
+     */
+    public boolean remove(Breakable brick) {
+        Integer index = cellIndexOf.remove(brick);
+        if (index == null) {
+            return false;
+        }
+        cells[index] = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * 영역과 겹치는 칸의 벽돌들을 행 우선 순서(createLevel의 추가 순서)로 result에 추가합니다.
+     * 경계가 닿기만 해도 겹치는 것으로 봅니다 (Bounds.intersects와 같은 기준).
+     */
+    public void query(double minX, double minY, double maxX, double maxY, List<Breakable> result) {
+        // 열 c의 벽돌은 [startX + c*pitchX, startX + c*pitchX + brickWidth] 구간을 차지함
+        int colFrom = Math.max(0, (int) Math.ceil((minX - startX - brickWidth) / pitchX));
+        int colTo = Math.min(cols - 1, (int) Math.floor((maxX - startX) / pitchX));
+        int rowFrom = Math.max(0, (int) Math.ceil((minY - startY - brickHeight) / pitchY));
+        int rowTo = Math.min(rows - 1, (int) Math.floor((maxY - startY) / pitchY));
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                Breakable brick = cells[row * cols + col];
+                if (brick != null) {
+                    result.add(brick);
+                }
+            }
+        }
+    }
+
+    public Breakable get(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return null;
+        }
+        return cells[row * cols + col];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static final int LAYOUT_SIZE = 6 * Double.BYTES + 2 * Integer.BYTES;
+
+    /**
+     * 스냅샷에 격자 배치(시작 위치, 벽돌 크기, 칸 간격, 행/열 수)를 씁니다. 벽돌은 쓰지 않습니다.
+     */
+    void writeLayout(ByteBuffer buffer) {
+        buffer.putDouble(startX);
+        buffer.putDouble(startY);
+        buffer.putDouble(brickWidth);
+        buffer.putDouble(brickHeight);
+        buffer.putDouble(pitchX);
+        buffer.putDouble(pitchY);
+        buffer.putInt(rows);
+        buffer.putInt(cols);
+    }
+
+    /**
+     * {@link #writeLayout}으로 쓴 배치를 읽습니다.
+     * @return 이 격자와 배치가 같으면 이 격자 (벽돌은 그대로 둠), 다르면 새 빈 격자
+     */
+    BrickGrid readLayout(ByteBuffer buffer) {
+        double readStartX = buffer.getDouble();
+        double readStartY = buffer.getDouble();
+        double readBrickWidth = buffer.getDouble();
+        double readBrickHeight = buffer.getDouble();
+        double readPitchX = buffer.getDouble();
+        double readPitchY = buffer.getDouble();
+        int readRows = buffer.getInt();
+        int readCols = buffer.getInt();
+        if (readStartX == startX && readStartY == startY && readBrickWidth == brickWidth
+                && readBrickHeight == brickHeight && readPitchX == pitchX && readPitchY == pitchY
+                && readRows == rows && readCols == cols) {
+            return this;
+        }
+        return new BrickGrid(readStartX, readStartY, readBrickWidth, readBrickHeight, readPitchX, readPitchY,
+                readRows, readCols);
+    }
+
+    /**
+     * @return 벽돌이 있는 칸 번호 (행 * 열 수 + 열), 격자에 없으면 -1
+     */
+    int indexOf(Breakable brick) {
+        Integer index = cellIndexOf.get(brick);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param index 칸 번호 (행 * 열 수 + 열)
+     */
+    Breakable getCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * 칸 번호로 벽돌을 넣습니다.
+     * @throws IllegalArgumentException brick이 null인 경우
+     * @throws IndexOutOfBoundsException 격자 범위를 벗어난 경우
+     */
+    void putCell(int index, Breakable brick) {
+        if (index < 0 || index >= cells.length) {
+            throw new IndexOutOfBoundsException("격자 범위를 벗어났습니다: " + index);
+        }
+        put(index / cols, index % cols, brick);
+    }
+
+    double getCellX(int index) {
+        return startX + (index % cols) * pitchX;
+    }
+
+    double getCellY(int index) {
+        return startY + (index / cols) * pitchY;
+    }
+
+    double getBrickWidth() {
+        return brickWidth;
+    }
+
+    double getBrickHeight() {
+        return brickHeight;
+    }
+
+    /**
+     * 모든 칸의 벽돌을 target에 칸 번호 순서로 복사합니다.
+     * @param target 길이가 행 * 열 수 이상인 배열
+     */
+    void copyCellsTo(Breakable[] target) {
+        System.arraycopy(cells, 0, target, 0, cells.length);
+    }
+
+    int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * 모든 칸을 비웁니다.
+     */
+    void clear() {
+        Arrays.fill(cells, null);
+        cellIndexOf.clear();
+        size = 0;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
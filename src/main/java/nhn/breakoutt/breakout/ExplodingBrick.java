@@ -1,7 +1,6 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import nhn.breakoutt.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,12 +9,30 @@ public class ExplodingBrick extends SimpleBrick implements Exploding {
     private double explosionRadius;
     private int explosionDamage;
 
-    public ExplodingBrick(double x, double y, double width, double height, Color color, int points) {
-        super(x, y, width, height, color, points);
-        this.explosionRadius = 80.0; // 폭발 반경
+    public static final double DEFAULT_EXPLOSION_RADIUS = 80.0;
+
+    public ExplodingBrick(double x, double y, double width, double height, int argb, int points) {
+        this(x, y, width, height, argb, points, DEFAULT_EXPLOSION_RADIUS);
+    }
+
+    /**
+     * @param explosionRadius 폭발 반경 (벽돌 중심 사이 거리)
+     * @throws IllegalArgumentException 폭발 반경이 음수인 경우
+     */
+    public ExplodingBrick(double x, double y, double width, double height, int argb, int points,
+                          double explosionRadius) {
+        super(x, y, width, height, argb, points);
+        if (!(explosionRadius >= 0)) {
+            throw new IllegalArgumentException("폭발 반경은 음수일 수 없습니다: " + explosionRadius);
+        }
+        this.explosionRadius = explosionRadius;
         this.explosionDamage = 1;    // 폭발 피해량
     }
 
+    public double getExplosionRadius() {
+        return explosionRadius;
+    }
+
     @Override
     public int getExplosionDamage() {
         return explosionDamage;
@@ -66,32 +83,6 @@ public class ExplodingBrick extends SimpleBrick implements Exploding {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // 기본 벽돌 그리기
-        super.paint(gc);
-
-        // 폭발 벽돌임을 나타내는 특수 표시
-        gc.setFill(Color.YELLOW);
-        gc.setStroke(Color.RED);
-        gc.setLineWidth(2);
-
-        // 폭발 심볼 (작은 별)
-        double centerX = x + width/2;
-        double centerY = y + height/2;
-        double size = Math.min(width, height) * 0.3;
-
-        // 별 모양 그리기
-        drawExplosionSymbol(gc, centerX, centerY, size);
-    }
-
-    private void drawExplosionSymbol(GraphicsContext gc, double centerX, double centerY, double size) {
-        // 간단한 폭발 심볼 (X 모양)
-        gc.strokeLine(centerX - size/2, centerY - size/2, centerX + size/2, centerY + size/2);
-        gc.strokeLine(centerX + size/2, centerY - size/2, centerX - size/2, centerY + size/2);
-
-        // 추가 선들로 폭발 효과 강화
-        gc.strokeLine(centerX, centerY - size/2, centerX, centerY + size/2);
-        gc.strokeLine(centerX - size/2, centerY, centerX + size/2, centerY);
+        BreakoutRenderer.paintExplodingBrick(gc, this);
     }
 }
@@ -1,9 +1,11 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
+import nhn.breakoutt.Argb;
 import nhn.breakoutt.Paintable;
 
+import java.nio.ByteBuffer;
+
 public class ExplosionEffect implements Paintable {
     private double centerX;
     private double centerY;
@@ -11,7 +13,7 @@ public class ExplosionEffect implements Paintable {
     private double maxRadius;
     private double duration;
     private double elapsedTime;
-    private Color color;
+    private int argb;
     private boolean finished;
 
     public ExplosionEffect(double centerX, double centerY, double maxRadius) {
@@ -21,7 +23,7 @@ public class ExplosionEffect implements Paintable {
         this.duration = 0.5; // 0.5초 동안 지속
         this.elapsedTime = 0;
         this.currentRadius = 0;
-        this.color = Color.ORANGE;
+        this.argb = Argb.ORANGE;
         this.finished = false;
     }
 
@@ -44,37 +46,30 @@ public class ExplosionEffect implements Paintable {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (finished || currentRadius <= 0) return;
-
-        // 투명도 계산 (시간이 지날수록 투명해짐)
-        double alpha = 1.0 - (elapsedTime / duration);
-        alpha = Math.max(0, Math.min(1, alpha));
-
-        // 폭발 원 그리기 (여러 개의 동심원으로 효과 강화)
-        for (int i = 0; i < 3; i++) {
-            double radius = currentRadius * (1.0 - i * 0.2);
-            double ringAlpha = alpha * (1.0 - i * 0.3);
+        BreakoutRenderer.paintExplosion(gc, this);
+    }
 
-            Color ringColor = new Color(
-                color.getRed(),
-                color.getGreen() * (1.0 - i * 0.2),
-                color.getBlue() * (1.0 - i * 0.4),
-                ringAlpha
-            );
+    static final int SNAPSHOT_SIZE = 5 * Double.BYTES + 1;
 
-            gc.setGlobalAlpha(ringAlpha);
-            gc.setStroke(ringColor);
-            gc.setLineWidth(3 - i);
-            gc.strokeOval(
-                centerX - radius,
-                centerY - radius,
-                radius * 2,
-                radius * 2
-            );
-        }
+    /**
+     * 스냅샷에 중심, 크기, 진행 시간을 씁니다. 지속 시간과 색은 모든 폭발이 같으므로 쓰지 않습니다.
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putDouble(centerX);
+        buffer.putDouble(centerY);
+        buffer.putDouble(maxRadius);
+        buffer.putDouble(currentRadius);
+        buffer.putDouble(elapsedTime);
+        buffer.put((byte) (finished ? 1 : 0));
+    }
 
-        // 투명도 복원
-        gc.setGlobalAlpha(1.0);
+    void readState(ByteBuffer buffer) {
+        centerX = buffer.getDouble();
+        centerY = buffer.getDouble();
+        maxRadius = buffer.getDouble();
+        currentRadius = buffer.getDouble();
+        elapsedTime = buffer.getDouble();
+        finished = buffer.get() != 0;
     }
 
     public boolean isFinished() {
@@ -82,4 +77,8 @@ public class ExplosionEffect implements Paintable {
     }
     public double getCenterX() { return centerX; }
     public double getCenterY() { return centerY; }
+    double getCurrentRadius() { return currentRadius; }
+    /** @return 지속 시간에 대한 진행 비율 (0에서 시작해 1이면 끝남) */
+    double getProgress() { return elapsedTime / duration; }
+    int getArgb() { return argb; }
 }
@@ -0,0 +1,34 @@
+package nhn.breakoutt.breakout;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 폭발 벽돌의 폭발 한 번(주변 벽돌 탐색과 피해 적용)을 기록하는 JFR 이벤트입니다.
+ * 기본으로 꺼져 있습니다. ({@link nhn.breakoutt.WorldStepEvent} 참고)
+ */
+@Name("nhn.breakoutt.Explosion")
+@Label("Explosion")
+@Category({"Breakout", "Game"})
+@Description("폭발 벽돌의 폭발 한 번")
+@Enabled(false)
+@StackTrace(false)
+public final class ExplosionEvent extends Event {
+    @Label("Candidate Bricks")
+    @Description("폭발 범위를 검사한 벽돌의 수")
+    public int candidateBricks;
+
+    @Label("Affected Bricks")
+    public int affectedBricks;
+
+    @Label("Bricks Broken")
+    public int bricksBroken;
+
+    @Label("Damage")
+    public int damage;
+}
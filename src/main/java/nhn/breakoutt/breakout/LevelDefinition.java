@@ -0,0 +1,322 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.Argb;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벽돌 깨기 레벨 하나의 배치입니다. 일정한 간격의 격자와, 각 칸에 놓을 벽돌 종류를 담습니다.
+ *
+ * <p>벽돌 종류는 레벨마다 작은 목록({@link BrickKind})으로 두고, 칸에는 그 목록의 번호만 1바이트로 저장합니다.
+ * 같은 종류의 벽돌이 많으므로 칸마다 객체를 두지 않아도 되고, 파일에서도 그대로 읽어 쓸 수 있습니다.
+ * 만든 뒤에는 바뀌지 않으므로 {@link LevelPack}의 캐시에서 여러 세계가 함께 써도 됩니다.</p>
+ */
+public final class LevelDefinition {
+    /**
+     * 칸 하나에 들어갈 수 있는 최대 벽돌 종류 수 (칸 값 0은 빈 칸)
+     */
+    public static final int MAX_BRICK_KINDS = 255;
+    public static final int MAX_ROWS = 255;
+    public static final int MAX_COLS = 255;
+
+    public enum BrickType {
+        SIMPLE, MULTI_HIT, POWER_UP, EXPLODING
+    }
+
+    /**
+     * 벽돌 종류: 타입, 타격 횟수, 점수, 색, 파워업 드롭 확률, 폭발 반경
+     */
+    public static final class BrickKind {
+        private final BrickType type;
+        private final int hits;
+        private final int points;
+        private final int argb;
+        private final double dropChance;
+        private final double explosionRadius;
+
+        /**
+         * @param type 벽돌 타입
+         * @param hits 깨지기까지 필요한 타격 횟수 (MULTI_HIT만 사용, 나머지는 1)
+         * @param points 깼을 때 점수
+         * @param argb 색 ({@link Argb} 값)
+         * @param dropChance 파워업 드롭 확률 (POWER_UP만 사용)
+         * @param explosionRadius 폭발 반경 (EXPLODING만 사용)
+         * @throws IllegalArgumentException 타입이 null이거나 값이 범위를 벗어난 경우
+         */
+        public BrickKind(BrickType type, int hits, int points, int argb, double dropChance, double explosionRadius) {
+            if (type == null) {
+                throw new IllegalArgumentException("벽돌 타입은 null일 수 없습니다");
+            }
+            if (hits < 1 || hits > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("타격 횟수는 1~" + Short.MAX_VALUE + "여야 합니다: " + hits);
+            }
+            if (points < 0 || points > 0xFFFF) {
+                throw new IllegalArgumentException("점수는 0~65535여야 합니다: " + points);
+            }
+            if (!(dropChance >= 0 && dropChance <= 1)) {
+                throw new IllegalArgumentException("드롭 확률은 0~1이어야 합니다: " + dropChance);
+            }
+            if (!(explosionRadius >= 0)) {
+                throw new IllegalArgumentException("폭발 반경은 음수일 수 없습니다: " + explosionRadius);
+            }
+            this.type = type;
+            this.hits = type == BrickType.MULTI_HIT ? hits : 1;
+            this.points = points;
+            this.argb = argb;
+            this.dropChance = type == BrickType.POWER_UP ? dropChance : 0;
+            this.explosionRadius = type == BrickType.EXPLODING ? explosionRadius : 0;
+        }
+
+        public static BrickKind simple(int points, int argb) {
+            return new BrickKind(BrickType.SIMPLE, 1, points, argb, 0, 0);
+        }
+
+        public static BrickKind multiHit(int points, int argb, int hits) {
+            return new BrickKind(BrickType.MULTI_HIT, hits, points, argb, 0, 0);
+        }
+
+        public static BrickKind powerUp(int points, int argb, double dropChance) {
+            return new BrickKind(BrickType.POWER_UP, 1, points, argb, dropChance, 0);
+        }
+
+        public static BrickKind exploding(int points, int argb, double explosionRadius) {
+            return new BrickKind(BrickType.EXPLODING, 1, points, argb, 0, explosionRadius);
+        }
+
+        /**
+         * 이 종류의 벽돌을 만듭니다.
+         * @param random 파워업 벽돌이 사용할 난수 생성기
+         */
+        Breakable createBrick(double x, double y, double width, double height, Random random) {
+            return switch (type) {
+                case SIMPLE -> new SimpleBrick(x, y, width, height, argb, points);
+                case MULTI_HIT -> new MultiHitBrick(x, y, width, height, argb, points, hits);
+                case POWER_UP -> new PowerUpBrick(x, y, width, height, argb, points, dropChance, random);
+                case EXPLODING -> new ExplodingBrick(x, y, width, height, argb, points, explosionRadius);
+            };
+        }
+
+        public BrickType getType() { return type; }
+        public int getHits() { return hits; }
+        public int getPoints() { return points; }
+        public int getArgb() { return argb; }
+        public double getDropChance() { return dropChance; }
+        public double getExplosionRadius() { return explosionRadius; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BrickKind other)) return false;
+            return type == other.type && hits == other.hits && points == other.points && argb == other.argb
+                    && dropChance == other.dropChance && explosionRadius == other.explosionRadius;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((type.hashCode() * 31 + hits) * 31 + points) * 31 + argb;
+        }
+    }
+
+    private static final int[] ROW_COLORS = {
+        Argb.RED, Argb.ORANGE, Argb.YELLOW, Argb.GREEN, Argb.BLUE,
+        Argb.PURPLE, Argb.PINK, Argb.CYAN, Argb.LIME, Argb.MAGENTA
+    };
+
+    private final int number;
+    private final double startX;
+    private final double startY;
+    private final double brickWidth;
+    private final double brickHeight;
+    private final double spacing;
+    private final int rows;
+    private final int cols;
+    private final List<BrickKind> kinds;
+    private final byte[] cells;
+
+    /**
+     * @param number 레벨 번호 (1부터)
+     * @param startX 첫 번째 열의 X 좌표
+     * @param startY 첫 번째 행의 Y 좌표
+     * @param brickWidth 벽돌 너비
+     * @param brickHeight 벽돌 높이
+     * @param spacing 벽돌 사이 간격
+     * @param rows 행 수
+     * @param cols 열 수
+     * @param kinds 벽돌 종류 목록
+     * @param cells 행 우선 순서의 칸 값 (0은 빈 칸, k는 kinds의 k-1번 종류), 복사해서 보관함
+     * @throws IllegalArgumentException 크기가 잘못되었거나 칸 값이 종류 목록을 벗어난 경우
+     */
+    public LevelDefinition(int number, double startX, double startY, double brickWidth, double brickHeight,
+                           double spacing, int rows, int cols, List<BrickKind> kinds, byte[] cells) {
+        this(number, startX, startY, brickWidth, brickHeight, spacing, rows, cols,
+                List.copyOf(kinds), cells.clone(), true);
+    }
+
+    /**
+     * 파서용: 배열을 복사하지 않습니다.
+     */
+    LevelDefinition(int number, double startX, double startY, double brickWidth, double brickHeight,
+                    double spacing, int rows, int cols, List<BrickKind> kinds, byte[] cells, boolean validate) {
+        if (number < 1) {
+            throw new IllegalArgumentException("레벨 번호는 1 이상이어야 합니다: " + number);
+        }
+        if (!(brickWidth > 0) || !(brickHeight > 0)) {
+            throw new IllegalArgumentException("벽돌 크기는 양수여야 합니다");
+        }
+        if (!(spacing >= 0)) {
+            throw new IllegalArgumentException("벽돌 간격은 음수일 수 없습니다: " + spacing);
+        }
+        if (rows < 0 || rows > MAX_ROWS || cols < 0 || cols > MAX_COLS) {
+            throw new IllegalArgumentException("행과 열의 수는 0~255여야 합니다: " + rows + "x" + cols);
+        }
+        if (kinds.size() > MAX_BRICK_KINDS) {
+            throw new IllegalArgumentException("벽돌 종류가 너무 많습니다: " + kinds.size());
+        }
+        if (cells.length != rows * cols) {
+            throw new IllegalArgumentException("칸 수가 행 * 열과 다릅니다: " + cells.length);
+        }
+        if (validate) {
+            for (byte cell : cells) {
+                if ((cell & 0xFF) > kinds.size()) {
+                    throw new IllegalArgumentException("없는 벽돌 종류입니다: " + (cell & 0xFF));
+                }
+            }
+        }
+
+        this.number = number;
+        this.startX = startX;
+        this.startY = startY;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.spacing = spacing;
+        this.rows = rows;
+        this.cols = cols;
+        this.kinds = kinds;
+        this.cells = cells;
+    }
+
+    /**
+     * {@link BreakoutWorld#createLevel(int)}의 기본 배치를 정의로 만듭니다.
+     * 기본 레벨을 레벨 묶음 파일로 내보내거나, 디자인한 레벨의 출발점으로 사용합니다.
+     * @param levelNumber 레벨 번호 (1부터)
+     * @param worldWidth 세계 너비 (열 수를 정함)
+     */
+    public static LevelDefinition builtIn(int levelNumber, double worldWidth) {
+        double brickWidth = 60;
+        double brickHeight = 20;
+        double spacing = 5;
+        double startX = 50;
+        double startY = 80;
+
+        int rows = Math.min(5 + levelNumber, 10); // 최대 10줄
+        int cols = (int) ((worldWidth - 2 * startX) / (brickWidth + spacing));
+
+        List<BrickKind> kinds = new ArrayList<>();
+        byte[] cells = new byte[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                BrickKind kind = builtInKind(row, col, levelNumber);
+                int index = kinds.indexOf(kind);
+                if (index < 0) {
+                    kinds.add(kind);
+                    index = kinds.size() - 1;
+                }
+                cells[row * cols + col] = (byte) (index + 1);
+            }
+        }
+        return new LevelDefinition(levelNumber, startX, startY, brickWidth, brickHeight, spacing, rows, cols,
+                List.copyOf(kinds), cells, false);
+    }
+
+    private static BrickKind builtInKind(int row, int col, int level) {
+        int argb = ROW_COLORS[row % ROW_COLORS.length];
+        int points = (row + 1) * 10;
+
+        // 레벨과 위치에 따른 벽돌 타입 결정
+        if (level >= 3 && (row + col) % 7 == 0) {
+            // 폭발 벽돌
+            return BrickKind.exploding(points * 2, Argb.RED, ExplodingBrick.DEFAULT_EXPLOSION_RADIUS);
+        } else if (level >= 2 && row < 2) {
+            // 다중 타격 벽돌 (상위 줄)
+            return BrickKind.multiHit(points, argb, 2 + level / 3);
+        } else if ((row + col) % 5 == 0) {
+            // 파워업 벽돌
+            return BrickKind.powerUp(points, argb, BreakoutWorld.POWER_UP_DROP_CHANCE);
+        } else {
+            // 일반 벽돌
+            return BrickKind.simple(points, argb);
+        }
+    }
+
+    /**
+     * @return 칸의 벽돌 종류 번호, 빈 칸이면 -1
+     */
+    public int getKindIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("격자 범위를 벗어났습니다: (" + row + ", " + col + ")");
+        }
+        return (cells[row * cols + col] & 0xFF) - 1;
+    }
+
+    public BrickKind getKind(int index) {
+        return kinds.get(index);
+    }
+
+    public List<BrickKind> getKinds() {
+        return kinds;
+    }
+
+    /**
+     * @return 벽돌이 있는 칸 수
+     */
+    public int getBrickCount() {
+        int count = 0;
+        for (byte cell : cells) {
+            if (cell != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 행 우선 순서의 칸 값을 버퍼에 씁니다 ({@link LevelPack}으로 쓸 때 사용).
+     */
+    void writeCells(ByteBuffer buffer) {
+        buffer.put(cells);
+    }
+
+    public int getNumber() { return number; }
+    public double getStartX() { return startX; }
+    public double getStartY() { return startY; }
+    public double getBrickWidth() { return brickWidth; }
+    public double getBrickHeight() { return brickHeight; }
+    public double getSpacing() { return spacing; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    @Override
+    public String toString() {
+        return String.format("LevelDefinition[level=%d, %dx%d, kinds=%d, bricks=%d]",
+                number, rows, cols, kinds.size(), getBrickCount());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LevelDefinition other)) return false;
+        return number == other.number && startX == other.startX && startY == other.startY
+                && brickWidth == other.brickWidth && brickHeight == other.brickHeight && spacing == other.spacing
+                && rows == other.rows && cols == other.cols && kinds.equals(other.kinds)
+                && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return number * 31 + Arrays.hashCode(cells);
+    }
+}
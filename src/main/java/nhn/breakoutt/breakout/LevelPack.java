@@ -0,0 +1,273 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.SnapshotFormat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레벨 여러 개를 한 파일에 담은 레벨 묶음입니다. 디자이너가 만든 수천 개의 레벨을 파일 하나로 배포할 때 사용합니다.
+ *
+ * <p>파일 형식 (빅 엔디언):</p>
+ * <pre>
+ * 헤더: int MAGIC, byte VERSION, int 레벨 수, 레벨마다 int 시작 위치 (파일 처음부터)
+ * 레벨: double 시작 X, double 시작 Y, double 벽돌 너비, double 벽돌 높이, double 간격,
+ *   ubyte 행 수, ubyte 열 수, ubyte 벽돌 종류 수,
+ *   종류마다 byte 타입, short 타격 횟수, ushort 점수, 색 (RGBA), double 드롭 확률, double 폭발 반경,
+ *   행 우선 순서로 칸마다 ubyte 종류 번호 (0은 빈 칸, k는 k번째 종류)
+ * </pre>
+ *
+ * <p>파일은 통째로 읽기 전용 매핑하고, 헤더만 확인합니다. 레벨은 {@link #getLevel(int)}로 요청할 때
+ * 위치표로 바로 찾아가 파싱하므로, 1,000개짜리 묶음을 열어도 레벨 하나를 고르는 비용은 그 레벨 크기에만 비례합니다.
+ * 파싱은 버퍼에서 바로 칸 배열과 종류 목록을 채우며, 중간 객체를 만들지 않습니다.</p>
+ *
+ * <p>파싱한 레벨은 최근에 쓴 순서로 {@link #DEFAULT_CACHE_SIZE}개까지 캐시하므로, 레벨을 다시 고르거나
+ * 미리 읽어 둔 다음 레벨로 넘어갈 때는 파싱하지 않습니다. 레벨 번호는 묶음 안의 순서(1부터)입니다.
+ * 스레드 안전합니다.</p>
+ */
+public final class LevelPack {
+    static final int MAGIC = 0x424C5031; // "BLP1"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + 1 + Integer.BYTES;
+    static final int LEVEL_HEADER_SIZE = 5 * Double.BYTES + 3;
+    static final int KIND_SIZE = 1 + 2 * Short.BYTES + SnapshotFormat.COLOR_SIZE + 2 * Double.BYTES;
+
+    public static final int DEFAULT_CACHE_SIZE = 32;
+
+    private static final LevelDefinition.BrickType[] TYPES = LevelDefinition.BrickType.values();
+
+    private final ByteBuffer data;
+    private final int levelCount;
+    private final Map<Integer, LevelDefinition> cache;
+
+    private LevelPack(ByteBuffer data, int levelCount, int cacheSize) {
+        this.data = data;
+        this.levelCount = levelCount;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LevelDefinition> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 레벨 묶음 파일을 읽기 전용으로 매핑해 엽니다. 매핑은 파일을 닫아도 유지됩니다.
+     * @throws IOException 읽기에 실패했거나 레벨 묶음 파일이 아닌 경우
+     */
+    public static LevelPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("레벨 묶음 파일이 너무 큽니다: " + channel.size());
+            }
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static LevelPack read(ByteBuffer data) throws IOException {
+        return read(data, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * 버퍼의 현재 위치부터 끝까지를 레벨 묶음으로 읽습니다. 버퍼는 복사하지 않으므로 이후 바꾸면 안 됩니다.
+     * @param cacheSize 캐시할 레벨 수
+     * @throws IOException 헤더나 위치표가 잘못된 경우
+     * @throws IllegalArgumentException cacheSize가 양수가 아닌 경우
+     */
+    public static LevelPack read(ByteBuffer data, int cacheSize) throws IOException {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 양수여야 합니다: " + cacheSize);
+        }
+        ByteBuffer buffer = data.slice();
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException("레벨 묶음 헤더가 잘렸습니다");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("레벨 묶음 파일이 아닙니다");
+        }
+        byte version = buffer.get(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 레벨 묶음 버전입니다: " + version);
+        }
+        int levelCount = buffer.getInt(Integer.BYTES + 1);
+        if (levelCount < 0 || levelCount > (buffer.remaining() - HEADER_SIZE) / Integer.BYTES) {
+            throw new IOException("레벨 수가 잘못되었습니다: " + levelCount);
+        }
+        int firstLevel = HEADER_SIZE + levelCount * Integer.BYTES;
+        for (int i = 0; i < levelCount; i++) {
+            int offset = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+            if (offset < firstLevel || offset > buffer.limit() - LEVEL_HEADER_SIZE) {
+                throw new IOException("레벨 " + (i + 1) + "의 위치가 잘못되었습니다: " + offset);
+            }
+        }
+        return new LevelPack(buffer, levelCount, cacheSize);
+    }
+
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    /**
+     * 레벨을 돌려줍니다. 캐시에 없으면 파일에서 파싱해 캐시에 넣습니다.
+     * @param number 레벨 번호 (1부터)
+     * @throws IndexOutOfBoundsException 묶음에 없는 레벨 번호인 경우
+     * @throws UncheckedIOException 레벨 기록이 잘렸거나 값이 잘못된 경우
+     */
+    public synchronized LevelDefinition getLevel(int number) {
+        if (number < 1 || number > levelCount) {
+            throw new IndexOutOfBoundsException("레벨 번호가 범위를 벗어났습니다: " + number + "/" + levelCount);
+        }
+        LevelDefinition level = cache.get(number);
+        if (level == null) {
+            level = parseLevel(number);
+            cache.put(number, level);
+        }
+        return level;
+    }
+
+    /**
+     * @return 레벨이 캐시에 있는지 (캐시 순서는 바꾸지 않음)
+     */
+    public synchronized boolean isCached(int number) {
+        return cache.containsKey(number);
+    }
+
+    private LevelDefinition parseLevel(int number) {
+        ByteBuffer in = data.duplicate();
+        in.position(data.getInt(HEADER_SIZE + (number - 1) * Integer.BYTES));
+        try {
+            double startX = in.getDouble();
+            double startY = in.getDouble();
+            double brickWidth = in.getDouble();
+            double brickHeight = in.getDouble();
+            double spacing = in.getDouble();
+            int rows = in.get() & 0xFF;
+            int cols = in.get() & 0xFF;
+            int kindCount = in.get() & 0xFF;
+
+            LevelDefinition.BrickKind[] kinds = new LevelDefinition.BrickKind[kindCount];
+            for (int i = 0; i < kindCount; i++) {
+                int type = in.get();
+                if (type < 0 || type >= TYPES.length) {
+                    throw new IllegalArgumentException("알 수 없는 벽돌 타입입니다: " + type);
+                }
+                int hits = in.getShort();
+                int points = in.getShort() & 0xFFFF;
+                int argb = SnapshotFormat.readColor(in);
+                double dropChance = in.getDouble();
+                double explosionRadius = in.getDouble();
+                kinds[i] = new LevelDefinition.BrickKind(TYPES[type], hits, points, argb, dropChance, explosionRadius);
+            }
+
+            byte[] cells = new byte[rows * cols];
+            in.get(cells);
+            for (byte cell : cells) {
+                if ((cell & 0xFF) > kindCount) {
+                    throw new IllegalArgumentException("없는 벽돌 종류입니다: " + (cell & 0xFF));
+                }
+            }
+            return new LevelDefinition(number, startX, startY, brickWidth, brickHeight, spacing, rows, cols,
+                    List.of(kinds), cells, false);
+        } catch (BufferUnderflowException e) {
+            throw new UncheckedIOException(new IOException("레벨 " + number + "의 기록이 잘렸습니다", e));
+        } catch (IllegalArgumentException e) {
+            throw new UncheckedIOException(new IOException("레벨 " + number + "의 기록이 잘못되었습니다: "
+                    + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * 레벨 목록을 레벨 묶음 형식으로 씁니다.
+     * @param levels 레벨 목록 (i번째 레벨의 번호는 i + 1이어야 함)
+     * @return 위치 0부터 쓴 버퍼 (읽을 수 있게 뒤집은 상태)
+     * @throws IllegalArgumentException levels가 null이거나, 레벨 번호가 순서와 다른 경우
+     */
+    public static ByteBuffer encode(List<LevelDefinition> levels) {
+        if (levels == null) {
+            throw new IllegalArgumentException("레벨 목록은 null일 수 없습니다");
+        }
+        int size = HEADER_SIZE + levels.size() * Integer.BYTES;
+        for (int i = 0; i < levels.size(); i++) {
+            LevelDefinition level = levels.get(i);
+            if (level == null || level.getNumber() != i + 1) {
+                throw new IllegalArgumentException((i + 1) + "번째 레벨의 번호가 잘못되었습니다");
+            }
+            size += levelSize(level);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.putInt(levels.size());
+        int offset = HEADER_SIZE + levels.size() * Integer.BYTES;
+        for (LevelDefinition level : levels) {
+            out.putInt(offset);
+            offset += levelSize(level);
+        }
+
+        for (LevelDefinition level : levels) {
+            out.putDouble(level.getStartX());
+            out.putDouble(level.getStartY());
+            out.putDouble(level.getBrickWidth());
+            out.putDouble(level.getBrickHeight());
+            out.putDouble(level.getSpacing());
+            out.put((byte) level.getRows());
+            out.put((byte) level.getCols());
+            out.put((byte) level.getKinds().size());
+            for (LevelDefinition.BrickKind kind : level.getKinds()) {
+                out.put((byte) kind.getType().ordinal());
+                out.putShort((short) kind.getHits());
+                out.putShort((short) kind.getPoints());
+                SnapshotFormat.writeColor(out, kind.getArgb());
+                out.putDouble(kind.getDropChance());
+                out.putDouble(kind.getExplosionRadius());
+            }
+            level.writeCells(out);
+        }
+        return out.flip();
+    }
+
+    /**
+     * 레벨 목록을 레벨 묶음 파일로 씁니다 (있으면 덮어씀).
+     * @see #encode(List)
+     */
+    public static void write(Path path, List<LevelDefinition> levels) throws IOException {
+        ByteBuffer buffer = encode(levels);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static int levelSize(LevelDefinition level) {
+        return LEVEL_HEADER_SIZE + level.getKinds().size() * KIND_SIZE + level.getRows() * level.getCols();
+    }
+
+    /**
+     * 기본 레벨 1부터 count까지를 담은 레벨 목록을 만듭니다. 디자이너용 묶음의 출발점으로 사용합니다.
+     * @see LevelDefinition#builtIn(int, double)
+     */
+    public static List<LevelDefinition> builtInLevels(int count, double worldWidth) {
+        List<LevelDefinition> levels = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            levels.add(LevelDefinition.builtIn(i, worldWidth));
+        }
+        return levels;
+    }
+
+    @Override
+    public String toString() {
+        return "LevelPack[levels=" + levelCount + ", bytes=" + data.limit() + "]";
+    }
+}
@@ -1,17 +1,17 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
+import nhn.breakoutt.Argb;
 
 public class MultiHitBrick extends SimpleBrick implements MultiHit {
     private DamageState damageState;
-    private Color originalColor;
+    private int originalArgb;
 
-    public MultiHitBrick(double x, double y, double width, double height, Color color, int points, int maxHitPoints) {
-        super(x, y, width, height, color, points);
+    public MultiHitBrick(double x, double y, double width, double height, int argb, int points, int maxHitPoints) {
+        super(x, y, width, height, argb, points);
         this.maxHitPoints = maxHitPoints;
         this.hitPoints = maxHitPoints;
-        this.originalColor = color;
+        this.originalArgb = argb;
         this.damageState = DamageState.PERFECT;
     }
 
@@ -22,6 +22,21 @@ public class MultiHitBrick extends SimpleBrick implements MultiHit {
         updateVisualDamage();
     }
 
+    @Override
+    void restoreHitPoints(int hitPoints, boolean destroyed) {
+        super.restoreHitPoints(hitPoints, destroyed);
+        updateDamageState();
+        updateVisualDamage();
+    }
+
+    int getOriginalArgb() {
+        return originalArgb;
+    }
+
+    DamageState getDamageState() {
+        return damageState;
+    }
+
     @Override
     public void updateVisualDamage() {
         if (destroyed) return;
@@ -31,18 +46,18 @@ public class MultiHitBrick extends SimpleBrick implements MultiHit {
 
         if (damageRatio <= 0.33) {
             damageState = DamageState.PERFECT;
-            color = originalColor;
+            argb = originalArgb;
         } else if (damageRatio <= 0.66) {
             damageState = DamageState.DAMAGED;
             // 약간 어두워짐
-            color = originalColor.darker();
+            argb = Argb.darker(originalArgb);
         } else {
             damageState = DamageState.CRITICAL;
             // 많이 어두워지고 약간 빨간색 추가
-            color = Color.color(
-                Math.min(1.0, originalColor.getRed() + 0.2),
-                originalColor.getGreen() * 0.6,
-                originalColor.getBlue() * 0.6
+            argb = Argb.rgb(
+                Math.min(255, Argb.red(originalArgb) + 51),
+                (int) Math.round(Argb.green(originalArgb) * 0.6),
+                (int) Math.round(Argb.blue(originalArgb) * 0.6)
             );
         }
     }
@@ -61,36 +76,6 @@ public class MultiHitBrick extends SimpleBrick implements MultiHit {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // 기본 벽돌 그리기
-        super.paint(gc);
-
-        // 피해 상태에 따른 추가 시각 효과
-        if (damageState != DamageState.PERFECT) {
-            gc.setStroke(Color.DARKRED);
-            gc.setLineWidth(1);
-
-            // 균열 효과
-            if (damageState == DamageState.DAMAGED) {
-                // 가로 균열 1개
-                gc.strokeLine(x + 5, y + height/2, x + width - 5, y + height/2);
-            } else if (damageState == DamageState.CRITICAL) {
-                // 가로 균열 2개
-                gc.strokeLine(x + 3, y + height/3, x + width - 3, y + height/3);
-                gc.strokeLine(x + 5, y + 2*height/3, x + width - 5, y + 2*height/3);
-
-                // 세로 균열 1개
-                gc.strokeLine(x + width/2, y + 3, x + width/2, y + height - 3);
-            }
-        }
-
-        // 남은 체력 표시 (작은 점들)
-        gc.setFill(Color.WHITE);
-        for (int i = 0; i < hitPoints; i++) {
-            double dotX = x + width - 8 - (i * 4);
-            double dotY = y + 4;
-            gc.fillOval(dotX, dotY, 2, 2);
-        }
+        BreakoutRenderer.paintMultiHitBrick(gc, this);
     }
 }
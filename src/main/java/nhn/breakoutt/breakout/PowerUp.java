@@ -1,67 +1,38 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import nhn.breakoutt.*;
 
+import java.nio.ByteBuffer;
+
 public class PowerUp extends Ball {
     private PowerUpProvider.PowerUpType type;
     private boolean collected;
-    private Color backgroundColor;
 
     public PowerUp(double x, double y, PowerUpProvider.PowerUpType type) {
         super(x, y, 20); // 반지름 20의 원형 파워업
         this.type = type;
         this.collected = false;
-        this.backgroundColor = getTypeColor(type);
-        setColor(backgroundColor);
+        setArgb(getTypeColor(type));
         setDy(100); // 초당 100픽셀로 떨어짐
         setDx(0);   // 수직으로만 떨어짐
         setCollisionAction(CollisionAction.CUSTOM);
     }
 
-    private Color getTypeColor(PowerUpProvider.PowerUpType type) {
+    private int getTypeColor(PowerUpProvider.PowerUpType type) {
         return switch (type) {
-            case WIDER_PADDLE -> Color.BLUE;
-            case MULTI_BALL -> Color.RED;
-            case EXTRA_LIFE -> Color.GREEN;
-            case LASER -> Color.YELLOW;
-            case SLOW_BALL -> Color.PURPLE;
-            case STICKY_PADDLE -> Color.ORANGE;
+            case WIDER_PADDLE -> Argb.BLUE;
+            case MULTI_BALL -> Argb.RED;
+            case EXTRA_LIFE -> Argb.GREEN;
+            case LASER -> Argb.YELLOW;
+            case SLOW_BALL -> Argb.PURPLE;
+            case STICKY_PADDLE -> Argb.ORANGE;
         };
     }
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (collected || isDestroyed()) return;
-
-        // 원형 배경
-        gc.setFill(backgroundColor);
-        gc.fillOval(getX() - getRadius(), getY() - getRadius(),
-                   getRadius() * 2, getRadius() * 2);
-
-        // 테두리
-        gc.setStroke(backgroundColor.brighter());
-        gc.setLineWidth(2);
-        gc.strokeOval(getX() - getRadius(), getY() - getRadius(),
-                     getRadius() * 2, getRadius() * 2);
-
-        // 파워업 심볼 텍스트
-        gc.setFill(Color.WHITE);
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(1);
-
-        String symbol = type.getSymbol();
-        double textX = getX() - symbol.length() * 3;
-        double textY = getY() + 4;
-
-        // 텍스트 그림자
-        gc.setFill(Color.BLACK);
-        gc.fillText(symbol, textX + 1, textY + 1);
-
-        // 텍스트 본체
-        gc.setFill(Color.WHITE);
-        gc.fillText(symbol, textX, textY);
+        BreakoutRenderer.paintPowerUp(gc, this);
     }
 
     @Override
@@ -85,6 +56,31 @@ public class PowerUp extends Ball {
         }
     }
 
+    static final int SNAPSHOT_SIZE = 2 * Double.BYTES + 2;
+
+    /**
+     * 스냅샷에 위치, 종류, 수집/파괴 여부를 씁니다. 파워업은 수직으로 일정하게 떨어지므로 속도는 쓰지 않습니다.
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putDouble(getX());
+        buffer.putDouble(getY());
+        buffer.put((byte) type.ordinal());
+        buffer.put((byte) ((collected ? 1 : 0) | (isDestroyed() ? 2 : 0)));
+    }
+
+    void readState(ByteBuffer buffer) {
+        setX(buffer.getDouble());
+        setY(buffer.getDouble());
+        PowerUpProvider.PowerUpType restoredType = PowerUpProvider.PowerUpType.values()[buffer.get()];
+        if (restoredType != type) {
+            type = restoredType;
+            setArgb(getTypeColor(type));
+        }
+        byte flags = buffer.get();
+        collected = (flags & 1) != 0;
+        setDestroyed((flags & 2) != 0);
+    }
+
     // Getter 메서드들
     public PowerUpProvider.PowerUpType getType() { return type; }
     public boolean isCollected() { return collected; }
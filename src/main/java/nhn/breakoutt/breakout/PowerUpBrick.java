@@ -1,7 +1,6 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import nhn.breakoutt.*;
 import java.util.Random;
 
@@ -10,11 +9,32 @@ public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
     private PowerUpType powerUpType;
     private Random random;
 
-    public PowerUpBrick(double x, double y, double width, double height, Color color, int points, double dropChance) {
-        super(x, y, width, height, color, points);
+    public PowerUpBrick(double x, double y, double width, double height, int argb, int points, double dropChance) {
+        this(x, y, width, height, argb, points, dropChance, new Random());
+    }
+
+    /**
+     * @param random 파워업 종류와 드롭 여부를 정할 난수 생성기 (같은 시드면 같은 결과, 리플레이용)
+     * @throws IllegalArgumentException random이 null인 경우
+     */
+    public PowerUpBrick(double x, double y, double width, double height, int argb, int points, double dropChance,
+                        Random random) {
+        this(x, y, width, height, argb, points, dropChance, random, null);
+    }
+
+    /**
+     * 스냅샷 복원용: 파워업 종류를 지정하면 난수를 쓰지 않습니다.
+     * @param powerUpType 파워업 종류, null이면 random으로 정함
+     */
+    PowerUpBrick(double x, double y, double width, double height, int argb, int points, double dropChance,
+                 Random random, PowerUpType powerUpType) {
+        super(x, y, width, height, argb, points);
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다");
+        }
         this.dropChance = dropChance;
-        this.random = new Random();
-        this.powerUpType = getRandomPowerUpType();
+        this.random = random;
+        this.powerUpType = powerUpType != null ? powerUpType : getRandomPowerUpType();
     }
 
     @Override
@@ -27,6 +47,10 @@ public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
         return powerUpType;
     }
 
+    double getDropChance() {
+        return dropChance;
+    }
+
     private PowerUpType getRandomPowerUpType() {
         PowerUpType[] types = PowerUpType.values();
         return types[random.nextInt(types.length)];
@@ -34,43 +58,6 @@ public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // 기본 벽돌 그리기
-        super.paint(gc);
-
-        // 파워업 벽돌임을 나타내는 특수 표시 (무지개 테두리)
-        gc.setLineWidth(2);
-
-        // 무지개 효과를 위한 여러 색상 테두리
-        Color[] rainbowColors = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.PURPLE};
-
-        for (int i = 0; i < rainbowColors.length; i++) {
-            gc.setStroke(rainbowColors[i]);
-            double offset = i * 0.5;
-            gc.strokeRect(x - offset, y - offset, width + 2*offset, height + 2*offset);
-        }
-
-        // 파워업 심볼 표시
-        gc.setFill(Color.WHITE);
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(1);
-
-        double centerX = x + width/2;
-        double centerY = y + height/2;
-        double symbolSize = Math.min(width, height) * 0.4;
-
-        // 파워업 타입에 따른 심볼 그리기
-        drawPowerUpSymbol(gc, centerX, centerY, symbolSize);
-    }
-
-    private void drawPowerUpSymbol(GraphicsContext gc, double centerX, double centerY, double size) {
-        // 물음표 심볼 (파워업이 무엇인지 모르게)
-        gc.fillOval(centerX - size/2, centerY - size/2, size, size);
-        gc.strokeOval(centerX - size/2, centerY - size/2, size, size);
-
-        // "?" 문자
-        gc.setFill(Color.BLACK);
-        gc.fillText("?", centerX - 3, centerY + 3);
+        BreakoutRenderer.paintPowerUpBrick(gc, this);
     }
 }
@@ -0,0 +1,169 @@
+package nhn.breakoutt.breakout;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@link ReplayRecorder}가 쓴 이진 로그를 읽은 결과입니다. 형식은 ReplayRecorder 문서를 참고하세요.
+ * 입력은 스텝 번호, 종류, 값의 배열로 보관합니다.
+ * 녹화 중 프로그램이 끝나 마지막 기록이 잘렸으면 온전한 기록까지만 읽고, 마지막 입력의 스텝까지 재생합니다.
+ */
+public class ReplayLog {
+    private final long seed;
+    private final double timeStep;
+    private final double width;
+    private final double height;
+    private final long[] steps;
+    private final byte[] types;
+    private final double[] values;
+    private final int eventCount;
+    private final long totalSteps;
+    private final boolean complete;
+
+    private ReplayLog(long seed, double timeStep, double width, double height,
+                      long[] steps, byte[] types, double[] values, int eventCount, long totalSteps, boolean complete) {
+        this.seed = seed;
+        this.timeStep = timeStep;
+        this.width = width;
+        this.height = height;
+        this.steps = steps;
+        this.types = types;
+        this.values = values;
+        this.eventCount = eventCount;
+        this.totalSteps = totalSteps;
+        this.complete = complete;
+    }
+
+    public static ReplayLog read(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * 스트림에서 로그를 끝까지 읽습니다. 스트림은 닫지 않습니다.
+     * @throws IOException 읽기에 실패했거나 리플레이 로그가 아닌 경우
+     */
+    public static ReplayLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != ReplayRecorder.MAGIC) {
+            throw new IOException("리플레이 로그가 아닙니다");
+        }
+        byte version = data.readByte();
+        if (version != ReplayRecorder.VERSION) {
+            throw new IOException("지원하지 않는 리플레이 로그 버전입니다: " + version);
+        }
+        long seed = data.readLong();
+        double timeStep = data.readDouble();
+        double width = data.readDouble();
+        double height = data.readDouble();
+
+        long[] steps = new long[64];
+        byte[] types = new byte[64];
+        double[] values = new double[64];
+        int count = 0;
+        long step = 0;
+        long totalSteps = 0;
+        boolean complete = false;
+        while (true) {
+            int type = data.read();
+            if (type == -1) {
+                break;
+            }
+            long nextStep;
+            double value = 0;
+            try {
+                nextStep = step + readVarLong(data);
+                if (type == ReplayRecorder.TYPE_MOUSE) {
+                    value = data.readDouble();
+                } else if (type == ReplayRecorder.TYPE_KEY) {
+                    value = data.readByte();
+                } else if (type != ReplayRecorder.TYPE_CLICK && type != ReplayRecorder.TYPE_END) {
+                    throw new IOException("알 수 없는 기록 종류입니다: " + type);
+                }
+            } catch (EOFException e) {
+                break; // 녹화 도중 잘린 마지막 기록은 버림
+            }
+            step = nextStep;
+            totalSteps = step;
+            if (type == ReplayRecorder.TYPE_END) {
+                complete = true;
+                break;
+            }
+            if (count == steps.length) {
+                steps = Arrays.copyOf(steps, count * 2);
+                types = Arrays.copyOf(types, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            steps[count] = step;
+            types[count] = (byte) type;
+            values[count] = value;
+            count++;
+        }
+        return new ReplayLog(seed, timeStep, width, height, steps, types, values, count, totalSteps, complete);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getTimeStep() {
+        return timeStep;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @return 재생할 전체 스텝 수 (끝 기록이 없으면 마지막 입력의 스텝)
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * @return 끝 기록까지 온전히 읽었으면 true
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    long getStep(int index) {
+        return steps[index];
+    }
+
+    byte getType(int index) {
+        return types[index];
+    }
+
+    double getValue(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,205 @@
+package nhn.breakoutt.breakout;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link BreakoutSession}의 시드와 입력을 이진 로그로 기록하는 클래스입니다.
+ *
+ * <p>로그 형식 (빅 엔디언, {@link ReplayLog}가 읽음):</p>
+ * <pre>
+ * 헤더: int MAGIC, byte VERSION, long 시드, double 스텝 시간, double 너비, double 높이
+ * 기록: byte 종류, 가변 길이 정수 (이전 기록과의 스텝 차이), 종류별 값
+ *   TYPE_MOUSE  double x
+ *   TYPE_CLICK  (값 없음)
+ *   TYPE_KEY    byte 키
+ *   TYPE_END    (값 없음, 마지막 기록: 스텝 번호가 전체 스텝 수)
+ * </pre>
+ *
+ * <p>기록은 뒤에 덧붙이기만 하고, 클릭과 키 입력 직후와 {@link #FLUSH_INTERVAL_STEPS} 스텝마다 버퍼를 내보냅니다.
+ * 그래서 프로그램이 중간에 죽어도 잃는 것은 마지막 몇 스텝의 마우스 이동뿐이고, 그때까지 쓴 기록으로 재현할 수 있습니다.
+ * 한 스텝 안에서 다른 입력 없이 이어진 마우스 이동은 마지막 위치만 결과에 영향을 주므로 마지막 것만 기록합니다.</p>
+ *
+ * <p>입출력 오류는 시뮬레이션 스레드에서 처리할 수 없으므로 {@link UncheckedIOException}으로 던집니다.</p>
+ */
+public class ReplayRecorder implements Closeable {
+    static final int MAGIC = 0x42525031; // "BRP1"
+    static final byte VERSION = 1;
+
+    static final byte TYPE_END = 0;
+    static final byte TYPE_MOUSE = 1;
+    static final byte TYPE_CLICK = 2;
+    static final byte TYPE_KEY = 3;
+
+    public static final byte KEY_PAUSE = 1;
+    public static final byte KEY_RESTART = 2;
+
+    // 이 스텝 수마다 버퍼를 내보냄 (120Hz 기준 1초)
+    static final int FLUSH_INTERVAL_STEPS = 120;
+
+    private final DataOutputStream out;
+    private final BreakoutSession session;
+    private long lastStep;
+    private long lastFlushStep;
+    private boolean finished;
+
+    // 아직 쓰지 않은 마우스 이동 (같은 스텝의 다음 이동이 덮어씀)
+    private boolean mousePending;
+    private long pendingMouseStep;
+    private double pendingMouseX;
+
+    /**
+     * 헤더를 쓰고 세션에 녹화기를 붙입니다.
+     * @param out 로그를 쓸 스트림 (녹화기가 닫음)
+     * @param session 녹화할 세션 (아직 한 스텝도 진행하지 않아야 함)
+     * @param timeStep 세션을 진행할 고정 스텝 시간 (초)
+     * @throws IllegalArgumentException 인자가 null이거나, 세션이 이미 진행됐거나, timeStep이 양수가 아닌 경우
+     */
+    public ReplayRecorder(OutputStream out, BreakoutSession session, double timeStep) throws IOException {
+        if (out == null || session == null) {
+            throw new IllegalArgumentException("스트림과 세션은 null일 수 없습니다");
+        }
+        if (session.getStepCount() != 0) {
+            throw new IllegalArgumentException("녹화는 첫 스텝 전에 시작해야 합니다");
+        }
+        if (!(timeStep > 0) || Double.isInfinite(timeStep)) {
+            throw new IllegalArgumentException("시간 간격은 양수여야 합니다: " + timeStep);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.session = session;
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeLong(session.getSeed());
+        this.out.writeDouble(timeStep);
+        this.out.writeDouble(session.getWidth());
+        this.out.writeDouble(session.getHeight());
+        session.setRecorder(this);
+    }
+
+    void mouseMoved(long step, double x) {
+        if (mousePending && pendingMouseStep != step) {
+            writePendingMouse();
+        }
+        mousePending = true;
+        pendingMouseStep = step;
+        pendingMouseX = x;
+    }
+
+    void clicked(long step) {
+        writePendingMouse();
+        writeRecord(TYPE_CLICK, step);
+        flush();
+    }
+
+    void keyPressed(long step, byte key) {
+        writePendingMouse();
+        writeRecord(TYPE_KEY, step);
+        try {
+            out.writeByte(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        flush();
+    }
+
+    /**
+     * 세션이 한 스텝을 마칠 때 호출됩니다. {@link #FLUSH_INTERVAL_STEPS} 스텝마다 끝난 스텝의 마우스 이동을 쓰고 버퍼를 내보냅니다.
+     * @param stepCount 지금까지 끝난 스텝 수
+     */
+    void stepEnded(long stepCount) {
+        if (stepCount - lastFlushStep >= FLUSH_INTERVAL_STEPS) {
+            // 남은 마우스 이동은 끝난 스텝의 것이므로 더 합쳐질 일이 없음
+            writePendingMouse();
+            flush();
+        }
+    }
+
+    private void writePendingMouse() {
+        if (!mousePending) {
+            return;
+        }
+        mousePending = false;
+        writeRecord(TYPE_MOUSE, pendingMouseStep);
+        try {
+            out.writeDouble(pendingMouseX);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRecord(byte type, long step) {
+        if (finished) {
+            throw new IllegalStateException("이미 끝난 녹화입니다");
+        }
+        try {
+            out.writeByte(type);
+            writeVarLong(step - lastStep);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastStep = step;
+    }
+
+    /**
+     * 7비트씩 나눠 쓰는 가변 길이 정수. 입력 사이의 스텝 차이는 대부분 1~2바이트입니다.
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * 남은 입력과 세션의 현재 스텝 수를 끝 기록으로 쓰고 버퍼를 비운 뒤 세션에서 떨어집니다.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        writePendingMouse();
+        writeRecord(TYPE_END, session.getStepCount());
+        finished = true;
+        detach();
+        flush();
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 스트림으로 내보냅니다.
+     */
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastFlushStep = session.getStepCount();
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 스트림을 닫습니다. finish를 부르지 않았으면 끝 기록 없이 닫히며, 재생은 마지막 입력까지만 진행합니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            writePendingMouse();
+            detach();
+        }
+        out.close();
+    }
+
+    private void detach() {
+        if (session.getRecorder() == this) {
+            session.setRecorder(null);
+        }
+    }
+}
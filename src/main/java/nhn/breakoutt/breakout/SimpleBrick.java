@@ -1,7 +1,6 @@
 package nhn.breakoutt.breakout;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import nhn.breakoutt.*;
 
 public class SimpleBrick extends StaticObject implements Breakable {
@@ -9,8 +8,8 @@ public class SimpleBrick extends StaticObject implements Breakable {
     protected int maxHitPoints;
     protected int points;
 
-    public SimpleBrick(double x, double y, double width, double height, Color color, int points) {
-        super(x, y, width, height, color);
+    public SimpleBrick(double x, double y, double width, double height, int argb, int points) {
+        super(x, y, width, height, argb);
         this.hitPoints = 1;
         this.maxHitPoints = 1;
         this.points = points;
@@ -28,6 +27,14 @@ public class SimpleBrick extends StaticObject implements Breakable {
         }
     }
 
+    /**
+     * 스냅샷에서 남은 타격 횟수와 파괴 여부를 되돌립니다.
+     */
+    void restoreHitPoints(int hitPoints, boolean destroyed) {
+        this.hitPoints = hitPoints;
+        this.destroyed = destroyed;
+    }
+
     @Override
     public boolean isBroken() {
         return destroyed;
@@ -47,24 +54,6 @@ public class SimpleBrick extends StaticObject implements Breakable {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // 3D 효과를 위한 그림자
-        gc.setFill(color.darker().darker());
-        gc.fillRect(x + 2, y + 2, width, height);
-
-        // 본체
-        gc.setFill(color);
-        gc.fillRect(x, y, width, height);
-
-        // 하이라이트 (3D 효과)
-        gc.setFill(color.brighter());
-        gc.fillRect(x, y, width, 3); // 상단 하이라이트
-        gc.fillRect(x, y, 3, height); // 좌측 하이라이트
-
-        // 테두리
-        gc.setStroke(color.darker());
-        gc.setLineWidth(1);
-        gc.strokeRect(x, y, width, height);
+        BreakoutRenderer.paintSimpleBrick(gc, this);
     }
 }
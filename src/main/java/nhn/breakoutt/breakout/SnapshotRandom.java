@@ -0,0 +1,50 @@
+package nhn.breakoutt.breakout;
+
+import java.util.Random;
+
+/**
+ * 내부 상태를 읽고 되돌릴 수 있는 {@link Random}입니다.
+ * java.util.Random과 같은 48비트 선형 합동 생성기를 쓰므로, 같은 시드면 Random과 같은 수열을 냅니다.
+ * 스냅샷에 난수 상태를 저장해, 되감은 뒤에도 파워업 드롭이 원래 게임과 같게 나오도록 합니다.
+ *
+ * <p>nextGaussian의 남은 값은 상태에 포함되지 않습니다 (벽돌 깨기에서는 쓰지 않음).
+ * 스레드 안전하지 않습니다.</p>
+ */
+class SnapshotRandom extends Random {
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Random 생성자가 setSeed를 호출해 채우므로 초기값을 두지 않음
+    private long state;
+
+    SnapshotRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        super.setSeed(seed);
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * @return 현재 내부 상태 (하위 48비트)
+     */
+    long getState() {
+        return state;
+    }
+
+    /**
+     * {@link #getState()}로 읽은 상태로 되돌립니다.
+     */
+    void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -9,36 +9,23 @@ public abstract class StaticObject implements Paintable, Collidable {
     protected double y;
     protected double width;
     protected double height;
-    protected Color color;
+    protected int argb;
     protected CollisionAction collisionAction;
     protected boolean destroyed;
 
-    public StaticObject(double x, double y, double width, double height, Color color) {
+    public StaticObject(double x, double y, double width, double height, int argb) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
-        this.color = color;
+        this.argb = argb;
         this.collisionAction = CollisionAction.BOUNCE;
         this.destroyed = false;
     }
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (destroyed) return;
-
-        // 3D 효과를 위한 그림자
-        gc.setFill(color.darker().darker());
-        gc.fillRect(x + 2, y + 2, width, height);
-
-        // 본체
-        gc.setFill(color);
-        gc.fillRect(x, y, width, height);
-
-        // 테두리
-        gc.setStroke(color.brighter());
-        gc.setLineWidth(1);
-        gc.strokeRect(x, y, width, height);
+        BreakoutRenderer.paintStaticObject(gc, this);
     }
 
     @Override
@@ -64,12 +51,14 @@ public abstract class StaticObject implements Paintable, Collidable {
     public double getY() { return y; }
     public double getWidth() { return width; }
     public double getHeight() { return height; }
-    public Color getColor() { return color; }
+    public Color getColor() { return FxColors.toColor(argb); }
+    public int getArgb() { return argb; }
     public boolean isDestroyed() { return destroyed; }
 
     public void setX(double x) { this.x = x; }
     public void setY(double y) { this.y = y; }
-    public void setColor(Color color) { this.color = color; }
+    public void setColor(Color color) { this.argb = FxColors.toArgb(color); }
+    public void setArgb(int argb) { this.argb = argb; }
     public void setDestroyed(boolean destroyed) { this.destroyed = destroyed; }
     public void setCollisionAction(CollisionAction collisionAction) {
         this.collisionAction = collisionAction;
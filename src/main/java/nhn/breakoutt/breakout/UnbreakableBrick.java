@@ -1,18 +1,18 @@
 package nhn.breakoutt.breakout;
 
-import javafx.scene.paint.Color;
+import nhn.breakoutt.Argb;
 import nhn.breakoutt.Collidable;
 import nhn.breakoutt.CollisionAction;
 
 public class UnbreakableBrick extends StaticObject {
 
     public UnbreakableBrick(double x, double y, double width, double height) {
-        super(x, y, width, height, Color.DARKGRAY);
+        super(x, y, width, height, Argb.DARKGRAY);
         setCollisionAction(CollisionAction.BOUNCE);
     }
 
-    public UnbreakableBrick(double x, double y, double width, double height, Color color) {
-        super(x, y, width, height, color);
+    public UnbreakableBrick(double x, double y, double width, double height, int argb) {
+        super(x, y, width, height, argb);
         setCollisionAction(CollisionAction.BOUNCE);
     }
 
@@ -28,21 +28,21 @@ public class UnbreakableBrick extends StaticObject {
          * 상단 벽 생성
          */
         public static UnbreakableBrick createTopWall(double gameWidth, double thickness) {
-            return new UnbreakableBrick(0, 0, gameWidth, thickness, Color.DARKSLATEGRAY);
+            return new UnbreakableBrick(0, 0, gameWidth, thickness, Argb.DARKSLATEGRAY);
         }
 
         /**
          * 좌측 벽 생성
          */
         public static UnbreakableBrick createLeftWall(double gameHeight, double thickness) {
-            return new UnbreakableBrick(0, 0, thickness, gameHeight, Color.DARKSLATEGRAY);
+            return new UnbreakableBrick(0, 0, thickness, gameHeight, Argb.DARKSLATEGRAY);
         }
 
         /**
          * 우측 벽 생성
          */
         public static UnbreakableBrick createRightWall(double gameWidth, double gameHeight, double thickness) {
-            return new UnbreakableBrick(gameWidth - thickness, 0, thickness, gameHeight, Color.DARKSLATEGRAY);
+            return new UnbreakableBrick(gameWidth - thickness, 0, thickness, gameHeight, Argb.DARKSLATEGRAY);
         }
 
         /**
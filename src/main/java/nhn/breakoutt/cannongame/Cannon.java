@@ -2,7 +2,6 @@ package nhn.breakoutt.cannongame;
 
 import nhn.breakoutt.*;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 public class Cannon implements Paintable {
     private double x;
@@ -23,40 +22,7 @@ public class Cannon implements Paintable {
 
     @Override
     public void paint(GraphicsContext gc) {
-        // 대포 본체 그리기 (원형)
-        gc.setFill(Color.DARKGRAY);
-        gc.fillOval(x - 20, y - 20, 40, 40);
-
-        // 포신 그리기
-        gc.save();
-        gc.translate(x, y);
-        gc.rotate(Math.toDegrees(angle));
-        gc.setFill(Color.GRAY);
-        gc.fillRect(0, -5, 50, 10);
-        gc.restore();
-
-        // 파워 게이지 그리기
-        double gaugeX = x - 50;
-        double gaugeY = y + 40;
-        double gaugeWidth = 100;
-        double gaugeHeight = 10;
-
-        // 게이지 배경
-        gc.setFill(Color.LIGHTGRAY);
-        gc.fillRect(gaugeX, gaugeY, gaugeWidth, gaugeHeight);
-
-        // 파워 표시
-        double powerRatio = (power - MIN_POWER) / (MAX_POWER - MIN_POWER);
-        gc.setFill(Color.BLUE);
-        gc.fillRect(gaugeX, gaugeY, gaugeWidth * powerRatio, gaugeHeight);
-
-        // 테두리
-        gc.setStroke(Color.BLACK);
-        gc.strokeRect(gaugeX, gaugeY, gaugeWidth, gaugeHeight);
-
-        // 파워 텍스트
-        gc.setFill(Color.BLACK);
-        gc.fillText("Power: " + (int)power, gaugeX, gaugeY - 5);
+        CannonGameRenderer.paintCannon(gc, this);
     }
 
     public ProjectTile fire() {
@@ -105,6 +71,13 @@ public class Cannon implements Paintable {
     public double getAngle() { return angle; }
     public double getPower() { return power; }
 
+    /**
+     * @return 최소 파워에서 0, 최대 파워에서 1
+     */
+    public double getPowerRatio() {
+        return (power - MIN_POWER) / (MAX_POWER - MIN_POWER);
+    }
+
     public double getAngleDegrees() {
         return Math.toDegrees(angle);
     }
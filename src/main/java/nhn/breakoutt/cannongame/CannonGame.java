@@ -1,7 +1,5 @@
 package nhn.breakoutt.cannongame;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
@@ -12,18 +10,19 @@ import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
-import javafx.util.Duration;
+import nhn.breakoutt.FrameProfiler;
+import nhn.breakoutt.GameLoop;
+import nhn.breakoutt.PerformanceOverlay;
 
 public class CannonGame extends Application {
     private CannonGameWorld world;
     private Stage primaryStage;
-    private Timeline gameLoop;
+    private GameLoop gameLoop;
+    private final PerformanceOverlay overlay = new PerformanceOverlay();
     private Canvas canvas;
     private GraphicsContext gc;
     private static final double CANVAS_WIDTH = 800;
     private static final double CANVAS_HEIGHT = 600;
-    private long lastTime = 0;
-    private boolean isPaused = false;
 
     @Override
     public void start(Stage stage) {
@@ -64,6 +63,7 @@ public class CannonGame extends Application {
     public void startGame() {
         // CannonGameWorld 객체 생성
         world = new CannonGameWorld(CANVAS_WIDTH, CANVAS_HEIGHT);
+        world.setProfiler(new FrameProfiler(CannonGameWorld.PROFILER_PHASES, FrameProfiler.DEFAULT_CAPACITY));
 
         // 레이아웃 구성
         BorderPane gameLayout = new BorderPane();
@@ -183,31 +183,31 @@ public class CannonGame extends Application {
                     world.nextLevel();
                 }
                 break;
+            case P:
+                gameLoop.togglePause();
+                break;
+            case F3:
+                overlay.toggle();
+                break;
+            case PERIOD:
+                // 일시정지 중 한 프레임씩 진행
+                gameLoop.step();
+                break;
         }
     }
 
     private void startGameLoop() {
-        lastTime = System.nanoTime();
-
-        gameLoop = new Timeline(new KeyFrame(Duration.millis(16), e -> {
-            if (!isPaused) {
-                long currentTime = System.nanoTime();
-                double deltaTime = (currentTime - lastTime) / 1_000_000_000.0;
-                lastTime = currentTime;
-
-                // 게임 업데이트
-                world.update(deltaTime);
-
-                // 화면 렌더링
-                world.paint(gc);
-                if (world.isGameWon() || world.isGameLost()) {
-                    // 게임 종료 메시지는 world.paint()에서 표시됨
-                }
-            }
-        }));
-
-        gameLoop.setCycleCount(Timeline.INDEFINITE);
-        gameLoop.play();
+        // 게임 업데이트와 화면 렌더링 (게임 종료 메시지는 CannonGameRenderer에서 표시됨)
+        gameLoop = new GameLoop(world, context -> {
+            CannonGameRenderer.render(context, world);
+            overlay.paint(context);
+        }, gc);
+        gameLoop.setFrameListener((deltaTime, updateNanos, renderNanos) -> {
+            // 물리 시간은 포탄/목표물 처리까지 포함한 GameLoop의 update 시간을 사용하고, 계측기는 단계별 시간만 제공
+            overlay.sampleProfiler(world.getProfiler());
+            overlay.recordFrame(updateNanos, renderNanos, world.getBallCount());
+        });
+        gameLoop.start();
     }
 
     private void stopGameLoop() {
@@ -0,0 +1,164 @@
+package nhn.breakoutt.cannongame;
+
+import nhn.breakoutt.*;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import java.util.List;
+
+/**
+ * 대포 게임 월드와 대포, 포탄, 목표물을 JavaFX 캔버스에 그리는 클래스입니다.
+ * 모델은 색을 {@link Argb} 값으로만 가지고, 그리는 코드는 여기에 모읍니다.
+ */
+public final class CannonGameRenderer {
+    private static final Color TRAJECTORY_COLOR = Color.GRAY.deriveColor(0, 1, 1, 0.5);
+    private static final Color OVERLAY_COLOR = Color.BLACK.deriveColor(0, 1, 1, 0.8);
+
+    private CannonGameRenderer() {
+    }
+
+    /**
+     * 배경, 공, 목표물, 대포, 점수 정보, 게임 종료 메시지를 그립니다.
+     */
+    public static void render(GraphicsContext gc, CannonGameWorld world) {
+        RenderPassEvent renderEvent = new RenderPassEvent();
+        renderEvent.begin();
+
+        double width = world.getWidth();
+        double height = world.getHeight();
+
+        // 배경 그리기
+        gc.setFill(Color.LIGHTBLUE);
+        gc.fillRect(0, 0, width, height);
+
+        // 바닥 그리기
+        gc.setFill(Color.GREEN);
+        gc.fillRect(0, height - 20, width, 20);
+
+        // 게임 객체들 렌더링
+        WorldRenderer.draw(gc, world);
+
+        // 목표물들 그리기
+        List<Target> targets = world.getTargetView();
+        for (Target target : targets) {
+            target.paint(gc);
+        }
+
+        // 대포 그리기
+        world.getCannon().paint(gc);
+
+        // UI 정보 그리기
+        drawGameInfo(gc, world);
+
+        // 게임 종료 메시지
+        if (world.isGameWon() || world.isGameLost()) {
+            drawGameOverMessage(gc, world);
+        }
+
+        if (renderEvent.shouldCommit()) {
+            renderEvent.pass = world.getClass().getSimpleName();
+            renderEvent.entityCount = world.getBallCount() + targets.size();
+            renderEvent.commit();
+        }
+    }
+
+    private static void drawGameInfo(GraphicsContext gc, CannonGameWorld world) {
+        gc.setFill(Color.BLACK);
+        gc.fillText("점수: " + world.getScore(), 10, 30);
+        gc.fillText("레벨: " + world.getCurrentLevel(), 10, 50);
+        gc.fillText("남은 목표물: " + world.getTargetView().stream().mapToInt(t -> t.isDestroyed() ? 0 : 1).sum(), 10, 70);
+        gc.fillText("각도: " + String.format("%.0f°", world.getCannon().getAngleDegrees()), 10, 90);
+    }
+
+    private static void drawGameOverMessage(GraphicsContext gc, CannonGameWorld world) {
+        double width = world.getWidth();
+        double height = world.getHeight();
+
+        gc.setFill(OVERLAY_COLOR);
+        gc.fillRect(0, 0, width, height);
+
+        gc.setFill(Color.WHITE);
+        String message = world.isGameWon() ? "레벨 클리어!" : "게임 오버!";
+        gc.fillText(message, width/2 - 50, height/2 - 50);
+        gc.fillText("최종 점수: " + world.getScore(), width/2 - 50, height/2 - 20);
+
+        if (world.isGameWon()) {
+            gc.fillText("N키를 눌러 다음 레벨", width/2 - 70, height/2 + 10);
+        }
+        gc.fillText("R키를 눌러 재시작", width/2 - 70, height/2 + 40);
+        gc.fillText("ESC키로 메뉴로 돌아가기", width/2 - 90, height/2 + 70);
+    }
+
+    public static void paintCannon(GraphicsContext gc, Cannon cannon) {
+        double x = cannon.getX();
+        double y = cannon.getY();
+
+        // 대포 본체 그리기 (원형)
+        gc.setFill(Color.DARKGRAY);
+        gc.fillOval(x - 20, y - 20, 40, 40);
+
+        // 포신 그리기
+        gc.save();
+        gc.translate(x, y);
+        gc.rotate(cannon.getAngleDegrees());
+        gc.setFill(Color.GRAY);
+        gc.fillRect(0, -5, 50, 10);
+        gc.restore();
+
+        // 파워 게이지 그리기
+        double gaugeX = x - 50;
+        double gaugeY = y + 40;
+        double gaugeWidth = 100;
+        double gaugeHeight = 10;
+
+        // 게이지 배경
+        gc.setFill(Color.LIGHTGRAY);
+        gc.fillRect(gaugeX, gaugeY, gaugeWidth, gaugeHeight);
+
+        // 파워 표시
+        gc.setFill(Color.BLUE);
+        gc.fillRect(gaugeX, gaugeY, gaugeWidth * cannon.getPowerRatio(), gaugeHeight);
+
+        // 테두리
+        gc.setStroke(Color.BLACK);
+        gc.strokeRect(gaugeX, gaugeY, gaugeWidth, gaugeHeight);
+
+        // 파워 텍스트
+        gc.setFill(Color.BLACK);
+        gc.fillText("Power: " + (int) cannon.getPower(), gaugeX, gaugeY - 5);
+    }
+
+    public static void paintProjectile(GraphicsContext gc, ProjectTile projectile) {
+        // 궤적 그리기 (반투명)
+        gc.setStroke(TRAJECTORY_COLOR);
+        gc.setLineWidth(1);
+
+        List<Point> trajectory = projectile.getTrajectoryView();
+        for (int i = 1; i < trajectory.size(); i++) {
+            Point prev = trajectory.get(i - 1);
+            Point curr = trajectory.get(i);
+            gc.strokeLine(prev.getX(), prev.getY(), curr.getX(), curr.getY());
+        }
+
+        // 포탄 본체 그리기
+        if (!projectile.hasExploded()) {
+            ShapeRenderer.paintBall(gc, projectile);
+        }
+    }
+
+    public static void paintTarget(GraphicsContext gc, Target target) {
+        if (target.isDestroyed()) return;
+
+        // 손상도에 따른 색상 변화
+        Color baseColor = FxColors.toColor(target.getBaseArgb());
+        Color currentColor = baseColor.deriveColor(0, 1, target.getHealthRatio(), 1);
+
+        // 목표물 본체 그리기
+        gc.setFill(currentColor);
+        gc.fillRect(target.getX(), target.getY(), target.getWidth(), target.getHeight());
+
+        // 테두리 그리기
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(2);
+        gc.strokeRect(target.getX(), target.getY(), target.getWidth(), target.getHeight());
+    }
+}
@@ -1,8 +1,6 @@
 package nhn.breakoutt.cannongame;
 
 import nhn.breakoutt.*;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -124,59 +122,6 @@ public class CannonGameWorld extends BoundedWorld {
         }
     }
 
-    public void paint(GraphicsContext gc) {
-        // 배경 그리기
-        gc.setFill(Color.LIGHTBLUE);
-        gc.fillRect(0, 0, getWidth(), getHeight());
-
-        // 바닥 그리기
-        gc.setFill(Color.GREEN);
-        gc.fillRect(0, getHeight() - 20, getWidth(), 20);
-
-        // 게임 객체들 렌더링
-        super.draw(gc);
-
-        // 목표물들 그리기
-        for (Target target : targets) {
-            target.paint(gc);
-        }
-
-        // 대포 그리기
-        cannon.paint(gc);
-
-        // UI 정보 그리기
-        drawGameInfo(gc);
-
-        // 게임 종료 메시지
-        if (gameWon || gameLost) {
-            drawGameOverMessage(gc);
-        }
-    }
-
-    private void drawGameInfo(GraphicsContext gc) {
-        gc.setFill(Color.BLACK);
-        gc.fillText("점수: " + score, 10, 30);
-        gc.fillText("레벨: " + currentLevel, 10, 50);
-        gc.fillText("남은 목표물: " + targets.stream().mapToInt(t -> t.isDestroyed() ? 0 : 1).sum(), 10, 70);
-        gc.fillText("각도: " + String.format("%.0f°", cannon.getAngleDegrees()), 10, 90);
-    }
-
-    private void drawGameOverMessage(GraphicsContext gc) {
-        gc.setFill(Color.BLACK.deriveColor(0, 1, 1, 0.8));
-        gc.fillRect(0, 0, getWidth(), getHeight());
-
-        gc.setFill(Color.WHITE);
-        String message = gameWon ? "레벨 클리어!" : "게임 오버!";
-        gc.fillText(message, getWidth()/2 - 50, getHeight()/2 - 50);
-        gc.fillText("최종 점수: " + score, getWidth()/2 - 50, getHeight()/2 - 20);
-
-        if (gameWon) {
-            gc.fillText("N키를 눌러 다음 레벨", getWidth()/2 - 70, getHeight()/2 + 10);
-        }
-        gc.fillText("R키를 눌러 재시작", getWidth()/2 - 70, getHeight()/2 + 40);
-        gc.fillText("ESC키로 메뉴로 돌아가기", getWidth()/2 - 90, getHeight()/2 + 70);
-    }
-
     public void resetGame() {
         gameWon = false;
         gameLost = false;
@@ -194,6 +139,10 @@ public class CannonGameWorld extends BoundedWorld {
     }
 
     public Cannon getCannon() { return cannon; }
+    public int getScore() { return score; }
+    public int getCurrentLevel() { return currentLevel; }
+    // 복사본을 만들지 않으며, CannonGameRenderer가 매 프레임 읽기만 함
+    List<Target> getTargetView() { return targets; }
     public boolean isGameWon() { return gameWon; }
     public boolean isGameLost() { return gameLost; }
 }
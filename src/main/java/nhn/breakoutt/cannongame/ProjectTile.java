@@ -2,7 +2,6 @@ package nhn.breakoutt.cannongame;
 
 import nhn.breakoutt.*;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,26 +16,13 @@ public class ProjectTile extends PhysicsBall {
         this.type = type;
         this.trajectory = new ArrayList<>();
         this.hasExploded = false;
-        setColor(Color.BLACK);
+        setArgb(Argb.BLACK);
         setMass(1.0);
     }
 
     @Override
     public void paint(GraphicsContext gc) {
-        // 궤적 그리기 (반투명)
-        gc.setStroke(Color.GRAY.deriveColor(0, 1, 1, 0.5));
-        gc.setLineWidth(1);
-
-        for (int i = 1; i < trajectory.size(); i++) {
-            Point prev = trajectory.get(i - 1);
-            Point curr = trajectory.get(i);
-            gc.strokeLine(prev.getX(), prev.getY(), curr.getX(), curr.getY());
-        }
-
-        // 포탄 본체 그리기
-        if (!hasExploded) {
-            super.paint(gc);
-        }
+        CannonGameRenderer.paintProjectile(gc, this);
     }
 
     public void explode() {
@@ -44,6 +30,15 @@ public class ProjectTile extends PhysicsBall {
         setVelocity(new Vector2D(0, 0));
     }
 
+    public boolean hasExploded() {
+        return hasExploded;
+    }
+
+    // 복사본을 만들지 않으며, CannonGameRenderer가 읽기만 함
+    List<Point> getTrajectoryView() {
+        return trajectory;
+    }
+
     public boolean isOutOfBounds(double width, double height) {
         return getY() > height + 100 || getX() < -100 || getX() > width + 100;
     }
@@ -2,7 +2,6 @@ package nhn.breakoutt.cannongame;
 
 import nhn.breakoutt.*;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 public class Target implements Paintable {
     private final double x, y;
@@ -37,30 +36,23 @@ public class Target implements Paintable {
 
     @Override
     public void paint(GraphicsContext gc) {
-        if (isDestroyed) return;
-
-        // 손상도에 따른 색상 변화
-        double healthRatio = health / maxHealth;
-        Color baseColor = getBaseColor();
-        Color currentColor = baseColor.deriveColor(0, 1, healthRatio, 1);
-
-        // 목표물 본체 그리기
-        gc.setFill(currentColor);
-        gc.fillRect(x, y, width, height);
-
-        // 테두리 그리기
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(2);
-        gc.strokeRect(x, y, width, height);
+        CannonGameRenderer.paintTarget(gc, this);
     }
 
-    private Color getBaseColor() {
+    /**
+     * @return 타입별 기본 색 ({@link Argb} 값). 손상되면 렌더러가 내구도 비율만큼 어둡게 그립니다.
+     */
+    public int getBaseArgb() {
         return switch (type) {
-            case WOODEN -> Color.BROWN;
-            case STONE -> Color.GRAY;
+            case WOODEN -> Argb.BROWN;
+            case STONE -> Argb.GRAY;
         };
     }
 
+    public double getHealthRatio() {
+        return health / maxHealth;
+    }
+
     public void takeDamage(double damage) {
         if (isDestroyed) return;
 
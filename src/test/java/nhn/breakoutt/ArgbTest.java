@@ -0,0 +1,65 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArgbTest {
+
+    @Test
+    public void testConstantsMatchJavaFx() {
+        assertEquals(FxColors.toArgb(Color.BLACK), Argb.BLACK);
+        assertEquals(FxColors.toArgb(Color.WHITE), Argb.WHITE);
+        assertEquals(FxColors.toArgb(Color.GRAY), Argb.GRAY);
+        assertEquals(FxColors.toArgb(Color.DARKGRAY), Argb.DARKGRAY);
+        assertEquals(FxColors.toArgb(Color.DARKSLATEGRAY), Argb.DARKSLATEGRAY);
+        assertEquals(FxColors.toArgb(Color.RED), Argb.RED);
+        assertEquals(FxColors.toArgb(Color.ORANGE), Argb.ORANGE);
+        assertEquals(FxColors.toArgb(Color.GOLD), Argb.GOLD);
+        assertEquals(FxColors.toArgb(Color.YELLOW), Argb.YELLOW);
+        assertEquals(FxColors.toArgb(Color.GREEN), Argb.GREEN);
+        assertEquals(FxColors.toArgb(Color.BLUE), Argb.BLUE);
+        assertEquals(FxColors.toArgb(Color.DARKBLUE), Argb.DARKBLUE);
+        assertEquals(FxColors.toArgb(Color.PURPLE), Argb.PURPLE);
+        assertEquals(FxColors.toArgb(Color.PINK), Argb.PINK);
+        assertEquals(FxColors.toArgb(Color.BROWN), Argb.BROWN);
+        assertEquals(FxColors.toArgb(Color.TRANSPARENT), Argb.TRANSPARENT);
+    }
+
+    @Test
+    public void testBrighterAndDarkerMatchJavaFx() {
+        int[] colors = {Argb.RED, Argb.ORANGE, Argb.GOLD, Argb.DARKBLUE, Argb.GRAY, Argb.BLACK, Argb.rgb(10, 20, 30)};
+        for (int argb : colors) {
+            Color color = FxColors.toColor(argb);
+            assertEquals(FxColors.toArgb(color.brighter()), Argb.brighter(argb), Argb.toString(argb));
+            assertEquals(FxColors.toArgb(color.darker()), Argb.darker(argb), Argb.toString(argb));
+        }
+        assertEquals(FxColors.toArgb(Color.hsb(200, 0.8, 0.9)), Argb.hsb(200, 0.8, 0.9));
+    }
+
+    @Test
+    public void testFxColorsRoundTrip() {
+        int argb = Argb.rgba(10, 20, 30, 128);
+        Color color = FxColors.toColor(argb);
+
+        assertSame(color, FxColors.toColor(argb), "같은 색은 캐시된 Color를 돌려줘야 합니다");
+        assertEquals(argb, FxColors.toArgb(color));
+        assertEquals(128, Argb.alpha(Argb.withOpacity(Argb.RED, 128 / 255.0)));
+        assertThrows(IllegalArgumentException.class, () -> FxColors.toArgb(null));
+        assertThrows(IllegalArgumentException.class, () -> Argb.rgb(256, 0, 0));
+    }
+
+    @Test
+    public void testSnapshotColorRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(SnapshotFormat.COLOR_SIZE);
+        int argb = Argb.rgba(200, 100, 50, 25);
+
+        SnapshotFormat.writeColor(buffer, argb);
+        buffer.flip();
+
+        assertEquals(argb, SnapshotFormat.readColor(buffer));
+    }
+}
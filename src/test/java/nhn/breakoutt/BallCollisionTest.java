@@ -64,4 +64,36 @@ public class BallCollisionTest {
                 Math.pow(center2.getY() - center1.getY(), 2));
         assertTrue(distance >= 40, "분리 후 거리가 반지름 합보다 작습니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testObliqueCollisionKeepsTangentialVelocity() {
+        // 같은 크기의 공이 45도 방향으로 충돌: 법선 성분만 교환되고 접선 성분은 유지
+        MovableBall ball1 = new MovableBall(new Point(100.0, 100.0), 20);
+        ball1.setVelocity(100, 0);
+
+        MovableBall ball2 = new MovableBall(new Point(125.0, 125.0), 20);
+        ball2.setVelocity(0, 0);
+
+        BallCollision.resolveElasticCollision(ball1, ball2);
+
+        assertEquals(50, ball1.getVelocityX(), 1e-9);
+        assertEquals(-50, ball1.getVelocityY(), 1e-9);
+        assertEquals(50, ball2.getVelocityX(), 1e-9);
+        assertEquals(50, ball2.getVelocityY(), 1e-9);
+    }
+
+    @Test
+    public void testSeparatingBallsAreNotResolved() {
+        MovableBall ball1 = new MovableBall(new Point(100.0, 100.0), 20);
+        ball1.setVelocity(-100, 0);
+
+        MovableBall ball2 = new MovableBall(new Point(130.0, 100.0), 20);
+        ball2.setVelocity(100, 0);
+
+        BallCollision.resolveElasticCollision(ball1, ball2);
+
+        assertEquals(-100, ball1.getVelocityX());
+        assertEquals(100, ball2.getVelocityX());
+        assertEquals(100, ball1.getX(), "이미 멀어지는 공은 분리하지 않아야 합니다");
+    }
+}
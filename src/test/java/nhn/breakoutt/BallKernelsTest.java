@@ -0,0 +1,131 @@
+package nhn.breakoutt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class BallKernelsTest {
+    private static final int COUNT = 103; // 레인 수로 나누어떨어지지 않는 개수
+
+    private static BallStore createStore(BallKernels kernels) {
+        Random random = new Random(11);
+        BallStore store = new BallStore();
+        store.setKernels(kernels);
+        store.setBounds(0, 0, 800, 600);
+        for (int i = 0; i < COUNT; i++) {
+            int flags = i % 3 == 0 ? 0 : BallStore.FLAG_GRAVITY | (i % 2 == 0 ? BallStore.FLAG_AIR_RESISTANCE : 0);
+            store.add(20 + random.nextDouble() * 760, 20 + random.nextDouble() * 560, 2 + random.nextDouble() * 10,
+                    -400 + random.nextDouble() * 800, -400 + random.nextDouble() * 800, 1.0, flags);
+        }
+        return store;
+    }
+
+    @Test
+    public void testScalarIntegrateMatchesStoredBallMove() {
+        BallStore bulk = createStore(BallKernels.scalar());
+        BallStore single = createStore(BallKernels.scalar());
+
+        for (int frame = 0; frame < 120; frame++) {
+            bulk.integrate(1.0 / 60);
+            for (int i = 0; i < single.size(); i++) {
+                single.handle(i).move(1.0 / 60);
+            }
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(bulk.handle(i).getX(), single.handle(i).getX());
+            assertEquals(bulk.handle(i).getY(), single.handle(i).getY());
+            assertEquals(bulk.handle(i).getDy(), single.handle(i).getDy());
+        }
+    }
+
+    @Test
+    public void testVectorIntegrateMatchesScalar() {
+        assumeTrue(BallKernels.isVectorAvailable(), "jdk.incubator.vector 모듈이 필요합니다");
+
+        BallStore scalar = createStore(BallKernels.scalar());
+        BallStore vector = createStore(BallKernels.vector());
+
+        for (int frame = 0; frame < 300; frame++) {
+            scalar.integrate(1.0 / 60);
+            vector.integrate(1.0 / 60);
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            StoredBall expected = scalar.handle(i);
+            StoredBall actual = vector.handle(i);
+            assertEquals(expected.getX(), actual.getX(), "공 " + i + "의 X 좌표가 다릅니다");
+            assertEquals(expected.getY(), actual.getY(), "공 " + i + "의 Y 좌표가 다릅니다");
+            assertEquals(expected.getDx(), actual.getDx());
+            assertEquals(expected.getDy(), actual.getDy());
+        }
+    }
+
+    @Test
+    public void testVectorFindOverlapsMatchesScalar() {
+        assumeTrue(BallKernels.isVectorAvailable(), "jdk.incubator.vector 모듈이 필요합니다");
+
+        Random random = new Random(5);
+        int n = 77;
+        double[] minX = new double[n];
+        double[] minY = new double[n];
+        double[] maxX = new double[n];
+        double[] maxY = new double[n];
+        int[] others = new int[n];
+        for (int i = 0; i < n; i++) {
+            minX[i] = random.nextDouble() * 200;
+            minY[i] = random.nextDouble() * 200;
+            maxX[i] = minX[i] + random.nextDouble() * 40;
+            maxY[i] = minY[i] + random.nextDouble() * 40;
+            others[i] = n - 1 - i;
+        }
+
+        BallKernels vector = BallKernels.vector();
+        int[] expected = new int[n];
+        int[] actual = new int[n];
+        for (int i = 0; i < n; i++) {
+            int expectedCount = BallKernels.scalar().findOverlaps(minX, minY, maxX, maxY, i, others, 3, n, expected);
+            int actualCount = vector.findOverlaps(minX, minY, maxX, maxY, i, others, 3, n, actual);
+            assertArrayEquals(Arrays.copyOf(expected, expectedCount), Arrays.copyOf(actual, actualCount));
+        }
+    }
+
+    @Test
+    public void testGridWithVectorKernelsMatchesBruteForce() {
+        assumeTrue(BallKernels.isVectorAvailable(), "jdk.incubator.vector 모듈이 필요합니다");
+
+        Random random = new Random(9);
+        List<Ball> balls = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            balls.add(new Ball(random.nextDouble() * 400, random.nextDouble() * 400, 3 + random.nextDouble() * 20));
+        }
+
+        UniformGridBroadPhase grid = new UniformGridBroadPhase(32);
+        grid.setKernels(BallKernels.vector());
+
+        List<Long> expected = new ArrayList<>();
+        new BruteForceBroadPhase().findCandidatePairs(balls, (i, j) -> {
+            if (balls.get(i).getBounds().intersects(balls.get(j).getBounds())) {
+                expected.add(((long) i << 32) | j);
+            }
+        });
+        List<Long> actual = new ArrayList<>();
+        grid.findCandidatePairs(balls, (i, j) -> actual.add(((long) i << 32) | j));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDefaultKernelsIsScalarWithoutSwitch() {
+        if (!Boolean.getBoolean(BallKernels.SIMD_PROPERTY)) {
+            assertSame(BallKernels.scalar(), BallKernels.defaultKernels());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BallStore().setKernels(null));
+    }
+}
@@ -0,0 +1,167 @@
+package nhn.breakoutt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BallStoreTest {
+
+    @Test
+    public void testIntegrateMatchesPhysicsBall() {
+        PhysicsBall physicsBall = new PhysicsBall(new Point(400.0, 100.0), 10);
+        physicsBall.setVelocity(30, -50);
+
+        BallStore store = new BallStore();
+        StoredBall stored = store.handle(store.add(400, 100, 10, 30, -50, 1.0,
+                BallStore.FLAG_GRAVITY | BallStore.FLAG_AIR_RESISTANCE));
+
+        // 화면 경계(800x600)에 닿기 전까지는 같은 궤적이어야 함
+        for (int i = 0; i < 20; i++) {
+            physicsBall.move(1.0 / 60);
+            store.integrate(1.0 / 60);
+        }
+
+        assertEquals(physicsBall.getX(), stored.getX(), 1e-9);
+        assertEquals(physicsBall.getY(), stored.getY(), 1e-9);
+        assertEquals(physicsBall.getVelocityX(), stored.getDx(), 1e-9);
+        assertEquals(physicsBall.getVelocityY(), stored.getDy(), 1e-9);
+    }
+
+    @Test
+    public void testBoundsReflectBalls() {
+        BallStore store = new BallStore();
+        store.setBounds(0, 0, 100, 100);
+        int ball = store.add(95, 50, 5, 100, 0, 1.0, 0);
+
+        store.integrate(0.1);
+
+        assertEquals(95, store.getX(ball), 1e-9, "오른쪽 경계 안쪽에 머물러야 합니다");
+        assertEquals(-100, store.getVelocityX(ball), 1e-9);
+    }
+
+    @Test
+    public void testRemoveKeepsOtherHandlesValid() {
+        BallStore store = new BallStore(1);
+        StoredBall first = store.handle(store.add(10, 10, 1, 0, 0, 1.0, 0));
+        StoredBall second = store.handle(store.add(20, 20, 2, 0, 0, 1.0, 0));
+        StoredBall third = store.handle(store.add(30, 30, 3, 0, 0, 1.0, 0));
+
+        assertTrue(store.remove(first));
+        assertFalse(store.remove(first));
+        assertEquals(2, store.size());
+
+        // 마지막 공이 빈 자리로 옮겨져도 핸들은 같은 공을 가리켜야 함
+        assertEquals(30, third.getX());
+        assertEquals(3, third.getRadius());
+        assertEquals(0, third.getIndex());
+        assertSame(third, store.handle(0));
+        assertEquals(20, second.getX());
+
+        assertThrows(IllegalStateException.class, first::getX);
+    }
+
+    @Test
+    public void testHandlesWorkWithBallApis() {
+        BallStore store = new BallStore();
+        StoredBall ball1 = store.handle(store.add(100, 100, 20, 0, 0, 1.0, 0));
+        StoredBall ball2 = store.handle(store.add(130, 100, 20, 0, 0, 1.0, 0));
+
+        assertTrue(BallCollision.areColliding(ball1, ball2));
+        assertTrue(ball1.isColliding((Boundable) ball2));
+        assertEquals(new CircleBounds(100, 100, 20), ball1.getBounds());
+
+        ball2.moveTo(new Point(200.0, 100.0));
+        assertEquals(200, store.getX(1));
+        assertFalse(BallCollision.areColliding(ball1, ball2));
+    }
+
+    @Test
+    public void testHandlesAreCreatedOnDemand() {
+        BallStore store = new BallStore();
+        store.add(10, 10, 1, 0, 0, 1.0, 0);
+        store.add(20, 20, 2, 0, 0, 1.0, 0);
+        store.add(30, 30, 3, 0, 0, 1.0, 0);
+
+        StoredBall last = store.handle(2);
+        assertSame(last, store.handle(2), "같은 공이면 같은 핸들을 반환해야 합니다");
+
+        // 핸들이 없는 공을 제거해도 핸들이 있는 공은 새 자리를 따라감
+        store.remove(0);
+        assertEquals(0, last.getIndex());
+        assertSame(last, store.handle(0));
+        assertEquals(20, store.handle(1).getX());
+
+        store.clear();
+        assertFalse(last.isStored());
+    }
+
+    @Test
+    public void testResolveCollisionsMatchesBallCollision() {
+        MovableBall left = new MovableBall(new Point(100.0, 100.0), 20);
+        MovableBall right = new MovableBall(new Point(125.0, 105.0), 10);
+        left.setVelocity(50, 10);
+        right.setVelocity(-30, 0);
+        BallCollision.resolveElasticCollision(left, right);
+
+        BallStore store = new BallStore();
+        store.add(100, 100, 20, 50, 10, 20 * 20 * 20, 0);
+        store.add(125, 105, 10, -30, 0, 10 * 10 * 10, 0);
+        store.add(400, 400, 5, 0, 0, 1.0, 0); // 멀리 있는 공
+        assertEquals(1, store.resolveCollisions());
+
+        assertEquals(left.getX(), store.getX(0), 1e-9);
+        assertEquals(right.getY(), store.getY(1), 1e-9);
+        assertEquals(left.getVelocityX(), store.getVelocityX(0), 1e-9);
+        assertEquals(right.getVelocityY(), store.getVelocityY(1), 1e-9);
+        assertEquals(0, store.resolveCollisions(), "멀어지는 공은 다시 처리하지 않아야 합니다");
+    }
+
+    @Test
+    public void testResolveCollisionsDoesNotMissApproachingPairs() {
+        BallStore store = new BallStore();
+        store.setBounds(0, 0, 400, 400);
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            store.add(random.nextDouble() * 400, random.nextDouble() * 400, 4 + random.nextDouble() * 6,
+                    random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100, 1.0, 0);
+        }
+
+        for (int step = 0; step < 120; step++) {
+            store.integrate(1.0 / 60);
+            if (step == 60) {
+                store.remove(17); // 정렬 순서를 다시 만들어야 함
+            }
+
+            // 처리 전에 다가오며 겹친 쌍 수를 이중 루프로 셈
+            int approaching = 0;
+            for (int i = 0; i < store.size(); i++) {
+                for (int j = i + 1; j < store.size(); j++) {
+                    StoredBall a = store.handle(i);
+                    StoredBall b = store.handle(j);
+                    double nx = b.getX() - a.getX();
+                    double ny = b.getY() - a.getY();
+                    double r = a.getRadius() + b.getRadius();
+                    if (nx * nx + ny * ny < r * r && (a.getDx() - b.getDx()) * nx + (a.getDy() - b.getDy()) * ny > 0) {
+                        approaching++;
+                    }
+                }
+            }
+            int resolved = store.resolveCollisions();
+            if (approaching > 0) {
+                assertTrue(resolved > 0, "다가오며 겹친 쌍을 놓치면 안 됩니다 (스텝 " + step + ")");
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        BallStore store = new BallStore();
+        assertThrows(IllegalArgumentException.class, () -> store.add(0, 0, 0, 0, 0, 1.0, 0));
+        assertThrows(IllegalArgumentException.class, () -> store.add(0, 0, 1, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BallStore(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.handle(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.remove(0));
+    }
+}
@@ -0,0 +1,126 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedMazeWorldTest {
+    private static final double CELL_SIZE = 20;
+
+    @Test
+    public void testGeneratorIsDeterministicPerChunk() {
+        MazeGenerator generator = new MazeGenerator(42);
+        int size = generator.getChunkSize();
+        byte[] first = new byte[size * size];
+        byte[] again = new byte[size * size];
+
+        generator.generateChunk(-3, 7, first);
+        generator.generateChunk(100, -100, again); // 다른 조각을 만든 뒤에도
+        generator.generateChunk(-3, 7, again);
+        assertTrue(Arrays.equals(first, again), "같은 조각 좌표면 생성 순서와 관계없이 같아야 합니다");
+
+        new MazeGenerator(43).generateChunk(-3, 7, again);
+        assertFalse(Arrays.equals(first, again), "시드가 다르면 다른 미로가 나와야 합니다");
+
+        for (int ly = 0; ly < size; ly++) {
+            for (int lx = 0; lx < size; lx++) {
+                byte tile = first[ly * size + lx];
+                if (lx % 2 == 1 && ly % 2 == 1) {
+                    assertEquals(MazeGenerator.PASSAGE, tile, "방은 비어 있어야 합니다");
+                } else if (lx % 2 == 0 && ly % 2 == 0) {
+                    assertEquals(MazeGenerator.WALL, tile, "기둥은 벽이어야 합니다");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllRoomsAreConnectedAcrossChunks() {
+        int rows = 80;
+        int cols = 112; // 조각 경계에 걸친 영역
+        int[][] layout = new MazeGenerator(7).generateLayout(rows, cols);
+
+        boolean[][] reached = new boolean[rows][cols];
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{1, 1});
+        reached[1][1] = true;
+        int[][] steps = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            for (int[] step : steps) {
+                int row = cell[0] + step[0];
+                int col = cell[1] + step[1];
+                if (row >= 0 && row < rows && col >= 0 && col < cols && !reached[row][col] && layout[row][col] != 1) {
+                    reached[row][col] = true;
+                    queue.add(new int[]{row, col});
+                }
+            }
+        }
+
+        for (int row = 1; row < rows; row += 2) {
+            for (int col = 1; col < cols; col += 2) {
+                assertTrue(reached[row][col], "모든 방이 이어져야 합니다: (" + row + ", " + col + ")");
+            }
+        }
+    }
+
+    @Test
+    public void testBallStaysOutOfWalls() {
+        ChunkedMazeWorld world = new ChunkedMazeWorld(new MazeGenerator(3, 16, 0.5), CELL_SIZE);
+        Point start = world.getStartPosition();
+        Ball ball = new Ball(start.getX(), start.getY(), 6, 170, 110, Color.YELLOW, CollisionAction.BOUNCE);
+        world.addObject(ball);
+
+        for (int step = 0; step < 3000; step++) {
+            world.update(1.0 / 120);
+            assertNotEquals(MazeGenerator.WALL, world.getTile((int) Math.floor(ball.getX() / CELL_SIZE),
+                    (int) Math.floor(ball.getY() / CELL_SIZE)), "공 중심이 벽 안에 들어가면 안 됩니다 (스텝 " + step + ")");
+        }
+        assertTrue(world.getLoadedChunkCount() >= 9, "공 주변 3x3 조각을 만들어 두어야 합니다");
+    }
+
+    @Test
+    public void testFarChunksAreEvictedAndRegeneratedIdentically() {
+        MazeGenerator generator = new MazeGenerator(11);
+        ChunkedMazeWorld world = new ChunkedMazeWorld(generator, CELL_SIZE, 20, 1);
+        double chunkLength = generator.getChunkSize() * CELL_SIZE;
+
+        int[] before = new int[64];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = world.getTile(i, i / 2);
+        }
+
+        Ball ball = new Ball(chunkLength / 2, chunkLength / 2, 4, 0, 0, Color.YELLOW, CollisionAction.BOUNCE);
+        world.addObject(ball);
+        // 공을 멀리 옮겨 가며 진행: 지나온 조각은 버려져야 함
+        for (int hop = 0; hop < 200; hop++) {
+            ball.setX(chunkLength * (hop * 3 + 0.5));
+            ball.setY(chunkLength * (-hop * 2 + 0.5));
+            world.update(1.0 / 120);
+            assertTrue(world.getLoadedChunkCount() <= 20, "조각 수는 상한을 넘지 않아야 합니다");
+        }
+        assertTrue(world.getChunksEvicted() > 0);
+        assertTrue(world.isChunkLoaded(597, -397));
+        assertFalse(world.isChunkLoaded(0, 0), "멀어진 조각은 버려져야 합니다");
+
+        long generated = world.getChunksGenerated();
+        for (int i = 0; i < before.length; i++) {
+            assertEquals(before[i], world.getTile(i, i / 2), "다시 만든 조각은 처음과 같아야 합니다");
+        }
+        assertTrue(world.getChunksGenerated() > generated);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeGenerator(1, 5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MazeGenerator(1, 16, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedMazeWorld(null, CELL_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedMazeWorld(new MazeGenerator(1), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedMazeWorld(new MazeGenerator(1), CELL_SIZE, 0, 1));
+    }
+}
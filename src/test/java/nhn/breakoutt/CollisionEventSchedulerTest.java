@@ -0,0 +1,172 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionEventSchedulerTest {
+
+    private static BoundedWorld createEventDrivenWorld() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        world.setEventDriven(true);
+        return world;
+    }
+
+    private static BoundedBall createBall(double x, double y, double radius, double vx, double vy) {
+        BoundedBall ball = new BoundedBall(new Point(x, y), radius, Color.BLUE);
+        ball.setVelocity(vx, vy);
+        return ball;
+    }
+
+    @Test
+    public void testHeadOnCollisionHappensAtExactTime() {
+        BoundedWorld world = createEventDrivenWorld();
+        BoundedBall left = createBall(100, 300, 10, 100, 0);
+        BoundedBall right = createBall(300, 300, 10, -100, 0);
+        world.add(left);
+        world.add(right);
+
+        // 간격 180을 초속 200으로 좁히므로 0.9초에 닿고, 같은 질량이라 속도를 맞바꿈
+        world.update(1.0);
+
+        assertEquals(1, world.getEventScheduler().getEventsProcessed());
+        assertEquals(-100, left.getVelocityX(), 1e-9);
+        assertEquals(100, right.getVelocityX(), 1e-9);
+        assertEquals(180, left.getX(), 1e-9);
+        assertEquals(220, right.getX(), 1e-9);
+    }
+
+    @Test
+    public void testWallBounceIsExactEvenWithLongStep() {
+        BoundedWorld world = createEventDrivenWorld();
+        BoundedBall ball = createBall(50, 300, 10, -100, 0);
+        world.add(ball);
+
+        // 0.4초에 왼쪽 벽(x=10)에 닿고 나머지 0.6초 동안 되돌아감
+        world.update(1.0);
+
+        assertEquals(70, ball.getX(), 1e-9);
+        assertEquals(100, ball.getVelocityX(), 1e-9);
+    }
+
+    @Test
+    public void testSparseSceneConservesEnergyWithoutOverlaps() {
+        BoundedWorld world = createEventDrivenWorld();
+        Random random = new Random(11);
+        for (int i = 0; i < 30; i++) {
+            world.add(createBall(40 + (i % 6) * 130, 60 + (i / 6) * 110, 5 + random.nextDouble() * 15,
+                    -200 + random.nextDouble() * 400, -200 + random.nextDouble() * 400));
+        }
+        double initialEnergy = kineticEnergy(world.getBalls());
+
+        for (int frame = 0; frame < 600; frame++) {
+            world.update(1.0 / 60);
+
+            List<Ball> balls = world.getBalls();
+            for (int i = 0; i < balls.size(); i++) {
+                Ball ball = balls.get(i);
+                assertTrue(ball.getX() >= ball.getRadius() - 1e-6 && ball.getX() <= 800 - ball.getRadius() + 1e-6);
+                assertTrue(ball.getY() >= ball.getRadius() - 1e-6 && ball.getY() <= 600 - ball.getRadius() + 1e-6);
+                for (int j = i + 1; j < balls.size(); j++) {
+                    Ball other = balls.get(j);
+                    double distance = Math.hypot(ball.getX() - other.getX(), ball.getY() - other.getY());
+                    assertTrue(distance >= ball.getRadius() + other.getRadius() - 1e-6,
+                            "프레임 " + frame + "에서 공 " + i + ", " + j + "가 겹쳤습니다");
+                }
+            }
+        }
+
+        assertTrue(world.getEventScheduler().getEventsProcessed() > 0);
+        assertEquals(initialEnergy, kineticEnergy(world.getBalls()), initialEnergy * 1e-9, "탄성 충돌은 운동 에너지를 보존해야 합니다");
+    }
+
+    @Test
+    public void testPicksUpAddedBallsAndExternalVelocityChanges() {
+        BoundedWorld world = createEventDrivenWorld();
+        BoundedBall ball = createBall(100, 300, 10, 0, 0);
+        world.add(ball);
+        world.update(0.5);
+        assertEquals(100, ball.getX(), 1e-9);
+
+        ball.setVelocity(100, 0);
+        world.update(0.5);
+        assertEquals(150, ball.getX(), 1e-9, "프레임 사이에 바뀐 속도를 반영해야 합니다");
+
+        BoundedBall incoming = createBall(400, 300, 10, -200, 0);
+        world.add(incoming);
+        world.update(0.5);
+        // 간격 230을 초속 300으로 좁혀 약 0.767초 뒤에 닿으므로 아직 충돌 전
+        assertEquals(200, ball.getX(), 1e-9);
+        assertEquals(300, incoming.getX(), 1e-9);
+        world.update(0.5);
+        assertTrue(ball.getVelocityX() < 0, "추가된 공과 충돌해야 합니다");
+    }
+
+    @Test
+    public void testSwitchingModes() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        assertFalse(world.isEventDriven());
+        assertNull(world.getEventScheduler());
+
+        world.setEventDriven(true);
+        CollisionEventScheduler scheduler = world.getEventScheduler();
+        world.setEventDriven(true);
+        assertSame(scheduler, world.getEventScheduler(), "이미 켜져 있으면 스케줄러를 새로 만들지 않아야 합니다");
+
+        world.setEventDriven(false);
+        assertNull(world.getEventScheduler());
+    }
+
+    @Test
+    public void testPhysicsBallFallsBackToFrameStepping() {
+        assertTrue(CollisionEventScheduler.isLinear(createBall(0, 0, 5, 0, 0)));
+        assertTrue(CollisionEventScheduler.isLinear(new MovableBall(new Point(0, 0), 5)));
+        assertFalse(CollisionEventScheduler.isLinear(new PhysicsBall(new Point(0, 0), 5)));
+
+        BoundedWorld eventWorld = createEventDrivenWorld();
+        BoundedWorld frameWorld = new BoundedWorld(800, 600);
+        PhysicsBall eventBall = new PhysicsBall(new Point(400, 100), 10);
+        PhysicsBall frameBall = new PhysicsBall(new Point(400, 100), 10);
+        eventWorld.add(eventBall);
+        frameWorld.add(frameBall);
+
+        for (int i = 0; i < 10; i++) {
+            eventWorld.update(1.0 / 60);
+            frameWorld.update(1.0 / 60);
+        }
+        assertTrue(eventBall.getVelocityY() > 0, "이벤트 기반 모드에서도 중력이 적용되어야 합니다");
+        assertEquals(frameBall.getVelocityY(), eventBall.getVelocityY(), 1e-9);
+        assertEquals(frameBall.getY(), eventBall.getY(), 1e-9);
+
+        // 직선으로 움직이는 공만 남으면 다시 이벤트로 진행
+        eventWorld.remove(eventBall);
+        BoundedBall ball = createBall(100, 300, 10, 100, 0);
+        eventWorld.add(ball);
+        eventWorld.update(0.5);
+        assertEquals(150, ball.getX(), 1e-9);
+        assertEquals(0.5, eventWorld.getEventScheduler().getTime(), 1e-9);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CollisionEventScheduler(0, 100));
+        CollisionEventScheduler scheduler = new CollisionEventScheduler(100, 100);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.advance(List.of(), -1, FrameProfiler.disabled()));
+    }
+
+    private static double kineticEnergy(List<Ball> balls) {
+        double energy = 0;
+        for (Ball ball : balls) {
+            MovableBall movableBall = (MovableBall) ball;
+            double r = ball.getRadius();
+            double vx = movableBall.getVelocityX();
+            double vy = movableBall.getVelocityY();
+            energy += r * r * r * (vx * vx + vy * vy);
+        }
+        return energy;
+    }
+}
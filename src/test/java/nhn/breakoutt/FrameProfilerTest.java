@@ -0,0 +1,115 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameProfilerTest {
+
+    private static void recordFrame(FrameProfiler profiler, int pairs) {
+        profiler.beginFrame();
+        long start = profiler.startPhase();
+        for (int i = 0; i < pairs; i++) {
+            profiler.countPairTested();
+        }
+        profiler.endPhase(0, start);
+        profiler.endFrame();
+    }
+
+    @Test
+    public void testRingBufferKeepsMostRecentFrames() {
+        FrameProfiler profiler = new FrameProfiler(List.of("a"), 3);
+
+        for (int frame = 1; frame <= 5; frame++) {
+            recordFrame(profiler, frame);
+        }
+
+        assertEquals(5, profiler.getFrameCount());
+        assertEquals(3, profiler.getRecordedFrames());
+        assertEquals(5, profiler.getPairsTested(0), "0은 가장 최근 프레임이어야 합니다");
+        assertEquals(4, profiler.getPairsTested(1));
+        assertEquals(3, profiler.getPairsTested(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> profiler.getPairsTested(3));
+        assertTrue(profiler.getFrameNanos(0) >= profiler.getPhaseNanos(0, 0));
+    }
+
+    @Test
+    public void testCountersAreClearedEachFrame() {
+        FrameProfiler profiler = new FrameProfiler(List.of("a", "b"), 4);
+
+        profiler.countObjectsAdded(2); // 프레임 사이에 추가된 객체는 다음 프레임에 기록됨
+        profiler.beginFrame();
+        profiler.countCollisionResolved();
+        profiler.countObjectsRemoved(1);
+        profiler.endFrame();
+        recordFrame(profiler, 0);
+
+        assertEquals(2, profiler.getObjectsAdded(1));
+        assertEquals(1, profiler.getObjectsRemoved(1));
+        assertEquals(1, profiler.getCollisionsResolved(1));
+        assertEquals(0, profiler.getObjectsAdded(0));
+        assertEquals(0, profiler.getCollisionsResolved(0));
+        assertEquals(0, profiler.getPhaseNanos(0, 1), "기록하지 않은 단계는 0이어야 합니다");
+    }
+
+    @Test
+    public void testDisabledProfilerRecordsNothing() {
+        FrameProfiler profiler = FrameProfiler.disabled();
+
+        recordFrame(profiler, 10);
+
+        assertFalse(profiler.isEnabled());
+        assertEquals(0, profiler.startPhase());
+        assertEquals(0, profiler.getFrameCount());
+        assertEquals(0, profiler.getRecordedFrames());
+    }
+
+    @Test
+    public void testSimpleWorldRecordsPhasesAndPairs() {
+        SimpleWorld world = new SimpleWorld(400, 300);
+        FrameProfiler profiler = new FrameProfiler(SimpleWorld.PROFILER_PHASES, 10);
+        world.setProfiler(profiler);
+
+        // 서로 겹친 공 두 개
+        world.addObject(new Ball(100, 100, 10, 10, 0, Color.RED, CollisionAction.BOUNCE));
+        world.addObject(new Ball(110, 100, 10, -10, 0, Color.BLUE, CollisionAction.BOUNCE));
+        world.update(1.0 / 60);
+
+        assertEquals(1, profiler.getFrameCount());
+        assertEquals(2, profiler.getObjectsAdded(0));
+        // 경계 4개 x 공 2개 + 공끼리 1쌍
+        assertEquals(9, profiler.getPairsTested(0));
+        assertTrue(profiler.getCollisionsResolved(0) >= 1);
+        long phaseTotal = 0;
+        for (int phase = 0; phase < profiler.getPhaseCount(); phase++) {
+            phaseTotal += profiler.getPhaseNanos(0, phase);
+        }
+        assertTrue(phaseTotal <= profiler.getFrameNanos(0));
+    }
+
+    @Test
+    public void testBreakoutWorldRecordsRemovedBalls() {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        FrameProfiler profiler = new FrameProfiler(BreakoutWorld.PROFILER_PHASES, 10);
+        world.setProfiler(profiler);
+
+        world.addBall(new Ball(400, 700, 5)); // 화면 아래로 벗어난 공
+        world.update(1.0 / 60);
+
+        assertEquals(1, profiler.getObjectsAdded(0));
+        assertEquals(1, profiler.getObjectsRemoved(0));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(List.of(), 10));
+        assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(List.of("a"), 0));
+        SimpleWorld world = new SimpleWorld(100, 100);
+        assertThrows(IllegalArgumentException.class, () -> world.setProfiler(null));
+        assertThrows(IllegalArgumentException.class, () -> world.setProfiler(new FrameProfiler(List.of("a"), 10)));
+    }
+}
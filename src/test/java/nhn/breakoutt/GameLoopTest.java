@@ -0,0 +1,89 @@
+package nhn.breakoutt;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLoopTest {
+    private static final long MILLIS = 1_000_000L;
+
+    private List<Double> updates;
+    private List<GraphicsContext> renders;
+    private GraphicsContext gc;
+    private GameLoop loop;
+
+    @BeforeEach
+    public void setUp() {
+        updates = new ArrayList<>();
+        renders = new ArrayList<>();
+        gc = new Canvas(100, 100).getGraphicsContext2D();
+        loop = new GameLoop(updates::add, renders::add, gc);
+    }
+
+    @Test
+    public void testDeltaTimeFromNowArgument() {
+        loop.handle(1_000 * MILLIS);
+        loop.handle(1_016 * MILLIS);
+
+        assertEquals(List.of(0.016), updates, "첫 프레임은 진행하지 않고, 이후에는 now 차이만큼 진행해야 합니다");
+        assertEquals(2, renders.size());
+        assertTrue(renders.stream().allMatch(context -> context == gc), "같은 GraphicsContext를 재사용해야 합니다");
+    }
+
+    @Test
+    public void testDeltaTimeIsCapped() {
+        loop.handle(0);
+        loop.handle(5_000 * MILLIS);
+
+        assertEquals(List.of(GameLoop.DEFAULT_MAX_DELTA_TIME), updates);
+    }
+
+    @Test
+    public void testPauseAndStep() {
+        loop.handle(0);
+        loop.pause();
+        loop.handle(16 * MILLIS);
+        assertTrue(updates.isEmpty(), "일시정지 중에는 진행하지 않아야 합니다");
+        assertEquals(2, renders.size(), "일시정지 중에도 그려야 합니다");
+
+        loop.step();
+        loop.handle(32 * MILLIS);
+        loop.handle(48 * MILLIS);
+        assertEquals(List.of(GameLoop.DEFAULT_STEP_TIME), updates, "step()은 한 번만 진행해야 합니다");
+
+        loop.resume();
+        loop.handle(64 * MILLIS);
+        assertEquals(2, updates.size());
+    }
+
+    @Test
+    public void testFrameListenerReceivesTimings() {
+        long[] frames = {0};
+        loop.setFrameListener((deltaTime, updateNanos, renderNanos) -> {
+            assertTrue(updateNanos >= 0 && renderNanos >= 0);
+            frames[0]++;
+        });
+
+        for (int i = 0; i <= 61; i++) {
+            loop.handle(i * 17 * MILLIS);
+        }
+
+        assertEquals(62, frames[0]);
+        assertEquals(62, loop.getFrameCount());
+        assertEquals(0.017, loop.getLastDeltaTime(), 1e-9);
+        assertEquals(59, loop.getFramesPerSecond());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(null, renders::add, gc));
+        assertThrows(IllegalArgumentException.class, () -> loop.setMaxDeltaTime(0));
+        assertThrows(IllegalArgumentException.class, () -> loop.setStepTime(-1));
+    }
+}
@@ -0,0 +1,110 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import nhn.breakoutt.cannongame.CannonGameWorld;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessRunnerTest {
+
+    private static BoundedWorld createWorld() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        for (int i = 0; i < 20; i++) {
+            BoundedBall ball = new BoundedBall(new Point(50.0 + i * 35, 100.0 + (i % 5) * 80), 12, Color.BLUE);
+            ball.setVelocity(80 + i * 7, -60 + i * 11);
+            world.add(ball);
+        }
+        return world;
+    }
+
+    @Test
+    public void testRunMatchesManualUpdates() {
+        BoundedWorld manual = createWorld();
+        BoundedWorld headless = createWorld();
+
+        for (int i = 0; i < 300; i++) {
+            manual.update(1.0 / 60);
+        }
+        HeadlessRunner runner = new HeadlessRunner(headless);
+        runner.run(300);
+
+        assertEquals(300, runner.getStepCount());
+        assertEquals(5.0, runner.getSimulatedTime(), 1e-9);
+        for (int i = 0; i < manual.getBallCount(); i++) {
+            assertEquals(manual.getBalls().get(i).getX(), headless.getBalls().get(i).getX());
+            assertEquals(manual.getBalls().get(i).getY(), headless.getBalls().get(i).getY());
+        }
+    }
+
+    @Test
+    public void testRunForUsesFixedTimeStep() {
+        int[] updates = {0};
+        HeadlessRunner runner = new HeadlessRunner(deltaTime -> {
+            assertEquals(0.01, deltaTime);
+            updates[0]++;
+        }, 0.01);
+
+        assertEquals(100, runner.runFor(1.0));
+        assertEquals(100, updates[0]);
+    }
+
+    @Test
+    public void testRunUntilBreakoutBallIsLost() {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        world.addBall(new Ball(400, 550, 10, 0, 400, Color.WHITE, CollisionAction.BOUNCE));
+        world.getPaddle().setTargetX(0); // 패들이 공을 받지 못하도록 치움
+
+        HeadlessRunner runner = new HeadlessRunner(world);
+        long steps = runner.runUntil(world::areAllBallsLost, 10_000);
+
+        assertTrue(world.areAllBallsLost());
+        assertTrue(steps < 10_000, "공이 화면 밖으로 나가면 멈춰야 합니다");
+    }
+
+    /**
+     * JavaFX가 없는 클래스 로더에서 실행할 코드입니다. 리플렉션으로 Ball 같은 클래스의 메서드를 찾으면
+     * Color를 받는 어댑터 메서드 때문에 JavaFX를 로드하므로, 이 클래스를 통째로 그 로더에서 불러 실행합니다.
+     */
+    public static class JavaFxFreeRun implements Callable<Integer> {
+        @Override
+        public Integer call() {
+            BreakoutWorld world = new BreakoutWorld(800, 600, 7);
+            world.createLevel(3);
+            world.addBall(new Ball(400, 500, 10, 150, -300, Argb.WHITE, CollisionAction.BOUNCE));
+            new HeadlessRunner(world).run(3000);
+
+            CannonGameWorld cannonWorld = new CannonGameWorld(800, 600);
+            cannonWorld.fire();
+            new HeadlessRunner(cannonWorld).run(120);
+
+            return world.getScore();
+        }
+    }
+
+    @Test
+    public void testRunsWithoutJavaFx() throws Exception {
+        URL mainClasses = HeadlessRunner.class.getProtectionDomain().getCodeSource().getLocation();
+        URL testClasses = JavaFxFreeRun.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{mainClasses, testClasses},
+                ClassLoader.getPlatformClassLoader())) {
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("javafx.scene.paint.Color"));
+
+            Callable<?> run = (Callable<?>) loader.loadClass(JavaFxFreeRun.class.getName())
+                    .getDeclaredConstructor().newInstance();
+            assertTrue((Integer) run.call() > 0, "공이 벽돌을 깨야 합니다");
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(null));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(deltaTime -> { }, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(deltaTime -> { }).run(-1));
+    }
+}
@@ -0,0 +1,90 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventsTest {
+
+    private static List<RecordedEvent> record(boolean enableEvents, Runnable action) throws IOException {
+        Path file = Files.createTempFile("breakoutt", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enableEvents) {
+                for (String name : List.of("WorldStep", "CollisionPhase", "RenderPass", "BrickDestruction", "Explosion")) {
+                    recording.enable("nhn.breakoutt." + name).withoutThreshold();
+                }
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("nhn.breakoutt."))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals("nhn.breakoutt." + name)).count();
+    }
+
+    @Test
+    public void testEventsAreDisabledByDefault() throws IOException {
+        SimpleWorld world = new SimpleWorld(400, 300);
+        world.addObject(new Ball(100, 100, 10));
+
+        List<RecordedEvent> events = record(false, () -> world.update(1.0 / 60));
+
+        assertTrue(events.isEmpty(), "설정으로 켜지 않으면 기록되지 않아야 합니다");
+    }
+
+    @Test
+    public void testSimpleWorldStepAndPhases() throws IOException {
+        SimpleWorld world = new SimpleWorld(400, 300);
+        world.addObject(new Ball(100, 100, 10, 10, 0, Color.RED, CollisionAction.BOUNCE));
+        world.addObject(new Ball(200, 100, 10, -10, 0, Color.BLUE, CollisionAction.BOUNCE));
+
+        List<RecordedEvent> events = record(true, () -> {
+            world.update(1.0 / 60);
+            world.update(1.0 / 60);
+        });
+
+        assertEquals(2, count(events, "WorldStep"));
+        assertEquals(4, count(events, "CollisionPhase"), "스텝마다 경계/객체 충돌 단계가 하나씩 기록되어야 합니다");
+        RecordedEvent step = events.stream()
+                .filter(event -> event.getEventType().getName().equals("nhn.breakoutt.WorldStep"))
+                .findFirst().orElseThrow();
+        assertEquals("SimpleWorld", step.getString("world"));
+        assertEquals(2, step.getInt("entityCount"));
+    }
+
+    @Test
+    public void testBrickDestructionIsRecorded() throws IOException {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        world.createLevel(1);
+        // 첫 번째 벽돌(50~110, 80~100) 안에 있는 공
+        world.addBall(new Ball(80, 90, 5, 0, -10, Color.WHITE, CollisionAction.BOUNCE));
+
+        List<RecordedEvent> events = record(true, () -> world.update(1.0 / 60));
+
+        assertEquals(1, count(events, "WorldStep"));
+        assertEquals(1, count(events, "BrickDestruction"));
+        RecordedEvent destruction = events.stream()
+                .filter(event -> event.getEventType().getName().equals("nhn.breakoutt.BrickDestruction"))
+                .findFirst().orElseThrow();
+        assertEquals(1, destruction.getInt("bricksBroken"));
+        assertTrue(destruction.getInt("remainingBricks") > 0);
+    }
+}
@@ -0,0 +1,85 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeWorldTest {
+
+    private MazeWorld mazeWorld;
+
+    @BeforeEach
+    public void setUp() {
+        int[][] mazeLayout = {
+                {1, 1, 1, 1, 1},
+                {1, 0, 0, 0, 1},
+                {1, 0, 1, 0, 1},
+                {1, 0, 0, 2, 1},
+                {1, 1, 1, 1, 1}
+        };
+        // 셀 크기: 100x100
+        mazeWorld = new MazeWorld(500, 500, mazeLayout);
+    }
+
+    @Test
+    public void testBallBouncesOffWallTile() {
+        // 셀 [1][3]에서 오른쪽 벽(x=400)을 향해 이동
+        Ball ball = new Ball(370, 150, 10, 300, 0, Color.YELLOW, CollisionAction.BOUNCE);
+        mazeWorld.addObject(ball);
+
+        for (int i = 0; i < 10; i++) {
+            mazeWorld.update(0.02);
+            assertTrue(ball.getX() + ball.getRadius() <= 400 + 1e-9,
+                    "공이 벽 안으로 파고들지 않아야 합니다: x=" + ball.getX());
+        }
+
+        assertTrue(ball.getDx() < 0, "벽에 부딪힌 후 반대 방향으로 움직여야 합니다");
+    }
+
+    @Test
+    public void testBallInCorridorDoesNotCollide() {
+        Ball ball = new Ball(250, 150, 10, 0, 0, Color.YELLOW, CollisionAction.STOP);
+        ball.setDx(10);
+        mazeWorld.addObject(ball);
+
+        mazeWorld.update(0.01);
+
+        assertEquals(10, ball.getDx(), 0.001, "통로 안의 공은 벽과 충돌하지 않아야 합니다");
+    }
+
+    @Test
+    public void testWallsAreKeptOutOfGameObjects() {
+        assertEquals(17, mazeWorld.getWalls().size());
+        assertEquals(1, mazeWorld.getGameObjects().size(), "게임 객체에는 출구만 있어야 합니다");
+    }
+
+    @Test
+    public void testLargeMazeOnlyChecksNearbyTiles() {
+        int size = 500;
+        int[][] layout = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                boolean border = row == 0 || col == 0 || row == size - 1 || col == size - 1;
+                layout[row][col] = border || (row % 2 == 0 && col % 2 == 0) ? 1 : 0;
+            }
+        }
+        MazeWorld largeMaze = new MazeWorld(5000, 5000, layout);
+
+        Ball ball = new Ball(15, 15, 4, 50, 50, Color.YELLOW, CollisionAction.BOUNCE);
+        largeMaze.addObject(ball);
+
+        for (int i = 0; i < 100; i++) {
+            largeMaze.update(1.0 / 60);
+        }
+
+        assertTrue(largeMaze.isPassable(ball.getX(), ball.getY()), "공은 통로 안에 있어야 합니다");
+    }
+
+    @Test
+    public void testTileMapColliderRejectsInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TileMapCollider(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TileMapCollider(10, -1));
+    }
+}
@@ -73,7 +73,7 @@ public class MixedWorldTest {
 
         // 렌더링 수행 (각 타입별로 다른 처리 필요)
         assertDoesNotThrow(() -> {
-            world.render(gc);
+            WorldRenderer.render(gc, world);
         }, "MixedWorld 렌더링 중 예외가 발생했습니다");
 
         // 실제로는 render 메서드 내부에서 다음과 같은 복잡한 타입 체크가 필요:
@@ -0,0 +1,131 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelIntegratorTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testEveryIndexVisitedOnceInFixedChunks() {
+        ParallelIntegrator integrator = new ParallelIntegrator(pool, 1);
+        int count = ParallelIntegrator.CHUNK_SIZE * 5 + 17;
+        AtomicIntegerArray visits = new AtomicIntegerArray(count);
+
+        integrator.forEachRange(count, (from, to) -> {
+            // 구간은 CHUNK_SIZE 경계에서 시작하고 마지막 구간만 짧음
+            assertEquals(0, from % ParallelIntegrator.CHUNK_SIZE);
+            assertEquals(Math.min(count, from + ParallelIntegrator.CHUNK_SIZE), to);
+            for (int i = from; i < to; i++) {
+                visits.incrementAndGet(i);
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, visits.get(i), "인덱스 " + i);
+        }
+    }
+
+    @Test
+    public void testSmallCountRunsOnCallingThread() {
+        ParallelIntegrator integrator = new ParallelIntegrator(pool, 100);
+        Thread caller = Thread.currentThread();
+        int[] calls = new int[1];
+
+        integrator.forEachRange(99, (from, to) -> {
+            assertSame(caller, Thread.currentThread());
+            assertEquals(0, from);
+            assertEquals(99, to);
+            calls[0]++;
+        });
+
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void testMovableWorldMatchesSerialMove() {
+        MovableWorld serial = new MovableWorld(2000, 2000);
+        MovableWorld parallel = new MovableWorld(2000, 2000);
+        parallel.setIntegrator(new ParallelIntegrator(pool, 1));
+        Random random = new Random(5);
+        for (int i = 0; i < 5000; i++) {
+            double x = 20 + random.nextDouble() * 1960;
+            double y = 20 + random.nextDouble() * 1960;
+            double vx = -300 + random.nextDouble() * 600;
+            double vy = -300 + random.nextDouble() * 600;
+            for (MovableWorld world : List.of(serial, parallel)) {
+                PhysicsBall ball = new PhysicsBall(new Point(x, y), 5, Color.RED);
+                ball.setVelocity(vx, vy);
+                world.add(ball);
+            }
+        }
+
+        for (int frame = 0; frame < 30; frame++) {
+            serial.update(1.0 / 60);
+            parallel.update(1.0 / 60);
+        }
+
+        List<Ball> expected = serial.getBalls();
+        List<Ball> actual = parallel.getBalls();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), 0.0);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), 0.0);
+        }
+    }
+
+    @Test
+    public void testBallStoreMatchesSerialIntegrate() {
+        BallStore serial = new BallStore();
+        BallStore parallel = new BallStore();
+        Random random = new Random(9);
+        for (BallStore store : List.of(serial, parallel)) {
+            store.setBounds(0, 0, 1000, 1000);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            double x = 10 + random.nextDouble() * 980;
+            double y = 10 + random.nextDouble() * 980;
+            double vx = -200 + random.nextDouble() * 400;
+            double vy = -200 + random.nextDouble() * 400;
+            serial.add(x, y, 5, vx, vy, 1.0, BallStore.FLAG_GRAVITY);
+            parallel.add(x, y, 5, vx, vy, 1.0, BallStore.FLAG_GRAVITY);
+        }
+
+        ParallelIntegrator integrator = new ParallelIntegrator(pool);
+        for (int frame = 0; frame < 30; frame++) {
+            serial.integrate(1.0 / 60);
+            parallel.integrate(1.0 / 60, integrator);
+        }
+
+        for (int i = 0; i < serial.size(); i++) {
+            assertEquals(serial.handle(i).getX(), parallel.handle(i).getX(), 0.0);
+            assertEquals(serial.handle(i).getY(), parallel.handle(i).getY(), 0.0);
+            assertEquals(serial.handle(i).getDx(), parallel.handle(i).getDx(), 0.0);
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelIntegrator(null));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelIntegrator(pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BallStore().integrate(1.0 / 60, null));
+    }
+}
@@ -0,0 +1,130 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelNarrowPhaseTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 공이 빽빽해서 한 공이 여러 쌍에 들어가고, 배치 하나에 수백 쌍이 모이는 장면
+     */
+    private static BoundedWorld createDenseWorld(long seed, int count) {
+        BoundedWorld world = new BoundedWorld(1200, 900);
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            double radius = 4 + random.nextDouble() * 6;
+            BoundedBall ball = new BoundedBall(new Point(radius + random.nextDouble() * (1200 - 2 * radius),
+                    radius + random.nextDouble() * (900 - 2 * radius)), radius, Color.BLUE);
+            ball.setVelocity(-200 + random.nextDouble() * 400, -200 + random.nextDouble() * 400);
+            world.add(ball);
+        }
+        return world;
+    }
+
+    private static void assertSameState(BoundedWorld expected, BoundedWorld actual, int frame) {
+        List<Ball> expectedBalls = expected.getBalls();
+        List<Ball> actualBalls = actual.getBalls();
+        for (int i = 0; i < expectedBalls.size(); i++) {
+            MovableBall e = (MovableBall) expectedBalls.get(i);
+            MovableBall a = (MovableBall) actualBalls.get(i);
+            // 비트 단위로 같아야 하므로 오차 없이 비교
+            assertEquals(Double.doubleToRawLongBits(e.getX()), Double.doubleToRawLongBits(a.getX()),
+                    "프레임 " + frame + ", 공 " + i + "의 x가 다릅니다");
+            assertEquals(Double.doubleToRawLongBits(e.getY()), Double.doubleToRawLongBits(a.getY()));
+            assertEquals(Double.doubleToRawLongBits(e.getVelocityX()), Double.doubleToRawLongBits(a.getVelocityX()));
+            assertEquals(Double.doubleToRawLongBits(e.getVelocityY()), Double.doubleToRawLongBits(a.getVelocityY()));
+        }
+    }
+
+    @Test
+    public void testMatchesSerialResultBitForBit() {
+        BoundedWorld serial = createDenseWorld(7, 3000);
+        BoundedWorld parallel = createDenseWorld(7, 3000);
+        parallel.setNarrowPhasePool(pool);
+
+        FrameProfiler serialProfiler = new FrameProfiler(BoundedWorld.PROFILER_PHASES, 10);
+        FrameProfiler parallelProfiler = new FrameProfiler(BoundedWorld.PROFILER_PHASES, 10);
+        serial.setProfiler(serialProfiler);
+        parallel.setProfiler(parallelProfiler);
+
+        for (int frame = 0; frame < 30; frame++) {
+            serial.update(1.0 / 60);
+            parallel.update(1.0 / 60);
+            assertSameState(serial, parallel, frame);
+            assertEquals(serialProfiler.getPairsTested(0), parallelProfiler.getPairsTested(0));
+            assertEquals(serialProfiler.getCollisionsResolved(0), parallelProfiler.getCollisionsResolved(0));
+        }
+        assertTrue(serialProfiler.getCollisionsResolved(0) > ParallelNarrowPhase.MIN_PARALLEL_BATCH,
+                "병렬로 처리되는 배치가 생길 만큼 충돌이 많아야 합니다");
+    }
+
+    @Test
+    public void testMatchesSerialResultWithOtherBroadPhases() {
+        for (BroadPhase broadPhase : List.of(new UniformGridBroadPhase(), new BruteForceBroadPhase())) {
+            BoundedWorld serial = createDenseWorld(3, 600);
+            BoundedWorld parallel = createDenseWorld(3, 600);
+            serial.setBroadPhase(broadPhase);
+            parallel.setBroadPhase(broadPhase);
+            parallel.setNarrowPhasePool(pool);
+
+            for (int frame = 0; frame < 20; frame++) {
+                serial.update(1.0 / 60);
+                parallel.update(1.0 / 60);
+                assertSameState(serial, parallel, frame);
+            }
+        }
+    }
+
+    @Test
+    public void testChainOfCollisionsKeepsSerialOrder() {
+        // 한 줄로 겹친 공들: 모든 쌍이 이웃 공을 공유하므로 배치가 쌍마다 따로 생김
+        BoundedWorld serial = new BoundedWorld(800, 600);
+        BoundedWorld parallel = new BoundedWorld(800, 600);
+        parallel.setNarrowPhasePool(pool);
+        for (BoundedWorld world : List.of(serial, parallel)) {
+            for (int i = 0; i < 20; i++) {
+                BoundedBall ball = new BoundedBall(new Point(100 + i * 18, 300), 10, Color.RED);
+                ball.setVelocity(i % 2 == 0 ? 100 : -100, 0);
+                world.add(ball);
+            }
+        }
+
+        for (int frame = 0; frame < 10; frame++) {
+            serial.update(1.0 / 60);
+            parallel.update(1.0 / 60);
+            assertSameState(serial, parallel, frame);
+        }
+    }
+
+    @Test
+    public void testSwitchingPool() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        assertFalse(world.isParallelNarrowPhase());
+
+        world.setNarrowPhasePool(pool);
+        assertTrue(world.isParallelNarrowPhase());
+
+        world.setNarrowPhasePool(null);
+        assertFalse(world.isParallelNarrowPhase());
+        assertThrows(IllegalArgumentException.class, () -> new ParallelNarrowPhase(null));
+    }
+}
@@ -0,0 +1,125 @@
+package nhn.breakoutt;
+
+import javafx.scene.canvas.Canvas;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerformanceOverlayTest {
+    private static final long MILLIS = 1_000_000L;
+
+    /**
+     * 주어진 간격들로 프레임을 기록합니다. 첫 호출은 기준 시각만 정합니다.
+     */
+    private static void recordIntervals(PerformanceOverlay overlay, long... intervals) {
+        long now = 0;
+        overlay.recordFrame(now, 0, 0, 0, false);
+        for (long interval : intervals) {
+            now += interval;
+            overlay.recordFrame(now, 2 * MILLIS, 1 * MILLIS, 5, false);
+        }
+    }
+
+    @Test
+    public void testFrameStatistics() {
+        PerformanceOverlay overlay = new PerformanceOverlay(100);
+        long[] intervals = new long[100];
+        Arrays.fill(intervals, 16 * MILLIS);
+        intervals[50] = 40 * MILLIS; // 한 번의 끊김
+        intervals[51] = 30 * MILLIS;
+        recordIntervals(overlay, intervals);
+
+        assertEquals(100, overlay.getRecordedFrames());
+        assertEquals(40 * MILLIS, overlay.getMaxFrameNanos());
+        // 100개 중 99번째 값은 30ms가 속한 버킷의 상한
+        assertEquals(30_500_000L, overlay.getP99FrameNanos());
+        assertEquals(1e9 * 100 / (98 * 16 + 70) / MILLIS, overlay.getFramesPerSecond(), 1e-9);
+        assertEquals(5, overlay.getEntityCount());
+    }
+
+    @Test
+    public void testOldFramesAreEvicted() {
+        PerformanceOverlay overlay = new PerformanceOverlay(4);
+        recordIntervals(overlay, 100 * MILLIS, 10 * MILLIS, 10 * MILLIS, 10 * MILLIS, 10 * MILLIS);
+
+        assertEquals(4, overlay.getRecordedFrames());
+        assertEquals(10 * MILLIS, overlay.getMaxFrameNanos(), "밀려난 프레임은 통계에서 빠져야 합니다");
+        assertEquals(10_500_000L, overlay.getP99FrameNanos());
+    }
+
+    @Test
+    public void testGcMarksFollowHistory() {
+        PerformanceOverlay overlay = new PerformanceOverlay(3);
+        overlay.recordFrame(0, 0, 0, 0, false);
+        overlay.recordFrame(10 * MILLIS, 0, 0, 0, true);
+        overlay.recordFrame(20 * MILLIS, 0, 0, 0, false);
+        assertEquals(1, overlay.getGcFrames());
+
+        overlay.recordFrame(30 * MILLIS, 0, 0, 0, false);
+        overlay.recordFrame(40 * MILLIS, 0, 0, 0, false);
+        assertEquals(0, overlay.getGcFrames(), "GC 표시도 프레임과 함께 밀려나야 합니다");
+    }
+
+    @Test
+    public void testSampleProfilerReadsOnlyNewFrames() {
+        FrameProfiler profiler = new FrameProfiler(List.of("move", "collide"), 8);
+        PerformanceOverlay overlay = new PerformanceOverlay();
+
+        for (int i = 0; i < 3; i++) {
+            profiler.beginFrame();
+            profiler.endFrame();
+        }
+        long first = overlay.sampleProfiler(profiler);
+        assertTrue(first >= 0);
+        assertEquals(0, overlay.sampleProfiler(profiler), "이미 읽은 프레임은 다시 더하지 않아야 합니다");
+        assertEquals(0, overlay.sampleProfiler(FrameProfiler.disabled()));
+    }
+
+    @Test
+    public void testSampleTotalsReadsOnlyNewFrames() {
+        FrameProfiler profiler = new FrameProfiler(List.of("move", "collide"), 2);
+        ProfilerTotals totals = new ProfilerTotals();
+        PerformanceOverlay overlay = new PerformanceOverlay();
+
+        totals.copyFrom(profiler);
+        assertEquals(0, overlay.sampleTotals(totals), "처음에는 기준만 잡아야 합니다");
+
+        for (int i = 0; i < 5; i++) {
+            profiler.beginFrame();
+            profiler.endFrame();
+        }
+        totals.copyFrom(profiler);
+        assertEquals(5, totals.getFrameCount(), "링 버퍼보다 많은 프레임도 누적되어야 합니다");
+        assertEquals(profiler.getTotalFrameNanos(), overlay.sampleTotals(totals));
+        assertEquals(0, overlay.sampleTotals(totals), "이미 읽은 누적값은 다시 더하지 않아야 합니다");
+
+        profiler.beginFrame();
+        profiler.endFrame();
+        totals.copyFrom(profiler);
+        overlay.setVisible(false);
+        overlay.setVisible(true);
+        assertEquals(0, overlay.sampleTotals(totals), "다시 보이게 되면 숨긴 동안의 값을 더하지 않아야 합니다");
+    }
+
+    @Test
+    public void testPaintOnlyWhenVisible() {
+        Canvas canvas = new Canvas(400, 300);
+        PerformanceOverlay overlay = new PerformanceOverlay();
+        recordIntervals(overlay, 16 * MILLIS, 17 * MILLIS, 50 * MILLIS);
+
+        assertFalse(overlay.isVisible());
+        overlay.paint(canvas.getGraphicsContext2D());
+
+        overlay.toggle();
+        assertTrue(overlay.isVisible());
+        assertDoesNotThrow(() -> overlay.paint(canvas.getGraphicsContext2D()));
+    }
+
+    @Test
+    public void testInvalidHistory() {
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceOverlay(0));
+    }
+}
@@ -25,6 +25,13 @@ class PointTest {
         assertEquals(5, point.distanceTo(new Point(4.0,6.0)));
     }
 
+    @Test
+    public void testDistanceSq() {
+        assertEquals(25, point.distanceSq(new Point(4.0, 6.0)));
+        assertEquals(25, point.distanceSq(4, 6));
+        assertEquals(5, point.distanceTo(4, 6));
+    }
+
     @Test
     public void testInvalidInput(){
         assertThrows(IllegalArgumentException.class,
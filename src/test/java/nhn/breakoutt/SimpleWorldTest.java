@@ -4,6 +4,7 @@ import javafx.scene.paint.Color;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -262,4 +263,36 @@ public class SimpleWorldTest {
                       "공이 세로 경계 안에 있어야 합니다");
         }
     }
+
+    @Test
+    public void testSnapshotRestoresObjects() {
+        Ball ball = new Ball(100, 100, 10, 60, 40, Color.RED, CollisionAction.BOUNCE);
+        Ball doomed = new Ball(300, 300, 10, 0, 0, Color.YELLOW, CollisionAction.DESTROY);
+        Box box = new Box(new Point(200.0, 200.0), 50, 50);
+        world.addObject(ball);
+        world.addObject(doomed);
+        world.addObject(box);
+
+        ByteBuffer buffer = ByteBuffer.allocate(world.getSnapshotSize());
+        world.writeSnapshot(buffer);
+        assertFalse(buffer.hasRemaining());
+        double x = ball.getX();
+
+        world.update(0.1);
+        world.removeObject(doomed);
+        world.readSnapshot(buffer.flip());
+
+        List<Object> objects = world.getObjects();
+        assertEquals(3, objects.size());
+        assertSame(ball, objects.get(0), "같은 자리의 같은 종류 객체는 재사용해야 합니다");
+        assertEquals(x, ball.getX(), 0.0);
+        Ball restored = (Ball) objects.get(1);
+        assertEquals(300, restored.getX(), 0.0);
+        assertEquals(CollisionAction.DESTROY, restored.getCollisionAction());
+        assertEquals(Color.YELLOW, restored.getColor());
+        assertEquals(200, ((Box) objects.get(2)).getX(), 0.0);
+
+        world.addObject(new MovableBox(new Point(0.0, 0.0), 10, 10));
+        assertThrows(IllegalArgumentException.class, () -> world.writeSnapshot(ByteBuffer.allocate(1024)));
+    }
 }
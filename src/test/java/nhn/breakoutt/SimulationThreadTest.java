@@ -0,0 +1,194 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationThreadTest {
+
+    @Test
+    public void testAdvanceUsesFixedSteps() {
+        List<Double> deltas = new ArrayList<>();
+        SimulationThread<Integer> thread = new SimulationThread<>(deltas::add, 240, deltas::size);
+
+        // 화면이 100ms 멈춰도 1/240초 스텝 24번으로 나누어 진행
+        assertEquals(24, thread.advance(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertEquals(24, deltas.size());
+        assertTrue(deltas.stream().allMatch(deltaTime -> deltaTime == 1.0 / 240));
+
+        // 한 스텝보다 짧은 시간은 누산기에 쌓였다가 다음에 진행
+        assertEquals(0, thread.advance(TimeUnit.MILLISECONDS.toNanos(2)));
+        assertEquals(1, thread.advance(TimeUnit.MILLISECONDS.toNanos(3)));
+    }
+
+    @Test
+    public void testLongPauseIsCapped() {
+        int[] updates = {0};
+        SimulationThread<Integer> thread = new SimulationThread<>(deltaTime -> updates[0]++, 240, () -> updates[0]);
+
+        thread.advance(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(60, updates[0], "한 번에 최대 250ms만 따라잡아야 합니다");
+    }
+
+    @Test
+    public void testFrameHoldsPreviousAndCurrentSnapshots() {
+        int[] updates = {0};
+        SimulationThread<Integer> thread = new SimulationThread<>(deltaTime -> updates[0]++, 100, () -> updates[0]);
+
+        thread.advance(TimeUnit.MILLISECONDS.toNanos(30));
+
+        SimulationThread.Frame<Integer> frame = thread.getFrame();
+        assertEquals(2, frame.getPrevious().intValue());
+        assertEquals(3, frame.getCurrent().intValue());
+        assertEquals(3, frame.getStepIndex());
+        assertEquals(0, thread.getAlpha(frame, frame.getPublishedNanos()));
+        assertEquals(1, thread.getAlpha(frame, frame.getPublishedNanos() + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void testPostedTasksRunBeforeNextStep() {
+        List<String> log = new ArrayList<>();
+        SimulationThread<Integer> thread = new SimulationThread<>(deltaTime -> log.add("update"), 100, log::size);
+
+        thread.post(() -> log.add("input"));
+        assertTrue(log.isEmpty(), "등록한 작업은 바로 실행되지 않아야 합니다");
+
+        thread.advance(TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(List.of("input", "update"), log);
+    }
+
+    @Test
+    public void testThreadStepsWorldInBackground() throws InterruptedException {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        BoundedBall ball = new BoundedBall(new Point(400.0, 300.0), 10, Color.RED);
+        ball.setVelocity(100, 0);
+        world.add(ball);
+
+        SimulationThread<BallSnapshot> thread =
+                new SimulationThread<>(world, () -> BallSnapshot.capture(world.getBallView()));
+        thread.start();
+        assertThrows(IllegalStateException.class, thread::start);
+        Thread.sleep(100);
+        thread.stop();
+
+        assertFalse(thread.isRunning());
+        assertTrue(thread.getStepCount() > 0);
+        assertEquals(world.getBalls().get(0).getX(), thread.getFrame().getCurrent().getX(0));
+    }
+
+    @Test
+    public void testSnapshotsAreRecycledButHeldFrameIsKept() {
+        long[] steps = {0};
+        Set<long[]> allocated = Collections.newSetFromMap(new IdentityHashMap<>());
+        SimulationThread<long[]> thread = new SimulationThread<>(deltaTime -> steps[0]++, 100, recycled -> {
+            long[] snapshot = recycled != null ? recycled : new long[1];
+            allocated.add(snapshot);
+            snapshot[0] = steps[0];
+            return snapshot;
+        });
+
+        thread.advance(TimeUnit.MILLISECONDS.toNanos(30));
+        SimulationThread.Frame<long[]> held = thread.getFrame();
+        assertEquals(2, held.getPrevious()[0]);
+        assertEquals(3, held.getCurrent()[0]);
+
+        thread.advance(TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(3, held.getStepIndex(), "렌더링 중인 Frame은 다시 쓰이지 않아야 합니다");
+        assertEquals(2, held.getPrevious()[0]);
+        assertEquals(3, held.getCurrent()[0]);
+        assertTrue(allocated.size() <= 5, "스냅샷은 풀 크기만큼만 만들어야 합니다: " + allocated.size());
+
+        SimulationThread.Frame<long[]> latest = thread.getFrame();
+        assertEquals(23, latest.getStepIndex());
+        assertEquals(22, latest.getPrevious()[0]);
+        assertEquals(23, latest.getCurrent()[0]);
+        assertEquals(23, thread.getStepCount());
+    }
+
+    @Test
+    public void testHeldFrameIsNotOverwrittenWhileRunning() throws InterruptedException {
+        long[] steps = {0};
+        SimulationThread<long[]> thread = new SimulationThread<>(deltaTime -> steps[0]++, 20_000, recycled -> {
+            long[] snapshot = recycled != null ? recycled : new long[64];
+            Arrays.fill(snapshot, steps[0]);
+            return snapshot;
+        });
+        thread.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (System.nanoTime() < deadline) {
+                SimulationThread.Frame<long[]> frame = thread.getFrame();
+                long step = frame.getStepIndex();
+                long[] current = frame.getCurrent();
+                long[] previous = frame.getPrevious();
+                Thread.onSpinWait(); // 시뮬레이션 스레드가 몇 스텝 진행할 틈
+                for (long value : current) {
+                    assertEquals(step, value, "읽는 중인 스냅샷이 덮어써지면 안 됩니다");
+                }
+                if (step > 0) {
+                    assertEquals(step - 1, previous[previous.length - 1]);
+                }
+                assertEquals(step, frame.getStepIndex());
+            }
+        } finally {
+            thread.stop();
+        }
+        assertTrue(thread.getStepCount() > 0);
+    }
+
+    @Test
+    public void testBallSnapshotRecyclesAndFindsMovedBalls() {
+        List<Ball> balls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            balls.add(new Ball(i, 0, 5));
+        }
+        BallSnapshot previous = BallSnapshot.capture(balls);
+
+        // 앞의 공을 지워 모든 번호가 바뀌어도 같은 공을 찾아 보간
+        balls.subList(0, 10).clear();
+        for (Ball ball : balls) {
+            ball.setY(10);
+        }
+        BallSnapshot current = BallSnapshot.capture(balls);
+        assertEquals(90, current.size());
+        for (int i = 0; i < current.size(); i++) {
+            assertEquals(i + 10, current.interpolateX(i, previous, 0.5));
+            assertEquals(5, current.interpolateY(i, previous, 0.5));
+        }
+
+        // 더 이상 읽지 않는 스냅샷을 재사용
+        BallSnapshot recycled = BallSnapshot.capture(balls.subList(0, 3), previous);
+        assertSame(previous, recycled);
+        assertEquals(3, recycled.size());
+        assertEquals(11, recycled.getX(1));
+        assertEquals(0, BallSnapshot.capture(List.of(), BallSnapshot.empty()).size());
+        assertEquals(0, BallSnapshot.empty().size(), "빈 스냅샷은 재사용하지 않아야 합니다");
+    }
+
+    @Test
+    public void testBallSnapshotInterpolation() {
+        Ball moving = new Ball(0, 0, 5);
+        Ball added = new Ball(50, 50, 5);
+        List<Ball> balls = new ArrayList<>(List.of(moving));
+        BallSnapshot previous = BallSnapshot.capture(balls);
+
+        moving.setX(10);
+        moving.setY(20);
+        balls.add(0, added);
+        BallSnapshot current = BallSnapshot.capture(balls);
+
+        assertEquals(5, current.interpolateX(1, previous, 0.5));
+        assertEquals(10, current.interpolateY(1, previous, 0.5));
+        assertEquals(50, current.interpolateX(0, previous, 0.5), "새로 생긴 공은 보간하지 않아야 합니다");
+    }
+}
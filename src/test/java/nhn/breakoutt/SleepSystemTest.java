@@ -0,0 +1,195 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SleepSystemTest {
+
+    /**
+     * 바닥에 붙어 나란히 놓인 공 10개 (서로 닿아 있으므로 하나의 섬)
+     */
+    private static BoundedWorld createRestingRow(FrameProfiler profiler) {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        world.setSleepSystem(new SleepSystem());
+        world.setProfiler(profiler);
+        for (int i = 0; i < 10; i++) {
+            world.add(new PhysicsBall(new Point(100 + i * 20, 590), 10, Color.RED));
+        }
+        return world;
+    }
+
+    private static int countAsleep(List<Ball> balls) {
+        int asleep = 0;
+        for (Ball ball : balls) {
+            if (ball instanceof MovableBall movableBall && movableBall.isAsleep()) {
+                asleep++;
+            }
+        }
+        return asleep;
+    }
+
+    @Test
+    public void testRestingBallsFallAsleepAndSkipWork() {
+        FrameProfiler profiler = new FrameProfiler(BoundedWorld.PROFILER_PHASES, 10);
+        BoundedWorld world = createRestingRow(profiler);
+
+        for (int i = 0; i < 120; i++) {
+            world.update(1.0 / 60);
+        }
+        assertEquals(10, world.getSleepSystem().getSleepingCount());
+        assertEquals(10, countAsleep(world.getBalls()));
+
+        List<Ball> before = world.getBalls();
+        double[] positions = new double[before.size()];
+        for (int i = 0; i < before.size(); i++) {
+            positions[i] = before.get(i).getY();
+        }
+
+        world.update(1.0 / 60);
+
+        assertEquals(0, profiler.getPairsTested(0), "잠든 공끼리는 충돌 검사를 하지 않아야 합니다");
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(positions[i], before.get(i).getY(), "잠든 공은 이동하지 않아야 합니다");
+        }
+    }
+
+    @Test
+    public void testTouchingSleepingBallWakesWholeIsland() {
+        BoundedWorld world = createRestingRow(FrameProfiler.disabled());
+        for (int i = 0; i < 120; i++) {
+            world.update(1.0 / 60);
+        }
+        assertEquals(10, world.getSleepSystem().getSleepingCount());
+
+        // 왼쪽 끝 공 위로 떨어지는 공
+        PhysicsBall falling = new PhysicsBall(new Point(100, 500), 10, Color.BLUE);
+        world.add(falling);
+
+        for (int i = 0; i < 60 && world.getSleepSystem().getIslandsWoken() == 0; i++) {
+            world.update(1.0 / 60);
+        }
+
+        assertEquals(1, world.getSleepSystem().getIslandsWoken());
+        assertEquals(0, countAsleep(world.getBalls()), "닿은 공과 이어진 공들이 모두 깨어나야 합니다");
+    }
+
+    @Test
+    public void testSingleRestingBallSleepsWhileOthersMove() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        world.setSleepSystem(new SleepSystem());
+        PhysicsBall resting = new PhysicsBall(new Point(100, 590), 10, Color.RED);
+        MovableBall moving = new MovableBall(new Point(500, 300), 10, Color.BLUE);
+        moving.setVelocity(200, 150);
+        world.add(resting);
+        world.add(moving);
+
+        for (int i = 0; i < 60; i++) {
+            world.update(1.0 / 60);
+        }
+
+        assertTrue(resting.isAsleep());
+        assertFalse(moving.isAsleep(), "계속 움직이는 공은 잠들지 않아야 합니다");
+    }
+
+    @Test
+    public void testSettingVelocityWakesBall() {
+        BoundedWorld world = createRestingRow(FrameProfiler.disabled());
+        for (int i = 0; i < 120; i++) {
+            world.update(1.0 / 60);
+        }
+        MovableBall ball = (MovableBall) world.getBalls().get(5);
+        assertTrue(ball.isAsleep());
+
+        ball.setVelocity(0, 0);
+        assertTrue(ball.isAsleep(), "속도 0은 깨우지 않아야 합니다");
+        ball.setVelocity(0, -300);
+        assertFalse(ball.isAsleep());
+    }
+
+    @Test
+    public void testDisablingWakesAllBalls() {
+        BoundedWorld world = createRestingRow(FrameProfiler.disabled());
+        for (int i = 0; i < 120; i++) {
+            world.update(1.0 / 60);
+        }
+        assertEquals(10, countAsleep(world.getBalls()));
+
+        world.setSleepSystem(null);
+
+        assertEquals(0, countAsleep(world.getBalls()));
+        assertNull(world.getSleepSystem());
+    }
+
+    /**
+     * 바닥 위에 6줄로 엇갈려 쌓은 공 60개 더미
+     */
+    private static BoundedWorld createPile(FrameProfiler profiler) {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        world.setSleepSystem(new SleepSystem());
+        world.setProfiler(profiler);
+        for (int row = 0; row < 6; row++) {
+            for (int column = 0; column < 10; column++) {
+                world.add(new PhysicsBall(new Point(300 + column * 20 + (row % 2) * 10, 590 - row * 18), 10, Color.RED));
+            }
+        }
+        return world;
+    }
+
+    @Test
+    public void testStackedPileFallsAsleep() {
+        FrameProfiler profiler = new FrameProfiler(BoundedWorld.PROFILER_PHASES, 10);
+        BoundedWorld world = createPile(profiler);
+
+        for (int i = 0; i < 6 * 60 && countAsleep(world.getBalls()) < 60; i++) {
+            world.update(1.0 / 60);
+        }
+        assertEquals(60, countAsleep(world.getBalls()), "쌓인 더미 전체가 잠들어야 합니다");
+
+        world.update(1.0 / 60);
+        assertEquals(0, profiler.getPairsTested(0), "잠든 더미는 충돌 검사를 하지 않아야 합니다");
+    }
+
+    @Test
+    public void testSlowContactDoesNotWakeButFastImpactDoes() {
+        BoundedWorld world = createPile(FrameProfiler.disabled());
+        for (int i = 0; i < 6 * 60 && countAsleep(world.getBalls()) < 60; i++) {
+            world.update(1.0 / 60);
+        }
+        MovableBall top = (MovableBall) world.getBalls().get(55);
+        assertTrue(top.isAsleep());
+        SleepSystem sleepSystem = world.getSleepSystem();
+        long woken = sleepSystem.getIslandsWoken();
+
+        // 바로 위에서 천천히 내려앉는 공은 더미를 깨우지 않음
+        MovableBall slow = new MovableBall(new Point(top.getX(), top.getY() - 19.9), 10, Color.BLUE);
+        slow.setVelocity(0, 10);
+        List<Ball> pair = List.of(top, slow);
+        sleepSystem.beginStep(pair);
+        assertTrue(sleepSystem.onContact(0, 1, top, slow));
+        sleepSystem.resolveRestingContact(top, slow);
+        assertTrue(top.isAsleep(), "느린 접촉은 잠든 공을 깨우지 않아야 합니다");
+        assertEquals(0, slow.getVelocityY(), 1e-9, "다가오던 속도는 반발 없이 없어져야 합니다");
+        assertEquals(woken, sleepSystem.getIslandsWoken());
+
+        // 빠르게 부딪히는 공은 섬 전체를 깨움
+        MovableBall fast = new MovableBall(new Point(top.getX(), top.getY() - 19.9), 10, Color.BLUE);
+        fast.setVelocity(0, 300);
+        world.add(fast);
+        for (int i = 0; i < 5 && sleepSystem.getIslandsWoken() == woken; i++) {
+            world.update(1.0 / 60);
+        }
+        assertEquals(woken + 1, sleepSystem.getIslandsWoken());
+        assertFalse(top.isAsleep());
+        assertTrue(countAsleep(world.getBalls()) < 30, "부딪힌 공이 속한 섬이 깨어나야 합니다");
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SleepSystem(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SleepSystem(10, -1));
+    }
+}
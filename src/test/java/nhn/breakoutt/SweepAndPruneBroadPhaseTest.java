@@ -0,0 +1,74 @@
+package nhn.breakoutt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweepAndPruneBroadPhaseTest {
+
+    private static List<Long> collectCollidingPairs(BroadPhase broadPhase, List<? extends Ball> balls) {
+        List<Long> result = new ArrayList<>();
+        broadPhase.findCandidatePairs(balls, (i, j) -> {
+            if (BallCollision.areColliding(balls.get(i), balls.get(j))) {
+                result.add(((long) i << 32) | j);
+            }
+        });
+        return result;
+    }
+
+    @Test
+    public void testMatchesBruteForceAcrossFrames() {
+        Random random = new Random(7);
+        List<Ball> balls = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Ball ball = new Ball(random.nextDouble() * 800, random.nextDouble() * 600, 5 + random.nextDouble() * 15);
+            ball.setDx(-100 + random.nextDouble() * 200);
+            ball.setDy(-100 + random.nextDouble() * 200);
+            balls.add(ball);
+        }
+
+        SweepAndPruneBroadPhase sweepAndPrune = new SweepAndPruneBroadPhase();
+        BruteForceBroadPhase bruteForce = new BruteForceBroadPhase();
+
+        for (int frame = 0; frame < 30; frame++) {
+            for (Ball ball : balls) {
+                ball.move(1.0 / 60);
+            }
+            // 중간에 공을 제거하고 추가해도 정렬 순서가 올바르게 유지되어야 함
+            if (frame == 10) {
+                balls.remove(50);
+                balls.remove(0);
+            }
+            if (frame == 20) {
+                balls.add(new Ball(400, 300, 20));
+            }
+
+            assertEquals(collectCollidingPairs(bruteForce, balls), collectCollidingPairs(sweepAndPrune, balls),
+                    "프레임 " + frame + "에서 충돌 쌍이 이중 루프와 달라졌습니다");
+        }
+    }
+
+    @Test
+    public void testOnlyOverlappingIntervalsAreCandidates() {
+        List<Ball> balls = List.of(
+                new Ball(100, 100, 10),
+                new Ball(115, 400, 10),  // X는 겹치지만 Y는 떨어짐
+                new Ball(112, 105, 10)); // 첫 번째 공과 겹침
+
+        List<Long> candidates = new ArrayList<>();
+        new SweepAndPruneBroadPhase().findCandidatePairs(balls, (i, j) -> candidates.add(((long) i << 32) | j));
+
+        assertEquals(List.of(2L), candidates);
+    }
+
+    @Test
+    public void testBoundedWorldUsesSweepAndPruneByDefault() {
+        BoundedWorld world = new BoundedWorld(800, 600);
+        assertInstanceOf(SweepAndPruneBroadPhase.class, world.getBroadPhase());
+        assertThrows(IllegalArgumentException.class, () -> world.setBroadPhase(null));
+    }
+}
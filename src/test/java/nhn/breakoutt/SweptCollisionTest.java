@@ -0,0 +1,126 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.breakout.BreakoutWorld;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweptCollisionTest {
+
+    @Test
+    public void testTimeOfImpactWithFace() {
+        // 사각형 [50, 70] x [40, 60]의 왼쪽 변으로 다가가는 공: 중심이 x=40에 도달할 때 닿음
+        double time = SweptCollision.timeOfImpact(0, 50, 10, 100, 0, 50, 40, 70, 60);
+        assertEquals(0.4, time, 1e-12);
+
+        // 벽돌보다 훨씬 멀리 이동해도 닿는 시각은 같음
+        assertEquals(0.004, SweptCollision.timeOfImpact(0, 50, 10, 10_000, 0, 50, 40, 70, 60), 1e-12);
+    }
+
+    @Test
+    public void testTimeOfImpactWithCorner() {
+        // 꼭짓점 (50, 40)을 향해 대각선으로 다가가는 공
+        double speed = 100;
+        double dx = speed / Math.sqrt(2);
+        double dy = speed / Math.sqrt(2);
+        double time = SweptCollision.timeOfImpact(0, -10, 5, dx, dy, 50, 40, 70, 60);
+
+        double x = dx * time;
+        double y = -10 + dy * time;
+        double distance = Math.sqrt((x - 50) * (x - 50) + (y - 40) * (y - 40));
+        assertEquals(5, distance, 1e-9, "꼭짓점에서 반지름만큼 떨어진 곳에서 닿아야 합니다");
+    }
+
+    @Test
+    public void testNoHit() {
+        // 키운 사각형의 꼭짓점 영역을 지나지만 둥근 모서리에는 닿지 않음
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(41, 31, 5, 100, -100, 50, 40, 70, 60));
+        // 멀어지는 중
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(0, 50, 10, -100, 0, 50, 40, 70, 60));
+        // 변에 닿은 채 멀어지거나 변을 따라 움직임
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(40, 50, 10, -100, 0, 50, 40, 70, 60));
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(60, 30, 10, 100, 0, 50, 40, 70, 60));
+        // 정지한 공
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(0, 50, 10, 0, 0, 50, 40, 70, 60));
+    }
+
+    @Test
+    public void testOverlappingBallMovingInwardHitsImmediately() {
+        assertEquals(0, SweptCollision.timeOfImpact(45, 50, 10, 100, 0, 50, 40, 70, 60));
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(45, 50, 10, -100, 0, 50, 40, 70, 60));
+    }
+
+    @Test
+    public void testReflect() {
+        // 위쪽 변: Y 성분만 반전
+        Ball ball = new Ball(60, 30, 10, 30, 100, Color.WHITE, CollisionAction.BOUNCE);
+        assertTrue(SweptCollision.reflect(ball, 50, 40, 70, 60));
+        assertEquals(30, ball.getDx(), 1e-12);
+        assertEquals(-100, ball.getDy(), 1e-12);
+
+        // 이미 멀어지고 있으면 그대로
+        assertFalse(SweptCollision.reflect(ball, 50, 40, 70, 60));
+        assertEquals(-100, ball.getDy(), 1e-12);
+
+        // 꼭짓점: 대각선 법선으로 반사되어 되돌아감
+        double offset = 10 / Math.sqrt(2);
+        Ball cornerBall = new Ball(50 - offset, 40 - offset, 10, 100, 100, Color.WHITE, CollisionAction.BOUNCE);
+        assertTrue(SweptCollision.reflect(cornerBall, 50, 40, 70, 60));
+        assertEquals(-100, cornerBall.getDx(), 1e-9);
+        assertEquals(-100, cornerBall.getDy(), 1e-9);
+    }
+
+    @Test
+    public void testFastBallDoesNotTunnelThroughBricks() {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        world.createLevel(1); // 6줄, 가장 아래 줄은 y=205~225
+
+        // 한 스텝에 100px(벽돌 네 줄 간격)을 이동하는 공: 끝 위치만 보면 가장 아래 줄을 건너뜀
+        Ball ball = new Ball(145, 260, 10, 0, -6000, Color.WHITE, CollisionAction.BOUNCE);
+        world.addBall(ball);
+        world.update(1.0 / 60);
+
+        assertEquals(60, world.getScore(), "가장 아래 줄(6번째 줄) 벽돌만 깨져야 합니다");
+        assertTrue(ball.getDy() > 0, "벽돌에 맞고 아래로 튕겨야 합니다");
+        assertTrue(ball.getY() - ball.getRadius() >= 225 - 1e-9, "공이 벽돌 아래에 있어야 합니다: y=" + ball.getY());
+    }
+
+    @Test
+    public void testFastBallBouncesInsideWalls() {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        Ball ball = new Ball(400, 300, 10, 30_000, -20_000, Color.WHITE, CollisionAction.BOUNCE);
+        world.addBall(ball);
+
+        for (int i = 0; i < 30; i++) {
+            world.update(1.0 / 30);
+            if (ball.getY() > 560) {
+                break; // 아래쪽은 열려 있으므로 패들 높이를 지나면 더 확인하지 않음
+            }
+            assertTrue(ball.getX() - ball.getRadius() >= 20 - 1e-6 && ball.getX() + ball.getRadius() <= 780 + 1e-6,
+                    "공이 좌우 벽을 통과하지 않아야 합니다: x=" + ball.getX());
+            assertTrue(ball.getY() - ball.getRadius() >= 20 - 1e-6, "공이 위쪽 벽을 통과하지 않아야 합니다: y=" + ball.getY());
+        }
+    }
+
+    @Test
+    public void testHitLimitStillMovesUntilNextContact() {
+        BreakoutWorld world = new BreakoutWorld(800, 600);
+        // 한 스텝에 좌우 벽 사이를 열 번 넘게 오가는 공: 스텝당 충돌 처리 횟수 제한에 걸림
+        Ball ball = new Ball(400, 300, 10, 300_000, 0, Color.WHITE, CollisionAction.BOUNCE);
+        world.addBall(ball);
+        world.update(1.0 / 30);
+
+        // 마지막으로 처리한 벽에 머물지 않고 남은 시간 동안 반대편 벽에 닿을 때까지 이동해야 함
+        boolean touchingRight = ball.getDx() > 0 && Math.abs(ball.getX() + ball.getRadius() - 780) < 1e-6;
+        boolean touchingLeft = ball.getDx() < 0 && Math.abs(ball.getX() - ball.getRadius() - 20) < 1e-6;
+        assertTrue(touchingRight || touchingLeft,
+                "다음 벽에 닿은 채 그 벽을 향해 움직이고 있어야 합니다: x=" + ball.getX() + ", dx=" + ball.getDx());
+
+        // 미뤄 둔 충돌은 다음 스텝에서 처리되어 벽을 통과하지 않음
+        world.update(1.0 / 30);
+        assertTrue(ball.getX() - ball.getRadius() >= 20 - 1e-6 && ball.getX() + ball.getRadius() <= 780 + 1e-6,
+                "공이 좌우 벽을 통과하지 않아야 합니다: x=" + ball.getX());
+        assertEquals(300, ball.getY(), 1e-9);
+    }
+}
@@ -0,0 +1,172 @@
+package nhn.breakoutt;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrajectoryRecorderTest {
+    private static final double TIME_STEP = 1.0 / 60;
+
+    private static BoundedWorld createWorld(int count) {
+        BoundedWorld world = new BoundedWorld(400, 300);
+        Random random = new Random(5);
+        for (int i = 0; i < count; i++) {
+            BoundedBall ball = new BoundedBall(new Point(20.0 + (i % 10) * 36, 20.0 + (i / 10) * 36), 8, Color.RED);
+            ball.setVelocity(new Vector2D(random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100));
+            world.add(ball);
+        }
+        world.setProfiler(new FrameProfiler(BoundedWorld.PROFILER_PHASES, 1));
+        return world;
+    }
+
+    @Test
+    public void testSeekReadsRecordedFrames() throws IOException {
+        Path file = Files.createTempFile("trajectory", ".bin");
+        try {
+            BoundedWorld world = createWorld(50);
+            int frames = 300;
+            float[] expectedX = new float[frames];
+            float[] expectedVy = new float[frames];
+            int[] expectedCollisions = new int[frames];
+            long fileSize;
+
+            // 조각 하나에 프레임 7개: 조각 교체와 미리 매핑이 여러 번 일어남
+            int frameSize = TrajectoryRecorder.frameSize(64);
+            try (TrajectoryRecorder recorder = new TrajectoryRecorder(file, world, 64, TIME_STEP, frameSize * 7)) {
+                assertEquals(frameSize, recorder.getFrameSize());
+                for (int frame = 0; frame < frames; frame++) {
+                    world.update(TIME_STEP);
+                    recorder.recordFrame(frame * 2L);
+                    BoundedBall ball = (BoundedBall) world.getBalls().get(7);
+                    expectedX[frame] = (float) ball.getX();
+                    expectedVy[frame] = (float) ball.getVelocityY();
+                    expectedCollisions[frame] = world.getProfiler().getCollisionsResolved(0);
+                }
+                assertEquals(frames, recorder.getFrameCount());
+            }
+            fileSize = Files.size(file);
+            assertEquals(TrajectoryRecorder.HEADER_SIZE + (long) frames * frameSize, fileSize,
+                    "닫을 때 미리 매핑한 영역은 잘라내야 합니다");
+
+            try (TrajectoryReader reader = new TrajectoryReader(file)) {
+                assertEquals(frames, reader.getFrameCount());
+                assertEquals(64, reader.getBallCapacity());
+                assertEquals(TIME_STEP, reader.getTimeStep(), 0.0);
+
+                int collisions = 0;
+                for (int frame : new int[]{123, 0, 299, 124, 7, 6}) {
+                    reader.seek(frame);
+                    assertEquals(frame * 2L, reader.getStep());
+                    assertEquals(50, reader.getBallCount());
+                    assertEquals(expectedX[frame], reader.getX(7), 0.0f);
+                    assertEquals(expectedVy[frame], reader.getVelocityY(7), 0.0f);
+                    assertEquals(expectedCollisions[frame], reader.getCollisionsResolved());
+                }
+                for (int frame = 0; frame < frames; frame++) {
+                    reader.seek(frame);
+                    collisions += reader.getCollisionsResolved();
+                }
+                assertTrue(collisions > 0, "공끼리 부딪혀야 충돌 수를 확인할 수 있습니다");
+
+                int ball = 50;
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.getX(ball));
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.seek(frames));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testReaderSeesFramesWhileRecording() throws IOException {
+        Path file = Files.createTempFile("trajectory", ".bin");
+        try {
+            BoundedWorld world = createWorld(10);
+            try (TrajectoryRecorder recorder = new TrajectoryRecorder(file, world, 10, TIME_STEP)) {
+                for (int frame = 0; frame < 5; frame++) {
+                    world.update(TIME_STEP);
+                    recorder.recordFrame(frame);
+                }
+                try (TrajectoryReader reader = new TrajectoryReader(file)) {
+                    assertEquals(5, reader.getFrameCount());
+                    recorder.recordFrame(5);
+                    assertEquals(6, reader.refresh());
+                    reader.seek(5);
+                    assertEquals(5, reader.getStep());
+
+                    List<Ball> balls = world.getBalls();
+                    assertEquals((float) balls.get(3).getY(), reader.getY(3), 0.0f);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPreparedChunkIsUsedWithoutInlineMapping() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("trajectory", ".bin");
+        try {
+            BoundedWorld world = createWorld(10);
+            int frameSize = TrajectoryRecorder.frameSize(10);
+            try (TrajectoryRecorder recorder = new TrajectoryRecorder(file, world, 10, TIME_STEP, frameSize * 3)) {
+                for (int frame = 0; frame < 30; frame++) {
+                    long deadline = System.nanoTime() + 5_000_000_000L;
+                    while (!recorder.isNextChunkReady() && System.nanoTime() < deadline) {
+                        Thread.sleep(1);
+                    }
+                    world.update(TIME_STEP);
+                    recorder.recordFrame(frame);
+                }
+                assertEquals(0, recorder.getInlineChunkMaps(), "미리 매핑한 조각이 있으면 직접 매핑하지 않아야 합니다");
+
+                // 매퍼를 기다리지 않아도 (직접 매핑하더라도) 프레임은 빠짐없이 기록됨
+                for (int frame = 30; frame < 300; frame++) {
+                    recorder.recordFrame(frame);
+                }
+                assertEquals(300, recorder.getFrameCount());
+            }
+            try (TrajectoryReader reader = new TrajectoryReader(file)) {
+                assertEquals(300, reader.getFrameCount());
+                for (int frame = 0; frame < 300; frame++) {
+                    reader.seek(frame);
+                    assertEquals(frame, reader.getStep());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testInvalidUse() throws IOException {
+        Path file = Files.createTempFile("trajectory", ".bin");
+        try {
+            BoundedWorld world = createWorld(1);
+            assertThrows(IllegalArgumentException.class, () -> new TrajectoryRecorder(file, world, 0, TIME_STEP));
+            assertThrows(IllegalArgumentException.class, () -> new TrajectoryRecorder(file, null, 10, TIME_STEP));
+            assertThrows(IllegalArgumentException.class, () -> new TrajectoryRecorder(file, world, 10, 0));
+
+            TrajectoryRecorder recorder = new TrajectoryRecorder(file, world, 10, TIME_STEP);
+            recorder.close();
+            assertThrows(IllegalStateException.class, () -> recorder.recordFrame(0));
+
+            try (TrajectoryReader reader = new TrajectoryReader(file)) {
+                assertEquals(0, reader.getFrameCount());
+                assertThrows(IllegalStateException.class, reader::getStep);
+            }
+
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> new TrajectoryReader(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
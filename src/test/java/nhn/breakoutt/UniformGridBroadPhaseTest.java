@@ -0,0 +1,122 @@
+package nhn.breakoutt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UniformGridBroadPhaseTest {
+
+    private static List<Long> collectPairs(BroadPhase broadPhase, List<? extends Boundable> objects) {
+        List<Long> result = new ArrayList<>();
+        broadPhase.findCandidatePairs(objects, (i, j) -> result.add(((long) i << 32) | j));
+        return result;
+    }
+
+    private static List<Long> collectCollidingPairs(BroadPhase broadPhase, List<? extends Boundable> objects) {
+        List<Long> result = new ArrayList<>();
+        broadPhase.findCandidatePairs(objects, (i, j) -> {
+            if (objects.get(i).isColliding(objects.get(j))) {
+                result.add(((long) i << 32) | j);
+            }
+        });
+        return result;
+    }
+
+    @Test
+    public void testSameCollidingPairsAsBruteForce() {
+        Random random = new Random(42);
+        List<Collidable> objects = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 800;
+            double y = random.nextDouble() * 600;
+            if (i % 3 == 0) {
+                objects.add(new Box(x, y, 10 + random.nextDouble() * 80, 10 + random.nextDouble() * 80));
+            } else {
+                objects.add(new Ball(x, y, 3 + random.nextDouble() * 30));
+            }
+        }
+
+        List<Long> expected = collectCollidingPairs(new BruteForceBroadPhase(), objects);
+        List<Long> actual = collectCollidingPairs(new UniformGridBroadPhase(32), objects);
+
+        assertFalse(expected.isEmpty(), "검증을 위해 충돌 쌍이 있어야 합니다");
+        assertEquals(expected, actual, "격자 Broad Phase는 이중 루프와 같은 순서로 같은 쌍을 찾아야 합니다");
+    }
+
+    @Test
+    public void testReusedAcrossFramesMatchesBruteForce() {
+        // 한 인스턴스를 여러 프레임에 재사용: 셀 표가 커지고, 큰 객체 표시가 프레임마다 바뀜
+        UniformGridBroadPhase grid = new UniformGridBroadPhase(16);
+        Random random = new Random(7);
+        for (int frame = 0; frame < 20; frame++) {
+            List<Collidable> objects = new ArrayList<>();
+            int count = 50 + frame * 40;
+            for (int i = 0; i < count; i++) {
+                double x = random.nextDouble() * 3000 - 1500;
+                double y = random.nextDouble() * 3000 - 1500;
+                if (random.nextInt(10) == 0) {
+                    objects.add(new Box(x, y, 100 + random.nextDouble() * 400, 100 + random.nextDouble() * 400));
+                } else {
+                    objects.add(new Ball(x, y, 2 + random.nextDouble() * 20));
+                }
+            }
+
+            List<Long> expected = collectCollidingPairs(new BruteForceBroadPhase(), objects);
+            assertEquals(expected, collectCollidingPairs(grid, objects), "프레임 " + frame);
+        }
+    }
+
+    @Test
+    public void testFarApartObjectsAreNotCandidates() {
+        List<Ball> balls = List.of(
+                new Ball(10, 10, 5),
+                new Ball(500, 500, 5),
+                new Ball(1000, 10, 5));
+
+        assertTrue(collectPairs(new UniformGridBroadPhase(), balls).isEmpty(),
+                "멀리 떨어진 객체들은 후보 쌍이 아니어야 합니다");
+    }
+
+    @Test
+    public void testObjectSpanningManyCellsReportedOnce() {
+        List<Collidable> objects = new ArrayList<>();
+        objects.add(new Box(0, 0, 700, 500)); // 여러 셀에 걸친 큰 객체
+        objects.add(new Ball(100, 100, 10));
+        objects.add(new Ball(300, 300, 10));
+
+        List<Long> pairs = collectPairs(new UniformGridBroadPhase(16), objects);
+
+        assertEquals(List.of(1L, 2L), pairs, "큰 객체와 작은 객체의 쌍이 한 번씩만 보고되어야 합니다");
+    }
+
+    @Test
+    public void testTouchingObjectsOnCellBorder() {
+        // 경계가 셀 경계(64)에서 정확히 맞닿는 경우
+        List<Box> boxes = List.of(
+                new Box(32, 0, 32, 32),
+                new Box(64, 0, 32, 32));
+
+        assertEquals(1, collectPairs(new UniformGridBroadPhase(64), boxes).size());
+    }
+
+    @Test
+    public void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadPhase(0));
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadPhase(-1));
+    }
+
+    @Test
+    public void testSimpleWorldBroadPhaseSelection() {
+        SimpleWorld world = new SimpleWorld(800, 600);
+        assertInstanceOf(UniformGridBroadPhase.class, world.getBroadPhase());
+
+        world.setBroadPhase(new BruteForceBroadPhase());
+        assertInstanceOf(BruteForceBroadPhase.class, world.getBroadPhase());
+
+        assertThrows(IllegalArgumentException.class, () -> world.setBroadPhase(null));
+    }
+}
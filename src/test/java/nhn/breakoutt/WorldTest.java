@@ -100,7 +100,7 @@ public class WorldTest {
 
         // 그리기가 예외 없이 실행되는지 테스트
         assertDoesNotThrow(() -> {
-            world.draw(gc);
+            WorldRenderer.draw(gc, world);
         }, "draw 메서드 실행 중 예외가 발생했습니다");
 
         // World에 공이 2개 추가되었는지 확인
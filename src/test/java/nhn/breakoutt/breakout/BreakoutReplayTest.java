@@ -0,0 +1,178 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.Ball;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BreakoutReplayTest {
+    private static final double TIME_STEP = 1.0 / 120;
+
+    /**
+     * 공을 따라 패들을 움직이는 자동 플레이어로 한 판을 녹화합니다.
+     * 중간에 일시정지와 재시작도 누릅니다.
+     */
+    private static BreakoutSession recordSession(ByteArrayOutputStream out, long seed, int steps) throws IOException {
+        BreakoutSession session = new BreakoutSession(800, 600, seed);
+        ReplayRecorder recorder = new ReplayRecorder(out, session, TIME_STEP);
+
+        session.click(); // 게임 시작
+        for (int step = 0; step < steps; step++) {
+            List<Ball> balls = session.getWorld().getBalls();
+            if (!balls.isEmpty()) {
+                // 정확히 따라가지 않도록 조금 어긋나게
+                session.moveMouse(balls.get(0).getX() + (step % 7) * 3 - 9);
+            }
+            if (session.getGameState() == GameState.BALL_LOST || session.getGameState() == GameState.GAME_OVER) {
+                session.click();
+            }
+            if (step == steps / 3) {
+                session.togglePause();
+            } else if (step == steps / 3 + 30) {
+                session.togglePause();
+            } else if (step == steps / 2) {
+                session.restart();
+            }
+            session.update(TIME_STEP);
+        }
+        recorder.finish();
+        recorder.close();
+        return session;
+    }
+
+    private static void assertSameGame(BreakoutSession expected, BreakoutSession actual) {
+        assertEquals(expected.getStepCount(), actual.getStepCount());
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getLives(), actual.getLives());
+        assertEquals(expected.getWorld().getScore(), actual.getWorld().getScore());
+        assertEquals(expected.getWorld().getLevel(), actual.getWorld().getLevel());
+        assertEquals(expected.getWorld().getPaddle().getX(), actual.getWorld().getPaddle().getX(), 0.0);
+
+        List<Ball> expectedBalls = expected.getWorld().getBalls();
+        List<Ball> actualBalls = actual.getWorld().getBalls();
+        assertEquals(expectedBalls.size(), actualBalls.size());
+        for (int i = 0; i < expectedBalls.size(); i++) {
+            assertEquals(expectedBalls.get(i).getX(), actualBalls.get(i).getX(), 0.0);
+            assertEquals(expectedBalls.get(i).getY(), actualBalls.get(i).getY(), 0.0);
+        }
+    }
+
+    @Test
+    public void testReplayReproducesRecordedSession() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BreakoutSession recorded = recordSession(out, 12345, 6000);
+        assertTrue(recorded.getWorld().getScore() > 0, "녹화한 판에서 벽돌을 깨야 의미 있는 비교가 됩니다");
+
+        ReplayLog log = ReplayLog.read(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(log.isComplete());
+        assertEquals(12345, log.getSeed());
+        assertEquals(TIME_STEP, log.getTimeStep(), 0.0);
+        assertEquals(6000, log.getTotalSteps());
+
+        BreakoutReplayer replayer = new BreakoutReplayer(log);
+        assertSameGame(recorded, replayer.run());
+        // 같은 기록은 몇 번을 재생해도 같음
+        assertSameGame(recorded, replayer.run());
+        assertTrue(replayer.getStepsPerSecond() > 0);
+    }
+
+    @Test
+    public void testSameSeedCreatesSamePowerUpBricks() {
+        BreakoutWorld first = new BreakoutWorld(800, 600, 99);
+        BreakoutWorld second = new BreakoutWorld(800, 600, 99);
+        first.createLevel(1);
+        second.createLevel(1);
+
+        List<Breakable> firstBricks = first.getBricks();
+        List<Breakable> secondBricks = second.getBricks();
+        int powerUpBricks = 0;
+        for (int i = 0; i < firstBricks.size(); i++) {
+            if (firstBricks.get(i) instanceof PowerUpBrick brick) {
+                assertEquals(brick.getPowerUpType(), ((PowerUpBrick) secondBricks.get(i)).getPowerUpType());
+                assertEquals(brick.shouldDropPowerUp(), ((PowerUpBrick) secondBricks.get(i)).shouldDropPowerUp());
+                powerUpBricks++;
+            }
+        }
+        assertTrue(powerUpBricks > 0);
+    }
+
+    @Test
+    public void testMouseMovesWithinOneStepAreRecordedOnce() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BreakoutSession session = new BreakoutSession(800, 600, 1);
+        ReplayRecorder recorder = new ReplayRecorder(out, session, TIME_STEP);
+
+        session.moveMouse(100);
+        session.moveMouse(200);
+        session.moveMouse(300);
+        session.click();
+        session.moveMouse(400);
+        session.update(TIME_STEP);
+        session.moveMouse(500);
+        recorder.finish();
+
+        ReplayLog log = ReplayLog.read(new ByteArrayInputStream(out.toByteArray()));
+        // 300(클릭 전 마지막), 클릭, 400, 500
+        assertEquals(4, log.getEventCount());
+        assertEquals(300, log.getValue(0), 0.0);
+        assertEquals(ReplayRecorder.TYPE_CLICK, log.getType(1));
+        assertEquals(0, log.getStep(2));
+        assertEquals(1, log.getStep(3));
+        assertNull(session.getRecorder(), "끝난 녹화기는 세션에서 떨어져야 합니다");
+    }
+
+    @Test
+    public void testRecordsReachStreamWithoutFinish() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BreakoutSession session = new BreakoutSession(800, 600, 1);
+        new ReplayRecorder(out, session, TIME_STEP);
+
+        // 클릭은 바로 내보냄
+        session.click();
+        assertEquals(1, ReplayLog.read(new ByteArrayInputStream(out.toByteArray())).getEventCount());
+
+        // 마우스 이동은 일정 스텝마다 내보냄 (finish나 close 없이 프로그램이 끝난 경우)
+        session.moveMouse(250);
+        for (int step = 0; step < ReplayRecorder.FLUSH_INTERVAL_STEPS; step++) {
+            session.update(TIME_STEP);
+        }
+        ReplayLog log = ReplayLog.read(new ByteArrayInputStream(out.toByteArray()));
+        assertFalse(log.isComplete());
+        assertEquals(2, log.getEventCount());
+        assertEquals(250, log.getValue(1), 0.0);
+    }
+
+    @Test
+    public void testTruncatedLogReplaysUpToLastCompleteEvent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordSession(out, 7, 600);
+        byte[] bytes = out.toByteArray();
+        ReplayLog full = ReplayLog.read(new ByteArrayInputStream(bytes));
+
+        // 끝 기록과 마지막 마우스 기록 일부를 잘라냄
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 6);
+        ReplayLog log = ReplayLog.read(new ByteArrayInputStream(truncated));
+
+        assertFalse(log.isComplete());
+        assertEquals(full.getEventCount() - 1, log.getEventCount());
+        assertEquals(log.getStep(log.getEventCount() - 1), log.getTotalSteps());
+        assertEquals(log.getTotalSteps(), new BreakoutReplayer(log).run().getStepCount());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        BreakoutSession session = new BreakoutSession(800, 600, 1);
+        session.update(TIME_STEP);
+        assertThrows(IllegalArgumentException.class, () -> new ReplayRecorder(new ByteArrayOutputStream(), session, TIME_STEP));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplayRecorder(new ByteArrayOutputStream(), new BreakoutSession(800, 600, 1), 0));
+        assertThrows(IOException.class, () -> ReplayLog.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+        assertThrows(IllegalArgumentException.class, () -> new BreakoutReplayer(null));
+    }
+}
@@ -0,0 +1,206 @@
+package nhn.breakoutt.breakout;
+
+import javafx.scene.paint.Color;
+import nhn.breakoutt.Ball;
+import nhn.breakoutt.CollisionAction;
+import nhn.breakoutt.SimpleWorld;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BreakoutWorldSnapshotTest {
+    private static final double TIME_STEP = 1.0 / 120;
+
+    private static BreakoutWorld startGame(long seed) {
+        BreakoutWorld world = new BreakoutWorld(800, 600, seed);
+        world.createLevel(3); // 폭발, 다중 타격, 파워업 벽돌이 모두 있는 레벨
+        world.addBall(new Ball(400, 540, 10, 120, -240, Color.WHITE, CollisionAction.BOUNCE));
+        return world;
+    }
+
+    /**
+     * 첫 번째 공을 조금 어긋나게 따라가는 패들로 진행합니다.
+     */
+    private static void play(BreakoutWorld world, int steps) {
+        for (int step = 0; step < steps; step++) {
+            List<Ball> balls = world.getBalls();
+            if (!balls.isEmpty()) {
+                world.getPaddle().setTargetX(balls.get(0).getX() + (step % 5) * 4 - 8);
+            }
+            world.update(TIME_STEP);
+        }
+    }
+
+    private static void assertSameWorld(BreakoutWorld expected, BreakoutWorld actual) {
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getBricks().size(), actual.getBricks().size());
+        assertEquals(expected.getEntityCount(), actual.getEntityCount());
+        assertEquals(expected.getPaddle().getX(), actual.getPaddle().getX(), 0.0);
+        assertEquals(expected.getPaddle().getWidth(), actual.getPaddle().getWidth(), 0.0);
+
+        List<Ball> expectedBalls = expected.getBalls();
+        List<Ball> actualBalls = actual.getBalls();
+        assertEquals(expectedBalls.size(), actualBalls.size());
+        for (int i = 0; i < expectedBalls.size(); i++) {
+            assertEquals(expectedBalls.get(i).getX(), actualBalls.get(i).getX(), 0.0);
+            assertEquals(expectedBalls.get(i).getY(), actualBalls.get(i).getY(), 0.0);
+            assertEquals(expectedBalls.get(i).getDx(), actualBalls.get(i).getDx(), 0.0);
+            assertEquals(expectedBalls.get(i).getDy(), actualBalls.get(i).getDy(), 0.0);
+        }
+    }
+
+    private static ByteBuffer snapshot(BreakoutWorld world) {
+        ByteBuffer buffer = ByteBuffer.allocate(world.getSnapshotSize());
+        world.writeSnapshot(buffer);
+        assertFalse(buffer.hasRemaining(), "getSnapshotSize는 실제로 쓰는 바이트 수와 같아야 합니다");
+        return buffer.flip();
+    }
+
+    @Test
+    public void testRewindReproducesSameFuture() {
+        BreakoutWorld world = startGame(42);
+        play(world, 1500);
+        world.getPaddle().applyPowerUp(PowerUpProvider.PowerUpType.WIDER_PADDLE, 2.0);
+        ByteBuffer checkpoint = snapshot(world);
+        int scoreAtCheckpoint = world.getScore();
+
+        play(world, 3000);
+        BreakoutWorld expected = startGame(42);
+        play(expected, 1500);
+        expected.getPaddle().applyPowerUp(PowerUpProvider.PowerUpType.WIDER_PADDLE, 2.0);
+        play(expected, 3000);
+        assertSameWorld(expected, world);
+        assertTrue(world.getScore() > scoreAtCheckpoint, "되감기 전후로 벽돌이 깨져야 의미 있는 비교가 됩니다");
+
+        // 되감은 뒤 같은 입력으로 진행하면 같은 결과 (난수와 패들 파워업 시간 포함)
+        world.readSnapshot(checkpoint);
+        assertEquals(scoreAtCheckpoint, world.getScore());
+        play(world, 3000);
+        assertSameWorld(expected, world);
+    }
+
+    @Test
+    public void testRestoreIntoAnotherWorldForksSimulation() {
+        BreakoutWorld world = startGame(7);
+        play(world, 2000);
+        ByteBuffer checkpoint = snapshot(world);
+
+        BreakoutWorld fork = new BreakoutWorld(800, 600, 12345);
+        fork.readSnapshot(checkpoint);
+        assertSameWorld(world, fork);
+
+        play(world, 2000);
+        play(fork, 2000);
+        assertSameWorld(world, fork);
+    }
+
+    @Test
+    public void testRestoreReusesExistingObjects() {
+        BreakoutWorld world = startGame(3);
+        play(world, 600);
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        world.writeSnapshot(buffer);
+        List<Breakable> bricksAtCheckpoint = world.getBricks();
+        Ball ballAtCheckpoint = world.getBalls().get(0);
+
+        play(world, 600);
+        assertTrue(world.getBricks().size() < bricksAtCheckpoint.size());
+        world.readSnapshot(buffer.flip());
+
+        List<Breakable> restored = world.getBricks();
+        assertEquals(bricksAtCheckpoint.size(), restored.size());
+        int reused = 0;
+        for (int i = 0; i < restored.size(); i++) {
+            if (restored.get(i) == bricksAtCheckpoint.get(i)) {
+                reused++;
+            }
+            assertFalse(restored.get(i).isBroken());
+        }
+        assertTrue(reused > 0, "남아 있던 벽돌은 다시 만들지 않아야 합니다");
+        assertTrue(reused < restored.size(), "깨졌던 벽돌은 새로 만들어야 합니다");
+        assertSame(ballAtCheckpoint, world.getBalls().get(0));
+
+        // 같은 버퍼를 다시 써도 같은 내용
+        buffer.clear();
+        world.writeSnapshot(buffer);
+        assertEquals(world.getSnapshotSize(), buffer.position());
+    }
+
+    @Test
+    public void testRenderSnapshotRestoresMirrorWorld() {
+        BreakoutWorld world = startGame(21);
+        play(world, 200);
+        BreakoutSnapshot snapshot = BreakoutSnapshot.capture(world, null);
+        BreakoutWorld mirror = new BreakoutWorld(800, 600, 0);
+        snapshot.restore(mirror);
+        assertSameWorld(world, mirror);
+        assertEquals(world.getBalls().size(), snapshot.getBalls().size());
+
+        play(world, 200);
+        assertSame(snapshot, BreakoutSnapshot.capture(world, snapshot), "다시 채울 때는 같은 객체를 재사용해야 합니다");
+        snapshot.restore(mirror);
+        snapshot.restore(mirror); // 같은 스냅샷을 여러 번 되돌려도 됨
+        assertSameWorld(world, mirror);
+        assertEquals(world.getBalls().get(0).getX(), snapshot.getBalls().getX(0), 0.0);
+    }
+
+    @Test
+    public void testMultiHitDamageIsRestored() {
+        BreakoutWorld world = new BreakoutWorld(800, 600, 1);
+        world.createLevel(2);
+        MultiHitBrick brick = (MultiHitBrick) world.getBricks().get(0);
+        Color original = brick.getColor();
+        ByteBuffer checkpoint = snapshot(world);
+
+        brick.hit(1);
+        assertNotEquals(original, brick.getColor());
+        world.readSnapshot(checkpoint);
+        assertSame(brick, world.getBricks().get(0));
+        assertEquals(original, brick.getColor());
+        assertFalse(brick.isBroken());
+    }
+
+    @Test
+    public void testSnapshotRandomMatchesRandom() {
+        Random expected = new Random(2024);
+        SnapshotRandom random = new SnapshotRandom(2024);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextInt(6), random.nextInt(6));
+            assertEquals(expected.nextDouble(), random.nextDouble(), 0.0);
+        }
+
+        long state = random.getState();
+        double next = random.nextDouble();
+        random.nextLong();
+        random.setState(state);
+        assertEquals(next, random.nextDouble(), 0.0);
+    }
+
+    @Test
+    public void testInvalidSnapshots() {
+        BreakoutWorld world = startGame(1);
+        ByteBuffer checkpoint = snapshot(world);
+
+        ByteBuffer truncated = ByteBuffer.wrap(checkpoint.array(), 0, checkpoint.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> world.readSnapshot(truncated));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BreakoutWorld(640, 480, 1).readSnapshot(checkpoint.duplicate()));
+
+        SimpleWorld simpleWorld = new SimpleWorld(800, 600);
+        ByteBuffer simpleSnapshot = ByteBuffer.allocate(simpleWorld.getSnapshotSize());
+        simpleWorld.writeSnapshot(simpleSnapshot);
+        assertThrows(IllegalArgumentException.class, () -> world.readSnapshot(simpleSnapshot.flip()));
+
+        // 하위 클래스 공은 저장할 수 없고, 버퍼에는 아무것도 쓰지 않음
+        world.addBall(new Ball(100, 100, 10) {
+        });
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        assertThrows(IllegalArgumentException.class, () -> world.writeSnapshot(buffer));
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,107 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.Argb;
+import nhn.breakoutt.Bounds;
+import nhn.breakoutt.RectangleBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickGridTest {
+    private static final double START_X = 50;
+    private static final double START_Y = 80;
+    private static final double BRICK_WIDTH = 60;
+    private static final double BRICK_HEIGHT = 20;
+    private static final double SPACING = 5;
+    private static final int ROWS = 10;
+    private static final int COLS = 10;
+
+    private BrickGrid grid;
+    private List<SimpleBrick> allBricks;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new BrickGrid(START_X, START_Y, BRICK_WIDTH, BRICK_HEIGHT, SPACING, ROWS, COLS);
+        allBricks = new ArrayList<>();
+
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                double x = START_X + col * (BRICK_WIDTH + SPACING);
+                double y = START_Y + row * (BRICK_HEIGHT + SPACING);
+                SimpleBrick brick = new SimpleBrick(x, y, BRICK_WIDTH, BRICK_HEIGHT, Argb.RED, 10);
+                grid.put(row, col, brick);
+                allBricks.add(brick);
+            }
+        }
+    }
+
+    @Test
+    public void testQueryMatchesLinearScan() {
+        Random random = new Random(3);
+
+        for (int i = 0; i < 500; i++) {
+            double minX = random.nextDouble() * 800 - 50;
+            double minY = random.nextDouble() * 400;
+            Bounds area = new RectangleBounds(minX, minY, random.nextDouble() * 40, random.nextDouble() * 40);
+
+            List<Breakable> expected = new ArrayList<>();
+            for (SimpleBrick brick : allBricks) {
+                if (brick.getBounds().intersects(area)) {
+                    expected.add(brick);
+                }
+            }
+
+            List<Breakable> actual = new ArrayList<>();
+            grid.query(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(), actual);
+
+            assertEquals(expected, actual, "격자 조회 결과가 전체 탐색과 달라졌습니다: " + area);
+        }
+    }
+
+    @Test
+    public void testQueryIncludesTouchingBrick() {
+        // 첫 번째 벽돌의 오른쪽 모서리(x=110)에 정확히 닿는 영역
+        List<Breakable> result = new ArrayList<>();
+        grid.query(110, 85, 112, 90, result);
+
+        assertEquals(1, result.size());
+        assertSame(grid.get(0, 0), result.get(0));
+    }
+
+    @Test
+    public void testRemove() {
+        Breakable brick = grid.get(2, 3);
+        assertEquals(ROWS * COLS, grid.size());
+
+        assertTrue(grid.remove(brick));
+        assertNull(grid.get(2, 3));
+        assertEquals(ROWS * COLS - 1, grid.size());
+        assertFalse(grid.remove(brick), "이미 제거된 벽돌은 다시 제거되지 않아야 합니다");
+
+        List<Breakable> result = new ArrayList<>();
+        SimpleBrick removed = (SimpleBrick) brick;
+        grid.query(removed.getX(), removed.getY(), removed.getX() + 1, removed.getY() + 1, result);
+        assertFalse(result.contains(brick));
+    }
+
+    @Test
+    public void testQueryOutsideGrid() {
+        List<Breakable> result = new ArrayList<>();
+        grid.query(-100, -100, -50, -50, result);
+        grid.query(1000, 1000, 1100, 1100, result);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BrickGrid(0, 0, 0, 10, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BrickGrid(0, 0, 10, 10, -1, 1, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> grid.put(ROWS, 0, new SimpleBrick(0, 0, 10, 10, Argb.RED, 10)));
+    }
+}
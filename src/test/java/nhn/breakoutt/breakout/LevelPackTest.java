@@ -0,0 +1,156 @@
+package nhn.breakoutt.breakout;
+
+import nhn.breakoutt.Argb;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelPackTest {
+    private static final double WORLD_WIDTH = 800;
+
+    private static LevelDefinition customLevel() {
+        List<LevelDefinition.BrickKind> kinds = List.of(
+                LevelDefinition.BrickKind.simple(15, Argb.rgb(10, 20, 30)),
+                LevelDefinition.BrickKind.multiHit(40, Argb.ORANGE, 7),
+                LevelDefinition.BrickKind.powerUp(25, Argb.GREEN, 0.75),
+                LevelDefinition.BrickKind.exploding(60, Argb.RED, 150));
+        byte[] cells = {
+                1, 0, 2,
+                0, 3, 0,
+                4, 0, 1
+        };
+        return new LevelDefinition(1, 100, 60, 40, 15, 10, 3, 3, kinds, cells);
+    }
+
+    private static void assertSameBricks(BreakoutWorld expected, BreakoutWorld actual) {
+        List<Breakable> expectedBricks = expected.getBricks();
+        List<Breakable> actualBricks = actual.getBricks();
+        assertEquals(expectedBricks.size(), actualBricks.size());
+        for (int i = 0; i < expectedBricks.size(); i++) {
+            SimpleBrick e = (SimpleBrick) expectedBricks.get(i);
+            SimpleBrick a = (SimpleBrick) actualBricks.get(i);
+            assertSame(e.getClass(), a.getClass());
+            assertEquals(e.getX(), a.getX(), 0.0);
+            assertEquals(e.getY(), a.getY(), 0.0);
+            assertEquals(e.getArgb(), a.getArgb());
+            assertEquals(e.getPoints(), a.getPoints());
+            if (e instanceof PowerUpBrick p) {
+                assertEquals(p.getPowerUpType(), ((PowerUpBrick) a).getPowerUpType());
+            }
+        }
+    }
+
+    @Test
+    public void testPackLevelsMatchBuiltInLevels() throws IOException {
+        LevelPack pack = LevelPack.read(LevelPack.encode(LevelPack.builtInLevels(6, WORLD_WIDTH)));
+        assertEquals(6, pack.getLevelCount());
+        for (int level = 1; level <= 6; level++) {
+            assertEquals(LevelDefinition.builtIn(level, WORLD_WIDTH), pack.getLevel(level));
+
+            // 같은 시드면 묶음에서 읽은 레벨도 파워업 종류까지 같은 벽돌이 나옴
+            BreakoutWorld expected = new BreakoutWorld(WORLD_WIDTH, 600, level);
+            expected.createLevel(level);
+            BreakoutWorld actual = new BreakoutWorld(WORLD_WIDTH, 600, level);
+            actual.createLevel(pack.getLevel(level));
+            assertEquals(level, actual.getLevel());
+            assertSameBricks(expected, actual);
+        }
+    }
+
+    @Test
+    public void testCustomLevelRoundTrip() throws IOException {
+        Path file = Files.createTempFile("levels", ".blp");
+        try {
+            LevelDefinition level = customLevel();
+            LevelPack.write(file, List.of(level));
+            LevelPack pack = LevelPack.open(file);
+            LevelDefinition read = pack.getLevel(1);
+            assertEquals(level, read);
+            assertEquals(-1, read.getKindIndex(0, 1));
+            assertEquals(3, read.getKindIndex(2, 0));
+
+            BreakoutWorld world = new BreakoutWorld(WORLD_WIDTH, 600, 3);
+            world.createLevel(read);
+            List<Breakable> bricks = world.getBricks();
+            assertEquals(5, bricks.size(), "빈 칸에는 벽돌을 만들지 않아야 합니다");
+            assertEquals(7, ((MultiHitBrick) bricks.get(1)).maxHitPoints);
+            assertEquals(150, ((ExplodingBrick) bricks.get(3)).getExplosionRadius(), 0.0);
+            assertEquals(100 + 2 * (40 + 10), ((SimpleBrick) bricks.get(1)).getX(), 0.0);
+            assertEquals(60 + 2 * (15 + 10), ((SimpleBrick) bricks.get(4)).getY(), 0.0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLargePackRandomAccessAndCache() throws IOException {
+        ByteBuffer encoded = LevelPack.encode(LevelPack.builtInLevels(1000, WORLD_WIDTH));
+        LevelPack pack = LevelPack.read(encoded, 4);
+        assertEquals(1000, pack.getLevelCount());
+
+        LevelDefinition level = pack.getLevel(777);
+        assertEquals(777, level.getNumber());
+        assertEquals(LevelDefinition.builtIn(777, WORLD_WIDTH), level);
+        assertSame(level, pack.getLevel(777), "캐시에 있는 레벨은 다시 파싱하지 않아야 합니다");
+
+        for (int i = 1; i <= 4; i++) {
+            pack.getLevel(i);
+        }
+        assertFalse(pack.isCached(777), "가장 오래 쓰지 않은 레벨부터 캐시에서 빠져야 합니다");
+        assertTrue(pack.isCached(1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> pack.getLevel(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> pack.getLevel(1001));
+    }
+
+    @Test
+    public void testSessionUsesPackThenBuiltInLevels() throws IOException {
+        LevelPack pack = LevelPack.read(LevelPack.encode(List.of(customLevel())));
+        BreakoutSession session = new BreakoutSession(WORLD_WIDTH, 600, 11);
+        session.setLevelPack(pack);
+        session.click();
+        assertEquals(GameState.PLAYING, session.getGameState());
+        assertEquals(5, session.getWorld().getBricks().size());
+
+        session.getWorld().createLevel(2);
+        assertEquals(LevelDefinition.builtIn(2, WORLD_WIDTH).getBrickCount(), session.getWorld().getBricks().size());
+    }
+
+    @Test
+    public void testSnapshotKeepsExplosionRadius() {
+        BreakoutWorld world = new BreakoutWorld(WORLD_WIDTH, 600, 5);
+        world.createLevel(customLevel());
+        ByteBuffer buffer = ByteBuffer.allocate(world.getSnapshotSize());
+        world.writeSnapshot(buffer);
+        assertFalse(buffer.hasRemaining());
+
+        BreakoutWorld restored = new BreakoutWorld(WORLD_WIDTH, 600, 9);
+        restored.createLevel(2);
+        restored.readSnapshot(buffer.flip());
+        assertEquals(150, ((ExplodingBrick) restored.getBricks().get(3)).getExplosionRadius(), 0.0);
+    }
+
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IOException.class, () -> LevelPack.read(ByteBuffer.allocate(64)));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelPack.encode(List.of(LevelDefinition.builtIn(2, WORLD_WIDTH))));
+        assertThrows(IllegalArgumentException.class,
+                () -> LevelDefinition.BrickKind.exploding(10, Argb.RED, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LevelDefinition(1, 0, 0, 10, 10, 0, 1, 2, List.of(), new byte[]{0, 1}));
+
+        // 위치표는 맞지만 레벨 기록이 잘린 묶음
+        ByteBuffer encoded = LevelPack.encode(List.of(customLevel()));
+        ByteBuffer truncated = ByteBuffer.allocate(encoded.limit() - 3);
+        truncated.put(encoded.slice(0, truncated.capacity())).flip();
+        assertThrows(UncheckedIOException.class, () -> LevelPack.read(truncated).getLevel(1));
+    }
+}